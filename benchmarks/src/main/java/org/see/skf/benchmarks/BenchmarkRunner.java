@@ -0,0 +1,57 @@
+/*****************************************************************
+ SEE HLA Starter Kit Framework -  A Java library that supports
+ the development of HLA Federates in the Simulation Exploration
+ Experience (SEE) program.
+
+ Copyright (c) 2014, 2026 SMASH Lab - University of Calabria
+ (Italy), Hridyanshu Aatreya - Modelling & Simulation Group (MSG)
+ at Brunel University of London. All rights reserved.
+
+ GNU Lesser General Public License (GNU LGPL).
+
+ This library is free software; you can redistribute it and/or
+ modify it under the terms of the GNU Lesser General Public
+ License as published by the Free Software Foundation; either
+ version 3.0 of the License, or (at your option) any later version.
+
+ This library is distributed in the hope that it will be useful,
+ but WITHOUT ANY WARRANTY; without even the implied warranty of
+ MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ Lesser General Public License for more details.
+
+ You should have received a copy of the GNU Lesser General Public
+ License along with this library.
+ If not, see http://http://www.gnu.org/licenses/
+ *****************************************************************/
+
+package org.see.skf.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Entry point of the benchmark jar. Runs JMH with the given command line, writing the results as JSON to
+ * {@code skf-benchmarks-<version>.json} unless a result format or file is given explicitly, so that the results of two
+ * releases can be compared side by side, e.g. with a JMH visualizer.
+ */
+public final class BenchmarkRunner {
+    private BenchmarkRunner() {}
+
+    public static void main(String[] args) throws Exception {
+        List<String> arguments = new ArrayList<>(Arrays.asList(args));
+
+        if (!arguments.contains("-rf")) {
+            arguments.add(0, "-rf");
+            arguments.add(1, "json");
+        }
+
+        if (!arguments.contains("-rff")) {
+            String version = BenchmarkRunner.class.getPackage().getImplementationVersion();
+            arguments.add(0, "-rff");
+            arguments.add(1, "skf-benchmarks-" + ((version != null) ? version : "dev") + ".json");
+        }
+
+        org.openjdk.jmh.Main.main(arguments.toArray(new String[0]));
+    }
+}
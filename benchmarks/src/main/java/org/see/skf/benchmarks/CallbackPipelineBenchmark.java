@@ -0,0 +1,122 @@
+/*****************************************************************
+ SEE HLA Starter Kit Framework -  A Java library that supports
+ the development of HLA Federates in the Simulation Exploration
+ Experience (SEE) program.
+
+ Copyright (c) 2014, 2026 SMASH Lab - University of Calabria
+ (Italy), Hridyanshu Aatreya - Modelling & Simulation Group (MSG)
+ at Brunel University of London. All rights reserved.
+
+ GNU Lesser General Public License (GNU LGPL).
+
+ This library is free software; you can redistribute it and/or
+ modify it under the terms of the GNU Lesser General Public
+ License as published by the Free Software Foundation; either
+ version 3.0 of the License, or (at your option) any later version.
+
+ This library is distributed in the hope that it will be useful,
+ but WITHOUT ANY WARRANTY; without even the implied warranty of
+ MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ Lesser General Public License for more details.
+
+ You should have received a copy of the GNU Lesser General Public
+ License along with this library.
+ If not, see http://http://www.gnu.org/licenses/
+ *****************************************************************/
+
+package org.see.skf.benchmarks;
+
+import hla.rti1516_2025.AttributeHandle;
+import hla.rti1516_2025.AttributeHandleValueMap;
+import hla.rti1516_2025.ObjectInstanceHandle;
+import hla.rti1516_2025.ParameterHandle;
+import org.openjdk.jmh.annotations.*;
+import org.see.skf.benchmarks.model.PhysicalEntity;
+import org.see.skf.loopback.LoopbackValues;
+import org.see.skf.runtime.FieldBinding;
+import org.see.skf.runtime.dispatch.BackPressure;
+import org.see.skf.runtime.interactions.InteractionClassModel;
+import org.see.skf.runtime.objects.ObjectClassEntity;
+import org.see.skf.runtime.objects.ObjectClassModelParser;
+import org.see.skf.runtime.pipeline.CallbackHandler;
+import org.see.skf.runtime.pipeline.CallbackPipeline;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time a reflection of a 20-attribute object class holds the RTI's callback thread. inlineDecode decodes on that thread,
+ * as the ambassador does without decode workers; pipelineOffer only copies the values into the ring of a
+ * CallbackPipeline. The worker merely discards the copies so that, on machines with few cores, it does not compete with
+ * the producer for the CPU and the score reflects the copy alone. The pipeline metrics are printed when the trial ends.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CallbackPipelineBenchmark {
+    private ObjectClassModelParser parser;
+    private PhysicalEntity target;
+    private ObjectClassEntity entity;
+    private AttributeHandleValueMap encodedValues;
+    private Map<AttributeHandle, FieldBinding> handleToBinding;
+    private CallbackPipeline pipeline;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        parser = new ObjectClassModelParser(PhysicalEntity.class);
+        PhysicalEntity source = new PhysicalEntity();
+        target = new PhysicalEntity();
+        entity = new ObjectClassEntity("Lander", LoopbackValues.handle(ObjectInstanceHandle.class, 1), null, target);
+
+        source.setName("Lander");
+        source.setType("Vehicle");
+        source.setStatus("Active");
+        source.setParentReferenceFrame("MoonCentricFixed");
+        source.setPositionX(1737.4e3);
+        source.setTime(42.0);
+
+        encodedValues = LoopbackValues.map(AttributeHandleValueMap.class, 0);
+        handleToBinding = new HashMap<>();
+
+        FieldBinding[] bindings = parser.getPublishableBindings();
+        for (int i = 0; i < bindings.length; i++) {
+            AttributeHandle handle = LoopbackValues.handle(AttributeHandle.class, i);
+            encodedValues.put(handle, bindings[i].encode(source));
+            handleToBinding.put(handle, bindings[i]);
+        }
+
+        pipeline = new CallbackPipeline(new CallbackHandler() {
+            @Override
+            public void reflectAttributeValues(ObjectClassEntity entity, AttributeHandle[] attributeHandles, byte[][] values, int count) {
+            }
+
+            @Override
+            public void removeObjectInstance(ObjectClassEntity entity) {
+            }
+
+            @Override
+            public void receiveInteraction(InteractionClassModel model, ParameterHandle[] parameterHandles, byte[][] values, int count) {
+            }
+        }, 1, CallbackPipeline.DEFAULT_RING_CAPACITY, BackPressure.BLOCK);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        pipeline.shutdown(5000L);
+    }
+
+    @Benchmark
+    public PhysicalEntity inlineDecode() {
+        parser.decode(target, encodedValues, handleToBinding);
+        return target;
+    }
+
+    @Benchmark
+    public boolean pipelineOffer() {
+        return pipeline.offerReflection(entity, encodedValues);
+    }
+}
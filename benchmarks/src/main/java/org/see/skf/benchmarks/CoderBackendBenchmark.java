@@ -0,0 +1,91 @@
+/*****************************************************************
+ SEE HLA Starter Kit Framework -  A Java library that supports
+ the development of HLA Federates in the Simulation Exploration
+ Experience (SEE) program.
+
+ Copyright (c) 2014, 2026 SMASH Lab - University of Calabria
+ (Italy), Hridyanshu Aatreya - Modelling & Simulation Group (MSG)
+ at Brunel University of London. All rights reserved.
+
+ GNU Lesser General Public License (GNU LGPL).
+
+ This library is free software; you can redistribute it and/or
+ modify it under the terms of the GNU Lesser General Public
+ License as published by the Free Software Foundation; either
+ version 3.0 of the License, or (at your option) any later version.
+
+ This library is distributed in the hope that it will be useful,
+ but WITHOUT ANY WARRANTY; without even the implied warranty of
+ MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ Lesser General Public License for more details.
+
+ You should have received a copy of the GNU Lesser General Public
+ License along with this library.
+ If not, see http://http://www.gnu.org/licenses/
+ *****************************************************************/
+
+package org.see.skf.benchmarks;
+
+import hla.rti1516_2025.encoding.DecoderException;
+import org.openjdk.jmh.annotations.*;
+import org.see.skf.core.Coder;
+import org.see.skf.util.encoding.CoderBackend;
+import org.see.skf.util.encoding.HLAbooleanCoder;
+import org.see.skf.util.encoding.HLAfloat64LECoder;
+import org.see.skf.util.encoding.HLAinteger64BECoder;
+import org.see.skf.util.encoding.HLAunicodeStringCoder;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encoding and decoding with the pure-Java coders against the ones backed by the RTI's DataElements. The RTI backend
+ * needs the RTI's jars on the classpath; run with {@code -p backend=NATIVE} without them.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CoderBackendBenchmark {
+    private static final Map<String, Class<? extends Coder<?>>> CODERS = Map.of(
+            "float64LE", HLAfloat64LECoder.class,
+            "integer64BE", HLAinteger64BECoder.class,
+            "boolean", HLAbooleanCoder.class,
+            "unicodeString", HLAunicodeStringCoder.class);
+
+    private static final Map<String, Object> VALUES = Map.of(
+            "float64LE", 1737.4e3,
+            "integer64BE", 1L << 40,
+            "boolean", Boolean.TRUE,
+            "unicodeString", "MoonCentricFixed");
+
+    @Param({"NATIVE", "RTI"})
+    private CoderBackend backend;
+
+    @Param({"float64LE", "integer64BE", "boolean", "unicodeString"})
+    private String dataType;
+
+    private Coder<Object> coder;
+    private Object value;
+    private byte[] encoded;
+
+    @Setup(Level.Trial)
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        coder = (Coder<Object>) backend.create(CODERS.get(dataType));
+        value = VALUES.get(dataType);
+        encoded = coder.encode(value);
+    }
+
+    @Benchmark
+    public byte[] encode() {
+        return coder.encode(value);
+    }
+
+    @Benchmark
+    public Object decode() throws DecoderException {
+        return coder.decode(encoded);
+    }
+}
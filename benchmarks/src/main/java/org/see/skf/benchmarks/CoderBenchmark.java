@@ -0,0 +1,181 @@
+/*****************************************************************
+ SEE HLA Starter Kit Framework -  A Java library that supports
+ the development of HLA Federates in the Simulation Exploration
+ Experience (SEE) program.
+
+ Copyright (c) 2014, 2026 SMASH Lab - University of Calabria
+ (Italy), Hridyanshu Aatreya - Modelling & Simulation Group (MSG)
+ at Brunel University of London. All rights reserved.
+
+ GNU Lesser General Public License (GNU LGPL).
+
+ This library is free software; you can redistribute it and/or
+ modify it under the terms of the GNU Lesser General Public
+ License as published by the Free Software Foundation; either
+ version 3.0 of the License, or (at your option) any later version.
+
+ This library is distributed in the hope that it will be useful,
+ but WITHOUT ANY WARRANTY; without even the implied warranty of
+ MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ Lesser General Public License for more details.
+
+ You should have received a copy of the GNU Lesser General Public
+ License along with this library.
+ If not, see http://http://www.gnu.org/licenses/
+ *****************************************************************/
+
+package org.see.skf.benchmarks;
+
+import hla.rti1516_2025.encoding.DecoderException;
+import org.openjdk.jmh.annotations.*;
+import org.see.skf.benchmarks.model.SpaceTimeCoordinateState;
+import org.see.skf.core.BufferCoder;
+import org.see.skf.util.encoding.ExecutionModeCoder;
+import org.see.skf.util.encoding.HLAASCIIcharCoder;
+import org.see.skf.util.encoding.HLAASCIIstringCoder;
+import org.see.skf.util.encoding.HLAbooleanCoder;
+import org.see.skf.util.encoding.HLAbyteCoder;
+import org.see.skf.util.encoding.HLAfixedArrayCoder;
+import org.see.skf.util.encoding.HLAfloat32BECoder;
+import org.see.skf.util.encoding.HLAfloat32LECoder;
+import org.see.skf.util.encoding.HLAfloat64BECoder;
+import org.see.skf.util.encoding.HLAfloat64LECoder;
+import org.see.skf.util.encoding.HLAinteger16BECoder;
+import org.see.skf.util.encoding.HLAinteger16LECoder;
+import org.see.skf.util.encoding.HLAinteger32BECoder;
+import org.see.skf.util.encoding.HLAinteger32LECoder;
+import org.see.skf.util.encoding.HLAinteger64BECoder;
+import org.see.skf.util.encoding.HLAinteger64LECoder;
+import org.see.skf.util.encoding.HLAoctetCoder;
+import org.see.skf.util.encoding.HLAunicodeCharCoder;
+import org.see.skf.util.encoding.HLAunicodeStringCoder;
+import org.see.skf.util.encoding.HLAvariableArrayCoder;
+import org.see.skf.util.encoding.HLAvariableListCoder;
+import org.see.skf.util.encoding.HLAvariantRecordCoder;
+import org.see.skf.util.encoding.MTRModeCoder;
+import org.see.skf.util.encoding.VariantRecord;
+import org.see.skf.util.models.ExecutionConfiguration;
+import org.see.skf.util.models.ModeTransitionRequest;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encoding and decoding of a representative value through every coder of {@code org.see.skf.util.encoding}, selected
+ * with the {@code coder} parameter. The array variants go through the generic Coder interface, which allocates the
+ * encoded array or the decoded value; the buffer variants go through BufferCoder at a fixed offset of a preallocated
+ * buffer. Run this benchmark against two releases to spot a regression in a single data type.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CoderBenchmark {
+    @Param({"HLAboolean", "HLAbyte", "HLAoctet", "HLAASCIIchar", "HLAunicodeChar",
+            "HLAinteger16BE", "HLAinteger16LE", "HLAinteger32BE", "HLAinteger32LE", "HLAinteger64BE", "HLAinteger64LE",
+            "HLAfloat32BE", "HLAfloat32LE", "HLAfloat64BE", "HLAfloat64LE",
+            "HLAASCIIstring", "HLAunicodeString", "ExecutionMode", "MTRMode",
+            "HLAfixedArray", "HLAvariableArray", "HLAvariableList", "HLAfixedRecord", "HLAvariantRecord"})
+    private String coder;
+
+    private BufferCoder<Object> bufferCoder;
+    private Object value;
+    private byte[] encoded;
+    private ByteBuffer encodedBuffer;
+    private ByteBuffer encodeBuffer;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        switch (coder) {
+            case "HLAboolean": bind(new HLAbooleanCoder(), Boolean.TRUE); break;
+            case "HLAbyte": bind(new HLAbyteCoder(), (byte) 0x5A); break;
+            case "HLAoctet": bind(new HLAoctetCoder(), (byte) 0xA5); break;
+            case "HLAASCIIchar": bind(new HLAASCIIcharCoder(), (byte) 'S'); break;
+            case "HLAunicodeChar": bind(new HLAunicodeCharCoder(), (short) 0x03A9); break;
+            case "HLAinteger16BE": bind(new HLAinteger16BECoder(), (short) -12345); break;
+            case "HLAinteger16LE": bind(new HLAinteger16LECoder(), (short) -12345); break;
+            case "HLAinteger32BE": bind(new HLAinteger32BECoder(), 0x12345678); break;
+            case "HLAinteger32LE": bind(new HLAinteger32LECoder(), 0x12345678); break;
+            case "HLAinteger64BE": bind(new HLAinteger64BECoder(), 1L << 40); break;
+            case "HLAinteger64LE": bind(new HLAinteger64LECoder(), 1L << 40); break;
+            case "HLAfloat32BE": bind(new HLAfloat32BECoder(), 1.68e3f); break;
+            case "HLAfloat32LE": bind(new HLAfloat32LECoder(), 1.68e3f); break;
+            case "HLAfloat64BE": bind(new HLAfloat64BECoder(), 1737.4e3); break;
+            case "HLAfloat64LE": bind(new HLAfloat64LECoder(), 1737.4e3); break;
+            case "HLAASCIIstring": bind(new HLAASCIIstringCoder(), "Lunar Surface Rover"); break;
+            case "HLAunicodeString": bind(new HLAunicodeStringCoder(), "Lunar Surface Rover"); break;
+            case "ExecutionMode": bind(new ExecutionModeCoder(), ExecutionConfiguration.ExecutionMode.EXEC_MODE_RUNNING); break;
+            case "MTRMode": bind(new MTRModeCoder(), ModeTransitionRequest.MTRMode.MTR_GOTO_FREEZE); break;
+            case "HLAfixedArray":
+                bind(new HLAfixedArrayCoder<>(double[].class, new HLAfloat64LECoder(), 3), new double[] {1737.4e3, -2.5e3, 12.0});
+                break;
+            case "HLAvariableArray":
+                bind(new HLAvariableArrayCoder<>(double[].class, new HLAfloat64LECoder()), samples());
+                break;
+            case "HLAvariableList":
+                bind(new HLAvariableListCoder<>(new HLAunicodeStringCoder()), List.of("Rover", "Lander", "Gateway", "Relay"));
+                break;
+            case "HLAfixedRecord": bind(new SpaceTimeCoordinateState.Coder(), state()); break;
+            case "HLAvariantRecord":
+                bind(new HLAvariantRecordCoder<>(new HLAinteger32BECoder()).addAlternative(1, new SpaceTimeCoordinateState.Coder()),
+                        new VariantRecord<>(1, state()));
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown coder " + coder + ".");
+        }
+
+        encoded = bufferCoder.encode(value);
+        encodedBuffer = ByteBuffer.wrap(encoded);
+        encodeBuffer = ByteBuffer.allocate(encoded.length);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void bind(BufferCoder<?> coder, Object sample) {
+        bufferCoder = (BufferCoder<Object>) coder;
+        value = sample;
+    }
+
+    private static double[] samples() {
+        double[] samples = new double[64];
+        for (int i = 0; i < samples.length; i++) {
+            samples[i] = i * 0.5;
+        }
+
+        return samples;
+    }
+
+    private static SpaceTimeCoordinateState state() {
+        SpaceTimeCoordinateState state = new SpaceTimeCoordinateState();
+        state.getTranslationalState().setPosition(new double[] {1737.4e3, -2.5e3, 12.0});
+        state.getTranslationalState().setVelocity(new double[] {1.68e3, 0.5, -0.25});
+        state.getRotationalState().getAttitude().setScalar(0.7071);
+        state.getRotationalState().getAttitude().setVector(new double[] {0.0, 0.7071, 0.0});
+        state.setTime(42.0);
+
+        return state;
+    }
+
+    @Benchmark
+    public byte[] encode() {
+        return bufferCoder.encode(value);
+    }
+
+    @Benchmark
+    public Object decode() throws DecoderException {
+        return bufferCoder.decode(encoded);
+    }
+
+    @Benchmark
+    public ByteBuffer encodeIntoBuffer() {
+        bufferCoder.encode(value, encodeBuffer, 0);
+        return encodeBuffer;
+    }
+
+    @Benchmark
+    public Object decodeFromBuffer() throws DecoderException {
+        return bufferCoder.decode(encodedBuffer, 0);
+    }
+}
@@ -0,0 +1,106 @@
+/*****************************************************************
+ SEE HLA Starter Kit Framework -  A Java library that supports
+ the development of HLA Federates in the Simulation Exploration
+ Experience (SEE) program.
+
+ Copyright (c) 2014, 2026 SMASH Lab - University of Calabria
+ (Italy), Hridyanshu Aatreya - Modelling & Simulation Group (MSG)
+ at Brunel University of London. All rights reserved.
+
+ GNU Lesser General Public License (GNU LGPL).
+
+ This library is free software; you can redistribute it and/or
+ modify it under the terms of the GNU Lesser General Public
+ License as published by the Free Software Foundation; either
+ version 3.0 of the License, or (at your option) any later version.
+
+ This library is distributed in the hope that it will be useful,
+ but WITHOUT ANY WARRANTY; without even the implied warranty of
+ MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ Lesser General Public License for more details.
+
+ You should have received a copy of the GNU Lesser General Public
+ License along with this library.
+ If not, see http://http://www.gnu.org/licenses/
+ *****************************************************************/
+
+package org.see.skf.benchmarks;
+
+import hla.rti1516_2025.encoding.DecoderException;
+import org.openjdk.jmh.annotations.*;
+import org.see.skf.core.Coder;
+import org.see.skf.runtime.CoderCollection;
+import org.see.skf.runtime.CoderPool;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encode/decode round trips through a coder that, like the RTI's DataElements, keeps its value in an instance buffer.
+ * The pooled variant lends each thread its own instance; the synchronized variant serializes all threads on a single
+ * shared instance. Compare {@code -t 1} with {@code -t 4} (or more): the pooled throughput scales with the number of
+ * threads, the synchronized one does not.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CoderPoolBenchmark {
+    private CoderPool<Long> pool;
+    private Coder<Long> sharedCoder;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        pool = CoderCollection.pool(ScratchBufferCoder.class);
+        sharedCoder = new ScratchBufferCoder();
+    }
+
+    @State(Scope.Thread)
+    public static class ThreadValue {
+        long value;
+    }
+
+    @Benchmark
+    public long pooledRoundTrip(ThreadValue state) throws DecoderException {
+        Coder<Long> coder = pool.acquire();
+        try {
+            return coder.decode(coder.encode(state.value++));
+        } finally {
+            pool.release(coder);
+        }
+    }
+
+    @Benchmark
+    public long synchronizedRoundTrip(ThreadValue state) throws DecoderException {
+        synchronized (sharedCoder) {
+            return sharedCoder.decode(sharedCoder.encode(state.value++));
+        }
+    }
+
+    public static class ScratchBufferCoder implements Coder<Long> {
+        private final ByteBuffer scratch = ByteBuffer.allocate(Long.BYTES);
+
+        @Override
+        public Long decode(byte[] buffer) {
+            scratch.clear();
+            scratch.put(buffer);
+            return scratch.getLong(0);
+        }
+
+        @Override
+        public byte[] encode(Long element) {
+            scratch.putLong(0, element);
+            byte[] encoded = new byte[Long.BYTES];
+            scratch.rewind();
+            scratch.get(encoded);
+            return encoded;
+        }
+
+        @Override
+        public Class<Long> getAllowedType() {
+            return Long.class;
+        }
+    }
+}
@@ -0,0 +1,157 @@
+/*****************************************************************
+ SEE HLA Starter Kit Framework -  A Java library that supports
+ the development of HLA Federates in the Simulation Exploration
+ Experience (SEE) program.
+
+ Copyright (c) 2014, 2026 SMASH Lab - University of Calabria
+ (Italy), Hridyanshu Aatreya - Modelling & Simulation Group (MSG)
+ at Brunel University of London. All rights reserved.
+
+ GNU Lesser General Public License (GNU LGPL).
+
+ This library is free software; you can redistribute it and/or
+ modify it under the terms of the GNU Lesser General Public
+ License as published by the Free Software Foundation; either
+ version 3.0 of the License, or (at your option) any later version.
+
+ This library is distributed in the hope that it will be useful,
+ but WITHOUT ANY WARRANTY; without even the implied warranty of
+ MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ Lesser General Public License for more details.
+
+ You should have received a copy of the GNU Lesser General Public
+ License along with this library.
+ If not, see http://http://www.gnu.org/licenses/
+ *****************************************************************/
+
+package org.see.skf.benchmarks;
+
+import hla.rti1516_2025.encoding.DecoderException;
+import org.openjdk.jmh.annotations.*;
+import org.see.skf.benchmarks.model.SpaceTimeCoordinateState;
+import org.see.skf.core.Coder;
+import org.see.skf.util.encoding.HLAfloat64LECoder;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encoding and decoding of a SpaceTimeCoordinateState, the fixed record at the heart of the SpaceFOM PhysicalEntity.
+ * The record variants go through HLAfixedRecordCoder, which writes every field at a precomputed offset of one buffer;
+ * the element-wise variants reproduce the usual approach of encoding each of the 20 values into its own byte array
+ * through the generic Coder interface and copying the pieces together. Run with {@code -prof gc} to compare allocation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CompositeCoderBenchmark {
+    private static final int VALUE_COUNT = 20;
+
+    private SpaceTimeCoordinateState.Coder recordCoder;
+    private Coder<Double> elementCoder;
+    private SpaceTimeCoordinateState source;
+    private SpaceTimeCoordinateState target;
+    private ByteBuffer encodeBuffer;
+    private ByteBuffer encodedBuffer;
+    private byte[] encoded;
+    private double[] values;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        recordCoder = new SpaceTimeCoordinateState.Coder();
+        elementCoder = new HLAfloat64LECoder();
+        source = new SpaceTimeCoordinateState();
+        target = new SpaceTimeCoordinateState();
+        values = new double[VALUE_COUNT];
+
+        source.getTranslationalState().setPosition(new double[] {1737.4e3, -2.5e3, 12.0});
+        source.getTranslationalState().setVelocity(new double[] {1.68e3, 0.5, -0.25});
+        source.getRotationalState().getAttitude().setScalar(0.7071);
+        source.getRotationalState().getAttitude().setVector(new double[] {0.0, 0.7071, 0.0});
+        source.getRotationalState().setAngularVelocity(new double[] {0.0, 2.66e-6, 0.0});
+        source.setTime(42.0);
+
+        encoded = recordCoder.encode(source);
+        encodedBuffer = ByteBuffer.wrap(encoded);
+        encodeBuffer = ByteBuffer.allocate(recordCoder.getFixedEncodedLength());
+
+        if (encoded.length != VALUE_COUNT * Double.BYTES) {
+            throw new IllegalStateException("Unexpected SpaceTimeCoordinateState length: " + encoded.length);
+        }
+    }
+
+    @Benchmark
+    public byte[] recordEncode() {
+        return recordCoder.encode(source);
+    }
+
+    @Benchmark
+    public ByteBuffer recordEncodeInto() {
+        recordCoder.encode(source, encodeBuffer, 0);
+        return encodeBuffer;
+    }
+
+    @Benchmark
+    public SpaceTimeCoordinateState recordDecode() throws DecoderException {
+        return recordCoder.decode(encoded);
+    }
+
+    @Benchmark
+    public SpaceTimeCoordinateState recordDecodeInto() throws DecoderException {
+        return recordCoder.decode(encodedBuffer, 0, target);
+    }
+
+    @Benchmark
+    public byte[] elementWiseEncode() {
+        flatten(source, values);
+
+        byte[] buffer = new byte[VALUE_COUNT * Double.BYTES];
+        for (int i = 0; i < VALUE_COUNT; i++) {
+            System.arraycopy(elementCoder.encode(values[i]), 0, buffer, i * Double.BYTES, Double.BYTES);
+        }
+
+        return buffer;
+    }
+
+    @Benchmark
+    public SpaceTimeCoordinateState elementWiseDecode() throws DecoderException {
+        for (int i = 0; i < VALUE_COUNT; i++) {
+            values[i] = elementCoder.decode(Arrays.copyOfRange(encoded, i * Double.BYTES, (i + 1) * Double.BYTES));
+        }
+
+        unflatten(values, target);
+        return target;
+    }
+
+    private static void flatten(SpaceTimeCoordinateState state, double[] values) {
+        SpaceTimeCoordinateState.TranslationalState translation = state.getTranslationalState();
+        SpaceTimeCoordinateState.RotationalState rotation = state.getRotationalState();
+
+        System.arraycopy(translation.getPosition(), 0, values, 0, 3);
+        System.arraycopy(translation.getVelocity(), 0, values, 3, 3);
+        System.arraycopy(translation.getAcceleration(), 0, values, 6, 3);
+        values[9] = rotation.getAttitude().getScalar();
+        System.arraycopy(rotation.getAttitude().getVector(), 0, values, 10, 3);
+        System.arraycopy(rotation.getAngularVelocity(), 0, values, 13, 3);
+        System.arraycopy(rotation.getAngularAcceleration(), 0, values, 16, 3);
+        values[19] = state.getTime();
+    }
+
+    private static void unflatten(double[] values, SpaceTimeCoordinateState state) {
+        SpaceTimeCoordinateState.TranslationalState translation = state.getTranslationalState();
+        SpaceTimeCoordinateState.RotationalState rotation = state.getRotationalState();
+
+        System.arraycopy(values, 0, translation.getPosition(), 0, 3);
+        System.arraycopy(values, 3, translation.getVelocity(), 0, 3);
+        System.arraycopy(values, 6, translation.getAcceleration(), 0, 3);
+        rotation.getAttitude().setScalar(values[9]);
+        System.arraycopy(values, 10, rotation.getAttitude().getVector(), 0, 3);
+        System.arraycopy(values, 13, rotation.getAngularVelocity(), 0, 3);
+        System.arraycopy(values, 16, rotation.getAngularAcceleration(), 0, 3);
+        state.setTime(values[19]);
+    }
+}
@@ -0,0 +1,268 @@
+/*****************************************************************
+ SEE HLA Starter Kit Framework -  A Java library that supports
+ the development of HLA Federates in the Simulation Exploration
+ Experience (SEE) program.
+
+ Copyright (c) 2014, 2026 SMASH Lab - University of Calabria
+ (Italy), Hridyanshu Aatreya - Modelling & Simulation Group (MSG)
+ at Brunel University of London. All rights reserved.
+
+ GNU Lesser General Public License (GNU LGPL).
+
+ This library is free software; you can redistribute it and/or
+ modify it under the terms of the GNU Lesser General Public
+ License as published by the Free Software Foundation; either
+ version 3.0 of the License, or (at your option) any later version.
+
+ This library is distributed in the hope that it will be useful,
+ but WITHOUT ANY WARRANTY; without even the implied warranty of
+ MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ Lesser General Public License for more details.
+
+ You should have received a copy of the GNU Lesser General Public
+ License along with this library.
+ If not, see http://http://www.gnu.org/licenses/
+ *****************************************************************/
+package org.see.skf.benchmarks;
+
+import hla.rti1516_2025.AttributeHandleValueMap;
+import hla.rti1516_2025.CallbackModel;
+import hla.rti1516_2025.NullFederateAmbassador;
+import hla.rti1516_2025.ObjectClassHandle;
+import hla.rti1516_2025.ObjectInstanceHandle;
+import hla.rti1516_2025.RTIambassador;
+import hla.rti1516_2025.ResignAction;
+import hla.rti1516_2025.RtiConfiguration;
+import hla.rti1516_2025.exceptions.RTIexception;
+import org.openjdk.jmh.annotations.*;
+import org.see.skf.benchmarks.model.PhysicalEntity;
+import org.see.skf.conf.FederateConfiguration;
+import org.see.skf.core.FederateContext;
+import org.see.skf.core.SEEAbstractFederate;
+import org.see.skf.core.SEEFederateAmbassador;
+import org.see.skf.core.SKFederateAmbassador;
+import org.see.skf.loopback.LoopbackRti;
+import org.see.skf.runtime.objects.EntityRegistry;
+import org.see.skf.runtime.objects.ObjectClassEntity;
+import org.see.skf.runtime.objects.ObjectClassModel;
+import org.see.skf.runtime.objects.ObjectClassModelParser;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of resolving the entity targeted by an incoming reflection as the number of known object instances
+ * grows. The lookup benchmarks query an EntityRegistry directly, while reflectAttributeValues delivers a PhysicalEntity
+ * reflection to a federate that has discovered every instance through the loopback RTI, covering the lookup and the
+ * decoding of the 20 attributes. The linear scans reproduce the lookup strategy used before the introduction of the
+ * EntityRegistry, a search of the array behind a CopyOnWriteArraySet, and serve as the baselines.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EntityLookupBenchmark {
+    private static final String FEDERATION = "SKF Entity Lookup";
+    private static final long DISCOVERY_TIMEOUT_MILLIS = 60000L;
+
+    @Param({"10", "100", "1000", "10000", "100000"})
+    private int entityCount;
+
+    private LoopbackRti rti;
+    private RTIambassador producer;
+    private LookupFederate consumer;
+    private SKFederateAmbassador federateAmbassador;
+    private AttributeHandleValueMap attributeValues;
+
+    private EntityRegistry registry;
+    private List<ObjectClassEntity> linearEntities;
+    private ObjectInstanceHandle[] handles;
+    private String[] names;
+    private Object[] elements;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() throws RTIexception, InterruptedException {
+        rti = new LoopbackRti();
+        rti.createFederationExecution(FEDERATION, getClass().getClassLoader().getResource("foms/SKF_benchmarks.xml"));
+
+        consumer = new LookupFederate(new SEEFederateAmbassador(), new LookupConfiguration(), new FederateContext(rti.createRtiAmbassador(), null));
+        consumer.connectToRTI(RtiConfiguration.createConfiguration());
+        consumer.joinFederationExecution();
+        consumer.subscribeObjectClass(PhysicalEntity.class);
+        federateAmbassador = consumer.getFederateAmbassador();
+
+        producer = rti.createRtiAmbassador();
+        producer.connect(new NullFederateAmbassador(), CallbackModel.HLA_EVOKED, RtiConfiguration.createConfiguration());
+        producer.joinFederationExecution("Producer", "Benchmark", FEDERATION);
+
+        ObjectClassModelParser parser = new ObjectClassModelParser(PhysicalEntity.class);
+        ObjectClassHandle classHandle = producer.getObjectClassHandle(parser.getFomClassName());
+        ObjectClassModel classModel = new ObjectClassModel(parser, classHandle, producer);
+        classModel.publish();
+
+        PhysicalEntity physicalEntity = new PhysicalEntity();
+        physicalEntity.setName("Lander");
+        physicalEntity.setType("Vehicle");
+        physicalEntity.setStatus("Active");
+        physicalEntity.setParentReferenceFrame("MoonCentricFixed");
+        physicalEntity.setPositionX(1737.4e3);
+        attributeValues = classModel.getEncodedAttributeValues(physicalEntity);
+
+        registry = new EntityRegistry();
+        handles = new ObjectInstanceHandle[entityCount];
+        names = new String[entityCount];
+        elements = new Object[entityCount];
+        List<ObjectClassEntity> entities = new ArrayList<>(entityCount);
+
+        for (int i = 0; i < entityCount; i++) {
+            handles[i] = producer.registerObjectInstance(classHandle);
+            names[i] = producer.getObjectInstanceName(handles[i]);
+            elements[i] = new PhysicalEntity();
+
+            ObjectClassEntity entity = new ObjectClassEntity(names[i], handles[i], classModel, elements[i]);
+            registry.add(entity);
+            entities.add(entity);
+        }
+
+        // Filled in one go: adding the entities one at a time would copy the array on every add.
+        linearEntities = new CopyOnWriteArrayList<>(entities);
+        awaitDiscoveries();
+    }
+
+    private void awaitDiscoveries() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + DISCOVERY_TIMEOUT_MILLIS;
+
+        while (federateAmbassador.getMetrics().getDiscoveries().getCount() < entityCount) {
+            if (System.currentTimeMillis() > deadline) {
+                throw new IllegalStateException("The consumer discovered only " + federateAmbassador.getMetrics().getDiscoveries().getCount() + " of " + entityCount + " object instances.");
+            }
+
+            Thread.sleep(10L);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws RTIexception {
+        consumer.resignFederationExecution();
+        producer.resignFederationExecution(ResignAction.DELETE_OBJECTS_THEN_DIVEST);
+        producer.disconnect();
+        rti.destroyFederationExecution(FEDERATION);
+    }
+
+    private int nextIndex() {
+        cursor = (cursor + 7919) % entityCount;
+        return cursor;
+    }
+
+    @Benchmark
+    public ObjectClassEntity lookupByHandle() {
+        return registry.getByHandle(handles[nextIndex()]);
+    }
+
+    @Benchmark
+    public ObjectClassEntity lookupByName() {
+        return registry.getByName(names[nextIndex()]);
+    }
+
+    @Benchmark
+    public ObjectClassEntity lookupByElement() {
+        return registry.getByElement(elements[nextIndex()]);
+    }
+
+    @Benchmark
+    public ObjectClassEntity linearScanByHandle() {
+        return scan(handles[nextIndex()]);
+    }
+
+    @Benchmark
+    public void reflectAttributeValues() {
+        federateAmbassador.reflectAttributeValues(handles[nextIndex()], attributeValues, null, null, null, null);
+    }
+
+    @Benchmark
+    public Object linearScanReflectAttributeValues() {
+        ObjectClassEntity entity = scan(handles[nextIndex()]);
+        entity.getModel().unpackEncodedAttributeValues(entity.getElement(), attributeValues);
+        return entity.getElement();
+    }
+
+    private ObjectClassEntity scan(ObjectInstanceHandle handle) {
+        return linearEntities.stream()
+                .filter(e -> e.getHandle().equals(handle))
+                .findAny()
+                .orElse(null);
+    }
+
+    private static final class LookupFederate extends SEEAbstractFederate {
+        private LookupFederate(SEEFederateAmbassador federateAmbassador, FederateConfiguration config, FederateContext context) {
+            super(federateAmbassador, config, context);
+        }
+
+        @Override
+        public void configureAndStart() {
+            // Driven by the benchmark instead.
+        }
+
+        @Override
+        public void update() {
+            // Driven by the benchmark instead.
+        }
+    }
+
+    private static final class LookupConfiguration implements FederateConfiguration {
+        @Override
+        public String rtiAddress() {
+            return null;
+        }
+
+        @Override
+        public String federateName() {
+            return "Consumer";
+        }
+
+        @Override
+        public String federateType() {
+            return "Benchmark";
+        }
+
+        @Override
+        public String federationName() {
+            return FEDERATION;
+        }
+
+        @Override
+        public String federateRole() {
+            return "Early";
+        }
+
+        @Override
+        public String[] additionalFomModules() {
+            return new String[0];
+        }
+
+        @Override
+        public boolean asynchronousDelivery() {
+            return false;
+        }
+
+        @Override
+        public boolean timeConstrained() {
+            return false;
+        }
+
+        @Override
+        public boolean timeRegulating() {
+            return false;
+        }
+
+        @Override
+        public Long lookAhead() {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,220 @@
+/*****************************************************************
+ SEE HLA Starter Kit Framework -  A Java library that supports
+ the development of HLA Federates in the Simulation Exploration
+ Experience (SEE) program.
+
+ Copyright (c) 2014, 2026 SMASH Lab - University of Calabria
+ (Italy), Hridyanshu Aatreya - Modelling & Simulation Group (MSG)
+ at Brunel University of London. All rights reserved.
+
+ GNU Lesser General Public License (GNU LGPL).
+
+ This library is free software; you can redistribute it and/or
+ modify it under the terms of the GNU Lesser General Public
+ License as published by the Free Software Foundation; either
+ version 3.0 of the License, or (at your option) any later version.
+
+ This library is distributed in the hope that it will be useful,
+ but WITHOUT ANY WARRANTY; without even the implied warranty of
+ MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ Lesser General Public License for more details.
+
+ You should have received a copy of the GNU Lesser General Public
+ License along with this library.
+ If not, see http://http://www.gnu.org/licenses/
+ *****************************************************************/
+
+package org.see.skf.benchmarks;
+
+import hla.rti1516_2025.CallbackModel;
+import hla.rti1516_2025.RtiConfiguration;
+import hla.rti1516_2025.exceptions.RTIexception;
+import org.openjdk.jmh.annotations.*;
+import org.see.skf.benchmarks.model.PhysicalEntity;
+import org.see.skf.conf.FederateConfiguration;
+import org.see.skf.core.FederateContext;
+import org.see.skf.core.SEEAbstractFederate;
+import org.see.skf.core.SEEFederateAmbassador;
+import org.see.skf.loopback.LoopbackRti;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Frames per second of the SEEAbstractFederate frame loop, run end to end against the loopback RTI: two time regulating
+ * and constrained federates advance in lockstep, one of them updating a PhysicalEntity every frame and the other
+ * reflecting it. Each operation waits for the next frame of the updating federate, so the score covers the time advance
+ * handshake, the update encoding, the reflection and its dispatch. The {@code callbackModel} parameter selects whether
+ * the loop waits to be unparked by the grant or evokes the callbacks of the frame itself.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FrameLoopBenchmark {
+    private static final String FEDERATION = "SKF Frame Loop";
+    private static final long LOOK_AHEAD = 1000000L;
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = 5000L;
+
+    @Param({"HLA_IMMEDIATE", "HLA_EVOKED"})
+    private CallbackModel callbackModel;
+
+    private LoopbackRti rti;
+    private FrameFederate producer;
+    private FrameFederate consumer;
+    private Semaphore frames;
+
+    @Setup(Level.Trial)
+    public void setUp() throws RTIexception {
+        rti = new LoopbackRti();
+        rti.createFederationExecution(FEDERATION, getClass().getClassLoader().getResource("foms/SKF_benchmarks.xml"));
+        frames = new Semaphore(0);
+
+        producer = join("Producer");
+        consumer = join("Consumer");
+
+        consumer.subscribeObjectClass(PhysicalEntity.class);
+        producer.publishObjectClass(PhysicalEntity.class);
+        producer.entity = new PhysicalEntity();
+        producer.entity.setName("Lander");
+        producer.entity.setType("Vehicle");
+        producer.entity.setStatus("Active");
+        producer.entity.setParentReferenceFrame("MoonCentricFixed");
+        producer.registerObjectInstance(producer.entity, "Lander");
+        producer.frames = frames;
+
+        for (FrameFederate federate : new FrameFederate[] {producer, consumer}) {
+            federate.setupTimeManagement();
+            federate.getSimulationTime().setFederationLogicalTime(federate.getSimulationTime().getFederateLogicalTime());
+        }
+
+        consumer.startExecution();
+        producer.startExecution();
+    }
+
+    private FrameFederate join(String federateName) throws RTIexception {
+        FrameConfiguration config = new FrameConfiguration(federateName, callbackModel);
+        FrameFederate federate = new FrameFederate(new SEEFederateAmbassador(), config, new FederateContext(rti.createRtiAmbassador(), null));
+        federate.connectToRTI(RtiConfiguration.createConfiguration());
+        federate.joinFederationExecution();
+
+        return federate;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws InterruptedException {
+        producer.shutdownExecution();
+        consumer.shutdownExecution();
+
+        // Each frame loop resigns on its own thread once it notices the shutdown.
+        long deadline = System.currentTimeMillis() + SHUTDOWN_TIMEOUT_MILLIS;
+        while (true) {
+            try {
+                rti.destroyFederationExecution(FEDERATION);
+                return;
+            } catch (IllegalStateException stillJoined) {
+                if (System.currentTimeMillis() > deadline) {
+                    throw stillJoined;
+                }
+
+                Thread.sleep(10L);
+            }
+        }
+    }
+
+    @Benchmark
+    public void frame() throws InterruptedException {
+        frames.acquire();
+    }
+
+    private static final class FrameFederate extends SEEAbstractFederate {
+        private PhysicalEntity entity;
+        private Semaphore frames;
+
+        private FrameFederate(SEEFederateAmbassador federateAmbassador, FederateConfiguration config, FederateContext context) {
+            super(federateAmbassador, config, context);
+        }
+
+        @Override
+        public void configureAndStart() {
+            // Driven by the benchmark instead.
+        }
+
+        @Override
+        public void update() {
+            if (entity != null) {
+                entity.setTime(getSimulationTime().getFederateLogicalTime().getValue() / 1.0e6);
+                entity.setPositionX(entity.getPositionX() + 1.0);
+                updateObjectInstance(entity);
+                frames.release();
+            }
+        }
+    }
+
+    private static final class FrameConfiguration implements FederateConfiguration {
+        private final String federateName;
+        private final CallbackModel callbackModel;
+
+        private FrameConfiguration(String federateName, CallbackModel callbackModel) {
+            this.federateName = federateName;
+            this.callbackModel = callbackModel;
+        }
+
+        @Override
+        public String rtiAddress() {
+            return null;
+        }
+
+        @Override
+        public String federateName() {
+            return federateName;
+        }
+
+        @Override
+        public String federateType() {
+            return "Benchmark";
+        }
+
+        @Override
+        public String federationName() {
+            return FEDERATION;
+        }
+
+        @Override
+        public String federateRole() {
+            return "Early";
+        }
+
+        @Override
+        public String[] additionalFomModules() {
+            return new String[0];
+        }
+
+        @Override
+        public boolean asynchronousDelivery() {
+            return false;
+        }
+
+        @Override
+        public boolean timeConstrained() {
+            return true;
+        }
+
+        @Override
+        public boolean timeRegulating() {
+            return true;
+        }
+
+        @Override
+        public Long lookAhead() {
+            return LOOK_AHEAD;
+        }
+
+        @Override
+        public CallbackModel callbackModel() {
+            return callbackModel;
+        }
+    }
+}
@@ -0,0 +1,127 @@
+/*****************************************************************
+ SEE HLA Starter Kit Framework -  A Java library that supports
+ the development of HLA Federates in the Simulation Exploration
+ Experience (SEE) program.
+
+ Copyright (c) 2014, 2026 SMASH Lab - University of Calabria
+ (Italy), Hridyanshu Aatreya - Modelling & Simulation Group (MSG)
+ at Brunel University of London. All rights reserved.
+
+ GNU Lesser General Public License (GNU LGPL).
+
+ This library is free software; you can redistribute it and/or
+ modify it under the terms of the GNU Lesser General Public
+ License as published by the Free Software Foundation; either
+ version 3.0 of the License, or (at your option) any later version.
+
+ This library is distributed in the hope that it will be useful,
+ but WITHOUT ANY WARRANTY; without even the implied warranty of
+ MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ Lesser General Public License for more details.
+
+ You should have received a copy of the GNU Lesser General Public
+ License along with this library.
+ If not, see http://http://www.gnu.org/licenses/
+ *****************************************************************/
+
+package org.see.skf.benchmarks;
+
+import hla.rti1516_2025.ParameterHandle;
+import hla.rti1516_2025.ParameterHandleValueMap;
+import org.openjdk.jmh.annotations.*;
+import org.see.skf.benchmarks.model.TelemetryReport;
+import org.see.skf.loopback.LoopbackValues;
+import org.see.skf.runtime.FieldBinding;
+import org.see.skf.runtime.interactions.InteractionClassModelParser;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encoding and decoding of an 8-parameter interaction through the InteractionClassModelParser, on the sending side
+ * (into a name-keyed map, or straight into a parameter value map as InteractionClassModel does) and on the receiving
+ * side (from a parameter value map, or from the parallel arrays the callback pipeline copies values into). roundTrip
+ * encodes and decodes the same interaction, the full cost of one interaction between two federates minus the RTI.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class InteractionCodecBenchmark {
+    private InteractionClassModelParser parser;
+    private TelemetryReport source;
+    private TelemetryReport target;
+    private ParameterHandle[] parameterHandles;
+    private Map<ParameterHandle, FieldBinding> handleToBinding;
+    private ParameterHandleValueMap encodedValues;
+    private ParameterHandleValueMap encodeTarget;
+    private byte[][] encodedArray;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        parser = new InteractionClassModelParser(TelemetryReport.class);
+        source = new TelemetryReport();
+        target = new TelemetryReport();
+
+        source.setEntityName("Lander");
+        source.setSequenceNumber(1L << 20);
+        source.setTime(42.0);
+        source.setPositionX(1737.4e3);
+        source.setPositionY(-2.5e3);
+        source.setPositionZ(12.0);
+        source.setMode(2);
+        source.setHealth((short) 7);
+
+        FieldBinding[] bindings = parser.getParameterBindings();
+        parameterHandles = new ParameterHandle[bindings.length];
+        handleToBinding = new HashMap<>();
+        encodedValues = LoopbackValues.map(ParameterHandleValueMap.class, 0);
+        encodeTarget = LoopbackValues.map(ParameterHandleValueMap.class, 0);
+        encodedArray = new byte[bindings.length][];
+
+        for (int i = 0; i < bindings.length; i++) {
+            parameterHandles[i] = LoopbackValues.handle(ParameterHandle.class, i);
+            handleToBinding.put(parameterHandles[i], bindings[i]);
+        }
+
+        parser.encode(source, encodedValues, parameterHandles);
+        for (int i = 0; i < bindings.length; i++) {
+            encodedArray[i] = encodedValues.get(parameterHandles[i]);
+        }
+    }
+
+    @Benchmark
+    public Map<String, byte[]> encode() {
+        return parser.encode(source);
+    }
+
+    @Benchmark
+    public ParameterHandleValueMap boundEncode() {
+        encodeTarget.clear();
+        parser.encode(source, encodeTarget, parameterHandles);
+        return encodeTarget;
+    }
+
+    @Benchmark
+    public TelemetryReport decode() {
+        parser.decode(target, encodedValues, handleToBinding);
+        return target;
+    }
+
+    @Benchmark
+    public TelemetryReport decodeArray() {
+        parser.decode(target, parameterHandles, encodedArray, encodedArray.length, handleToBinding);
+        return target;
+    }
+
+    @Benchmark
+    public TelemetryReport roundTrip() {
+        encodeTarget.clear();
+        parser.encode(source, encodeTarget, parameterHandles);
+        parser.decode(target, encodeTarget, handleToBinding);
+        return target;
+    }
+}
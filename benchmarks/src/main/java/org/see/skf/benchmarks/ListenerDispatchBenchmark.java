@@ -0,0 +1,164 @@
+/*****************************************************************
+ SEE HLA Starter Kit Framework -  A Java library that supports
+ the development of HLA Federates in the Simulation Exploration
+ Experience (SEE) program.
+
+ Copyright (c) 2014, 2026 SMASH Lab - University of Calabria
+ (Italy), Hridyanshu Aatreya - Modelling & Simulation Group (MSG)
+ at Brunel University of London. All rights reserved.
+
+ GNU Lesser General Public License (GNU LGPL).
+
+ This library is free software; you can redistribute it and/or
+ modify it under the terms of the GNU Lesser General Public
+ License as published by the Free Software Foundation; either
+ version 3.0 of the License, or (at your option) any later version.
+
+ This library is distributed in the hope that it will be useful,
+ but WITHOUT ANY WARRANTY; without even the implied warranty of
+ MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ Lesser General Public License for more details.
+
+ You should have received a copy of the GNU Lesser General Public
+ License along with this library.
+ If not, see http://http://www.gnu.org/licenses/
+ *****************************************************************/
+
+package org.see.skf.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.see.skf.runtime.dispatch.BackPressure;
+import org.see.skf.runtime.dispatch.DispatchMode;
+import org.see.skf.runtime.dispatch.ListenerDispatcher;
+import org.see.skf.runtime.dispatch.ListenerDispatchers;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Delivery of listener notifications through each dispatch mode, against the former thread-per-callback approach.
+ * {@code roundTrip} samples the latency from dispatch to delivery of a single notification; {@code sustainedLoad}
+ * dispatches 10,000 notifications paced at 10,000 per second and reports the mean and maximum delivery latency and
+ * the peak number of live threads as secondary results.
+ */
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ListenerDispatchBenchmark {
+    private static final int LOAD_INTERACTIONS = 10_000;
+    private static final long LOAD_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1) / LOAD_INTERACTIONS;
+
+    @Param({"THREAD_PER_CALLBACK", "INLINE", "ORDERED", "EXECUTOR", "VIRTUAL"})
+    private String mode;
+
+    private ListenerDispatcher dispatcher;
+    private AtomicLong delivered;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        delivered = new AtomicLong();
+
+        if (mode.equals("THREAD_PER_CALLBACK")) {
+            dispatcher = new ThreadPerCallbackDispatcher();
+        } else {
+            dispatcher = ListenerDispatchers.create(DispatchMode.valueOf(mode), ListenerDispatchers.DEFAULT_THREADS, ListenerDispatchers.DEFAULT_QUEUE_CAPACITY, BackPressure.BLOCK);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        dispatcher.shutdown(5000);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @Warmup(iterations = 3, time = 1)
+    @Measurement(iterations = 5, time = 1)
+    public long roundTrip() {
+        long target = delivered.get() + 1;
+        dispatcher.dispatch(delivered::incrementAndGet);
+
+        while (delivered.get() < target) {
+            Thread.onSpinWait();
+        }
+
+        return target;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 2)
+    @Measurement(iterations = 5)
+    public long sustainedLoad(LoadCounters counters) {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        threads.resetPeakThreadCount();
+
+        LongAdder latencySum = new LongAdder();
+        LongAccumulator latencyMax = new LongAccumulator(Math::max, 0L);
+        LongAdder count = new LongAdder();
+        long start = System.nanoTime();
+
+        for (int i = 0; i < LOAD_INTERACTIONS; i++) {
+            long due = start + i * LOAD_INTERVAL_NANOS;
+            while (System.nanoTime() < due) {
+                Thread.onSpinWait();
+            }
+
+            long sent = System.nanoTime();
+            dispatcher.dispatch(() -> {
+                long latency = System.nanoTime() - sent;
+                latencySum.add(latency);
+                latencyMax.accumulate(latency);
+                count.increment();
+            });
+        }
+
+        while (count.sum() < LOAD_INTERACTIONS) {
+            Thread.onSpinWait();
+        }
+
+        counters.meanLatencyMicros = latencySum.sum() / (double) LOAD_INTERACTIONS / 1000.0;
+        counters.maxLatencyMicros = latencyMax.get() / 1000.0;
+        counters.peakThreads = threads.getPeakThreadCount();
+        return count.sum();
+    }
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class LoadCounters {
+        public double meanLatencyMicros;
+        public double maxLatencyMicros;
+        public long peakThreads;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            meanLatencyMicros = 0;
+            maxLatencyMicros = 0;
+            peakThreads = 0;
+        }
+    }
+
+    /**
+     * The dispatch strategy the framework used to follow: a new platform thread for every notification.
+     */
+    private static final class ThreadPerCallbackDispatcher implements ListenerDispatcher {
+        @Override
+        public void dispatch(Runnable notification) {
+            new Thread(notification).start();
+        }
+
+        @Override
+        public long getDroppedCount() {
+            return 0;
+        }
+
+        @Override
+        public boolean shutdown(long timeoutMillis) {
+            return true;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+/*****************************************************************
+ SEE HLA Starter Kit Framework -  A Java library that supports
+ the development of HLA Federates in the Simulation Exploration
+ Experience (SEE) program.
+
+ Copyright (c) 2014, 2026 SMASH Lab - University of Calabria
+ (Italy), Hridyanshu Aatreya - Modelling & Simulation Group (MSG)
+ at Brunel University of London. All rights reserved.
+
+ GNU Lesser General Public License (GNU LGPL).
+
+ This library is free software; you can redistribute it and/or
+ modify it under the terms of the GNU Lesser General Public
+ License as published by the Free Software Foundation; either
+ version 3.0 of the License, or (at your option) any later version.
+
+ This library is distributed in the hope that it will be useful,
+ but WITHOUT ANY WARRANTY; without even the implied warranty of
+ MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ Lesser General Public License for more details.
+
+ You should have received a copy of the GNU Lesser General Public
+ License along with this library.
+ If not, see http://http://www.gnu.org/licenses/
+ *****************************************************************/
+
+package org.see.skf.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.see.skf.metrics.Counter;
+import org.see.skf.metrics.Histogram;
+import org.see.skf.metrics.MetricsRegistry;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of recording one event in the metrics registry, as paid on the callback and simulation threads. recordSince
+ * includes the System.nanoTime() call that ends the measured interval; the instruments are looked up once, as the
+ * framework does, so name lookups are not part of the score.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MetricsBenchmark {
+    private Counter counter;
+    private Histogram histogram;
+    private long value;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        MetricsRegistry registry = new MetricsRegistry();
+        counter = registry.counter("benchmark.counter");
+        histogram = registry.histogram("benchmark.histogram");
+    }
+
+    @Benchmark
+    public void counterIncrement() {
+        counter.increment();
+    }
+
+    @Benchmark
+    public void histogramRecord() {
+        value = (value + 7919L) & 0xFFFFFL;
+        histogram.record(value);
+    }
+
+    @Benchmark
+    public void histogramRecordSince() {
+        histogram.recordSince(System.nanoTime() - 1000L);
+    }
+}
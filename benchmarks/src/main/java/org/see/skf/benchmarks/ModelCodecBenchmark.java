@@ -0,0 +1,171 @@
+/*****************************************************************
+ SEE HLA Starter Kit Framework -  A Java library that supports
+ the development of HLA Federates in the Simulation Exploration
+ Experience (SEE) program.
+
+ Copyright (c) 2014, 2026 SMASH Lab - University of Calabria
+ (Italy), Hridyanshu Aatreya - Modelling & Simulation Group (MSG)
+ at Brunel University of London. All rights reserved.
+
+ GNU Lesser General Public License (GNU LGPL).
+
+ This library is free software; you can redistribute it and/or
+ modify it under the terms of the GNU Lesser General Public
+ License as published by the Free Software Foundation; either
+ version 3.0 of the License, or (at your option) any later version.
+
+ This library is distributed in the hope that it will be useful,
+ but WITHOUT ANY WARRANTY; without even the implied warranty of
+ MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ Lesser General Public License for more details.
+
+ You should have received a copy of the GNU Lesser General Public
+ License along with this library.
+ If not, see http://http://www.gnu.org/licenses/
+ *****************************************************************/
+
+package org.see.skf.benchmarks;
+
+import hla.rti1516_2025.AttributeHandle;
+import hla.rti1516_2025.AttributeHandleValueMap;
+import org.openjdk.jmh.annotations.*;
+import org.see.skf.benchmarks.model.PhysicalEntity;
+import org.see.skf.core.Coder;
+import org.see.skf.loopback.LoopbackValues;
+import org.see.skf.runtime.CoderCollection;
+import org.see.skf.runtime.FieldBinding;
+import org.see.skf.runtime.objects.ObjectClassModelParser;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encoding and decoding throughput of a 20-attribute object class through the ObjectClassModelParser. The reflective
+ * variants reproduce the Method.invoke-based strategy the parsers used before accessors were generated, and serve as
+ * the baseline. generatedEncode and generatedDecode move the values through arrays in the order of the publishable
+ * bindings, as the callback pipeline does; boundEncode and mapDecode go through an attribute value map, as
+ * ObjectClassModel does when it talks to the RTI, and namedEncode builds a map keyed by attribute name.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ModelCodecBenchmark {
+    private ObjectClassModelParser parser;
+    private PhysicalEntity source;
+    private PhysicalEntity target;
+    private AttributeHandleValueMap encodedValues;
+    private Map<AttributeHandle, String> handleToName;
+    private Map<AttributeHandle, FieldBinding> handleToBinding;
+    private AttributeHandle[] publishableHandles;
+    private AttributeHandleValueMap encodeTarget;
+    private byte[][] encodeValues;
+    private byte[][] decodeValues;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        parser = new ObjectClassModelParser(PhysicalEntity.class);
+        source = new PhysicalEntity();
+        target = new PhysicalEntity();
+
+        source.setName("Lander");
+        source.setType("Vehicle");
+        source.setStatus("Active");
+        source.setParentReferenceFrame("MoonCentricFixed");
+        source.setPositionX(1737.4e3);
+        source.setVelocityY(1.68e3);
+        source.setAttitudeScalar(1.0);
+        source.setTime(42.0);
+
+        encodedValues = LoopbackValues.map(AttributeHandleValueMap.class, 0);
+        encodeTarget = LoopbackValues.map(AttributeHandleValueMap.class, 0);
+        handleToName = new HashMap<>();
+        handleToBinding = new HashMap<>();
+
+        FieldBinding[] bindings = parser.getPublishableBindings();
+        publishableHandles = new AttributeHandle[bindings.length];
+        encodeValues = new byte[bindings.length][];
+        decodeValues = new byte[bindings.length][];
+        for (int i = 0; i < bindings.length; i++) {
+            AttributeHandle handle = LoopbackValues.handle(AttributeHandle.class, i);
+            publishableHandles[i] = handle;
+            decodeValues[i] = bindings[i].encode(source);
+            encodedValues.put(handle, decodeValues[i]);
+            handleToName.put(handle, bindings[i].getFomName());
+            handleToBinding.put(handle, bindings[i]);
+        }
+    }
+
+    @Benchmark
+    public byte[][] generatedEncode() {
+        parser.encode(source, encodeValues);
+        return encodeValues;
+    }
+
+    @Benchmark
+    public Map<String, byte[]> namedEncode() {
+        return parser.encode(source);
+    }
+
+    @Benchmark
+    public AttributeHandleValueMap boundEncode() {
+        encodeTarget.clear();
+        parser.encode(source, encodeTarget, publishableHandles);
+        return encodeTarget;
+    }
+
+    @Benchmark
+    public PhysicalEntity generatedDecode() {
+        parser.decode(target, publishableHandles, decodeValues, publishableHandles.length, handleToBinding);
+        return target;
+    }
+
+    @Benchmark
+    public PhysicalEntity mapDecode() {
+        parser.decode(target, encodedValues, handleToBinding);
+        return target;
+    }
+
+    @Benchmark
+    public Map<String, byte[]> reflectiveEncode() throws ReflectiveOperationException {
+        Map<String, byte[]> encodingMap = new HashMap<>();
+
+        for (String attributeName : parser.getPublishableAttributeNames()) {
+            Field field = parser.getFieldForFomElement(attributeName);
+            Method getter = parser.getFieldGetter(field);
+            Object fieldValue = getter.invoke(source);
+
+            Class<? extends Coder<?>> coderClass = parser.getFieldCoder(field);
+            Coder<?> coder = CoderCollection.query(coderClass);
+            Method encode = coderClass.getMethod("encode", Object.class);
+            encodingMap.put(attributeName, (byte[]) encode.invoke(coder, fieldValue));
+        }
+
+        return encodingMap;
+    }
+
+    @Benchmark
+    public PhysicalEntity reflectiveDecode() throws NoSuchMethodException, InvocationTargetException, IllegalAccessException {
+        for (Map.Entry<AttributeHandle, byte[]> entry : encodedValues.entrySet()) {
+            String attributeName = handleToName.get(entry.getKey());
+            Field field = parser.getFieldForFomElement(attributeName);
+
+            Class<? extends Coder<?>> coderClass = parser.getFieldCoder(field);
+            Coder<?> coder = CoderCollection.query(coderClass);
+            Method decode = coderClass.getMethod("decode", byte[].class);
+            Object newFieldValue = decode.invoke(coder, (Object) entry.getValue());
+
+            Object oldFieldValue = parser.getFieldGetter(field).invoke(target);
+            parser.getFieldSetter(field).invoke(target, newFieldValue);
+            target.notifyListeners(attributeName, oldFieldValue, newFieldValue);
+        }
+
+        return target;
+    }
+}
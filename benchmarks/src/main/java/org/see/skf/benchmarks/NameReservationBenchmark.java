@@ -0,0 +1,197 @@
+/*****************************************************************
+ SEE HLA Starter Kit Framework -  A Java library that supports
+ the development of HLA Federates in the Simulation Exploration
+ Experience (SEE) program.
+
+ Copyright (c) 2014, 2026 SMASH Lab - University of Calabria
+ (Italy), Hridyanshu Aatreya - Modelling & Simulation Group (MSG)
+ at Brunel University of London. All rights reserved.
+
+ GNU Lesser General Public License (GNU LGPL).
+
+ This library is free software; you can redistribute it and/or
+ modify it under the terms of the GNU Lesser General Public
+ License as published by the Free Software Foundation; either
+ version 3.0 of the License, or (at your option) any later version.
+
+ This library is distributed in the hope that it will be useful,
+ but WITHOUT ANY WARRANTY; without even the implied warranty of
+ MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ Lesser General Public License for more details.
+
+ You should have received a copy of the GNU Lesser General Public
+ License along with this library.
+ If not, see http://http://www.gnu.org/licenses/
+ *****************************************************************/
+
+package org.see.skf.benchmarks;
+
+import hla.rti1516_2025.RTIambassador;
+import org.openjdk.jmh.annotations.*;
+import org.see.skf.core.CallbackPump;
+import org.see.skf.core.NameReservations;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Time taken at startup to reserve the names of 500 object instances, against a stand-in RTI that answers every
+ * reservation request on its own callback thread after a simulated round-trip latency. yieldSpinSerial is the former
+ * approach, spinning with Thread.yield() on each reservation in turn; awaitSerial waits on the future of each
+ * reservation in turn; batch reserves every name in one request. The auxiliary counters report the round trips to the
+ * RTI and the CPU time of the reserving thread, per operation; JMH adds them up over the measurement iterations.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class NameReservationBenchmark {
+    private static final int INSTANCE_COUNT = 500;
+    private static final long ROUND_TRIP_NANOS = TimeUnit.MICROSECONDS.toNanos(50L);
+
+    private final ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+    private List<String> names;
+    private ExecutorService callbackThread;
+    private RTIambassador rtiAmbassador;
+    private volatile NameReservations reservations;
+    private volatile ConcurrentMap<String, Boolean> spinRegistry;
+    private int roundTripsInOperation;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        names = new ArrayList<>(INSTANCE_COUNT);
+        for (int i = 0; i < INSTANCE_COUNT; i++) {
+            names.add("Instance-" + i);
+        }
+
+        callbackThread = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "stand-in-rti-callbacks");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        rtiAmbassador = (RTIambassador) Proxy.newProxyInstance(RTIambassador.class.getClassLoader(), new Class<?>[] {RTIambassador.class}, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "reserveObjectInstanceName": {
+                    String name = (String) args[0];
+                    roundTripsInOperation++;
+                    callbackThread.execute(() -> {
+                        LockSupport.parkNanos(ROUND_TRIP_NANOS);
+                        reserved(name);
+                    });
+                    return null;
+                }
+                case "reserveMultipleObjectInstanceNames": {
+                    @SuppressWarnings("unchecked")
+                    Set<String> batch = new HashSet<>((Set<String>) args[0]);
+                    roundTripsInOperation++;
+                    callbackThread.execute(() -> {
+                        LockSupport.parkNanos(ROUND_TRIP_NANOS);
+                        batch.forEach(this::reserved);
+                    });
+                    return null;
+                }
+                default:
+                    throw new UnsupportedOperationException(method.getName());
+            }
+        });
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        callbackThread.shutdownNow();
+    }
+
+    @Setup(Level.Invocation)
+    public void resetReservations() {
+        reservations = new NameReservations();
+        spinRegistry = new ConcurrentHashMap<>();
+        roundTripsInOperation = 0;
+    }
+
+    private void reserved(String name) {
+        spinRegistry.replace(name, Boolean.FALSE, Boolean.TRUE);
+        reservations.complete(name, true);
+    }
+
+    @Benchmark
+    public void yieldSpinSerial(Counters counters) throws Exception {
+        long cpuStart = threadBean.getCurrentThreadCpuTime();
+
+        for (String name : names) {
+            spinRegistry.put(name, Boolean.FALSE);
+            rtiAmbassador.reserveObjectInstanceName(name);
+
+            while (!spinRegistry.get(name)) {
+                Thread.yield();
+            }
+        }
+
+        counters.record(roundTripsInOperation, threadBean.getCurrentThreadCpuTime() - cpuStart);
+    }
+
+    @Benchmark
+    public void awaitSerial(Counters counters) throws Exception {
+        long cpuStart = threadBean.getCurrentThreadCpuTime();
+        CallbackPump callbackPump = CallbackPump.immediate();
+
+        for (String name : names) {
+            CompletableFuture<Boolean> reservation = reservations.reserve(rtiAmbassador, name);
+            callbackPump.await(reservation, Long.MAX_VALUE);
+        }
+
+        counters.record(roundTripsInOperation, threadBean.getCurrentThreadCpuTime() - cpuStart);
+    }
+
+    @Benchmark
+    public void batch(Counters counters) throws Exception {
+        long cpuStart = threadBean.getCurrentThreadCpuTime();
+
+        CompletableFuture<Boolean> reservation = reservations.reserveAll(rtiAmbassador, names);
+        CallbackPump.immediate().await(reservation, Long.MAX_VALUE);
+
+        counters.record(roundTripsInOperation, threadBean.getCurrentThreadCpuTime() - cpuStart);
+    }
+
+    /**
+     * Round trips to the RTI and CPU time of the reserving thread, per operation.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Counters {
+        public long roundTrips;
+        public double cpuMicros;
+
+        private long operations;
+        private long totalCpuNanos;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            roundTrips = 0L;
+            cpuMicros = 0.0;
+            operations = 0L;
+            totalCpuNanos = 0L;
+        }
+
+        void record(int operationRoundTrips, long cpuNanos) {
+            operations++;
+            totalCpuNanos += cpuNanos;
+            roundTrips = operationRoundTrips;
+            cpuMicros = totalCpuNanos / 1000.0 / operations;
+        }
+    }
+}
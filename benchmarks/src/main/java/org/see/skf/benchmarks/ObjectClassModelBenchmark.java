@@ -0,0 +1,129 @@
+/*****************************************************************
+ SEE HLA Starter Kit Framework -  A Java library that supports
+ the development of HLA Federates in the Simulation Exploration
+ Experience (SEE) program.
+
+ Copyright (c) 2014, 2026 SMASH Lab - University of Calabria
+ (Italy), Hridyanshu Aatreya - Modelling & Simulation Group (MSG)
+ at Brunel University of London. All rights reserved.
+
+ GNU Lesser General Public License (GNU LGPL).
+
+ This library is free software; you can redistribute it and/or
+ modify it under the terms of the GNU Lesser General Public
+ License as published by the Free Software Foundation; either
+ version 3.0 of the License, or (at your option) any later version.
+
+ This library is distributed in the hope that it will be useful,
+ but WITHOUT ANY WARRANTY; without even the implied warranty of
+ MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ Lesser General Public License for more details.
+
+ You should have received a copy of the GNU Lesser General Public
+ License along with this library.
+ If not, see http://http://www.gnu.org/licenses/
+ *****************************************************************/
+
+package org.see.skf.benchmarks;
+
+import hla.rti1516_2025.AttributeHandleValueMap;
+import hla.rti1516_2025.CallbackModel;
+import hla.rti1516_2025.NullFederateAmbassador;
+import hla.rti1516_2025.RTIambassador;
+import hla.rti1516_2025.ResignAction;
+import hla.rti1516_2025.RtiConfiguration;
+import hla.rti1516_2025.exceptions.RTIexception;
+import org.openjdk.jmh.annotations.*;
+import org.see.skf.benchmarks.model.NumericState;
+import org.see.skf.benchmarks.model.PhysicalEntity;
+import org.see.skf.loopback.LoopbackRti;
+import org.see.skf.runtime.objects.ObjectClassEntity;
+import org.see.skf.runtime.objects.ObjectClassModel;
+import org.see.skf.runtime.objects.ObjectClassModelParser;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Building the attribute value map of an update through ObjectClassModel, as SKFederateAmbassador does for every
+ * updateObjectInstance call. Handles and value maps come from a federate joined to the loopback RTI, so the score
+ * includes the map factory of the RTI alongside the encoding itself. The {@code model} parameter selects the 20-attribute
+ * PhysicalEntity, which mixes strings with doubles, or the 14-attribute NumericState, which has primitive numbers only.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ObjectClassModelBenchmark {
+    private static final String FEDERATION = "SKF Benchmarks";
+
+    @Param({"PhysicalEntity", "NumericState"})
+    private String model;
+
+    private LoopbackRti rti;
+    private RTIambassador rtiAmbassador;
+    private ObjectClassModel classModel;
+    private ObjectClassEntity entity;
+    private Object element;
+
+    @Setup(Level.Trial)
+    public void setUp() throws RTIexception {
+        rti = new LoopbackRti();
+        rti.createFederationExecution(FEDERATION, getClass().getClassLoader().getResource("foms/SKF_benchmarks.xml"));
+
+        rtiAmbassador = rti.createRtiAmbassador();
+        rtiAmbassador.connect(new NullFederateAmbassador(), CallbackModel.HLA_EVOKED, RtiConfiguration.createConfiguration());
+        rtiAmbassador.joinFederationExecution("Encoder", "Benchmark", FEDERATION);
+
+        Class<?> modelClass;
+        if (model.equals("PhysicalEntity")) {
+            PhysicalEntity physicalEntity = new PhysicalEntity();
+            physicalEntity.setName("Lander");
+            physicalEntity.setType("Vehicle");
+            physicalEntity.setStatus("Active");
+            physicalEntity.setParentReferenceFrame("MoonCentricFixed");
+            physicalEntity.setPositionX(1737.4e3);
+            physicalEntity.setVelocityY(1.68e3);
+            physicalEntity.setAttitudeScalar(1.0);
+            physicalEntity.setTime(42.0);
+
+            modelClass = PhysicalEntity.class;
+            element = physicalEntity;
+        } else {
+            NumericState numericState = new NumericState();
+            numericState.setPositionX(1737.4e3);
+            numericState.setVelocityY(1.68e3);
+            numericState.setTime(42.0);
+            numericState.setFrameCount(1L << 40);
+            numericState.setMode(3);
+
+            modelClass = NumericState.class;
+            element = numericState;
+        }
+
+        ObjectClassModelParser parser = new ObjectClassModelParser(modelClass);
+        classModel = new ObjectClassModel(parser, rtiAmbassador.getObjectClassHandle(parser.getFomClassName()), rtiAmbassador);
+        classModel.publish();
+
+        rtiAmbassador.reserveObjectInstanceName(model);
+        entity = new ObjectClassEntity(model, rtiAmbassador.registerObjectInstance(classModel.getHandle(), model), classModel, element);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws RTIexception {
+        rtiAmbassador.resignFederationExecution(ResignAction.DELETE_OBJECTS_THEN_DIVEST);
+        rtiAmbassador.disconnect();
+        rti.destroyFederationExecution(FEDERATION);
+    }
+
+    @Benchmark
+    public AttributeHandleValueMap encodeElement() {
+        return classModel.getEncodedAttributeValues(element);
+    }
+
+    @Benchmark
+    public AttributeHandleValueMap encodeEntity() {
+        return classModel.getEncodedAttributeValues(entity, true);
+    }
+}
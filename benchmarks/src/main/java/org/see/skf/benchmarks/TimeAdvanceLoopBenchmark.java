@@ -0,0 +1,119 @@
+/*****************************************************************
+ SEE HLA Starter Kit Framework -  A Java library that supports
+ the development of HLA Federates in the Simulation Exploration
+ Experience (SEE) program.
+
+ Copyright (c) 2014, 2026 SMASH Lab - University of Calabria
+ (Italy), Hridyanshu Aatreya - Modelling & Simulation Group (MSG)
+ at Brunel University of London. All rights reserved.
+
+ GNU Lesser General Public License (GNU LGPL).
+
+ This library is free software; you can redistribute it and/or
+ modify it under the terms of the GNU Lesser General Public
+ License as published by the Free Software Foundation; either
+ version 3.0 of the License, or (at your option) any later version.
+
+ This library is distributed in the hope that it will be useful,
+ but WITHOUT ANY WARRANTY; without even the implied warranty of
+ MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ Lesser General Public License for more details.
+
+ You should have received a copy of the GNU Lesser General Public
+ License along with this library.
+ If not, see http://http://www.gnu.org/licenses/
+ *****************************************************************/
+
+package org.see.skf.benchmarks;
+
+import hla.rti1516_2025.RTIambassador;
+import hla.rti1516_2025.time.HLAinteger64Time;
+import hla.rti1516_2025.time.LogicalTime;
+import org.openjdk.jmh.annotations.*;
+import org.see.skf.core.SEEAbstractFederate;
+import org.see.skf.core.SEEFederateAmbassador;
+
+import java.lang.reflect.Proxy;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Frames per second of the simulation loop's wait for a time advance grant, against a stand-in RTI that grants every
+ * request at once on its own callback thread, as an RTI in the HLA_IMMEDIATE callback model would. sleepPolling is the
+ * former loop, checking the advancing flag every thread wait interval; parkWakeup waits in
+ * SEEFederateAmbassador.awaitTimeAdvanceGrant, which the grant unparks. update() is left out, so the score is the upper
+ * bound of the frame rate the loop itself permits.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TimeAdvanceLoopBenchmark {
+    private SEEFederateAmbassador federateAmbassador;
+    private RTIambassador rtiAmbassador;
+    private ExecutorService callbackThread;
+    private HLAinteger64Time requestedTime;
+    private long waitMillis;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        federateAmbassador = new SEEFederateAmbassador();
+        callbackThread = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "stand-in-rti-callbacks");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        requestedTime = (HLAinteger64Time) Proxy.newProxyInstance(HLAinteger64Time.class.getClassLoader(), new Class<?>[] {HLAinteger64Time.class}, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "compareTo": return 0;
+                case "getValue": return 0L;
+                case "hashCode": return 0;
+                case "equals": return proxy == args[0];
+                default: throw new UnsupportedOperationException(method.getName());
+            }
+        });
+        federateAmbassador.getSimulationTime().setFederationLogicalTime(requestedTime);
+
+        rtiAmbassador = (RTIambassador) Proxy.newProxyInstance(RTIambassador.class.getClassLoader(), new Class<?>[] {RTIambassador.class}, (proxy, method, args) -> {
+            if (method.getName().equals("timeAdvanceRequest")) {
+                LogicalTime<?, ?> time = (LogicalTime<?, ?>) args[0];
+                callbackThread.execute(() -> federateAmbassador.timeAdvanceGrant(time));
+                return null;
+            }
+
+            throw new UnsupportedOperationException(method.getName());
+        });
+
+        waitMillis = SEEAbstractFederate.getThreadWaitInterval();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        callbackThread.shutdownNow();
+    }
+
+    @Benchmark
+    public void sleepPolling() throws Exception {
+        federateAmbassador.setAdvancing(true);
+        rtiAmbassador.timeAdvanceRequest(requestedTime);
+
+        while (federateAmbassador.isAdvancing()) {
+            Thread.sleep(waitMillis);
+        }
+    }
+
+    @Benchmark
+    public void parkWakeup() throws Exception {
+        federateAmbassador.setAdvancing(true);
+        rtiAmbassador.timeAdvanceRequest(requestedTime);
+
+        long waitNanos = TimeUnit.MILLISECONDS.toNanos(waitMillis);
+        while (federateAmbassador.isAdvancing()) {
+            federateAmbassador.awaitTimeAdvanceGrant(waitNanos);
+        }
+    }
+}
@@ -0,0 +1,119 @@
+/*****************************************************************
+ SEE HLA Starter Kit Framework -  A Java library that supports
+ the development of HLA Federates in the Simulation Exploration
+ Experience (SEE) program.
+
+ Copyright (c) 2014, 2026 SMASH Lab - University of Calabria
+ (Italy), Hridyanshu Aatreya - Modelling & Simulation Group (MSG)
+ at Brunel University of London. All rights reserved.
+
+ GNU Lesser General Public License (GNU LGPL).
+
+ This library is free software; you can redistribute it and/or
+ modify it under the terms of the GNU Lesser General Public
+ License as published by the Free Software Foundation; either
+ version 3.0 of the License, or (at your option) any later version.
+
+ This library is distributed in the hope that it will be useful,
+ but WITHOUT ANY WARRANTY; without even the implied warranty of
+ MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ Lesser General Public License for more details.
+
+ You should have received a copy of the GNU Lesser General Public
+ License along with this library.
+ If not, see http://http://www.gnu.org/licenses/
+ *****************************************************************/
+
+package org.see.skf.benchmarks;
+
+import hla.rti1516_2025.AttributeHandleValueMap;
+import hla.rti1516_2025.CallbackModel;
+import hla.rti1516_2025.NullFederateAmbassador;
+import hla.rti1516_2025.ObjectInstanceHandle;
+import hla.rti1516_2025.RTIambassador;
+import hla.rti1516_2025.ResignAction;
+import hla.rti1516_2025.RtiConfiguration;
+import hla.rti1516_2025.exceptions.RTIexception;
+import org.openjdk.jmh.annotations.*;
+import org.see.skf.benchmarks.model.PhysicalEntity;
+import org.see.skf.loopback.LoopbackRti;
+import org.see.skf.recording.RecordType;
+import org.see.skf.recording.TrafficRecorder;
+import org.see.skf.runtime.objects.ObjectClassModel;
+import org.see.skf.runtime.objects.ObjectClassModelParser;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Appending the 20 attribute values of a PhysicalEntity reflection to a traffic recording, as SKFederateAmbassador does
+ * for every reflectAttributeValues callback while recording. Each operation writes 20 attribute records, so the score
+ * divided by 20 is the cost of one attribute record; segment roll-over is included since the segments are kept small.
+ * Run with {@code -prof gc} to check that recording does not allocate.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TrafficRecorderBenchmark {
+    private static final String FEDERATION = "SKF Benchmarks";
+    private static final int SEGMENT_SIZE = 16 << 20;
+
+    private LoopbackRti rti;
+    private RTIambassador rtiAmbassador;
+    private Path directory;
+    private TrafficRecorder recorder;
+    private ObjectInstanceHandle instanceHandle;
+    private AttributeHandleValueMap attributeValues;
+    private long logicalTime;
+
+    @Setup(Level.Trial)
+    public void setUp() throws RTIexception, IOException {
+        rti = new LoopbackRti();
+        rti.createFederationExecution(FEDERATION, getClass().getClassLoader().getResource("foms/SKF_benchmarks.xml"));
+
+        rtiAmbassador = rti.createRtiAmbassador();
+        rtiAmbassador.connect(new NullFederateAmbassador(), CallbackModel.HLA_EVOKED, RtiConfiguration.createConfiguration());
+        rtiAmbassador.joinFederationExecution("Recorder", "Benchmark", FEDERATION);
+
+        PhysicalEntity physicalEntity = new PhysicalEntity();
+        physicalEntity.setName("Lander");
+        physicalEntity.setType("Vehicle");
+        physicalEntity.setStatus("Active");
+        physicalEntity.setParentReferenceFrame("MoonCentricFixed");
+        physicalEntity.setPositionX(1737.4e3);
+
+        ObjectClassModelParser parser = new ObjectClassModelParser(PhysicalEntity.class);
+        ObjectClassModel classModel = new ObjectClassModel(parser, rtiAmbassador.getObjectClassHandle(parser.getFomClassName()), rtiAmbassador);
+        classModel.publish();
+        instanceHandle = rtiAmbassador.registerObjectInstance(classModel.getHandle());
+        attributeValues = classModel.getEncodedAttributeValues(physicalEntity);
+
+        directory = Files.createTempDirectory("skf-recording");
+        recorder = TrafficRecorder.open(directory, SEGMENT_SIZE);
+        recorder.defineObjectClass(classModel.getHandle(), classModel.getName(), classModel.getAttributeHandles());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws RTIexception, IOException {
+        recorder.close();
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+
+        rtiAmbassador.resignFederationExecution(ResignAction.DELETE_OBJECTS_THEN_DIVEST);
+        rtiAmbassador.disconnect();
+        rti.destroyFederationExecution(FEDERATION);
+    }
+
+    @Benchmark
+    public void recordReflection() {
+        recorder.recordAttributeValues(RecordType.REFLECTION, instanceHandle, attributeValues, logicalTime++);
+    }
+}
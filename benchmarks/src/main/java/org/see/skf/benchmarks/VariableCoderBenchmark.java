@@ -0,0 +1,178 @@
+/*****************************************************************
+ SEE HLA Starter Kit Framework -  A Java library that supports
+ the development of HLA Federates in the Simulation Exploration
+ Experience (SEE) program.
+
+ Copyright (c) 2014, 2026 SMASH Lab - University of Calabria
+ (Italy), Hridyanshu Aatreya - Modelling & Simulation Group (MSG)
+ at Brunel University of London. All rights reserved.
+
+ GNU Lesser General Public License (GNU LGPL).
+
+ This library is free software; you can redistribute it and/or
+ modify it under the terms of the GNU Lesser General Public
+ License as published by the Free Software Foundation; either
+ version 3.0 of the License, or (at your option) any later version.
+
+ This library is distributed in the hope that it will be useful,
+ but WITHOUT ANY WARRANTY; without even the implied warranty of
+ MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ Lesser General Public License for more details.
+
+ You should have received a copy of the GNU Lesser General Public
+ License along with this library.
+ If not, see http://http://www.gnu.org/licenses/
+ *****************************************************************/
+
+package org.see.skf.benchmarks;
+
+import hla.rti1516_2025.AttributeHandle;
+import hla.rti1516_2025.encoding.DecoderException;
+import org.openjdk.jmh.annotations.*;
+import org.see.skf.annotations.Attribute;
+import org.see.skf.annotations.ObjectClass;
+import org.see.skf.benchmarks.model.SpaceTimeCoordinateState;
+import org.see.skf.loopback.LoopbackValues;
+import org.see.skf.runtime.FieldBinding;
+import org.see.skf.runtime.ScopeLevel;
+import org.see.skf.runtime.objects.ObjectClassModelParser;
+import org.see.skf.util.encoding.HLAfixedRecordCoder;
+import org.see.skf.util.encoding.HLAfloat64LECoder;
+import org.see.skf.util.encoding.HLAinteger32BECoder;
+import org.see.skf.util.encoding.HLAvariableArrayCoder;
+import org.see.skf.util.encoding.HLAvariableListCoder;
+import org.see.skf.util.encoding.HLAvariantRecordCoder;
+import org.see.skf.util.encoding.VariantRecord;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decoding of HLAvariableArray and HLAvariantRecord values into fresh objects versus objects kept from the previous
+ * reflection, both through the coders and through the object class model as a reflection does. Run with
+ * {@code -prof gc}: the reuse variants allocate nothing per operation beyond wrapping the encoded bytes.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class VariableCoderBenchmark {
+    private static final int QUATERNION_COUNT = 16;
+    private static final int SAMPLE_COUNT = 64;
+
+    private HLAvariableListCoder<SpaceTimeCoordinateState.AttitudeQuaternion> listCoder;
+    private HLAvariableArrayCoder<double[]> arrayCoder;
+    private HLAvariantRecordCoder<Integer> variantCoder;
+    private ByteBuffer encodedList;
+    private ByteBuffer encodedArray;
+    private ByteBuffer encodedVariant;
+    private List<SpaceTimeCoordinateState.AttitudeQuaternion> listTarget;
+    private double[] arrayTarget;
+    private VariantRecord<Integer> variantTarget;
+    private ObjectClassModelParser trackParser;
+    private AttributeHandle[] trackHandles;
+    private byte[][] trackValues;
+    private Map<AttributeHandle, FieldBinding> trackBindings;
+    private AttitudeTrack track;
+
+    @Setup(Level.Trial)
+    public void setUp() throws DecoderException {
+        listCoder = new HLAvariableListCoder<>(new HLAfixedRecordCoder<>(SpaceTimeCoordinateState.AttitudeQuaternion.class));
+        arrayCoder = new HLAvariableArrayCoder<>(double[].class, new HLAfloat64LECoder());
+        variantCoder = new HLAvariantRecordCoder<>(new HLAinteger32BECoder())
+                .addAlternative(1, new SpaceTimeCoordinateState.Coder())
+                .addAlternative(2, arrayCoder);
+
+        List<SpaceTimeCoordinateState.AttitudeQuaternion> quaternions = new ArrayList<>();
+        for (int i = 0; i < QUATERNION_COUNT; i++) {
+            SpaceTimeCoordinateState.AttitudeQuaternion quaternion = new SpaceTimeCoordinateState.AttitudeQuaternion();
+            quaternion.setScalar(Math.cos(i));
+            quaternion.setVector(new double[] {Math.sin(i), 0.0, 0.0});
+            quaternions.add(quaternion);
+        }
+
+        double[] samples = new double[SAMPLE_COUNT];
+        for (int i = 0; i < SAMPLE_COUNT; i++) {
+            samples[i] = i * 0.5;
+        }
+
+        SpaceTimeCoordinateState state = new SpaceTimeCoordinateState();
+        state.setTime(42.0);
+
+        encodedList = ByteBuffer.wrap(listCoder.encode(quaternions));
+        encodedArray = ByteBuffer.wrap(arrayCoder.encode(samples));
+        encodedVariant = ByteBuffer.wrap(variantCoder.encode(new VariantRecord<>(1, state)));
+
+        listTarget = listCoder.decode(encodedList, 0);
+        arrayTarget = arrayCoder.decode(encodedArray, 0);
+        variantTarget = variantCoder.decode(encodedVariant, 0);
+
+        trackParser = new ObjectClassModelParser(AttitudeTrack.class);
+        trackHandles = new AttributeHandle[] {LoopbackValues.handle(AttributeHandle.class, 1)};
+        trackValues = new byte[][] {listCoder.encode(quaternions)};
+        trackBindings = Map.of(trackHandles[0], trackParser.getBinding("quaternions"));
+        track = new AttitudeTrack();
+        trackParser.decode(track, trackHandles, trackValues, 1, trackBindings);
+    }
+
+    @Benchmark
+    public List<SpaceTimeCoordinateState.AttitudeQuaternion> listDecode() throws DecoderException {
+        return listCoder.decode(encodedList, 0);
+    }
+
+    @Benchmark
+    public List<SpaceTimeCoordinateState.AttitudeQuaternion> listDecodeReuse() throws DecoderException {
+        return listCoder.decode(encodedList, 0, listTarget);
+    }
+
+    @Benchmark
+    public AttitudeTrack listReflect() {
+        trackParser.decode(track, trackHandles, trackValues, 1, trackBindings);
+        return track;
+    }
+
+    @Benchmark
+    public double[] arrayDecode() throws DecoderException {
+        return arrayCoder.decode(encodedArray, 0);
+    }
+
+    @Benchmark
+    public double[] arrayDecodeReuse() throws DecoderException {
+        return arrayCoder.decode(encodedArray, 0, arrayTarget);
+    }
+
+    @Benchmark
+    public VariantRecord<Integer> variantDecode() throws DecoderException {
+        return variantCoder.decode(encodedVariant, 0);
+    }
+
+    @Benchmark
+    public VariantRecord<Integer> variantDecodeReuse() throws DecoderException {
+        return variantCoder.decode(encodedVariant, 0, variantTarget);
+    }
+
+    @ObjectClass(name = "HLAobjectRoot.AttitudeTrack")
+    public static class AttitudeTrack {
+        @Attribute(name = "quaternions", coder = QuaternionListCoder.class, scope = ScopeLevel.SUBSCRIBE)
+        private List<SpaceTimeCoordinateState.AttitudeQuaternion> quaternions;
+
+        public List<SpaceTimeCoordinateState.AttitudeQuaternion> getQuaternions() {
+            return quaternions;
+        }
+
+        public void setQuaternions(List<SpaceTimeCoordinateState.AttitudeQuaternion> quaternions) {
+            this.quaternions = quaternions;
+        }
+    }
+
+    public static class QuaternionListCoder extends HLAvariableListCoder<SpaceTimeCoordinateState.AttitudeQuaternion> {
+        public QuaternionListCoder() {
+            super(new HLAfixedRecordCoder<>(SpaceTimeCoordinateState.AttitudeQuaternion.class));
+        }
+    }
+}
@@ -0,0 +1,195 @@
+/*****************************************************************
+ SEE HLA Starter Kit Framework -  A Java library that supports
+ the development of HLA Federates in the Simulation Exploration
+ Experience (SEE) program.
+
+ Copyright (c) 2014, 2026 SMASH Lab - University of Calabria
+ (Italy), Hridyanshu Aatreya - Modelling & Simulation Group (MSG)
+ at Brunel University of London. All rights reserved.
+
+ GNU Lesser General Public License (GNU LGPL).
+
+ This library is free software; you can redistribute it and/or
+ modify it under the terms of the GNU Lesser General Public
+ License as published by the Free Software Foundation; either
+ version 3.0 of the License, or (at your option) any later version.
+
+ This library is distributed in the hope that it will be useful,
+ but WITHOUT ANY WARRANTY; without even the implied warranty of
+ MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ Lesser General Public License for more details.
+
+ You should have received a copy of the GNU Lesser General Public
+ License along with this library.
+ If not, see http://http://www.gnu.org/licenses/
+ *****************************************************************/
+
+package org.see.skf.benchmarks.model;
+
+import org.see.skf.annotations.Attribute;
+import org.see.skf.annotations.ObjectClass;
+import org.see.skf.core.PropertyChangeSubject;
+import org.see.skf.util.encoding.HLAfloat64LECoder;
+import org.see.skf.util.encoding.HLAinteger16BECoder;
+import org.see.skf.util.encoding.HLAinteger32BECoder;
+import org.see.skf.util.encoding.HLAinteger64BECoder;
+
+/**
+ * An object class whose attributes are all primitive numbers encoded with the framework's primitive coders.
+ */
+@ObjectClass(name = "HLAobjectRoot.NumericState")
+public class NumericState extends PropertyChangeSubject {
+    @Attribute(name = "position_x", coder = HLAfloat64LECoder.class)
+    private double positionX;
+
+    @Attribute(name = "position_y", coder = HLAfloat64LECoder.class)
+    private double positionY;
+
+    @Attribute(name = "position_z", coder = HLAfloat64LECoder.class)
+    private double positionZ;
+
+    @Attribute(name = "velocity_x", coder = HLAfloat64LECoder.class)
+    private double velocityX;
+
+    @Attribute(name = "velocity_y", coder = HLAfloat64LECoder.class)
+    private double velocityY;
+
+    @Attribute(name = "velocity_z", coder = HLAfloat64LECoder.class)
+    private double velocityZ;
+
+    @Attribute(name = "mass", coder = HLAfloat64LECoder.class)
+    private double mass;
+
+    @Attribute(name = "time", coder = HLAfloat64LECoder.class)
+    private double time;
+
+    @Attribute(name = "frame_count", coder = HLAinteger64BECoder.class)
+    private long frameCount;
+
+    @Attribute(name = "sequence_number", coder = HLAinteger64BECoder.class)
+    private long sequenceNumber;
+
+    @Attribute(name = "mode", coder = HLAinteger32BECoder.class)
+    private int mode;
+
+    @Attribute(name = "fault_code", coder = HLAinteger32BECoder.class)
+    private int faultCode;
+
+    @Attribute(name = "health", coder = HLAinteger16BECoder.class)
+    private short health;
+
+    @Attribute(name = "reserved", coder = HLAinteger16BECoder.class)
+    private short reserved;
+
+    public double getPositionX() {
+        return positionX;
+    }
+
+    public void setPositionX(double positionX) {
+        this.positionX = positionX;
+    }
+
+    public double getPositionY() {
+        return positionY;
+    }
+
+    public void setPositionY(double positionY) {
+        this.positionY = positionY;
+    }
+
+    public double getPositionZ() {
+        return positionZ;
+    }
+
+    public void setPositionZ(double positionZ) {
+        this.positionZ = positionZ;
+    }
+
+    public double getVelocityX() {
+        return velocityX;
+    }
+
+    public void setVelocityX(double velocityX) {
+        this.velocityX = velocityX;
+    }
+
+    public double getVelocityY() {
+        return velocityY;
+    }
+
+    public void setVelocityY(double velocityY) {
+        this.velocityY = velocityY;
+    }
+
+    public double getVelocityZ() {
+        return velocityZ;
+    }
+
+    public void setVelocityZ(double velocityZ) {
+        this.velocityZ = velocityZ;
+    }
+
+    public double getMass() {
+        return mass;
+    }
+
+    public void setMass(double mass) {
+        this.mass = mass;
+    }
+
+    public double getTime() {
+        return time;
+    }
+
+    public void setTime(double time) {
+        this.time = time;
+    }
+
+    public long getFrameCount() {
+        return frameCount;
+    }
+
+    public void setFrameCount(long frameCount) {
+        this.frameCount = frameCount;
+    }
+
+    public long getSequenceNumber() {
+        return sequenceNumber;
+    }
+
+    public void setSequenceNumber(long sequenceNumber) {
+        this.sequenceNumber = sequenceNumber;
+    }
+
+    public int getMode() {
+        return mode;
+    }
+
+    public void setMode(int mode) {
+        this.mode = mode;
+    }
+
+    public int getFaultCode() {
+        return faultCode;
+    }
+
+    public void setFaultCode(int faultCode) {
+        this.faultCode = faultCode;
+    }
+
+    public short getHealth() {
+        return health;
+    }
+
+    public void setHealth(short health) {
+        this.health = health;
+    }
+
+    public short getReserved() {
+        return reserved;
+    }
+
+    public void setReserved(short reserved) {
+        this.reserved = reserved;
+    }
+}
@@ -0,0 +1,267 @@
+/*****************************************************************
+ SEE HLA Starter Kit Framework -  A Java library that supports
+ the development of HLA Federates in the Simulation Exploration
+ Experience (SEE) program.
+
+ Copyright (c) 2014, 2026 SMASH Lab - University of Calabria
+ (Italy), Hridyanshu Aatreya - Modelling & Simulation Group (MSG)
+ at Brunel University of London. All rights reserved.
+
+ GNU Lesser General Public License (GNU LGPL).
+
+ This library is free software; you can redistribute it and/or
+ modify it under the terms of the GNU Lesser General Public
+ License as published by the Free Software Foundation; either
+ version 3.0 of the License, or (at your option) any later version.
+
+ This library is distributed in the hope that it will be useful,
+ but WITHOUT ANY WARRANTY; without even the implied warranty of
+ MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ Lesser General Public License for more details.
+
+ You should have received a copy of the GNU Lesser General Public
+ License along with this library.
+ If not, see http://http://www.gnu.org/licenses/
+ *****************************************************************/
+
+package org.see.skf.benchmarks.model;
+
+import org.see.skf.annotations.Attribute;
+import org.see.skf.annotations.ObjectClass;
+import org.see.skf.core.PropertyChangeSubject;
+import org.see.skf.util.encoding.HLAfloat64LECoder;
+import org.see.skf.util.encoding.HLAunicodeStringCoder;
+
+/**
+ * A 20-attribute object class shaped after the SpaceFOM PhysicalEntity, with its vector and quaternion attributes
+ * flattened to scalars.
+ */
+@ObjectClass(name = "HLAobjectRoot.PhysicalEntity")
+public class PhysicalEntity extends PropertyChangeSubject {
+    @Attribute(name = "name", coder = HLAunicodeStringCoder.class)
+    private String name;
+
+    @Attribute(name = "type", coder = HLAunicodeStringCoder.class)
+    private String type;
+
+    @Attribute(name = "status", coder = HLAunicodeStringCoder.class)
+    private String status;
+
+    @Attribute(name = "parent_reference_frame", coder = HLAunicodeStringCoder.class)
+    private String parentReferenceFrame;
+
+    @Attribute(name = "position_x", coder = HLAfloat64LECoder.class)
+    private double positionX;
+
+    @Attribute(name = "position_y", coder = HLAfloat64LECoder.class)
+    private double positionY;
+
+    @Attribute(name = "position_z", coder = HLAfloat64LECoder.class)
+    private double positionZ;
+
+    @Attribute(name = "velocity_x", coder = HLAfloat64LECoder.class)
+    private double velocityX;
+
+    @Attribute(name = "velocity_y", coder = HLAfloat64LECoder.class)
+    private double velocityY;
+
+    @Attribute(name = "velocity_z", coder = HLAfloat64LECoder.class)
+    private double velocityZ;
+
+    @Attribute(name = "attitude_scalar", coder = HLAfloat64LECoder.class)
+    private double attitudeScalar;
+
+    @Attribute(name = "attitude_x", coder = HLAfloat64LECoder.class)
+    private double attitudeX;
+
+    @Attribute(name = "attitude_y", coder = HLAfloat64LECoder.class)
+    private double attitudeY;
+
+    @Attribute(name = "attitude_z", coder = HLAfloat64LECoder.class)
+    private double attitudeZ;
+
+    @Attribute(name = "angular_velocity_x", coder = HLAfloat64LECoder.class)
+    private double angularVelocityX;
+
+    @Attribute(name = "angular_velocity_y", coder = HLAfloat64LECoder.class)
+    private double angularVelocityY;
+
+    @Attribute(name = "angular_velocity_z", coder = HLAfloat64LECoder.class)
+    private double angularVelocityZ;
+
+    @Attribute(name = "acceleration_x", coder = HLAfloat64LECoder.class)
+    private double accelerationX;
+
+    @Attribute(name = "acceleration_y", coder = HLAfloat64LECoder.class)
+    private double accelerationY;
+
+    @Attribute(name = "time", coder = HLAfloat64LECoder.class)
+    private double time;
+
+    public PhysicalEntity() {
+        name = "";
+        type = "";
+        status = "";
+        parentReferenceFrame = "";
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public String getParentReferenceFrame() {
+        return parentReferenceFrame;
+    }
+
+    public void setParentReferenceFrame(String parentReferenceFrame) {
+        this.parentReferenceFrame = parentReferenceFrame;
+    }
+
+    public double getPositionX() {
+        return positionX;
+    }
+
+    public void setPositionX(double positionX) {
+        this.positionX = positionX;
+    }
+
+    public double getPositionY() {
+        return positionY;
+    }
+
+    public void setPositionY(double positionY) {
+        this.positionY = positionY;
+    }
+
+    public double getPositionZ() {
+        return positionZ;
+    }
+
+    public void setPositionZ(double positionZ) {
+        this.positionZ = positionZ;
+    }
+
+    public double getVelocityX() {
+        return velocityX;
+    }
+
+    public void setVelocityX(double velocityX) {
+        this.velocityX = velocityX;
+    }
+
+    public double getVelocityY() {
+        return velocityY;
+    }
+
+    public void setVelocityY(double velocityY) {
+        this.velocityY = velocityY;
+    }
+
+    public double getVelocityZ() {
+        return velocityZ;
+    }
+
+    public void setVelocityZ(double velocityZ) {
+        this.velocityZ = velocityZ;
+    }
+
+    public double getAttitudeScalar() {
+        return attitudeScalar;
+    }
+
+    public void setAttitudeScalar(double attitudeScalar) {
+        this.attitudeScalar = attitudeScalar;
+    }
+
+    public double getAttitudeX() {
+        return attitudeX;
+    }
+
+    public void setAttitudeX(double attitudeX) {
+        this.attitudeX = attitudeX;
+    }
+
+    public double getAttitudeY() {
+        return attitudeY;
+    }
+
+    public void setAttitudeY(double attitudeY) {
+        this.attitudeY = attitudeY;
+    }
+
+    public double getAttitudeZ() {
+        return attitudeZ;
+    }
+
+    public void setAttitudeZ(double attitudeZ) {
+        this.attitudeZ = attitudeZ;
+    }
+
+    public double getAngularVelocityX() {
+        return angularVelocityX;
+    }
+
+    public void setAngularVelocityX(double angularVelocityX) {
+        this.angularVelocityX = angularVelocityX;
+    }
+
+    public double getAngularVelocityY() {
+        return angularVelocityY;
+    }
+
+    public void setAngularVelocityY(double angularVelocityY) {
+        this.angularVelocityY = angularVelocityY;
+    }
+
+    public double getAngularVelocityZ() {
+        return angularVelocityZ;
+    }
+
+    public void setAngularVelocityZ(double angularVelocityZ) {
+        this.angularVelocityZ = angularVelocityZ;
+    }
+
+    public double getAccelerationX() {
+        return accelerationX;
+    }
+
+    public void setAccelerationX(double accelerationX) {
+        this.accelerationX = accelerationX;
+    }
+
+    public double getAccelerationY() {
+        return accelerationY;
+    }
+
+    public void setAccelerationY(double accelerationY) {
+        this.accelerationY = accelerationY;
+    }
+
+    public double getTime() {
+        return time;
+    }
+
+    public void setTime(double time) {
+        this.time = time;
+    }
+}
@@ -0,0 +1,175 @@
+/*****************************************************************
+ SEE HLA Starter Kit Framework -  A Java library that supports
+ the development of HLA Federates in the Simulation Exploration
+ Experience (SEE) program.
+
+ Copyright (c) 2014, 2026 SMASH Lab - University of Calabria
+ (Italy), Hridyanshu Aatreya - Modelling & Simulation Group (MSG)
+ at Brunel University of London. All rights reserved.
+
+ GNU Lesser General Public License (GNU LGPL).
+
+ This library is free software; you can redistribute it and/or
+ modify it under the terms of the GNU Lesser General Public
+ License as published by the Free Software Foundation; either
+ version 3.0 of the License, or (at your option) any later version.
+
+ This library is distributed in the hope that it will be useful,
+ but WITHOUT ANY WARRANTY; without even the implied warranty of
+ MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ Lesser General Public License for more details.
+
+ You should have received a copy of the GNU Lesser General Public
+ License along with this library.
+ If not, see http://http://www.gnu.org/licenses/
+ *****************************************************************/
+
+package org.see.skf.benchmarks.model;
+
+import org.see.skf.annotations.FixedRecord;
+import org.see.skf.annotations.RecordField;
+import org.see.skf.util.encoding.HLAfloat64LECoder;
+import org.see.skf.util.encoding.HLAfixedRecordCoder;
+
+/**
+ * The SpaceFOM SpaceTimeCoordinateState fixed record: a translational state, a rotational state and a time tag, 26
+ * HLAfloat64LE values in 208 bytes. It carries the same state as the flattened {@link PhysicalEntity} attributes.
+ */
+@FixedRecord(name = "SpaceTimeCoordinateState")
+public class SpaceTimeCoordinateState {
+    @RecordField(index = 0)
+    private TranslationalState translationalState = new TranslationalState();
+
+    @RecordField(index = 1)
+    private RotationalState rotationalState = new RotationalState();
+
+    @RecordField(index = 2, coder = HLAfloat64LECoder.class)
+    private double time;
+
+    public TranslationalState getTranslationalState() {
+        return translationalState;
+    }
+
+    public void setTranslationalState(TranslationalState translationalState) {
+        this.translationalState = translationalState;
+    }
+
+    public RotationalState getRotationalState() {
+        return rotationalState;
+    }
+
+    public void setRotationalState(RotationalState rotationalState) {
+        this.rotationalState = rotationalState;
+    }
+
+    public double getTime() {
+        return time;
+    }
+
+    public void setTime(double time) {
+        this.time = time;
+    }
+
+    public static class Coder extends HLAfixedRecordCoder<SpaceTimeCoordinateState> {
+        public Coder() {
+            super(SpaceTimeCoordinateState.class);
+        }
+    }
+
+    @FixedRecord(name = "ReferenceFrameTranslation")
+    public static class TranslationalState {
+        @RecordField(index = 0, coder = HLAfloat64LECoder.class, length = 3)
+        private double[] position = new double[3];
+
+        @RecordField(index = 1, coder = HLAfloat64LECoder.class, length = 3)
+        private double[] velocity = new double[3];
+
+        @RecordField(index = 2, coder = HLAfloat64LECoder.class, length = 3)
+        private double[] acceleration = new double[3];
+
+        public double[] getPosition() {
+            return position;
+        }
+
+        public void setPosition(double[] position) {
+            this.position = position;
+        }
+
+        public double[] getVelocity() {
+            return velocity;
+        }
+
+        public void setVelocity(double[] velocity) {
+            this.velocity = velocity;
+        }
+
+        public double[] getAcceleration() {
+            return acceleration;
+        }
+
+        public void setAcceleration(double[] acceleration) {
+            this.acceleration = acceleration;
+        }
+    }
+
+    @FixedRecord(name = "ReferenceFrameRotation")
+    public static class RotationalState {
+        @RecordField(index = 0)
+        private AttitudeQuaternion attitude = new AttitudeQuaternion();
+
+        @RecordField(index = 1, coder = HLAfloat64LECoder.class, length = 3)
+        private double[] angularVelocity = new double[3];
+
+        @RecordField(index = 2, coder = HLAfloat64LECoder.class, length = 3)
+        private double[] angularAcceleration = new double[3];
+
+        public AttitudeQuaternion getAttitude() {
+            return attitude;
+        }
+
+        public void setAttitude(AttitudeQuaternion attitude) {
+            this.attitude = attitude;
+        }
+
+        public double[] getAngularVelocity() {
+            return angularVelocity;
+        }
+
+        public void setAngularVelocity(double[] angularVelocity) {
+            this.angularVelocity = angularVelocity;
+        }
+
+        public double[] getAngularAcceleration() {
+            return angularAcceleration;
+        }
+
+        public void setAngularAcceleration(double[] angularAcceleration) {
+            this.angularAcceleration = angularAcceleration;
+        }
+    }
+
+    @FixedRecord(name = "AttitudeQuaternion")
+    public static class AttitudeQuaternion {
+        @RecordField(index = 0, coder = HLAfloat64LECoder.class)
+        private double scalar = 1.0;
+
+        @RecordField(index = 1, coder = HLAfloat64LECoder.class, length = 3)
+        private double[] vector = new double[3];
+
+        public double getScalar() {
+            return scalar;
+        }
+
+        public void setScalar(double scalar) {
+            this.scalar = scalar;
+        }
+
+        public double[] getVector() {
+            return vector;
+        }
+
+        public void setVector(double[] vector) {
+            this.vector = vector;
+        }
+    }
+}
@@ -0,0 +1,135 @@
+/*****************************************************************
+ SEE HLA Starter Kit Framework -  A Java library that supports
+ the development of HLA Federates in the Simulation Exploration
+ Experience (SEE) program.
+
+ Copyright (c) 2014, 2026 SMASH Lab - University of Calabria
+ (Italy), Hridyanshu Aatreya - Modelling & Simulation Group (MSG)
+ at Brunel University of London. All rights reserved.
+
+ GNU Lesser General Public License (GNU LGPL).
+
+ This library is free software; you can redistribute it and/or
+ modify it under the terms of the GNU Lesser General Public
+ License as published by the Free Software Foundation; either
+ version 3.0 of the License, or (at your option) any later version.
+
+ This library is distributed in the hope that it will be useful,
+ but WITHOUT ANY WARRANTY; without even the implied warranty of
+ MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ Lesser General Public License for more details.
+
+ You should have received a copy of the GNU Lesser General Public
+ License along with this library.
+ If not, see http://http://www.gnu.org/licenses/
+ *****************************************************************/
+
+package org.see.skf.benchmarks.model;
+
+import org.see.skf.annotations.InteractionClass;
+import org.see.skf.annotations.Parameter;
+import org.see.skf.util.encoding.HLAfloat64LECoder;
+import org.see.skf.util.encoding.HLAinteger16BECoder;
+import org.see.skf.util.encoding.HLAinteger32BECoder;
+import org.see.skf.util.encoding.HLAinteger64BECoder;
+import org.see.skf.util.encoding.HLAunicodeStringCoder;
+
+/**
+ * An interaction class mixing a string parameter with primitive numeric parameters, shaped after a typical telemetry
+ * message.
+ */
+@InteractionClass(name = "HLAinteractionRoot.TelemetryReport")
+public class TelemetryReport {
+    @Parameter(name = "entity_name", coder = HLAunicodeStringCoder.class)
+    private String entityName;
+
+    @Parameter(name = "sequence_number", coder = HLAinteger64BECoder.class)
+    private long sequenceNumber;
+
+    @Parameter(name = "time", coder = HLAfloat64LECoder.class)
+    private double time;
+
+    @Parameter(name = "position_x", coder = HLAfloat64LECoder.class)
+    private double positionX;
+
+    @Parameter(name = "position_y", coder = HLAfloat64LECoder.class)
+    private double positionY;
+
+    @Parameter(name = "position_z", coder = HLAfloat64LECoder.class)
+    private double positionZ;
+
+    @Parameter(name = "mode", coder = HLAinteger32BECoder.class)
+    private int mode;
+
+    @Parameter(name = "health", coder = HLAinteger16BECoder.class)
+    private short health;
+
+    public TelemetryReport() {
+        /* Zero-arg constructor as required by the framework and the JavaBeans standard. */
+        entityName = "";
+    }
+
+    public String getEntityName() {
+        return entityName;
+    }
+
+    public void setEntityName(String entityName) {
+        this.entityName = entityName;
+    }
+
+    public long getSequenceNumber() {
+        return sequenceNumber;
+    }
+
+    public void setSequenceNumber(long sequenceNumber) {
+        this.sequenceNumber = sequenceNumber;
+    }
+
+    public double getTime() {
+        return time;
+    }
+
+    public void setTime(double time) {
+        this.time = time;
+    }
+
+    public double getPositionX() {
+        return positionX;
+    }
+
+    public void setPositionX(double positionX) {
+        this.positionX = positionX;
+    }
+
+    public double getPositionY() {
+        return positionY;
+    }
+
+    public void setPositionY(double positionY) {
+        this.positionY = positionY;
+    }
+
+    public double getPositionZ() {
+        return positionZ;
+    }
+
+    public void setPositionZ(double positionZ) {
+        this.positionZ = positionZ;
+    }
+
+    public int getMode() {
+        return mode;
+    }
+
+    public void setMode(int mode) {
+        this.mode = mode;
+    }
+
+    public short getHealth() {
+        return health;
+    }
+
+    public void setHealth(short health) {
+        this.health = health;
+    }
+}
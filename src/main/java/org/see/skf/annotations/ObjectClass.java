@@ -44,4 +44,12 @@ public @interface ObjectClass {
      * @return name
      */
     String name();
+
+    /**
+     * Whether updates of object instances of this class carry only the attributes whose encoded value has changed since
+     * the previous update. All attributes are still sent when the RTI requests them through provideAttributeValueUpdate.
+     * Classes extending DirtyTracking select the attributes to send themselves and are not affected. Defaults to false.
+     * @return true if unchanged attributes are left out of updates
+     */
+    boolean deltaUpdates() default false;
 }
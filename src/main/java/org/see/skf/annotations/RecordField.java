@@ -0,0 +1,86 @@
+/*****************************************************************
+ SEE HLA Starter Kit Framework -  A Java library that supports
+ the development of HLA Federates in the Simulation Exploration
+ Experience (SEE) program.
+
+ Copyright (c) 2014, 2026 SMASH Lab - University of Calabria
+ (Italy), Hridyanshu Aatreya - Modelling & Simulation Group (MSG)
+ at Brunel University of London. All rights reserved.
+
+ GNU Lesser General Public License (GNU LGPL).
+
+ This library is free software; you can redistribute it and/or
+ modify it under the terms of the GNU Lesser General Public
+ License as published by the Free Software Foundation; either
+ version 3.0 of the License, or (at your option) any later version.
+
+ This library is distributed in the hope that it will be useful,
+ but WITHOUT ANY WARRANTY; without even the implied warranty of
+ MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ Lesser General Public License for more details.
+
+ You should have received a copy of the GNU Lesser General Public
+ License along with this library.
+ If not, see http://http://www.gnu.org/licenses/
+ *****************************************************************/
+
+package org.see.skf.annotations;
+
+import hla.rti1516_2025.encoding.DecoderException;
+import org.see.skf.core.Coder;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Annotation for designating a particular class field as a field of an HLAfixedRecord data type.
+ *
+ * @since 2.0
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.FIELD)
+public @interface RecordField {
+    /**
+     * The position of the field within the record, as defined in the FOM. Fields are encoded in ascending order.
+     * @return Position of this field
+     */
+    int index();
+
+    /**
+     * A coder capable of handling data conversion for the type of this field, which must implement BufferCoder. May be
+     * omitted if the field's type (or component type, for arrays) is itself annotated with {@link FixedRecord}.
+     * @return A coder for this field's type, or for its elements if it is an array
+     */
+    Class<? extends Coder<?>> coder() default Nested.class;
+
+    /**
+     * The number of elements if the field is an HLAfixedArray of the coder's type. The field must then be an array.
+     * Defaults to 0, meaning that the field is not an array.
+     * @return The cardinality of this field
+     */
+    int length() default 0;
+
+    /**
+     * Placeholder for {@link #coder()} denoting a field whose type is a nested fixed record.
+     */
+    final class Nested implements Coder<Object> {
+        private Nested() {}
+
+        @Override
+        public Object decode(byte[] buffer) throws DecoderException {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public byte[] encode(Object element) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Class<Object> getAllowedType() {
+            return Object.class;
+        }
+    }
+}
@@ -26,6 +26,12 @@
 
 package org.see.skf.conf;
 
+import hla.rti1516_2025.CallbackModel;
+import org.see.skf.runtime.dispatch.BackPressure;
+import org.see.skf.runtime.dispatch.DispatchMode;
+import org.see.skf.runtime.dispatch.ListenerDispatchers;
+import org.see.skf.runtime.pipeline.CallbackPipeline;
+
 import java.io.File;
 
 /**
@@ -100,6 +106,123 @@ public interface FederateConfiguration {
      */
     Long lookAhead();
 
+    /**
+     * How interaction and remote object instance listeners are notified.
+     * @return The dispatch mode; EXECUTOR unless configured otherwise.
+     */
+    default DispatchMode listenerDispatchMode() {
+        return DispatchMode.EXECUTOR;
+    }
+
+    /**
+     * The number of threads delivering listener notifications in the EXECUTOR dispatch mode.
+     * @return Number of dispatch threads.
+     */
+    default int listenerDispatchThreads() {
+        return ListenerDispatchers.DEFAULT_THREADS;
+    }
+
+    /**
+     * The number of listener notifications that may be waiting for delivery, or for the VIRTUAL dispatch mode, being
+     * delivered at once.
+     * @return Capacity of the dispatch queue.
+     */
+    default int listenerQueueCapacity() {
+        return ListenerDispatchers.DEFAULT_QUEUE_CAPACITY;
+    }
+
+    /**
+     * What happens to listener notifications raised while the dispatch queue is full.
+     * @return The back-pressure policy; BLOCK unless configured otherwise.
+     */
+    default BackPressure listenerBackPressure() {
+        return BackPressure.BLOCK;
+    }
+
+    /**
+     * The number of workers decoding reflected attributes and received interactions off the RTI's callback thread.
+     * @return Number of decode workers; 0, the default, to decode on the callback thread.
+     */
+    default int callbackDecodeWorkers() {
+        return 0;
+    }
+
+    /**
+     * The number of callbacks each decode worker's ring holds, rounded up to a power of two.
+     * @return Capacity of a ring.
+     */
+    default int callbackRingCapacity() {
+        return CallbackPipeline.DEFAULT_RING_CAPACITY;
+    }
+
+    /**
+     * What happens to reflections and interactions arriving while the ring of their decode worker is full.
+     * @return The back-pressure policy; BLOCK unless configured otherwise.
+     */
+    default BackPressure callbackBackPressure() {
+        return BackPressure.BLOCK;
+    }
+
+    /**
+     * Whether the RTI delivers callbacks on its own threads as they arrive (HLA_IMMEDIATE) or only when the federate
+     * evokes them (HLA_EVOKED). In the latter model the simulation loop evokes them between frames.
+     * @return The callback model; HLA_IMMEDIATE unless configured otherwise.
+     */
+    default CallbackModel callbackModel() {
+        return CallbackModel.HLA_IMMEDIATE;
+    }
+
+    /**
+     * The longest a single evocation may keep delivering callbacks before control returns to the simulation thread, in
+     * the HLA_EVOKED callback model.
+     * @return Evocation budget in milliseconds.
+     */
+    default int callbackEvokeBudgetMillis() {
+        return 10;
+    }
+
+    /**
+     * How long a late joiner waits for the ExCO object instance to be discovered before it gives up on joining.
+     * @return Discovery timeout in milliseconds; 0, the default, waits indefinitely.
+     */
+    default int excoDiscoveryTimeoutMillis() {
+        return 0;
+    }
+
+    /**
+     * How often the metrics of the federate are written to the log while it is joined to the federation execution.
+     * @return Reporting interval in seconds; 0, the default, disables the report.
+     */
+    default int metricsReportIntervalSeconds() {
+        return 0;
+    }
+
+    /**
+     * How many cycles of the simulation loop are kept in its time advance trace. Tracing queries the GALT after every
+     * time advance request, so it costs one more RTI call per cycle.
+     * @return Number of traced cycles; 0, the default, disables tracing.
+     */
+    default int timeAdvanceTraceCapacity() {
+        return 0;
+    }
+
+    /**
+     * Directory receiving a binary recording of the reflections, updates and interactions of the federate while it is
+     * joined to the federation execution.
+     * @return Path of the recording directory; null, the default, disables recording.
+     */
+    default String recordingDirectory() {
+        return null;
+    }
+
+    /**
+     * Size of the memory-mapped segment files of the traffic recording.
+     * @return Segment size in megabytes; 64 by default.
+     */
+    default int recordingSegmentSizeMegabytes() {
+        return 64;
+    }
+
     class Factory {
         private Factory() {}
 
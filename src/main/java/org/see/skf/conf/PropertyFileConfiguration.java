@@ -26,6 +26,9 @@
 
 package org.see.skf.conf;
 
+import hla.rti1516_2025.CallbackModel;
+import org.see.skf.runtime.dispatch.BackPressure;
+import org.see.skf.runtime.dispatch.DispatchMode;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -53,6 +56,21 @@ public final class PropertyFileConfiguration implements FederateConfiguration {
     private static final String ASYNC_DELIVERY = "asynchronousDelivery";
     private static final String TIME_REGULATING = "timeRegulating";
     private static final String TIME_CONSTRAINED = "timeConstrained";
+    private static final String LISTENER_DISPATCH_MODE = "listenerDispatchMode";
+    private static final String LISTENER_DISPATCH_THREADS = "listenerDispatchThreads";
+    private static final String LISTENER_QUEUE_CAPACITY = "listenerQueueCapacity";
+    private static final String LISTENER_BACK_PRESSURE = "listenerBackPressure";
+    private static final String CALLBACK_DECODE_WORKERS = "callbackDecodeWorkers";
+    private static final String CALLBACK_RING_CAPACITY = "callbackRingCapacity";
+    private static final String CALLBACK_BACK_PRESSURE = "callbackBackPressure";
+    private static final String CALLBACK_MODEL = "callbackModel";
+    private static final String CALLBACK_EVOKE_BUDGET = "callbackEvokeBudgetMillis";
+    private static final String EXCO_DISCOVERY_TIMEOUT = "excoDiscoveryTimeoutMillis";
+    private static final String METRICS_REPORT_INTERVAL = "metricsReportIntervalSeconds";
+    private static final String TIME_ADVANCE_TRACE_CAPACITY = "timeAdvanceTraceCapacity";
+    private static final String RECORDING_DIRECTORY = "recordingDirectory";
+    private static final String RECORDING_SEGMENT_SIZE = "recordingSegmentSizeMegabytes";
+    private static final int MAX_RECORDING_SEGMENT_SIZE = 1024;
 
     // Mandatory properties
     private final String rtiAddress;
@@ -67,6 +85,20 @@ public final class PropertyFileConfiguration implements FederateConfiguration {
 
     // Optional properties
     private final String[] additionalFomModules;
+    private final DispatchMode listenerDispatchMode;
+    private final int listenerDispatchThreads;
+    private final int listenerQueueCapacity;
+    private final BackPressure listenerBackPressure;
+    private final int callbackDecodeWorkers;
+    private final int callbackRingCapacity;
+    private final BackPressure callbackBackPressure;
+    private final CallbackModel callbackModel;
+    private final int callbackEvokeBudgetMillis;
+    private final int excoDiscoveryTimeoutMillis;
+    private final int metricsReportIntervalSeconds;
+    private final int timeAdvanceTraceCapacity;
+    private final String recordingDirectory;
+    private final int recordingSegmentSizeMegabytes;
 
     public PropertyFileConfiguration(File confFile) {
         Properties properties = new Properties();
@@ -97,9 +129,78 @@ public final class PropertyFileConfiguration implements FederateConfiguration {
             throw new NumberFormatException(conversionFailure.getMessage());
         }
 
+        listenerDispatchMode = parseEnum(properties, LISTENER_DISPATCH_MODE, DispatchMode.class, FederateConfiguration.super.listenerDispatchMode());
+        listenerDispatchThreads = parsePositiveInt(properties, LISTENER_DISPATCH_THREADS, FederateConfiguration.super.listenerDispatchThreads());
+        listenerQueueCapacity = parsePositiveInt(properties, LISTENER_QUEUE_CAPACITY, FederateConfiguration.super.listenerQueueCapacity());
+        listenerBackPressure = parseEnum(properties, LISTENER_BACK_PRESSURE, BackPressure.class, FederateConfiguration.super.listenerBackPressure());
+        callbackDecodeWorkers = parseNonNegativeInt(properties, CALLBACK_DECODE_WORKERS, FederateConfiguration.super.callbackDecodeWorkers());
+        callbackRingCapacity = parsePositiveInt(properties, CALLBACK_RING_CAPACITY, FederateConfiguration.super.callbackRingCapacity());
+        callbackBackPressure = parseEnum(properties, CALLBACK_BACK_PRESSURE, BackPressure.class, FederateConfiguration.super.callbackBackPressure());
+        callbackModel = parseEnum(properties, CALLBACK_MODEL, CallbackModel.class, FederateConfiguration.super.callbackModel());
+        callbackEvokeBudgetMillis = parsePositiveInt(properties, CALLBACK_EVOKE_BUDGET, FederateConfiguration.super.callbackEvokeBudgetMillis());
+        excoDiscoveryTimeoutMillis = parseNonNegativeInt(properties, EXCO_DISCOVERY_TIMEOUT, FederateConfiguration.super.excoDiscoveryTimeoutMillis());
+        metricsReportIntervalSeconds = parseNonNegativeInt(properties, METRICS_REPORT_INTERVAL, FederateConfiguration.super.metricsReportIntervalSeconds());
+        timeAdvanceTraceCapacity = parseNonNegativeInt(properties, TIME_ADVANCE_TRACE_CAPACITY, FederateConfiguration.super.timeAdvanceTraceCapacity());
+        recordingDirectory = properties.getProperty(RECORDING_DIRECTORY);
+        recordingSegmentSizeMegabytes = parsePositiveInt(properties, RECORDING_SEGMENT_SIZE, FederateConfiguration.super.recordingSegmentSizeMegabytes());
+
         validateProperties();
     }
 
+    private static <E extends Enum<E>> E parseEnum(Properties properties, String key, Class<E> type, E defaultValue) {
+        String value = properties.getProperty(key);
+
+        if (value == null) {
+            return defaultValue;
+        }
+
+        try {
+            return Enum.valueOf(type, value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalStateException("Unsupported value \"" + value + "\" for the <" + key + "> property.", e);
+        }
+    }
+
+    private static int parsePositiveInt(Properties properties, String key, int defaultValue) {
+        String value = properties.getProperty(key);
+
+        if (value == null) {
+            return defaultValue;
+        }
+
+        try {
+            int parsed = Integer.parseInt(value.trim());
+
+            if (parsed > 0) {
+                return parsed;
+            }
+        } catch (NumberFormatException ignore) {
+            // Reported below.
+        }
+
+        throw new IllegalStateException("Only positive integer values are accepted for the <" + key + "> property.");
+    }
+
+    private static int parseNonNegativeInt(Properties properties, String key, int defaultValue) {
+        String value = properties.getProperty(key);
+
+        if (value == null) {
+            return defaultValue;
+        }
+
+        try {
+            int parsed = Integer.parseInt(value.trim());
+
+            if (parsed >= 0) {
+                return parsed;
+            }
+        } catch (NumberFormatException ignore) {
+            // Reported below.
+        }
+
+        throw new IllegalStateException("Only non-negative integer values are accepted for the <" + key + "> property.");
+    }
+
     private String[] loadFomModulePaths(String fomDirectory) {
         if (fomDirectory != null) {
             File directory = new File(fomDirectory.replace("\"", ""));
@@ -145,6 +246,11 @@ public final class PropertyFileConfiguration implements FederateConfiguration {
         if (lookAhead == null) {
             throw new IllegalStateException("The <lookahead> property is missing.");
         }
+
+        // Segments are mapped into a single buffer, which cannot exceed 2 GiB.
+        if (recordingSegmentSizeMegabytes > MAX_RECORDING_SEGMENT_SIZE) {
+            throw new IllegalStateException("The <" + RECORDING_SEGMENT_SIZE + "> property cannot exceed " + MAX_RECORDING_SEGMENT_SIZE + ".");
+        }
     }
 
     @Override
@@ -196,4 +302,74 @@ public final class PropertyFileConfiguration implements FederateConfiguration {
     public Long lookAhead() {
         return lookAhead;
     }
+
+    @Override
+    public DispatchMode listenerDispatchMode() {
+        return listenerDispatchMode;
+    }
+
+    @Override
+    public int listenerDispatchThreads() {
+        return listenerDispatchThreads;
+    }
+
+    @Override
+    public int listenerQueueCapacity() {
+        return listenerQueueCapacity;
+    }
+
+    @Override
+    public BackPressure listenerBackPressure() {
+        return listenerBackPressure;
+    }
+
+    @Override
+    public int callbackDecodeWorkers() {
+        return callbackDecodeWorkers;
+    }
+
+    @Override
+    public int callbackRingCapacity() {
+        return callbackRingCapacity;
+    }
+
+    @Override
+    public BackPressure callbackBackPressure() {
+        return callbackBackPressure;
+    }
+
+    @Override
+    public CallbackModel callbackModel() {
+        return callbackModel;
+    }
+
+    @Override
+    public int callbackEvokeBudgetMillis() {
+        return callbackEvokeBudgetMillis;
+    }
+
+    @Override
+    public int excoDiscoveryTimeoutMillis() {
+        return excoDiscoveryTimeoutMillis;
+    }
+
+    @Override
+    public int metricsReportIntervalSeconds() {
+        return metricsReportIntervalSeconds;
+    }
+
+    @Override
+    public int timeAdvanceTraceCapacity() {
+        return timeAdvanceTraceCapacity;
+    }
+
+    @Override
+    public String recordingDirectory() {
+        return recordingDirectory;
+    }
+
+    @Override
+    public int recordingSegmentSizeMegabytes() {
+        return recordingSegmentSizeMegabytes;
+    }
 }
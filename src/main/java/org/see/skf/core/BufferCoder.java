@@ -0,0 +1,112 @@
+/*****************************************************************
+ SEE HLA Starter Kit Framework -  A Java library that supports
+ the development of HLA Federates in the Simulation Exploration
+ Experience (SEE) program.
+
+ Copyright (c) 2014, 2026 SMASH Lab - University of Calabria
+ (Italy), Hridyanshu Aatreya - Modelling & Simulation Group (MSG)
+ at Brunel University of London. All rights reserved.
+
+ GNU Lesser General Public License (GNU LGPL).
+
+ This library is free software; you can redistribute it and/or
+ modify it under the terms of the GNU Lesser General Public
+ License as published by the Free Software Foundation; either
+ version 3.0 of the License, or (at your option) any later version.
+
+ This library is distributed in the hope that it will be useful,
+ but WITHOUT ANY WARRANTY; without even the implied warranty of
+ MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ Lesser General Public License for more details.
+
+ You should have received a copy of the GNU Lesser General Public
+ License along with this library.
+ If not, see http://http://www.gnu.org/licenses/
+ *****************************************************************/
+
+package org.see.skf.core;
+
+import hla.rti1516_2025.encoding.DecoderException;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A coder that writes its encoded representation into, and reads it from, a caller-supplied buffer at an absolute
+ * offset. Besides avoiding intermediate arrays, this exposes what composite data types need to lay out their elements:
+ * the encoded length of a value and the octet boundary (alignment) of the data type, as defined by the HLA 1516.2
+ * encoding rules.
+ *
+ * @param <T> The type that will be encoded and decoded by this coder.
+ * @since 2.0
+ */
+public interface BufferCoder<T> extends Coder<T> {
+    /**
+     * @return The octet boundary of the data type, i.e. the alignment its encoding requires within a composite type.
+     */
+    int getOctetBoundary();
+
+    /**
+     * @param element The value to measure.
+     * @return The number of bytes the encoded value occupies.
+     */
+    int getEncodedLength(T element);
+
+    /**
+     * @return The encoded length shared by all values of the data type, or -1 if it depends on the value.
+     */
+    default int getFixedEncodedLength() {
+        return -1;
+    }
+
+    /**
+     * Encodes a value into the buffer. The buffer's position, limit and byte order are left untouched.
+     * @param element The value to encode.
+     * @param buffer The destination buffer.
+     * @param offset The absolute index at which the encoded value begins.
+     * @throws IndexOutOfBoundsException if the buffer cannot hold the encoded value at the given offset.
+     */
+    void encode(T element, ByteBuffer buffer, int offset);
+
+    /**
+     * Decodes a value from the buffer. The buffer's position, limit and byte order are left untouched.
+     * @param buffer The source buffer.
+     * @param offset The absolute index at which the encoded value begins.
+     * @return The decoded value.
+     * @throws DecoderException if the bytes at the given offset are not a valid encoding of the data type.
+     */
+    T decode(ByteBuffer buffer, int offset) throws DecoderException;
+
+    /**
+     * Decodes a value from the buffer, reusing the given instance if the data type is mutable (such as a record or an
+     * array). Coders of immutable types ignore the instance and behave like {@link #decode(ByteBuffer, int)}.
+     * @param buffer The source buffer.
+     * @param offset The absolute index at which the encoded value begins.
+     * @param reuse An instance previously returned by this coder that may be overwritten, or null.
+     * @return The decoded value, which may be the reused instance.
+     * @throws DecoderException if the bytes at the given offset are not a valid encoding of the data type.
+     */
+    default T decode(ByteBuffer buffer, int offset, T reuse) throws DecoderException {
+        return decode(buffer, offset);
+    }
+
+    @Override
+    default T decode(byte[] buffer) throws DecoderException {
+        return decode(ByteBuffer.wrap(buffer), 0);
+    }
+
+    @Override
+    default byte[] encode(T element) {
+        byte[] buffer = new byte[getEncodedLength(element)];
+        encode(element, ByteBuffer.wrap(buffer), 0);
+        return buffer;
+    }
+
+    /**
+     * Buffer coders write to and read from caller-supplied buffers and are expected to hold no mutable state.
+     * Implementations that do must override this method.
+     */
+    @Override
+    default boolean isThreadSafe() {
+        return true;
+    }
+}
@@ -0,0 +1,260 @@
+/*****************************************************************
+ SEE HLA Starter Kit Framework -  A Java library that supports
+ the development of HLA Federates in the Simulation Exploration
+ Experience (SEE) program.
+
+ Copyright (c) 2014, 2026 SMASH Lab - University of Calabria
+ (Italy), Hridyanshu Aatreya - Modelling & Simulation Group (MSG)
+ at Brunel University of London. All rights reserved.
+
+ GNU Lesser General Public License (GNU LGPL).
+
+ This library is free software; you can redistribute it and/or
+ modify it under the terms of the GNU Lesser General Public
+ License as published by the Free Software Foundation; either
+ version 3.0 of the License, or (at your option) any later version.
+
+ This library is distributed in the hope that it will be useful,
+ but WITHOUT ANY WARRANTY; without even the implied warranty of
+ MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ Lesser General Public License for more details.
+
+ You should have received a copy of the GNU Lesser General Public
+ License along with this library.
+ If not, see http://http://www.gnu.org/licenses/
+ *****************************************************************/
+
+package org.see.skf.core;
+
+import hla.rti1516_2025.CallbackModel;
+import hla.rti1516_2025.RTIambassador;
+import hla.rti1516_2025.exceptions.CallNotAllowedFromWithinCallback;
+import hla.rti1516_2025.exceptions.RTIinternalError;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BooleanSupplier;
+import java.util.function.LongSupplier;
+
+/**
+ * Decides on which thread, and when, the RTI delivers its callbacks. With the HLA_IMMEDIATE callback model the RTI
+ * delivers them on its own threads whenever they arrive, and the waits of the framework simply sleep. With HLA_EVOKED
+ * the RTI holds them back until the federate evokes them: the waits of the framework then evoke callbacks instead of
+ * sleeping, and the simulation loop evokes them between frames while it waits for its time advance grant. All
+ * reflections of a frame are thereby applied on the simulation thread before update() runs, without any locking.
+ * <p>
+ * In the HLA_EVOKED model the pump records how many callbacks each frame took, as counted by the federate ambassador, and
+ * how long evoking them lasted.
+ *
+ * @since 2.0
+ */
+public final class CallbackPump {
+    private static final Logger logger = LoggerFactory.getLogger(CallbackPump.class);
+
+    // How long an evocation waits for a callback to arrive before returning control to the waiting loop.
+    private static final double EVOKE_WAIT_SECONDS = 0.001;
+
+    private static final CallbackPump IMMEDIATE = new CallbackPump(null, CallbackModel.HLA_IMMEDIATE, 0L, () -> 0L);
+
+    private final RTIambassador rtiAmbassador;
+    private final CallbackModel callbackModel;
+    private final double budgetSeconds;
+    private final LongSupplier callbackCounter;
+    private final LongAdder frameCount;
+    private final LongAdder frameCallbackCount;
+    private final LongAdder frameEvokeNanos;
+    private volatile FrameStats lastFrameStats;
+
+    /**
+     * @param rtiAmbassador The RTI ambassador evoking the callbacks; unused in the HLA_IMMEDIATE model.
+     * @param callbackModel The callback model the federate connects with.
+     * @param budgetMillis The longest a single evocation may keep delivering callbacks before control returns to the
+     *                     simulation thread.
+     * @param callbackCounter The number of callbacks the federate ambassador has received so far.
+     */
+    public CallbackPump(RTIambassador rtiAmbassador, CallbackModel callbackModel, long budgetMillis, LongSupplier callbackCounter) {
+        this.rtiAmbassador = rtiAmbassador;
+        this.callbackModel = callbackModel;
+        this.budgetSeconds = Math.max(budgetMillis / 1000.0, EVOKE_WAIT_SECONDS);
+        this.callbackCounter = callbackCounter;
+        this.frameCount = new LongAdder();
+        this.frameCallbackCount = new LongAdder();
+        this.frameEvokeNanos = new LongAdder();
+        this.lastFrameStats = new FrameStats(0L, 0L, 0, 0L);
+    }
+
+    /**
+     * @return A pump for the HLA_IMMEDIATE callback model.
+     */
+    public static CallbackPump immediate() {
+        return IMMEDIATE;
+    }
+
+    public CallbackModel getCallbackModel() {
+        return callbackModel;
+    }
+
+    public boolean isEvoked() {
+        return callbackModel == CallbackModel.HLA_EVOKED;
+    }
+
+    /**
+     * Waits for roughly the given time, delivering callbacks meanwhile in the HLA_EVOKED model.
+     * @param millis How long to wait, in milliseconds.
+     * @throws InterruptedException if the thread was interrupted while sleeping.
+     */
+    public void pause(long millis) throws InterruptedException {
+        if (isEvoked()) {
+            double seconds = Math.max(millis / 1000.0, EVOKE_WAIT_SECONDS);
+            evoke(seconds, seconds);
+        } else {
+            Thread.sleep(millis);
+        }
+    }
+
+    /**
+     * Blocks until a future that one of the callbacks completes is done, or the timeout elapses. In the HLA_EVOKED
+     * model the callbacks are evoked while waiting, since the future could not complete otherwise.
+     * @param future The future to wait for.
+     * @param timeoutNanos The longest time to wait, in nanoseconds.
+     * @return true if the future completed normally within the timeout.
+     * @throws InterruptedException if the thread was interrupted while waiting.
+     */
+    public boolean await(CompletableFuture<?> future, long timeoutNanos) throws InterruptedException {
+        long deadline = System.nanoTime() + timeoutNanos;
+
+        if (isEvoked()) {
+            long remaining;
+            while (!future.isDone() && (remaining = deadline - System.nanoTime()) > 0) {
+                evoke(EVOKE_WAIT_SECONDS, Math.max(Math.min(budgetSeconds, remaining / 1e9), EVOKE_WAIT_SECONDS));
+
+                if (Thread.interrupted()) {
+                    throw new InterruptedException();
+                }
+            }
+        } else if (!future.isDone()) {
+            try {
+                future.get(timeoutNanos, TimeUnit.NANOSECONDS);
+            } catch (ExecutionException | TimeoutException e) {
+                return false;
+            }
+        }
+
+        return future.isDone() && !future.isCompletedExceptionally();
+    }
+
+    /**
+     * Evokes callbacks until the condition holds, and records them as one frame. HLA_EVOKED model only.
+     * @param condition Checked before every evocation, such as the arrival of a time advance grant.
+     * @return The statistics of the frame.
+     */
+    public FrameStats pumpFrame(BooleanSupplier condition) {
+        if (!isEvoked()) {
+            throw new IllegalStateException("Callbacks can only be pumped in the HLA_EVOKED callback model.");
+        }
+
+        long callbacksBefore = callbackCounter.getAsLong();
+        long start = System.nanoTime();
+        int evocations = 0;
+
+        while (!condition.getAsBoolean()) {
+            evoke(EVOKE_WAIT_SECONDS, budgetSeconds);
+            evocations++;
+        }
+
+        long elapsedNanos = System.nanoTime() - start;
+        long callbacks = callbackCounter.getAsLong() - callbacksBefore;
+
+        frameCount.increment();
+        frameCallbackCount.add(callbacks);
+        frameEvokeNanos.add(elapsedNanos);
+
+        FrameStats stats = new FrameStats(frameCount.sum(), callbacks, evocations, elapsedNanos);
+        lastFrameStats = stats;
+        logger.trace("Frame {} evoked {} callback(s) in {} evocation(s) and {} us.", stats.getFrame(), callbacks, evocations, TimeUnit.NANOSECONDS.toMicros(elapsedNanos));
+
+        return stats;
+    }
+
+    /**
+     * @return The total number of callbacks the federate ambassador has received.
+     */
+    public long getCallbackCount() {
+        return callbackCounter.getAsLong();
+    }
+
+    public long getFrameCount() {
+        return frameCount.sum();
+    }
+
+    /**
+     * @return The mean number of callbacks evoked per frame.
+     */
+    public double getMeanFrameCallbacks() {
+        long frames = frameCount.sum();
+        return (frames > 0) ? (double) frameCallbackCount.sum() / frames : 0.0;
+    }
+
+    /**
+     * @return The mean time per frame spent evoking callbacks, in nanoseconds.
+     */
+    public double getMeanFrameEvokeNanos() {
+        long frames = frameCount.sum();
+        return (frames > 0) ? (double) frameEvokeNanos.sum() / frames : 0.0;
+    }
+
+    public FrameStats getLastFrameStats() {
+        return lastFrameStats;
+    }
+
+    private void evoke(double minimumSeconds, double maximumSeconds) {
+        try {
+            rtiAmbassador.evokeMultipleCallbacks(minimumSeconds, maximumSeconds);
+        } catch (CallNotAllowedFromWithinCallback | RTIinternalError e) {
+            throw new IllegalStateException("Failed to evoke callbacks from the RTI.", e);
+        }
+    }
+
+    /**
+     * Callbacks evoked while the simulation loop waited for one time advance grant.
+     */
+    public static final class FrameStats {
+        private final long frame;
+        private final long callbacks;
+        private final int evocations;
+        private final long evokeNanos;
+
+        FrameStats(long frame, long callbacks, int evocations, long evokeNanos) {
+            this.frame = frame;
+            this.callbacks = callbacks;
+            this.evocations = evocations;
+            this.evokeNanos = evokeNanos;
+        }
+
+        public long getFrame() {
+            return frame;
+        }
+
+        public long getCallbacks() {
+            return callbacks;
+        }
+
+        public int getEvocations() {
+            return evocations;
+        }
+
+        public long getEvokeNanos() {
+            return evokeNanos;
+        }
+
+        @Override
+        public String toString() {
+            return "frame=" + frame + ", callbacks=" + callbacks + ", evocations=" + evocations + ", evokeNs=" + evokeNanos;
+        }
+    }
+}
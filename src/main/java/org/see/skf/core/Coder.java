@@ -41,4 +41,14 @@ public interface Coder<T> {
     T decode(byte[] buffer) throws DecoderException;
     byte[] encode(T element);
     Class<T> getAllowedType();
+
+    /**
+     * Coders that wrap a mutable encoding buffer (such as the RTI's DataElements) must not be used by two threads at
+     * once, so the framework hands each thread its own instance. Coders without mutable state may return true to have
+     * a single instance shared by all threads instead.
+     * @return True if one instance of this coder can safely be used by several threads concurrently.
+     */
+    default boolean isThreadSafe() {
+        return false;
+    }
 }
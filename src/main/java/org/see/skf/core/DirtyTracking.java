@@ -0,0 +1,161 @@
+/*****************************************************************
+ SEE HLA Starter Kit Framework -  A Java library that supports
+ the development of HLA Federates in the Simulation Exploration
+ Experience (SEE) program.
+
+ Copyright (c) 2014, 2026 SMASH Lab - University of Calabria
+ (Italy), Hridyanshu Aatreya - Modelling & Simulation Group (MSG)
+ at Brunel University of London. All rights reserved.
+
+ GNU Lesser General Public License (GNU LGPL).
+
+ This library is free software; you can redistribute it and/or
+ modify it under the terms of the GNU Lesser General Public
+ License as published by the Free Software Foundation; either
+ version 3.0 of the License, or (at your option) any later version.
+
+ This library is distributed in the hope that it will be useful,
+ but WITHOUT ANY WARRANTY; without even the implied warranty of
+ MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ Lesser General Public License for more details.
+
+ You should have received a copy of the GNU Lesser General Public
+ License along with this library.
+ If not, see http://http://www.gnu.org/licenses/
+ *****************************************************************/
+
+package org.see.skf.core;
+
+import org.see.skf.annotations.Attribute;
+import org.see.skf.annotations.ObjectClass;
+
+import java.lang.reflect.Field;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Object classes that know which of their attributes have changed can extend this class instead of
+ * {@link PropertyChangeSubject} and call {@link #markDirty(String)} whenever an attribute is modified, typically from its
+ * setter. Updates of instances of such classes then encode and send only the attributes marked since the previous
+ * update, without reading or encoding the others, and the marks are cleared as the update is built. Marks of an update
+ * that could not be encoded or sent are restored, so the attributes are included in the next one. Every attribute
+ * starts out dirty so that the first update carries the complete state, and all attributes are still sent when the RTI
+ * requests them through provideAttributeValueUpdate.
+ * <p>
+ * Marks are set and cleared atomically: an attribute marked while an update is being built is either included in that
+ * update or remains marked for the next one.
+ *
+ * @since 2.0
+ */
+public abstract class DirtyTracking extends PropertyChangeSubject {
+    private static final ClassValue<Map<String, Integer>> ATTRIBUTE_INDICES = new ClassValue<>() {
+        @Override
+        protected Map<String, Integer> computeValue(Class<?> type) {
+            Class<?> objectClass = type;
+            while (objectClass != null && !objectClass.isAnnotationPresent(ObjectClass.class)) {
+                objectClass = objectClass.getSuperclass();
+            }
+
+            Map<String, Integer> indices = new HashMap<>();
+            if (objectClass != null) {
+                for (Field field : objectClass.getDeclaredFields()) {
+                    if (field.isAnnotationPresent(Attribute.class)) {
+                        indices.put(field.getAnnotation(Attribute.class).name(), indices.size());
+                    }
+                }
+            }
+
+            return Collections.unmodifiableMap(indices);
+        }
+    };
+
+    private final Map<String, Integer> attributeIndices;
+    private final AtomicLongArray dirtyAttributes;
+
+    protected DirtyTracking() {
+        attributeIndices = ATTRIBUTE_INDICES.get(getClass());
+        dirtyAttributes = new AtomicLongArray((attributeIndices.size() + Long.SIZE - 1) / Long.SIZE);
+        markAllDirty();
+    }
+
+    /**
+     * Marks an attribute as changed so that it is included in the next update of this object instance.
+     * @param attributeName The attribute name as defined in the FOM.
+     * @throws IllegalArgumentException if the class has no attribute of that name.
+     */
+    public void markDirty(String attributeName) {
+        int index = indexOf(attributeName);
+        long mask = 1L << index;
+        int word = index / Long.SIZE;
+        long current;
+
+        do {
+            current = dirtyAttributes.get(word);
+        } while ((current & mask) == 0 && !dirtyAttributes.compareAndSet(word, current, current | mask));
+    }
+
+    /**
+     * Marks every attribute as changed so that the next update carries the complete state of this object instance.
+     */
+    public void markAllDirty() {
+        int count = attributeIndices.size();
+
+        for (int word = 0; word < dirtyAttributes.length(); word++) {
+            int bits = Math.min(Long.SIZE, count - word * Long.SIZE);
+            dirtyAttributes.set(word, (bits == Long.SIZE) ? -1L : (1L << bits) - 1);
+        }
+    }
+
+    public boolean isDirty(String attributeName) {
+        int index = indexOf(attributeName);
+        return (dirtyAttributes.get(index / Long.SIZE) & (1L << index)) != 0;
+    }
+
+    /**
+     * Marks again the attributes of one word that were taken for an update that was not sent, so that the next update
+     * carries them.
+     * @param word Index of the word, below {@link #getDirtyWordCount()}.
+     * @param attributes The attributes to mark, as returned by {@link #takeDirtyAttributes(int)}.
+     */
+    public final void restoreDirtyAttributes(int word, long attributes) {
+        if (attributes != 0L) {
+            dirtyAttributes.accumulateAndGet(word, attributes, (current, restored) -> current | restored);
+        }
+    }
+
+    /**
+     * Atomically clears and returns one word of the set of dirty attributes. Bit {@code i} of word {@code w} stands for
+     * the attribute whose index, as given by {@link #getAttributeIndex(Class, String)}, is {@code 64 * w + i}.
+     * @param word Index of the word, below {@link #getDirtyWordCount()}.
+     * @return The dirty attributes of the word before it was cleared.
+     */
+    public final long takeDirtyAttributes(int word) {
+        return dirtyAttributes.getAndSet(word, 0L);
+    }
+
+    public final int getDirtyWordCount() {
+        return dirtyAttributes.length();
+    }
+
+    /**
+     * Returns the index under which the dirty state of an attribute is tracked for instances of the given class.
+     * @param objectClass A class annotated with {@link ObjectClass}, or a subclass of one.
+     * @param attributeName The attribute name as defined in the FOM.
+     * @return The index of the attribute, or -1 if the class has no attribute of that name.
+     */
+    public static int getAttributeIndex(Class<?> objectClass, String attributeName) {
+        return ATTRIBUTE_INDICES.get(objectClass).getOrDefault(attributeName, -1);
+    }
+
+    private int indexOf(String attributeName) {
+        Integer index = attributeIndices.get(attributeName);
+
+        if (index == null) {
+            throw new IllegalArgumentException("The object class <" + getClass().getName() + "> has no attribute named \"" + attributeName + "\".");
+        }
+
+        return index;
+    }
+}
@@ -0,0 +1,123 @@
+/*****************************************************************
+ SEE HLA Starter Kit Framework -  A Java library that supports
+ the development of HLA Federates in the Simulation Exploration
+ Experience (SEE) program.
+
+ Copyright (c) 2014, 2026 SMASH Lab - University of Calabria
+ (Italy), Hridyanshu Aatreya - Modelling & Simulation Group (MSG)
+ at Brunel University of London. All rights reserved.
+
+ GNU Lesser General Public License (GNU LGPL).
+
+ This library is free software; you can redistribute it and/or
+ modify it under the terms of the GNU Lesser General Public
+ License as published by the Free Software Foundation; either
+ version 3.0 of the License, or (at your option) any later version.
+
+ This library is distributed in the hope that it will be useful,
+ but WITHOUT ANY WARRANTY; without even the implied warranty of
+ MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ Lesser General Public License for more details.
+
+ You should have received a copy of the GNU Lesser General Public
+ License along with this library.
+ If not, see http://http://www.gnu.org/licenses/
+ *****************************************************************/
+
+package org.see.skf.core;
+
+import hla.rti1516_2025.RTIambassador;
+import hla.rti1516_2025.RtiFactory;
+import hla.rti1516_2025.encoding.EncoderFactory;
+import hla.rti1516_2025.exceptions.FederateNotExecutionMember;
+import hla.rti1516_2025.exceptions.NotConnected;
+import hla.rti1516_2025.exceptions.RTIinternalError;
+import hla.rti1516_2025.time.HLAinteger64TimeFactory;
+import org.see.skf.metrics.MetricsRegistry;
+import org.see.skf.runtime.CoderCollection;
+
+/**
+ * Everything a federate takes from its RTI, along with the state the framework keeps on its behalf: the RTI ambassador,
+ * the encoder and time factories, the coders of its models, its synchronization points and its metrics. Federates with contexts of
+ * their own can share a JVM without interfering with one another.
+ *
+ * @see HLAUtilityFactory#newContext()
+ * @since 2.0
+ */
+public final class FederateContext {
+    private final RTIambassador rtiAmbassador;
+    private final EncoderFactory encoderFactory;
+    private final CoderCollection coders;
+    private final SyncPointRegistry syncPoints;
+    private final MetricsRegistry metrics;
+    private volatile HLAinteger64TimeFactory timeFactory;
+
+    /**
+     * @param rtiAmbassador The RTI ambassador used by the federate alone.
+     * @param encoderFactory The encoder factory of the RTI.
+     */
+    public FederateContext(RTIambassador rtiAmbassador, EncoderFactory encoderFactory) {
+        this(rtiAmbassador, encoderFactory, new CoderCollection());
+    }
+
+    /**
+     * @param rtiAmbassador The RTI ambassador used by the federate alone.
+     * @param encoderFactory The encoder factory of the RTI.
+     * @param coders The collection the coders of the federate's models are taken from.
+     */
+    public FederateContext(RTIambassador rtiAmbassador, EncoderFactory encoderFactory, CoderCollection coders) {
+        this.rtiAmbassador = rtiAmbassador;
+        this.encoderFactory = encoderFactory;
+        this.coders = coders;
+        this.syncPoints = new SyncPointRegistry();
+        this.metrics = new MetricsRegistry();
+    }
+
+    /**
+     * Creates a context with a new RTI ambassador of the given RTI.
+     * @param rtiFactory The factory of the RTI.
+     * @return The context.
+     * @throws RTIinternalError if the RTI fails to provide an ambassador or an encoder factory.
+     */
+    public static FederateContext create(RtiFactory rtiFactory) throws RTIinternalError {
+        return new FederateContext(rtiFactory.getRtiAmbassador(), rtiFactory.getEncoderFactory());
+    }
+
+    public RTIambassador getRtiAmbassador() {
+        return rtiAmbassador;
+    }
+
+    public EncoderFactory getEncoderFactory() {
+        return encoderFactory;
+    }
+
+    /**
+     * @return The time factory of the federation execution; only available once the federate has joined it.
+     */
+    public HLAinteger64TimeFactory getTimeFactory() {
+        HLAinteger64TimeFactory factory = timeFactory;
+
+        if (factory == null) {
+            try {
+                factory = (HLAinteger64TimeFactory) rtiAmbassador.getTimeFactory();
+                timeFactory = factory;
+            } catch (FederateNotExecutionMember | NotConnected e) {
+                throw new IllegalStateException("Failed to acquire HLAinteger64TimeFactory instance.", e);
+            }
+        }
+
+        return factory;
+    }
+
+    public CoderCollection getCoders() {
+        return coders;
+    }
+
+    public SyncPointRegistry getSyncPoints() {
+        return syncPoints;
+    }
+
+    public MetricsRegistry getMetrics() {
+        return metrics;
+    }
+}
@@ -34,43 +34,94 @@ import hla.rti1516_2025.exceptions.FederateNotExecutionMember;
 import hla.rti1516_2025.exceptions.NotConnected;
 import hla.rti1516_2025.exceptions.RTIinternalError;
 import hla.rti1516_2025.time.HLAinteger64TimeFactory;
+import org.see.skf.runtime.CoderCollection;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * Thread-safe singleton object that encapsulates the RtiFactory, RTIAmbassador, EncoderFactory, and HLAinteger64TimeFactory
  * objects used by the framework.
+ * <p>
+ * The ambassador and factories held here form the shared context of federates constructed without a context of their
+ * own, which therefore cannot share a JVM. {@link #newContext()} creates independent contexts from the same RTI. The RTI
+ * is looked up through the RtiFactoryFactory when first needed, unless {@link #setRtiFactory(RtiFactory)} named one.
  *
  * @since 2.0
  */
 public enum HLAUtilityFactory {
     INSTANCE;
 
-    private final RtiFactory rtiFactory;
+    private RtiFactory rtiFactory;
     private RTIambassador rtiAmbassador;
     private EncoderFactory encoderFactory;
     private HLAinteger64TimeFactory timeFactory;
+    private FederateContext sharedContext;
 
-    HLAUtilityFactory() {
+    /**
+     * Makes the framework take its RTI ambassadors from the given RTI rather than the one the RtiFactoryFactory finds,
+     * e.g. from a {@link org.see.skf.loopback.LoopbackRti} when there is no RTI to connect to.
+     * @param rtiFactory The factory of the RTI.
+     * @throws IllegalStateException if the RTI ambassador of this object is in use already.
+     */
+    public synchronized void setRtiFactory(RtiFactory rtiFactory) {
+        if (rtiAmbassador != null) {
+            throw new IllegalStateException("The RTI cannot be replaced once its ambassador is in use.");
+        }
+
+        this.rtiFactory = rtiFactory;
+        this.encoderFactory = null;
+        logRti(rtiFactory);
+    }
+
+    private synchronized RtiFactory getRtiFactory() {
+        if (rtiFactory == null) {
+            try {
+                rtiFactory = RtiFactoryFactory.getRtiFactory();
+                logRti(rtiFactory);
+            } catch (Exception e) {
+                LoggerFactory.getLogger(HLAUtilityFactory.class).error("Failed to initialize one or more HLA utility objects required by the federate to function.");
+                throw new IllegalStateException(e);
+            }
+        }
+
+        return rtiFactory;
+    }
+
+    private static void logRti(RtiFactory rtiFactory) {
         Logger logger = LoggerFactory.getLogger(HLAUtilityFactory.class);
+        String rtiName = rtiFactory.rtiName();
+        String rtiVersion = rtiFactory.rtiVersion();
+        logger.info("RTI Name: {}, Version: {}", (rtiName != null) ? rtiName : "Unknown", (rtiVersion !=  null) ? rtiVersion : "Unknown");
+    }
 
+    /**
+     * @return A context with an RTI ambassador of its own, for one of several federates sharing a JVM.
+     */
+    public FederateContext newContext() {
         try {
-            rtiFactory = RtiFactoryFactory.getRtiFactory();
-            rtiAmbassador = rtiFactory.getRtiAmbassador();
-            String rtiName = rtiFactory.rtiName();
-            String rtiVersion = rtiFactory.rtiVersion();
-            logger.info("RTI Name: {}, Version: {}, Standard: {}", (rtiName != null) ? rtiName : "Unknown",
-                    (rtiVersion !=  null) ? rtiVersion : "Unknown", rtiAmbassador.getHLAversion());
-        } catch (Exception e) {
-            logger.error("Failed to initialize one or more HLA utility objects required by the federate to function.");
-            throw new IllegalStateException(e);
+            return FederateContext.create(getRtiFactory());
+        } catch (RTIinternalError e) {
+            throw new IllegalStateException("Failed to create a federate context.", e);
         }
     }
 
-    public RTIambassador getRtiAmbassador() {
+    /**
+     * @return The context wrapping the RTI ambassador and factories held by this object, with the shared coder
+     * collection.
+     */
+    public synchronized FederateContext getSharedContext() {
+        if (sharedContext == null) {
+            sharedContext = new FederateContext(getRtiAmbassador(), getEncoderFactory(), CoderCollection.shared());
+        }
+
+        return sharedContext;
+    }
+
+    public synchronized RTIambassador getRtiAmbassador() {
         if (rtiAmbassador == null) {
             try {
-                rtiAmbassador = rtiFactory.getRtiAmbassador();
+                rtiAmbassador = getRtiFactory().getRtiAmbassador();
+                LoggerFactory.getLogger(HLAUtilityFactory.class).info("HLA Standard: {}", rtiAmbassador.getHLAversion());
             } catch (RTIinternalError e) {
                 throw new IllegalStateException("Failed to get RTI Ambassador instance.", e);
             }
@@ -78,10 +129,10 @@ public enum HLAUtilityFactory {
         return rtiAmbassador;
     }
 
-    public EncoderFactory getEncoderFactory() {
+    public synchronized EncoderFactory getEncoderFactory() {
         if (encoderFactory == null) {
             try {
-                encoderFactory = rtiFactory.getEncoderFactory();
+                encoderFactory = getRtiFactory().getEncoderFactory();
             } catch (RTIinternalError e) {
                 throw new IllegalStateException("Failed to get EncoderFactory instance.", e);
             }
@@ -90,10 +141,10 @@ public enum HLAUtilityFactory {
         return encoderFactory;
     }
 
-    public HLAinteger64TimeFactory getTimeFactory() {
+    public synchronized HLAinteger64TimeFactory getTimeFactory() {
         if (timeFactory == null) {
             try {
-                timeFactory = (HLAinteger64TimeFactory) rtiAmbassador.getTimeFactory();
+                timeFactory = (HLAinteger64TimeFactory) getRtiAmbassador().getTimeFactory();
             } catch (FederateNotExecutionMember | NotConnected e) {
                 throw new IllegalStateException("Failed to acquire HLAinteger64TimeFactory instance.", e);
             }
@@ -0,0 +1,94 @@
+/*****************************************************************
+ SEE HLA Starter Kit Framework -  A Java library that supports
+ the development of HLA Federates in the Simulation Exploration
+ Experience (SEE) program.
+
+ Copyright (c) 2014, 2026 SMASH Lab - University of Calabria
+ (Italy), Hridyanshu Aatreya - Modelling & Simulation Group (MSG)
+ at Brunel University of London. All rights reserved.
+
+ GNU Lesser General Public License (GNU LGPL).
+
+ This library is free software; you can redistribute it and/or
+ modify it under the terms of the GNU Lesser General Public
+ License as published by the Free Software Foundation; either
+ version 3.0 of the License, or (at your option) any later version.
+
+ This library is distributed in the hope that it will be useful,
+ but WITHOUT ANY WARRANTY; without even the implied warranty of
+ MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ Lesser General Public License for more details.
+
+ You should have received a copy of the GNU Lesser General Public
+ License along with this library.
+ If not, see http://http://www.gnu.org/licenses/
+ *****************************************************************/
+
+package org.see.skf.core;
+
+import hla.rti1516_2025.encoding.DecoderException;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A coder specialized for the primitive long type. Values are written to and read from a caller-supplied buffer at an
+ * absolute offset, so encoding and decoding neither box the value nor allocate. The model parsers use these methods
+ * automatically for fields of type long whose coder implements this interface; the boxed methods inherited from
+ * BufferCoder remain available for everything else.
+ *
+ * @since 2.0
+ */
+public interface LongCoder extends BufferCoder<Long> {
+    /**
+     * @return The fixed number of bytes occupied by an encoded value.
+     */
+    int getEncodedLength();
+
+    /**
+     * Encodes a value into the buffer. The buffer's position, limit and byte order are left untouched.
+     * @param value The value to encode.
+     * @param buffer The destination buffer.
+     * @param offset The absolute index at which the encoded value begins.
+     * @throws IndexOutOfBoundsException if the buffer cannot hold the encoded value at the given offset.
+     */
+    void encode(long value, ByteBuffer buffer, int offset);
+
+    /**
+     * Decodes a value from the buffer. The buffer's position, limit and byte order are left untouched.
+     * @param buffer The source buffer.
+     * @param offset The absolute index at which the encoded value begins.
+     * @return The decoded value.
+     * @throws DecoderException if the buffer holds fewer bytes than an encoded value needs at the given offset.
+     */
+    long decodeLong(ByteBuffer buffer, int offset) throws DecoderException;
+
+    @Override
+    default int getOctetBoundary() {
+        return getEncodedLength();
+    }
+
+    @Override
+    default int getFixedEncodedLength() {
+        return getEncodedLength();
+    }
+
+    @Override
+    default int getEncodedLength(Long element) {
+        return getEncodedLength();
+    }
+
+    @Override
+    default void encode(Long element, ByteBuffer buffer, int offset) {
+        encode(element.longValue(), buffer, offset);
+    }
+
+    @Override
+    default Long decode(ByteBuffer buffer, int offset) throws DecoderException {
+        return decodeLong(buffer, offset);
+    }
+
+    @Override
+    default Class<Long> getAllowedType() {
+        return Long.class;
+    }
+}
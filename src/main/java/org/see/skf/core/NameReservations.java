@@ -0,0 +1,167 @@
+/*****************************************************************
+ SEE HLA Starter Kit Framework -  A Java library that supports
+ the development of HLA Federates in the Simulation Exploration
+ Experience (SEE) program.
+
+ Copyright (c) 2014, 2026 SMASH Lab - University of Calabria
+ (Italy), Hridyanshu Aatreya - Modelling & Simulation Group (MSG)
+ at Brunel University of London. All rights reserved.
+
+ GNU Lesser General Public License (GNU LGPL).
+
+ This library is free software; you can redistribute it and/or
+ modify it under the terms of the GNU Lesser General Public
+ License as published by the Free Software Foundation; either
+ version 3.0 of the License, or (at your option) any later version.
+
+ This library is distributed in the hope that it will be useful,
+ but WITHOUT ANY WARRANTY; without even the implied warranty of
+ MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ Lesser General Public License for more details.
+
+ You should have received a copy of the GNU Lesser General Public
+ License along with this library.
+ If not, see http://http://www.gnu.org/licenses/
+ *****************************************************************/
+
+package org.see.skf.core;
+
+import hla.rti1516_2025.RTIambassador;
+import hla.rti1516_2025.exceptions.*;
+import org.see.skf.core.SKFederateAmbassador.NameReservationStatus;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * The object instance names a federate asked the RTI to reserve. Every request is tracked as a future that the
+ * reservation callbacks complete, so nothing has to spin while the RTI answers. Names reserved together share one
+ * future, since the RTI reserves either all of them or none.
+ *
+ * @since 2.0
+ */
+public final class NameReservations {
+    private final ConcurrentMap<String, CompletableFuture<Boolean>> reservations;
+
+    public NameReservations() {
+        reservations = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Asks the RTI to reserve an object instance name, unless it was asked for already.
+     * @param rtiAmbassador The RTI ambassador of the federate.
+     * @param name The object instance name.
+     * @return A future completed with the outcome of the reservation.
+     */
+    public CompletableFuture<Boolean> reserve(RTIambassador rtiAmbassador, String name) throws IllegalName, SaveInProgress, RestoreInProgress, FederateNotExecutionMember, NotConnected, RTIinternalError {
+        CompletableFuture<Boolean> reservation = new CompletableFuture<>();
+        CompletableFuture<Boolean> existing = reservations.putIfAbsent(name, reservation);
+
+        if (existing != null) {
+            return existing;
+        }
+
+        try {
+            rtiAmbassador.reserveObjectInstanceName(name);
+        } catch (IllegalName | SaveInProgress | RestoreInProgress | FederateNotExecutionMember | NotConnected | RTIinternalError | RuntimeException e) {
+            reservations.remove(name, reservation);
+            throw e;
+        }
+
+        return reservation;
+    }
+
+    /**
+     * Asks the RTI to reserve several object instance names in a single request. Names that were asked for already are
+     * left out of the request.
+     * @param rtiAmbassador The RTI ambassador of the federate.
+     * @param names The object instance names.
+     * @return A future completed with true once every name is reserved, or false if any of them could not be.
+     */
+    public CompletableFuture<Boolean> reserveAll(RTIambassador rtiAmbassador, Collection<String> names) throws IllegalName, SaveInProgress, RestoreInProgress, FederateNotExecutionMember, NotConnected, RTIinternalError {
+        CompletableFuture<Boolean> batch = new CompletableFuture<>();
+        Set<String> requestedNames = new HashSet<>();
+        List<CompletableFuture<Boolean>> earlierReservations = new ArrayList<>();
+
+        for (String name : names) {
+            CompletableFuture<Boolean> existing = reservations.putIfAbsent(name, batch);
+
+            if (existing == null) {
+                requestedNames.add(name);
+            } else if (existing != batch) {
+                earlierReservations.add(existing);
+            }
+        }
+
+        if (requestedNames.isEmpty()) {
+            batch.complete(true);
+        } else {
+            try {
+                rtiAmbassador.reserveMultipleObjectInstanceNames(requestedNames);
+            } catch (NameSetWasEmpty e) {
+                forget(requestedNames, batch);
+                throw new IllegalStateException("The RTI rejected a non-empty set of object instance names as empty.", e);
+            } catch (IllegalName | SaveInProgress | RestoreInProgress | FederateNotExecutionMember | NotConnected | RTIinternalError | RuntimeException e) {
+                forget(requestedNames, batch);
+                throw e;
+            }
+        }
+
+        if (earlierReservations.isEmpty()) {
+            return batch;
+        }
+
+        earlierReservations.add(batch);
+        return CompletableFuture.allOf(earlierReservations.toArray(new CompletableFuture<?>[0]))
+                .thenApply(ignored -> earlierReservations.stream().allMatch(CompletableFuture::join));
+    }
+
+    /**
+     * Records the outcome of a reservation reported by the RTI.
+     * @param name The object instance name.
+     * @param succeeded Whether the RTI reserved the name.
+     * @return false if the name was never asked for.
+     */
+    public boolean complete(String name, boolean succeeded) {
+        CompletableFuture<Boolean> reservation = reservations.get(name);
+
+        if (reservation == null) {
+            return false;
+        }
+
+        reservation.complete(succeeded);
+        return true;
+    }
+
+    public NameReservationStatus getStatus(String name) {
+        CompletableFuture<Boolean> reservation = reservations.get(name);
+
+        if (reservation == null) {
+            return NameReservationStatus.UNRESERVED;
+        } else if (!reservation.isDone()) {
+            return NameReservationStatus.PENDING;
+        } else {
+            return reservation.getNow(false) ? NameReservationStatus.SUCCEEDED : NameReservationStatus.FAILED;
+        }
+    }
+
+    public boolean contains(String name) {
+        return reservations.containsKey(name);
+    }
+
+    public void remove(String name) {
+        reservations.remove(name);
+    }
+
+    private void forget(Set<String> names, CompletableFuture<Boolean> batch) {
+        for (String name : names) {
+            reservations.remove(name, batch);
+        }
+    }
+}
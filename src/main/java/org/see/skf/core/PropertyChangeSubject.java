@@ -40,6 +40,9 @@ import java.beans.PropertyChangeSupport;
 public abstract class PropertyChangeSubject {
     private final PropertyChangeSupport propertyChangeSupport;
 
+    // Checked on every decoded attribute, so that instances nobody listens to skip PropertyChangeSupport's locking.
+    private volatile boolean listened;
+
     protected PropertyChangeSubject() {
         propertyChangeSupport = new PropertyChangeSupport(this);
     }
@@ -49,7 +52,10 @@ public abstract class PropertyChangeSubject {
      * @param listener A property change listener.
      */
     public void addPropertyListener(PropertyChangeListener listener) {
-        propertyChangeSupport.addPropertyChangeListener(listener);
+        synchronized (propertyChangeSupport) {
+            propertyChangeSupport.addPropertyChangeListener(listener);
+            listened = propertyChangeSupport.getPropertyChangeListeners().length > 0;
+        }
     }
 
     /**
@@ -58,7 +64,19 @@ public abstract class PropertyChangeSubject {
      * @param listener The previously registered property change listener.
      */
     public void removePropertyListener(PropertyChangeListener listener) {
-        propertyChangeSupport.removePropertyChangeListener(listener);
+        synchronized (propertyChangeSupport) {
+            propertyChangeSupport.removePropertyChangeListener(listener);
+            listened = propertyChangeSupport.getPropertyChangeListeners().length > 0;
+        }
+    }
+
+    /**
+     * Checks whether any listener would be notified of a change to the given property.
+     * @param propertyName Name of the property.
+     * @return True if at least one listener is registered for the property or for all properties.
+     */
+    public boolean hasPropertyListeners(String propertyName) {
+        return listened && propertyChangeSupport.hasListeners(propertyName);
     }
 
     /**
@@ -32,12 +32,16 @@ import hla.rti1516_2025.exceptions.*;
 import hla.rti1516_2025.time.HLAinteger64Time;
 import hla.rti1516_2025.time.HLAinteger64TimeFactory;
 import org.see.skf.conf.FederateConfiguration;
-import org.see.skf.exceptions.DeadlineReachedException;
+import org.see.skf.metrics.FederateMetrics;
 import org.see.skf.time.Time;
+import org.see.skf.time.TimeAdvanceReport;
+import org.see.skf.time.TimeAdvanceTrace;
 import org.see.skf.util.models.ExecutionConfiguration;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
@@ -54,11 +58,17 @@ public abstract class SEEAbstractFederate extends SKBaseFederate {
     private final SEEFederateAmbassador federateAmbassador;
     private final ExecutiveState state;
     private final Process process;
+    private final TimeAdvanceTrace timeAdvanceTrace;
 
     protected SEEAbstractFederate(SEEFederateAmbassador federateAmbassador, FederateConfiguration config) {
-        super(federateAmbassador, config);
+        this(federateAmbassador, config, HLAUtilityFactory.INSTANCE.getSharedContext());
+    }
+
+    protected SEEAbstractFederate(SEEFederateAmbassador federateAmbassador, FederateConfiguration config, FederateContext context) {
+        super(federateAmbassador, config, context);
 
         this.federateAmbassador = federateAmbassador;
+        timeAdvanceTrace = new TimeAdvanceTrace(config.timeAdvanceTraceCapacity());
         process = new Process();
         state = new ExecutiveState();
     }
@@ -100,7 +110,7 @@ public abstract class SEEAbstractFederate extends SKBaseFederate {
         FederateConfiguration config = getConfiguration();
         Long lookAhead = config.lookAhead();
 
-        simulationTime.setLookAhead(lookAhead);
+        simulationTime.setLookAhead(getContext().getTimeFactory().makeInterval(lookAhead));
 
         try {
             configureTimePolicy();
@@ -113,14 +123,14 @@ public abstract class SEEAbstractFederate extends SKBaseFederate {
     }
 
     private void configureTimePolicy() throws RTIexception {
-        RTIambassador rtiAmbassador = HLAUtilityFactory.INSTANCE.getRtiAmbassador();
+        RTIambassador rtiAmbassador = getContext().getRtiAmbassador();
         FederateConfiguration config = getConfiguration();
 
         if (config.timeConstrained()) {
             rtiAmbassador.enableTimeConstrained();
             while (!federateAmbassador.isConstrained()) {
                 try {
-                    Thread.sleep(threadWaitInterval);
+                    getCallbackPump().pause(threadWaitInterval);
                 } catch (InterruptedException e) {
                     logger.warn("Program thread was interrupted while waiting for the RTI to time constrain this federate.");
                     Thread.currentThread().interrupt();
@@ -134,7 +144,7 @@ public abstract class SEEAbstractFederate extends SKBaseFederate {
             rtiAmbassador.enableTimeRegulation(simulationTime.getLookAheadAsLogicalTime());
             while (!federateAmbassador.isRegulating()) {
                 try {
-                    Thread.sleep(threadWaitInterval);
+                    getCallbackPump().pause(threadWaitInterval);
                 } catch (InterruptedException e) {
                     logger.warn("Program thread was interrupted while waiting for the RTI to enable time regulation for this federate.");
                     Thread.currentThread().interrupt();
@@ -154,8 +164,8 @@ public abstract class SEEAbstractFederate extends SKBaseFederate {
      * Advances the federate to the HLA logical time boundary (HLTB).
      */
     public final void advanceToHLTB() throws RTIexception {
-        RTIambassador rtiAmbassador = HLAUtilityFactory.INSTANCE.getRtiAmbassador();
-        HLAinteger64TimeFactory timeFactory = HLAUtilityFactory.INSTANCE.getTimeFactory();
+        RTIambassador rtiAmbassador = getContext().getRtiAmbassador();
+        HLAinteger64TimeFactory timeFactory = getContext().getTimeFactory();
         ExecutionConfiguration executionConfiguration = (ExecutionConfiguration) queryRemoteObjectInstance("ExCO");
 
         if (executionConfiguration == null) {
@@ -183,9 +193,16 @@ public abstract class SEEAbstractFederate extends SKBaseFederate {
      * @param timeStep The HLA logical time the federate should advance to.
      */
     public final void advanceTime(HLAinteger64Time timeStep) throws InTimeAdvancingState, FederateNotExecutionMember, RestoreInProgress, RequestForTimeConstrainedPending, NotConnected, LogicalTimeAlreadyPassed, InvalidLogicalTime, RTIinternalError, SaveInProgress, RequestForTimeRegulationPending {
-        RTIambassador rtiAmbassador = HLAUtilityFactory.INSTANCE.getRtiAmbassador();
-        rtiAmbassador.timeAdvanceRequest(timeStep);
+        RTIambassador rtiAmbassador = getContext().getRtiAmbassador();
+
+        // The grant may arrive before the request returns, so the federate must be marked as advancing beforehand.
         federateAmbassador.setAdvancing(true);
+        try {
+            rtiAmbassador.timeAdvanceRequest(timeStep);
+        } catch (RTIexception | RuntimeException e) {
+            federateAmbassador.setAdvancing(false);
+            throw e;
+        }
     }
 
     /**
@@ -197,12 +214,24 @@ public abstract class SEEAbstractFederate extends SKBaseFederate {
      * Registers a federation-wide synchronization point that must be achieved by all federates.
      *
      * @param syncPoint A supported synchronization point in the SpaceFOM standard.
+     * @return A future completed with true if the RTI registered the synchronization point, or false if it did not.
+     */
+    public CompletableFuture<Boolean> registerSyncPoint(SyncPoint syncPoint) throws FederateNotExecutionMember, RestoreInProgress, NotConnected, RTIinternalError, SaveInProgress {
+        return registerSyncPoint(syncPoint.getLabel());
+    }
+
+    /**
+     * Registers a federation-wide synchronization point with an arbitrary label.
+     *
+     * @param syncPointLabel The synchronization point label.
+     * @return A future completed with true if the RTI registered the synchronization point, or false if it did not.
      */
-    public void registerSyncPoint(SyncPoint syncPoint) throws FederateNotExecutionMember, RestoreInProgress, NotConnected, RTIinternalError, SaveInProgress {
-        RTIambassador rtiAmbassador = HLAUtilityFactory.INSTANCE.getRtiAmbassador();
-        String syncPointLabel = syncPoint.getLabel();
+    public CompletableFuture<Boolean> registerSyncPoint(String syncPointLabel) throws FederateNotExecutionMember, RestoreInProgress, NotConnected, RTIinternalError, SaveInProgress {
+        RTIambassador rtiAmbassador = getContext().getRtiAmbassador();
+        CompletableFuture<Boolean> registration = federateAmbassador.getSyncPoints().get(syncPointLabel).registration();
 
         rtiAmbassador.registerFederationSynchronizationPoint(syncPointLabel, null);
+        return registration;
     }
 
     /**
@@ -212,9 +241,17 @@ public abstract class SEEAbstractFederate extends SKBaseFederate {
      * @param flag true or false depending on if the synchronization point was achieved or not.
      */
     public void achieveSyncPoint(SyncPoint syncPoint, boolean flag) throws SynchronizationPointLabelNotAnnounced, FederateNotExecutionMember, RestoreInProgress, NotConnected, RTIinternalError, SaveInProgress {
-        RTIambassador rtiAmbassador = HLAUtilityFactory.INSTANCE.getRtiAmbassador();
-        String syncPointLabel = syncPoint.getLabel();
+        achieveSyncPoint(syncPoint.getLabel(), flag);
+    }
 
+    /**
+     * Signals that the federate has achieved a previously-announced synchronization point.
+     *
+     * @param syncPointLabel The synchronization point label.
+     * @param flag true or false depending on if the synchronization point was achieved or not.
+     */
+    public void achieveSyncPoint(String syncPointLabel, boolean flag) throws SynchronizationPointLabelNotAnnounced, FederateNotExecutionMember, RestoreInProgress, NotConnected, RTIinternalError, SaveInProgress {
+        RTIambassador rtiAmbassador = getContext().getRtiAmbassador();
         rtiAmbassador.synchronizationPointAchieved(syncPointLabel, flag);
     }
 
@@ -225,23 +262,25 @@ public abstract class SEEAbstractFederate extends SKBaseFederate {
      * @return true or false depending on whether the synchronization point announcement was successful or not.
      */
     public boolean awaitSyncPointAnnouncement(SyncPoint syncPoint, int maxWaitingTime) {
-        long deadline = System.currentTimeMillis() + maxWaitingTime;
+        return awaitSyncPointAnnouncement(syncPoint.getLabel(), maxWaitingTime);
+    }
 
-        while (!syncPoint.isAnnounced()) {
-            try {
-                Thread.sleep(threadWaitInterval);
-                if (System.currentTimeMillis() >= deadline) {
-                    throw new DeadlineReachedException("The synchronization point <" + syncPoint.getLabel() + "> was not announced within the specified waiting period.");
-                }
-            } catch (InterruptedException e) {
-                logger.error("Program thread was interrupted while waiting for the synchronization point <{}> to be announced.", syncPoint.getLabel());
-                Thread.currentThread().interrupt();
-            } catch (DeadlineReachedException e) {
-                return false;
-            }
+    /**
+     * Waits for a synchronization point to be announced within the supplied time period. The wait ends as soon as the
+     * announcement callback arrives.
+     * @param syncPointLabel The synchronization point label.
+     * @param maxWaitingTime The anticipated time period to wait for the sync point to be announced, in milliseconds.
+     * @return true or false depending on whether the synchronization point announcement was successful or not.
+     */
+    public boolean awaitSyncPointAnnouncement(String syncPointLabel, long maxWaitingTime) {
+        SyncPointState syncPointState = federateAmbassador.getSyncPoints().get(syncPointLabel);
+        boolean announced = awaitCompletion(syncPointState.announcement(), maxWaitingTime);
+
+        if (!announced) {
+            logger.debug("The synchronization point <{}> was not announced within the specified waiting period.", syncPointLabel);
         }
 
-        return true;
+        return announced;
     }
 
     /**
@@ -251,23 +290,50 @@ public abstract class SEEAbstractFederate extends SKBaseFederate {
      * @return true or false depending on whether the federation was successfully synchronized or not.
      */
     public boolean awaitFederationSynchronization(SyncPoint syncPoint, int maxWaitingTime) {
-        long deadline = System.currentTimeMillis() + maxWaitingTime;
+        return awaitFederationSynchronization(syncPoint.getLabel(), maxWaitingTime);
+    }
 
-        while (!syncPoint.isFederationSynchronized()) {
-            try {
-                Thread.sleep(threadWaitInterval);
-                if (System.currentTimeMillis() >= deadline) {
-                    throw new DeadlineReachedException("Failed to achieve the synchronization point <" + syncPoint.getLabel() + "> within the specified waiting period.");
-                }
-            } catch (InterruptedException e) {
-                logger.error("Program thread was interrupted while waiting for the federation to achieve the synchronization point <{}>.", syncPoint.getLabel());
-                Thread.currentThread().interrupt();
-            } catch (DeadlineReachedException e) {
-                return false;
-            }
+    /**
+     * Waits for a synchronization point to be achieved by the federation within the supplied time period. The wait
+     * ends as soon as the federation synchronized callback arrives.
+     * @param syncPointLabel The synchronization point label.
+     * @param maxWaitingTime The anticipated time period to wait for the sync point to be achieved, in milliseconds.
+     * @return true or false depending on whether the federation was successfully synchronized or not.
+     */
+    public boolean awaitFederationSynchronization(String syncPointLabel, long maxWaitingTime) {
+        SyncPointState syncPointState = federateAmbassador.getSyncPoints().get(syncPointLabel);
+        boolean achieved = awaitCompletion(syncPointState.federationSynchronization(), maxWaitingTime);
+
+        if (!achieved) {
+            logger.debug("Failed to achieve the synchronization point <{}> within the specified waiting period.", syncPointLabel);
         }
 
-        return true;
+        return achieved;
+    }
+
+    /**
+     * @param syncPointLabel The synchronization point label.
+     * @return What this federate knows about the synchronization point.
+     */
+    public SyncPointState getSyncPointState(String syncPointLabel) {
+        return federateAmbassador.getSyncPoints().get(syncPointLabel);
+    }
+
+    /**
+     * Blocks until a future completes or the waiting period elapses, delivering callbacks meanwhile if they are
+     * evoked.
+     * @param future The future to wait for.
+     * @param maxWaitingTime The longest time to wait, in milliseconds.
+     * @return true if the future completed within the waiting period.
+     */
+    protected final boolean awaitCompletion(CompletableFuture<?> future, long maxWaitingTime) {
+        try {
+            return getCallbackPump().await(future, TimeUnit.MILLISECONDS.toNanos(maxWaitingTime));
+        } catch (InterruptedException e) {
+            logger.error("Program thread was interrupted while waiting for a callback from the RTI.");
+            Thread.currentThread().interrupt();
+            return false;
+        }
     }
 
     public Time getSimulationTime() {
@@ -287,20 +353,41 @@ public abstract class SEEAbstractFederate extends SKBaseFederate {
         return federateAmbassador;
     }
 
+    /**
+     * @return The last cycles of the simulation loop; empty unless the configuration sets a trace capacity.
+     */
+    public TimeAdvanceTrace getTimeAdvanceTrace() {
+        return timeAdvanceTrace;
+    }
+
+    /**
+     * @return Where the wall-clock time of the traced cycles of the simulation loop went.
+     */
+    public TimeAdvanceReport getTimeAdvanceReport() {
+        return timeAdvanceTrace.report(getSimulationTime().getLookAhead());
+    }
+
     private final class Process implements Runnable {
         private static final long MICROSECONDS_PER_CYCLE = 1000000L;
 
         private final SEEFederateAmbassador federateAmbassador;
         private final Time simulationTime;
+        private final FederateMetrics metrics;
 
         private final AtomicBoolean running;
         private final AtomicBoolean suspended;
 
         private long executionCounter;
 
+        // The time advance request awaiting its grant, for the time advance trace.
+        private long requestNanos = -1L;
+        private long requestedTime;
+        private long requestGalt;
+
         public Process() {
             this.federateAmbassador = getFederateAmbassador();
             this.simulationTime = getSimulationTime();
+            this.metrics = federateAmbassador.getMetrics();
 
             running = new AtomicBoolean(true);
             suspended = new AtomicBoolean(false);
@@ -309,10 +396,21 @@ public abstract class SEEAbstractFederate extends SKBaseFederate {
         @Override
         public void run() {
             while (isRunning()) {
+                long frameStartNanos = System.nanoTime();
                 simulationTime.setTimeCyclesExecuted(executionCounter * MICROSECONDS_PER_CYCLE);
 
                 waitForTimeAdvanceGrant();
+                long updateStartNanos = System.nanoTime();
+                metrics.getTimeAdvanceWait().record(updateStartNanos - frameStartNanos);
+
                 update();
+                long updateNanos = System.nanoTime() - updateStartNanos;
+                metrics.getUpdateDuration().record(updateNanos);
+
+                if (timeAdvanceTrace.isEnabled() && requestNanos >= 0L) {
+                    long grantedTime = simulationTime.getFederateLogicalTime().getValue();
+                    timeAdvanceTrace.record(new TimeAdvanceTrace.Cycle(requestNanos, federateAmbassador.getLastGrantNanos(), updateStartNanos, updateNanos, requestedTime, grantedTime, requestGalt));
+                }
 
                 synchronized (this) {
                     while (isSuspended()) {
@@ -329,13 +427,18 @@ public abstract class SEEAbstractFederate extends SKBaseFederate {
                     // There is a possibility that we've got the go-ahead to shut down on an event listener thread, in
                     // which case attempting to advance time could be catastrophic. This check allows a graceful exit.
                     if (isRunning()) {
-                        advanceTime(simulationTime.nextTimeStep());
+                        requestNextTimeStep();
                     }
                 } catch (RTIexception e) {
                     throw new IllegalStateException("The federate encountered an unexpected error when trying to advance to the next time step.", e);
                 }
 
                 ++executionCounter;
+                metrics.getFrameTime().recordSince(frameStartNanos);
+            }
+
+            if (timeAdvanceTrace.isEnabled()) {
+                logger.info("Time advance report of the simulation loop: {}", getTimeAdvanceReport());
             }
 
             try {
@@ -345,15 +448,47 @@ public abstract class SEEAbstractFederate extends SKBaseFederate {
             }
         }
 
+        private void requestNextTimeStep() throws RTIexception {
+            HLAinteger64Time timeStep = simulationTime.nextTimeStep();
+
+            if (!timeAdvanceTrace.isEnabled()) {
+                advanceTime(timeStep);
+                return;
+            }
+
+            requestNanos = System.nanoTime();
+            advanceTime(timeStep);
+            requestedTime = timeStep.getValue();
+
+            TimeQueryReturn galtQuery = getContext().getRtiAmbassador().queryGALT();
+            requestGalt = galtQuery.timeIsValid ? ((HLAinteger64Time) galtQuery.time).getValue() : TimeAdvanceTrace.NO_GALT;
+        }
+
         public void waitForTimeAdvanceGrant() {
+            CallbackPump callbackPump = getCallbackPump();
+
+            // In the evoked callback model, the reflections of the frame are delivered on this thread while waiting.
+            if (callbackPump.isEvoked()) {
+                callbackPump.pumpFrame(() -> !federateAmbassador.isAdvancing() || !isRunning());
+                return;
+            }
+
+            // The grant unparks this thread directly; the wait interval only bounds how long a missed wake-up could last.
+            long waitNanos = TimeUnit.MILLISECONDS.toNanos(threadWaitInterval);
+            boolean interrupted = false;
+
             while (federateAmbassador.isAdvancing() && isRunning()) {
-                try {
-                    Thread.sleep(threadWaitInterval);
-                } catch (InterruptedException e) {
+                federateAmbassador.awaitTimeAdvanceGrant(waitNanos);
+
+                if (Thread.interrupted()) {
                     logger.warn("Program thread was interrupted while waiting for time advance grant from the RTI.");
-                    Thread.currentThread().interrupt();
+                    interrupted = true;
                 }
             }
+
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
         }
 
         public void suspend() {
@@ -367,6 +502,7 @@ public abstract class SEEAbstractFederate extends SKBaseFederate {
 
         public void shutdown() {
             running.set(false);
+            federateAmbassador.wakeTimeAdvanceWaiter();
         }
 
         public boolean isRunning() {
@@ -31,11 +31,13 @@ import hla.rti1516_2025.SynchronizationPointFailureReason;
 import hla.rti1516_2025.exceptions.FederateInternalError;
 import hla.rti1516_2025.time.HLAinteger64Time;
 import hla.rti1516_2025.time.LogicalTime;
+import org.see.skf.recording.TrafficRecorder;
 import org.see.skf.time.Time;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
 
 /**
  * A complete federate ambassador implementation designed to complement the SEEAbstractFederate and its subclasses.
@@ -51,6 +53,10 @@ public class SEEFederateAmbassador extends SKFederateAmbassador {
     private final AtomicBoolean regulating;
     private final AtomicBoolean constrained;
 
+    // The simulation thread waiting for a time advance grant, if any.
+    private volatile Thread grantWaiter;
+    private volatile long lastGrantNanos;
+
     public SEEFederateAmbassador() {
         simulationTime = new Time();
         advancing = new AtomicBoolean(false);
@@ -75,64 +81,131 @@ public class SEEFederateAmbassador extends SKFederateAmbassador {
         HLAinteger64Time convertedTime = (HLAinteger64Time) time;
         if (convertedTime.compareTo(simulationTime.getFederationLogicalTime()) >= 0) {
             simulationTime.setFederateLogicalTime(convertedTime);
-            advancing.set(false);
+            lastGrantNanos = System.nanoTime();
+            setAdvancing(false);
         }
     }
 
     @Override
+    @SuppressWarnings("deprecation")
     public void announceSynchronizationPoint(String synchronizationPointLabel, byte[] userSuppliedTag) throws FederateInternalError {
+        getSyncPoints().get(synchronizationPointLabel).announced(userSuppliedTag);
         SyncPoint syncPoint = SyncPoint.query(synchronizationPointLabel);
 
         if (syncPoint != null) {
             syncPoint.announced();
             logger.debug("The synchronization point <{}> was announced.", synchronizationPointLabel);
         } else {
-            logger.debug("An unsupported synchronization point <{}> was announced.", synchronizationPointLabel);
+            logger.debug("A synchronization point <{}> outside the SpaceFOM standard was announced.", synchronizationPointLabel);
         }
     }
 
     @Override
+    @SuppressWarnings("deprecation")
     public void federationSynchronized(String synchronizationPointLabel, FederateHandleSet failedToSyncSet) throws FederateInternalError {
+        getSyncPoints().get(synchronizationPointLabel).federationSynchronized(failedToSyncSet);
         SyncPoint syncPoint = SyncPoint.query(synchronizationPointLabel);
 
         if (syncPoint != null) {
             syncPoint.setFederationSynchronized();
             logger.debug("The synchronization point <{}> was achieved by the federation execution.", synchronizationPointLabel);
         } else {
-            logger.debug("An unsupported synchronization point <{}> was achieved by the federation execution.", synchronizationPointLabel);
+            logger.debug("A synchronization point <{}> outside the SpaceFOM standard was achieved by the federation execution.", synchronizationPointLabel);
         }
     }
 
     @Override
+    @SuppressWarnings("deprecation")
     public void synchronizationPointRegistrationSucceeded(String synchronizationPointLabel) throws FederateInternalError {
+        getSyncPoints().get(synchronizationPointLabel).registered(true, null);
         SyncPoint syncPoint = SyncPoint.query(synchronizationPointLabel);
 
         if (syncPoint != null) {
             syncPoint.registered(true);
             logger.debug("Successfully achieved the synchronization point <{}>.", synchronizationPointLabel);
         } else {
-            logger.debug("An unsupported synchronization point <{}> was achieved.", synchronizationPointLabel);
+            logger.debug("A synchronization point <{}> outside the SpaceFOM standard was achieved.", synchronizationPointLabel);
         }
     }
 
     @Override
+    @SuppressWarnings("deprecation")
     public void synchronizationPointRegistrationFailed(String synchronizationPointLabel, SynchronizationPointFailureReason reason) throws FederateInternalError {
+        getSyncPoints().get(synchronizationPointLabel).registered(false, reason);
         SyncPoint syncPoint = SyncPoint.query(synchronizationPointLabel);
 
         if (syncPoint != null) {
             syncPoint.registered(false);
             logger.debug("Failed to achieve the synchronization point <{}>.", synchronizationPointLabel);
         } else {
-            logger.debug("Failed to achieve an unsupported synchronization point <{}>.", synchronizationPointLabel);
+            logger.debug("Failed to achieve a synchronization point <{}> outside the SpaceFOM standard.", synchronizationPointLabel);
         }
     }
 
+    /**
+     * @return The synchronization points known to this federate.
+     */
+    public final SyncPointRegistry getSyncPoints() {
+        return getContext().getSyncPoints();
+    }
+
+    /**
+     * @return When the last time advance grant was received, as a {@link System#nanoTime()} value.
+     */
+    public final long getLastGrantNanos() {
+        return lastGrantNanos;
+    }
+
+    @Override
+    protected long currentLogicalTime() {
+        HLAinteger64Time federateTime = simulationTime.getFederateLogicalTime();
+        return (federateTime != null) ? federateTime.getValue() : TrafficRecorder.NO_TIME;
+    }
+
     public final boolean isAdvancing() {
         return advancing.get();
     }
 
     public final void setAdvancing(boolean flag) {
         advancing.set(flag);
+
+        if (!flag) {
+            wakeTimeAdvanceWaiter();
+        }
+    }
+
+    /**
+     * Parks the calling thread until the pending time advance is granted, the timeout elapses, the thread is
+     * interrupted, or {@link #wakeTimeAdvanceWaiter()} is called. Like any park, it may also return spuriously, so
+     * callers wait in a loop. Only one thread may wait at a time.
+     * @param timeoutNanos Maximum time to wait, in nanoseconds.
+     * @return true if no time advance is pending any more.
+     */
+    public final boolean awaitTimeAdvanceGrant(long timeoutNanos) {
+        // The grant clears the flag before it looks for a waiter, and the waiter registers before it checks the flag,
+        // so one of them always sees the other.
+        grantWaiter = Thread.currentThread();
+        try {
+            if (advancing.get()) {
+                LockSupport.parkNanos(this, timeoutNanos);
+            }
+
+            return !advancing.get();
+        } finally {
+            grantWaiter = null;
+        }
+    }
+
+    /**
+     * Wakes the thread waiting in {@link #awaitTimeAdvanceGrant(long)}, so that it can notice a change other than the
+     * grant, such as the simulation being shut down.
+     */
+    public final void wakeTimeAdvanceWaiter() {
+        Thread waiter = grantWaiter;
+
+        if (waiter != null) {
+            LockSupport.unpark(waiter);
+        }
     }
 
     public final boolean isRegulating() {
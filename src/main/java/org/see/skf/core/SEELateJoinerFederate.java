@@ -29,11 +29,12 @@ package org.see.skf.core;
 import hla.rti1516_2025.RtiConfiguration;
 import hla.rti1516_2025.exceptions.*;
 import org.see.skf.conf.FederateConfiguration;
+import org.see.skf.exceptions.DeadlineReachedException;
 import org.see.skf.util.listeners.ExecutionConfigurationListener;
 import org.see.skf.util.models.ExecutionConfiguration;
 import org.see.skf.util.models.ModeTransitionRequest;
-
-import java.util.concurrent.atomic.AtomicBoolean;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * A complete SpaceFOM late-joiner implementation. It is recommended for student teams participating in the Simulation
@@ -42,8 +43,17 @@ import java.util.concurrent.atomic.AtomicBoolean;
  * @since 2.0
  */
 public abstract class SEELateJoinerFederate extends SEEAbstractFederate {
+    private static final Logger logger = LoggerFactory.getLogger(SEELateJoinerFederate.class);
+
+    private final StartupTimings startupTimings;
+
     protected SEELateJoinerFederate(SEEFederateAmbassador federateAmbassador, FederateConfiguration federateConfiguration) {
-        super(federateAmbassador, federateConfiguration);
+        this(federateAmbassador, federateConfiguration, HLAUtilityFactory.INSTANCE.getSharedContext());
+    }
+
+    protected SEELateJoinerFederate(SEEFederateAmbassador federateAmbassador, FederateConfiguration federateConfiguration, FederateContext context) {
+        super(federateAmbassador, federateConfiguration, context);
+        startupTimings = new StartupTimings();
     }
 
     /**
@@ -53,30 +63,53 @@ public abstract class SEELateJoinerFederate extends SEEAbstractFederate {
     @Override
     public void configureAndStart() {
         try {
+            startupTimings.start();
+
             RtiConfiguration rtiConfig = RtiConfiguration.createConfiguration().withRtiAddress(getConfiguration().rtiAddress());
             connectToRTI(rtiConfig);
+            startupTimings.completed(StartupTimings.Phase.CONNECT);
+
             joinFederationExecution();
+            startupTimings.completed(StartupTimings.Phase.JOIN);
+
+            // The listener goes in before the subscription so that the discovery of ExCO cannot slip past it.
+            ExecutionConfigurationListener excoListener = new ExecutionConfigurationListener(this);
+            addRemoteObjectInstanceListener(excoListener);
 
             subscribeObjectClass(ExecutionConfiguration.class);
             publishInteractionClass(ModeTransitionRequest.class);
-
-            AtomicBoolean excoDiscovered = new AtomicBoolean(false);
-            addRemoteObjectInstanceListener(new ExecutionConfigurationListener(this, excoDiscovered));
-
-            while (!excoDiscovered.get()) {
-                Thread.yield();
-            }
+            awaitExCODiscovery(excoListener);
+            startupTimings.completed(StartupTimings.Phase.DISCOVER);
 
             declareClasses();
             declareObjectInstances();
+            startupTimings.completed(StartupTimings.Phase.DECLARE);
 
             setupTimeManagement();
+            startupTimings.completed(StartupTimings.Phase.TIME_SETUP);
+
+            logger.info("Startup of the federate <{}> completed: {}", getConfiguration().federateName(), startupTimings);
             startExecution();
         } catch (RTIexception e) {
             throw new IllegalStateException("Failed to configure and initialize the federate <" + getConfiguration().federationName() + ">.", e);
         }
     }
 
+    private void awaitExCODiscovery(ExecutionConfigurationListener excoListener) {
+        int timeout = getConfiguration().excoDiscoveryTimeoutMillis();
+
+        if (!awaitCompletion(excoListener.getDiscovery(), (timeout > 0) ? timeout : Long.MAX_VALUE)) {
+            throw new DeadlineReachedException("The ExCO object instance was not discovered within " + timeout + " ms of joining the federation execution.");
+        }
+    }
+
+    /**
+     * @return How long each phase of the startup took.
+     */
+    public StartupTimings getStartupTimings() {
+        return startupTimings;
+    }
+
     /**
      * Publish/subscribe the object and interaction classes that are relevant to the federate.
      * @throws FederateNotExecutionMember if the federate is not a member of the federation execution.
@@ -32,13 +32,22 @@ import org.see.skf.annotations.InteractionClass;
 import org.see.skf.annotations.ObjectClass;
 import org.see.skf.conf.FederateConfiguration;
 import org.see.skf.exceptions.UpdateException;
+import org.see.skf.metrics.LoggingMetricsReporter;
+import org.see.skf.metrics.MetricsReporter;
+import org.see.skf.recording.TrafficRecorder;
 import org.see.skf.runtime.interactions.InteractionClassModel;
 import org.see.skf.runtime.objects.ObjectClassEntity;
 import org.see.skf.runtime.objects.ObjectClassModel;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
 import java.lang.annotation.Annotation;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Predicate;
 
 /**
@@ -53,12 +62,37 @@ import java.util.function.Predicate;
 public abstract class SKBaseFederate implements SKFederateInterface {
     private static final Logger logger = LoggerFactory.getLogger(SKBaseFederate.class);
 
+    private static final long LISTENER_SHUTDOWN_TIMEOUT_MILLIS = 5000L;
+
     private final SKFederateAmbassador federateAmbassador;
     private final FederateConfiguration config;
-
+    private final FederateContext context;
+    private final MetricsReporter metricsReporter;
+
+    /**
+     * Creates a federate in the shared context of the HLAUtilityFactory. Only one such federate can run per JVM.
+     * @param federateAmbassador The federate ambassador.
+     * @param config The federate configuration.
+     */
     protected SKBaseFederate(SKFederateAmbassador federateAmbassador, FederateConfiguration config) {
+        this(federateAmbassador, config, HLAUtilityFactory.INSTANCE.getSharedContext());
+    }
+
+    /**
+     * Creates a federate in a context of its own, so that it can share the JVM with other federates.
+     * @param federateAmbassador The federate ambassador.
+     * @param config The federate configuration.
+     * @param context The context of the federate.
+     * @see HLAUtilityFactory#newContext()
+     */
+    protected SKBaseFederate(SKFederateAmbassador federateAmbassador, FederateConfiguration config, FederateContext context) {
         this.federateAmbassador = federateAmbassador;
         this.config = config;
+        this.context = context;
+        this.metricsReporter = new LoggingMetricsReporter();
+        federateAmbassador.setContext(context);
+        federateAmbassador.configureListenerDispatch(config);
+        federateAmbassador.configureCallbackPipeline(config);
     }
 
     public abstract void configureAndStart();
@@ -66,9 +100,12 @@ public abstract class SKBaseFederate implements SKFederateInterface {
     @Override
     public final void connectToRTI(RtiConfiguration rtiConfig) throws CallNotAllowedFromWithinCallback, Unauthorized, RTIinternalError, ConnectionFailed, UnsupportedCallbackModel {
         try {
-            RTIambassador rtiAmbassador = HLAUtilityFactory.INSTANCE.getRtiAmbassador();
+            RTIambassador rtiAmbassador = context.getRtiAmbassador();
+
+            CallbackPump callbackPump = new CallbackPump(rtiAmbassador, config.callbackModel(), config.callbackEvokeBudgetMillis(), () -> federateAmbassador.getMetrics().getCallbacksReceived());
 
-            rtiAmbassador.connect(federateAmbassador, CallbackModel.HLA_IMMEDIATE, rtiConfig);
+            federateAmbassador.setCallbackPump(callbackPump);
+            rtiAmbassador.connect(federateAmbassador, callbackPump.getCallbackModel(), rtiConfig);
             String rtiAddress = rtiConfig.rtiAddress();
             logger.debug("Successfully established connection to the RTI hosted at <{}>.", (rtiAddress != null ? rtiAddress : "Unknown"));
         } catch(AlreadyConnected ignore) {
@@ -84,7 +121,7 @@ public abstract class SKBaseFederate implements SKFederateInterface {
         String federateNameSuffix = "";
         int attempt = 1;
 
-        RTIambassador rtiAmbassador = HLAUtilityFactory.INSTANCE.getRtiAmbassador();
+        RTIambassador rtiAmbassador = context.getRtiAmbassador();
         while (!joined) {
             try {
                 if (additionalFomModules.length > 0) {
@@ -106,11 +143,30 @@ public abstract class SKBaseFederate implements SKFederateInterface {
             rtiAmbassador.enableAsynchronousDelivery();
             logger.debug("Asynchronous delivery has been enabled for this federate.");
         }
+
+        if (config.metricsReportIntervalSeconds() > 0) {
+            context.getMetrics().startReporting(metricsReporter, config.metricsReportIntervalSeconds(), TimeUnit.SECONDS);
+        }
+
+        if (config.recordingDirectory() != null) {
+            startRecording();
+        }
+    }
+
+    private void startRecording() {
+        Path directory = Paths.get(config.recordingDirectory());
+        int segmentSize = config.recordingSegmentSizeMegabytes() << 20;
+
+        try {
+            federateAmbassador.setRecorder(TrafficRecorder.open(directory, segmentSize));
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to open the traffic recording in <" + directory + ">.", e);
+        }
     }
 
     @Override
     public final void resignFederationExecution() throws FederateNotExecutionMember, RestoreInProgress, NotConnected, RTIinternalError, SaveInProgress, CallNotAllowedFromWithinCallback, InvalidResignAction, OwnershipAcquisitionPending, FederateOwnsAttributes, FederateIsExecutionMember {
-        RTIambassador rtiAmbassador = HLAUtilityFactory.INSTANCE.getRtiAmbassador();
+        RTIambassador rtiAmbassador = context.getRtiAmbassador();
 
         if (config.timeConstrained()) {
             try {
@@ -144,6 +200,21 @@ public abstract class SKBaseFederate implements SKFederateInterface {
         logger.info("The federate has resigned from the federation execution <{}>.", federationName);
         rtiAmbassador.disconnect();
         logger.debug("The RTI ambassador has been disconnected from its RTI.");
+
+        // The decode workers feed the listener dispatcher, so they are drained first.
+        federateAmbassador.shutdownCallbackPipeline(LISTENER_SHUTDOWN_TIMEOUT_MILLIS);
+        federateAmbassador.shutdownListenerDispatch(LISTENER_SHUTDOWN_TIMEOUT_MILLIS);
+
+        TrafficRecorder recorder = federateAmbassador.getRecorder();
+        if (recorder != null) {
+            federateAmbassador.setRecorder(null);
+            recorder.close();
+        }
+
+        if (config.metricsReportIntervalSeconds() > 0) {
+            context.getMetrics().stopReporting();
+            context.getMetrics().report(metricsReporter);
+        }
     }
 
     private void verifyAnnotationExists(Class<?> targetClass, Class<? extends Annotation> annotationClass) {
@@ -274,11 +345,9 @@ public abstract class SKBaseFederate implements SKFederateInterface {
             return null;
         }
 
-        Predicate<ObjectClassEntity> searchPredicate = e -> e.getName().equals(instanceName) && federateAmbassador.isRemoteEntity(e);
-        ObjectClassEntity entity = federateAmbassador.queryEntities(searchPredicate);
-        boolean matured = federateAmbassador.isRemoteEntityMatured(entity);
+        ObjectClassEntity entity = federateAmbassador.queryEntityByName(instanceName);
 
-        if (entity != null && matured) {
+        if (entity != null && federateAmbassador.isRemoteEntity(entity) && federateAmbassador.isRemoteEntityMatured(entity)) {
             return entity.getElement();
         } else {
             return null;
@@ -312,6 +381,31 @@ public abstract class SKBaseFederate implements SKFederateInterface {
         return federateAmbassador.createEntity(objectInstanceElement, requestedName);
     }
 
+    @Override
+    public final CompletableFuture<String> registerObjectInstanceAsync(Object objectInstanceElement, String requestedName) throws FederateNotExecutionMember, RestoreInProgress, IllegalName, NotConnected, RTIinternalError, SaveInProgress {
+        if (objectInstanceElement == null) {
+            logger.warn("Failed to create object instance <{}> at the RTI because a NULL value was supplied.", requestedName);
+            return CompletableFuture.completedFuture(null);
+        }
+
+        if (requestedName == null) {
+            logger.warn("Failed to create a named object instance at the RTI because a NULL value was supplied as its name.");
+            return CompletableFuture.completedFuture(null);
+        }
+
+        verifyAnnotationExists(objectInstanceElement.getClass(), ObjectClass.class);
+        return federateAmbassador.createEntityAsync(objectInstanceElement, requestedName);
+    }
+
+    @Override
+    public final CompletableFuture<Boolean> reserveObjectInstanceNames(Collection<String> names) throws FederateNotExecutionMember, RestoreInProgress, IllegalName, NotConnected, RTIinternalError, SaveInProgress {
+        if (names == null || names.isEmpty()) {
+            return CompletableFuture.completedFuture(true);
+        }
+
+        return federateAmbassador.reserveNames(names);
+    }
+
     @Override
     public final void updateObjectInstance(Object objectInstance) {
         if (objectInstance == null) {
@@ -368,6 +462,14 @@ public abstract class SKBaseFederate implements SKFederateInterface {
         return config;
     }
 
+    public final FederateContext getContext() {
+        return context;
+    }
+
+    public final CallbackPump getCallbackPump() {
+        return federateAmbassador.getCallbackPump();
+    }
+
     public SKFederateAmbassador getFederateAmbassador() {
         return federateAmbassador;
     }
@@ -28,26 +28,44 @@ package org.see.skf.core;
 
 import hla.rti1516_2025.*;
 import hla.rti1516_2025.exceptions.*;
+import hla.rti1516_2025.time.HLAinteger64Time;
 import hla.rti1516_2025.time.LogicalTime;
 import org.see.skf.annotations.InteractionClass;
 import org.see.skf.annotations.ObjectClass;
+import org.see.skf.conf.FederateConfiguration;
 import org.see.skf.exceptions.UpdateException;
+import org.see.skf.metrics.FederateMetrics;
+import org.see.skf.metrics.MetricsRegistry;
+import org.see.skf.recording.RecordType;
+import org.see.skf.recording.TrafficRecorder;
+import org.see.skf.runtime.dispatch.ListenerDispatcher;
+import org.see.skf.runtime.dispatch.ListenerDispatchers;
 import org.see.skf.runtime.interactions.InteractionClassModel;
 import org.see.skf.runtime.interactions.InteractionClassModelParser;
+import org.see.skf.runtime.objects.EntityRegistry;
 import org.see.skf.runtime.objects.ObjectClassEntity;
 import org.see.skf.runtime.objects.ObjectClassModel;
 import org.see.skf.runtime.objects.ObjectClassModelParser;
+import org.see.skf.runtime.pipeline.CallbackHandler;
+import org.see.skf.runtime.pipeline.CallbackPipeline;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.lang.reflect.InvocationTargetException;
+import java.util.Collection;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Predicate;
-import java.util.stream.Collectors;
 
 /**
  * A rudimentary federate ambassador implementation designed to complement the SKFederateAmbassador with object and
@@ -57,28 +75,48 @@ import java.util.stream.Collectors;
  */
 public class SKFederateAmbassador extends NullFederateAmbassador {
     private static final Logger logger = LoggerFactory.getLogger(SKFederateAmbassador.class);
+    private static final AtomicInteger EXECUTOR_THREADS = new AtomicInteger();
 
     // Lifecycle of remote entities:
     // Discovered -> No attribute data and therefore maturity = false.
     // Reflected attributes -> Attribute data was received and thus maturity = true.
     // N.B. If an entity is in this map, it's guaranteed to be remote.
     private final ConcurrentMap<ObjectClassEntity, Boolean> remoteEntityToMaturity;
-    private final CopyOnWriteArraySet<ObjectClassEntity> entities;
+    private final EntityRegistry entities;
 
     private final CopyOnWriteArraySet<ObjectClassModel> objectClassModels;
     private final CopyOnWriteArraySet<InteractionClassModel> interactionClassModels;
-    private final ConcurrentMap<String, NameReservationStatus> nameRegistry;
+    private final NameReservations nameReservations;
     private final CopyOnWriteArraySet<InteractionListener> interactionListeners;
     private final CopyOnWriteArraySet<RemoteObjectInstanceListener> instanceListeners;
+    private volatile ListenerDispatcher listenerDispatcher;
+    private volatile CallbackPipeline callbackPipeline;
+    private volatile CallbackPump callbackPump;
+    private volatile FederateContext context;
+    private volatile FederateMetrics metrics;
+    private volatile TrafficRecorder recorder;
+
+    // RTI services must not be invoked from within a callback, so work that a callback triggers and that calls the RTI
+    // runs on this thread instead. The thread is released while the federate is idle.
+    private final ThreadPoolExecutor executor;
 
     public SKFederateAmbassador() {
         remoteEntityToMaturity = new ConcurrentHashMap<>();
-        entities = new CopyOnWriteArraySet<>();
+        entities = new EntityRegistry();
         objectClassModels = new CopyOnWriteArraySet<>();
         interactionClassModels = new CopyOnWriteArraySet<>();
-        nameRegistry = new ConcurrentHashMap<>();
+        nameReservations = new NameReservations();
         interactionListeners = new CopyOnWriteArraySet<>();
         instanceListeners = new CopyOnWriteArraySet<>();
+        callbackPump = CallbackPump.immediate();
+        // Replaced by the metrics of the federate context once the ambassador is handed to a federate.
+        metrics = new FederateMetrics(new MetricsRegistry());
+        executor = new ThreadPoolExecutor(1, 1, 10L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "skf-federate-" + EXECUTOR_THREADS.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.allowCoreThreadTimeOut(true);
     }
 
     final ObjectClassModel queryObjectClassModels(Predicate<ObjectClassModel> predicate) {
@@ -91,13 +129,14 @@ public class SKFederateAmbassador extends NullFederateAmbassador {
 
     final ObjectClassModel addObjectClassModel(Class<?> objectClass) throws FederateNotExecutionMember, NameNotFound, NotConnected, RTIinternalError, InvalidObjectClassHandle {
         if (objectClass.isAnnotationPresent(ObjectClass.class)) {
-            ObjectClassModelParser parser = new ObjectClassModelParser(objectClass);
+            ObjectClassModelParser parser = new ObjectClassModelParser(objectClass, getContext().getCoders());
             String className = parser.getFomClassName();
-            RTIambassador rtiAmbassador = HLAUtilityFactory.INSTANCE.getRtiAmbassador();
+            RTIambassador rtiAmbassador = getContext().getRtiAmbassador();
             ObjectClassHandle classHandle = rtiAmbassador.getObjectClassHandle(className);
 
-            ObjectClassModel model = new ObjectClassModel(parser, classHandle);
+            ObjectClassModel model = new ObjectClassModel(parser, classHandle, rtiAmbassador);
             objectClassModels.add(model);
+            defineRecordedClass(recorder, model);
 
             return model;
         } else {
@@ -115,13 +154,14 @@ public class SKFederateAmbassador extends NullFederateAmbassador {
 
     final InteractionClassModel addInteractionClassModel(Class<?> interactionClass) throws FederateNotExecutionMember, NameNotFound, NotConnected, RTIinternalError, InvalidInteractionClassHandle {
         if (interactionClass.isAnnotationPresent(InteractionClass.class)) {
-            InteractionClassModelParser parser = new InteractionClassModelParser(interactionClass);
+            InteractionClassModelParser parser = new InteractionClassModelParser(interactionClass, getContext().getCoders());
             String className = parser.getFomClassName();
-            RTIambassador rtiAmbassador = HLAUtilityFactory.INSTANCE.getRtiAmbassador();
+            RTIambassador rtiAmbassador = getContext().getRtiAmbassador();
             InteractionClassHandle classHandle = rtiAmbassador.getInteractionClassHandle(className);
 
-            InteractionClassModel model = new InteractionClassModel(parser, classHandle);
+            InteractionClassModel model = new InteractionClassModel(parser, classHandle, rtiAmbassador);
             interactionClassModels.add(model);
+            defineRecordedClass(recorder, model);
 
             return model;
         } else {
@@ -129,22 +169,34 @@ public class SKFederateAmbassador extends NullFederateAmbassador {
         }
     }
 
-    final ObjectClassEntity queryEntities(Predicate<ObjectClassEntity> predicate) {
-        Optional<ObjectClassEntity> query = entities.stream()
-                .filter(predicate)
-                .findAny();
-
-        return query.orElse(null);
+    final ObjectClassEntity queryEntityByName(String instanceName) {
+        return entities.getByName(instanceName);
     }
 
     final void removeObjectClassEntities(ObjectClassModel model) {
-        Set<ObjectClassEntity> entitySet = entities.stream()
-                .filter(entity -> entity.getModel().equals(model))
-                .collect(Collectors.toSet());
+        entities.removeIf(entity -> {
+            if (entity.getModel().equals(model)) {
+                remoteEntityToMaturity.remove(entity);
+                return true;
+            }
 
-        for (ObjectClassEntity entity : entitySet) {
-            entities.remove(entity);
-        }
+            return false;
+        });
+    }
+
+    /**
+     * @return The number of attribute values handed to the RTI in updates of object instances owned by this federate.
+     */
+    public final long getSentAttributeCount() {
+        return objectClassModels.stream().mapToLong(ObjectClassModel::getSentAttributeCount).sum();
+    }
+
+    /**
+     * @return The number of attribute values left out of updates because they had not changed since the previous update
+     * of their object instance. Only object classes with delta updates enabled contribute to this count.
+     */
+    public final long getSuppressedAttributeCount() {
+        return objectClassModels.stream().mapToLong(ObjectClassModel::getSuppressedAttributeCount).sum();
     }
 
     public final boolean isRemoteEntity(ObjectClassEntity entity) {
@@ -157,14 +209,20 @@ public class SKFederateAmbassador extends NullFederateAmbassador {
             ObjectClassModel model = queryObjectClassModels(c -> c.getHandle().equals(objectClass));
 
             if (model != null) {
+                metrics.getDiscoveries().increment();
                 Class<?> modelClass = model.getObjectClass();
                 Object entityElement = modelClass.getDeclaredConstructor().newInstance();
                 ObjectClassEntity entity = new ObjectClassEntity(objectInstanceName, objectInstance, model, entityElement);
                 entities.add(entity);
                 remoteEntityToMaturity.put(entity, false);
+
+                TrafficRecorder trafficRecorder = recorder;
+                if (trafficRecorder != null) {
+                    trafficRecorder.recordDiscovery(objectInstance, objectClass, objectInstanceName, currentLogicalTime());
+                }
                 logger.debug("Discovered object instance <{}> of the class <{}>. Awaiting latest attribute values from the RTI.", objectInstanceName, model.getName());
 
-                RTIambassador rtiAmbassador = HLAUtilityFactory.INSTANCE.getRtiAmbassador();
+                RTIambassador rtiAmbassador = getContext().getRtiAmbassador();
                 rtiAmbassador.requestAttributeValueUpdate(objectInstance, model.getSubscriptionSet(), null);
             } else {
                 logger.error("Failed to build an internalized representation for the discovered object instance <{}>.", objectInstanceName);
@@ -185,63 +243,99 @@ public class SKFederateAmbassador extends NullFederateAmbassador {
     }
 
     public final void removeRemoteEntity(ObjectInstanceHandle objectInstance) {
-        Predicate<ObjectClassEntity> searchPredicate = e -> e.getHandle().equals(objectInstance);
-        ObjectClassEntity entity = queryEntities(searchPredicate);
+        ObjectClassEntity entity = entities.getByHandle(objectInstance);
 
         if (entity != null) {
+            metrics.getRemovals().increment();
+            TrafficRecorder trafficRecorder = recorder;
+            if (trafficRecorder != null) {
+                trafficRecorder.recordRemoval(objectInstance, currentLogicalTime());
+            }
+
             entities.remove(entity);
             remoteEntityToMaturity.remove(entity);
-            new Thread(() ->notifyRemoteInstanceRemoved(entity.getName())).start();
-            logger.info("The remote object instance <{}> was deleted.", entity.getName());
+
+            // With a callback pipeline, listeners are told once the callbacks already queued for the instance are handled.
+            CallbackPipeline pipeline = callbackPipeline;
+            if (pipeline == null || !pipeline.offerRemoval(entity)) {
+                notifyRemoteEntityRemoved(entity);
+            }
         }
     }
 
+    private void notifyRemoteEntityRemoved(ObjectClassEntity entity) {
+        getListenerDispatcher().dispatch(entity.getHandle(), () -> notifyRemoteInstanceRemoved(entity.getName()));
+        logger.info("The remote object instance <{}> was deleted.", entity.getName());
+    }
+
     @Override
     public void objectInstanceNameReservationSucceeded(String objectInstanceName) {
-        nameRegistry.replace(objectInstanceName, NameReservationStatus.SUCCEEDED);
+        completeNameReservation(objectInstanceName, true);
     }
 
     @Override
     public void objectInstanceNameReservationFailed(String objectInstanceName) {
-        nameRegistry.replace(objectInstanceName, NameReservationStatus.FAILED);
+        completeNameReservation(objectInstanceName, false);
+    }
+
+    @Override
+    public void multipleObjectInstanceNameReservationSucceeded(Set<String> objectInstanceNames) {
+        for (String objectInstanceName : objectInstanceNames) {
+            completeNameReservation(objectInstanceName, true);
+        }
+    }
+
+    @Override
+    public void multipleObjectInstanceNameReservationFailed(Set<String> objectInstanceNames) {
+        for (String objectInstanceName : objectInstanceNames) {
+            completeNameReservation(objectInstanceName, false);
+        }
+    }
+
+    private void completeNameReservation(String objectInstanceName, boolean succeeded) {
+        if (!nameReservations.complete(objectInstanceName, succeeded)) {
+            logger.debug("Ignored the outcome of a reservation of the object instance name \"{}\" that this federate did not request.", objectInstanceName);
+        }
     }
 
     @Override
     public void provideAttributeValueUpdate(ObjectInstanceHandle objectInstance, AttributeHandleSet attributes, byte[] userSuppliedTag) {
-        Predicate<ObjectClassEntity> searchPredicate = e -> e.getHandle().equals(objectInstance);
-        ObjectClassEntity entity = queryEntities(searchPredicate);
+        ObjectClassEntity entity = entities.getByHandle(objectInstance);
 
         if (entity != null) {
             ObjectClassModel objectClassModel = entity.getModel();
-            Object objectInstanceElement = entity.getElement();
-            AttributeHandleValueMap attributeValues = objectClassModel.getEncodedAttributeValues(objectInstanceElement);
+            AttributeHandleValueMap attributeValues = objectClassModel.getEncodedAttributeValues(entity, true);
 
-            sendUpdatedAttributeValues(entity.getName(), objectInstance, attributeValues);
+            sendEntityUpdate(entity, attributeValues);
         }
     }
 
     @Override
     public void reflectAttributeValues(ObjectInstanceHandle objectInstance, AttributeHandleValueMap attributeValues, byte[] userSuppliedTag, TransportationTypeHandle transportationType, FederateHandle producingFederate, RegionHandleSet optionalSentRegions) {
+        recordAttributeValues(RecordType.REFLECTION, objectInstance, attributeValues, null);
         reflectAttributes(objectInstance, attributeValues);
     }
 
     @Override
     public void reflectAttributeValues(ObjectInstanceHandle objectInstance, AttributeHandleValueMap attributeValues, byte[] userSuppliedTag, TransportationTypeHandle transportationType, FederateHandle producingFederate, RegionHandleSet optionalSentRegions, LogicalTime<?, ?> time, OrderType sentOrderType, OrderType receivedOrderType, MessageRetractionHandle optionalRetraction) {
+        recordAttributeValues(RecordType.REFLECTION, objectInstance, attributeValues, time);
         reflectAttributes(objectInstance, attributeValues);
     }
 
     @Override
     public void receiveInteraction(InteractionClassHandle interactionClass, ParameterHandleValueMap parameterValues, byte[] userSuppliedTag, TransportationTypeHandle transportationType, FederateHandle producingFederate, RegionHandleSet optionalSentRegions) {
+        recordParameterValues(RecordType.RECEIVED_INTERACTION, interactionClass, parameterValues, null);
         receiveInteraction(interactionClass, parameterValues);
     }
 
     @Override
     public void receiveInteraction(InteractionClassHandle interactionClass, ParameterHandleValueMap parameterValues, byte[] userSuppliedTag, TransportationTypeHandle transportationType, FederateHandle producingFederate, RegionHandleSet optionalSentRegions, LogicalTime<?, ?> time, OrderType sentOrderType, OrderType receivedOrderType, MessageRetractionHandle optionalRetraction) {
+        recordParameterValues(RecordType.RECEIVED_INTERACTION, interactionClass, parameterValues, time);
         receiveInteraction(interactionClass, parameterValues);
     }
 
     final boolean isRemoteEntityMatured(ObjectClassEntity entity) {
-        return remoteEntityToMaturity.get(entity);
+        return entity != null && Boolean.TRUE.equals(remoteEntityToMaturity.get(entity));
     }
 
     final String createEntity(Object objectInstanceElement) throws FederateNotExecutionMember, ObjectClassNotPublished, ObjectClassNotDefined, RestoreInProgress, NotConnected, RTIinternalError, SaveInProgress, ObjectInstanceNotKnown {
@@ -250,7 +344,7 @@ public class SKFederateAmbassador extends NullFederateAmbassador {
         ObjectClassModel model = queryObjectClassModels(searchPredicate);
 
         if (model != null) {
-            RTIambassador rtiAmbassador = HLAUtilityFactory.INSTANCE.getRtiAmbassador();
+            RTIambassador rtiAmbassador = getContext().getRtiAmbassador();
 
             ObjectClassHandle classHandle = model.getHandle();
             ObjectInstanceHandle instanceHandle = rtiAmbassador.registerObjectInstance(classHandle);
@@ -270,39 +364,44 @@ public class SKFederateAmbassador extends NullFederateAmbassador {
     }
 
     final NameReservationStatus queryNameReservationStatus(String name) {
-        return nameRegistry.getOrDefault(name, NameReservationStatus.UNRESERVED);
+        return nameReservations.getStatus(name);
+    }
+
+    /**
+     * Asks the RTI to reserve an object instance name, unless this federate already asked for it.
+     * @param name The object instance name.
+     * @return A future completed with the outcome of the reservation.
+     */
+    final CompletableFuture<Boolean> reserveName(String name) throws IllegalName, SaveInProgress, RestoreInProgress, FederateNotExecutionMember, NotConnected, RTIinternalError {
+        return nameReservations.reserve(getContext().getRtiAmbassador(), name);
+    }
+
+    /**
+     * Asks the RTI to reserve several object instance names in a single request. The RTI reserves either all of them
+     * or none.
+     * @param names The object instance names.
+     * @return A future completed with true once every name is reserved, or false if any of them could not be.
+     */
+    final CompletableFuture<Boolean> reserveNames(Collection<String> names) throws IllegalName, SaveInProgress, RestoreInProgress, FederateNotExecutionMember, NotConnected, RTIinternalError {
+        return nameReservations.reserveAll(getContext().getRtiAmbassador(), names);
     }
 
     final String createEntity(Object objectInstanceElement, String name) throws FederateNotExecutionMember, RestoreInProgress, IllegalName, NotConnected, RTIinternalError, SaveInProgress, ObjectClassNotPublished, ObjectClassNotDefined, ObjectInstanceNameInUse, ObjectInstanceNameNotReserved, ObjectInstanceNotKnown {
-        String fomClassName = objectInstanceElement.getClass().getAnnotation(ObjectClass.class).name();
-        Predicate<ObjectClassModel> searchPredicate = c -> c.getName().equals(fomClassName);
-        ObjectClassModel model = queryObjectClassModels(searchPredicate);
+        ObjectClassModel model = queryObjectClassModel(objectInstanceElement);
 
         if (model != null) {
-            RTIambassador rtiAmbassador = HLAUtilityFactory.INSTANCE.getRtiAmbassador();
-
-            if (queryNameReservationStatus(name) == NameReservationStatus.UNRESERVED) {
-                nameRegistry.put(name, NameReservationStatus.PENDING);
-                rtiAmbassador.reserveObjectInstanceName(name);
+            CompletableFuture<Boolean> reservation = reserveName(name);
+            boolean reserved;
 
-                while (nameRegistry.get(name) == NameReservationStatus.PENDING) {
-                    Thread.yield();
-                }
+            try {
+                reserved = callbackPump.await(reservation, Long.MAX_VALUE);
+            } catch (InterruptedException e) {
+                logger.error("Program thread was interrupted while waiting for the reservation of the object instance name \"{}\".", name);
+                Thread.currentThread().interrupt();
+                reserved = false;
             }
 
-            if (nameRegistry.get(name) == NameReservationStatus.SUCCEEDED) {
-                ObjectClassHandle classHandle = model.getHandle();
-                ObjectInstanceHandle instanceHandle = rtiAmbassador.registerObjectInstance(classHandle, name);
-                ObjectClassEntity entity = new ObjectClassEntity(name, instanceHandle, model, objectInstanceElement);
-                entities.add(entity);
-
-                logger.info("The object instance <{}> of the HLA object class <{}> was created.", name, model.getName());
-                updateEntity(objectInstanceElement);
-                return name;
-            } else {
-                logger.warn("Failed to reserve \"{}\" for use as an object instance name. Relying on the RTI to allocate a name.", name);
-                createEntity(objectInstanceElement);
-            }
+            return createReservedEntity(objectInstanceElement, name, model, reserved && reservation.join());
         } else {
             logger.warn("Failed to create object instance <{}> because it likely has not been published yet.", name);
         }
@@ -310,17 +409,70 @@ public class SKFederateAmbassador extends NullFederateAmbassador {
         return null;
     }
 
+    /**
+     * Creates a named object instance without waiting for the name to be reserved. The instance is registered with the
+     * RTI on the federate's executor once the outcome of the reservation is delivered, since the RTI may not be called
+     * from within the callback delivering it.
+     * @param objectInstanceElement The object instance.
+     * @param name The requested object instance name.
+     * @return A future completed with the name of the registered instance, which is assigned by the RTI if the
+     * requested name could not be reserved, or with null if the object class has not been published.
+     */
+    final CompletableFuture<String> createEntityAsync(Object objectInstanceElement, String name) throws IllegalName, SaveInProgress, RestoreInProgress, FederateNotExecutionMember, NotConnected, RTIinternalError {
+        ObjectClassModel model = queryObjectClassModel(objectInstanceElement);
+
+        if (model == null) {
+            logger.warn("Failed to create object instance <{}> because it likely has not been published yet.", name);
+            return CompletableFuture.completedFuture(null);
+        }
+
+        return reserveName(name).thenApplyAsync(reserved -> {
+            try {
+                return createReservedEntity(objectInstanceElement, name, model, reserved);
+            } catch (RTIexception e) {
+                throw new CompletionException(e);
+            }
+        }, executor);
+    }
+
+    private ObjectClassModel queryObjectClassModel(Object objectInstanceElement) {
+        String fomClassName = objectInstanceElement.getClass().getAnnotation(ObjectClass.class).name();
+        Predicate<ObjectClassModel> searchPredicate = c -> c.getName().equals(fomClassName);
+
+        return queryObjectClassModels(searchPredicate);
+    }
+
+    private String createReservedEntity(Object objectInstanceElement, String name, ObjectClassModel model, boolean reserved) throws FederateNotExecutionMember, RestoreInProgress, NotConnected, RTIinternalError, SaveInProgress, ObjectClassNotPublished, ObjectClassNotDefined, ObjectInstanceNameInUse, ObjectInstanceNameNotReserved, ObjectInstanceNotKnown {
+        if (reserved) {
+            RTIambassador rtiAmbassador = getContext().getRtiAmbassador();
+            ObjectClassHandle classHandle = model.getHandle();
+            ObjectInstanceHandle instanceHandle = rtiAmbassador.registerObjectInstance(classHandle, name);
+            ObjectClassEntity entity = new ObjectClassEntity(name, instanceHandle, model, objectInstanceElement);
+            entities.add(entity);
+
+            logger.info("The object instance <{}> of the HLA object class <{}> was created.", name, model.getName());
+            updateEntity(objectInstanceElement);
+            return name;
+        } else {
+            logger.warn("Failed to reserve \"{}\" for use as an object instance name. Relying on the RTI to allocate a name.", name);
+            return createEntity(objectInstanceElement);
+        }
+    }
+
     final void updateEntity(Object objectInstanceElement) {
-        Predicate<ObjectClassEntity> searchPredicate = e -> e.getElement().equals(objectInstanceElement);
-        ObjectClassEntity entity = queryEntities(searchPredicate);
+        ObjectClassEntity entity = entities.getByElement(objectInstanceElement);
 
         if (entity != null) {
             if (!isRemoteEntity(entity)) {
                 ObjectClassModel model = entity.getModel();
-                AttributeHandleValueMap attributeValues = model.getEncodedAttributeValues(objectInstanceElement);
-                ObjectInstanceHandle instanceHandle = entity.getHandle();
+                AttributeHandleValueMap attributeValues = model.getEncodedAttributeValues(entity, false);
 
-                sendUpdatedAttributeValues(entity.getName(), instanceHandle, attributeValues);
+                if (attributeValues.isEmpty()) {
+                    logger.debug("Skipped the update of the object instance <{}> because none of its attributes changed.", entity.getName());
+                    return;
+                }
+
+                sendEntityUpdate(entity, attributeValues);
                 logger.debug("Dispatched updated values for the object instance <{}>.", entity.getName());
             } else {
                 logger.warn("Cannot send updated values for the object instance <{}> because it is a remote instance and not managed by this federate.", entity.getName());
@@ -330,10 +482,28 @@ public class SKFederateAmbassador extends NullFederateAmbassador {
         }
     }
 
+    private void sendEntityUpdate(ObjectClassEntity entity, AttributeHandleValueMap attributeValues) {
+        ObjectClassModel model = entity.getModel();
+
+        try {
+            sendUpdatedAttributeValues(entity.getName(), entity.getHandle(), attributeValues);
+        } catch (RuntimeException e) {
+            model.updateFailed(entity, attributeValues);
+            throw e;
+        }
+
+        model.updateSent(entity, attributeValues);
+    }
+
     public final void sendUpdatedAttributeValues(String entityName, ObjectInstanceHandle instanceHandle, AttributeHandleValueMap attributeValues) {
         try {
-            RTIambassador rtiAmbassador = HLAUtilityFactory.INSTANCE.getRtiAmbassador();
+            RTIambassador rtiAmbassador = getContext().getRtiAmbassador();
             rtiAmbassador.updateAttributeValues(instanceHandle, attributeValues, null);
+            recordAttributeValues(RecordType.UPDATE, instanceHandle, attributeValues, null);
+
+            FederateMetrics federateMetrics = metrics;
+            federateMetrics.getUpdatesSent().increment();
+            federateMetrics.getBytesEncoded().add(FederateMetrics.encodedLength(attributeValues.values()));
         } catch (AttributeNotOwned | AttributeNotDefined | ObjectInstanceNotKnown | SaveInProgress |
                  RestoreInProgress | FederateNotExecutionMember | NotConnected | RTIinternalError e) {
             throw new UpdateException("Failed to provide updated attribute values for <" + entityName + ">.");
@@ -341,27 +511,38 @@ public class SKFederateAmbassador extends NullFederateAmbassador {
     }
 
     public final void reflectAttributes(ObjectInstanceHandle objectInstance, AttributeHandleValueMap attributeValues) {
-        Predicate<ObjectClassEntity> searchPredicate = e -> e.getHandle().equals(objectInstance);
-        ObjectClassEntity entity = queryEntities(searchPredicate);
+        ObjectClassEntity entity = entities.getByHandle(objectInstance);
 
         if (entity != null) {
-            ObjectClassModel model = entity.getModel();
-            Object objectInstanceElement = entity.getElement();
-            model.unpackEncodedAttributeValues(objectInstanceElement, attributeValues);
-
-            if (Boolean.FALSE.equals(remoteEntityToMaturity.get(entity))) {
-                remoteEntityToMaturity.replace(entity, true);
-                new Thread(() -> notifyRemoteInstanceAdded(entity.getName(), entity.getElement())).start();
-                logger.info("New remote object instance \"{}\" has been initialized for in-federate use.", entity.getName());
+            FederateMetrics federateMetrics = metrics;
+            federateMetrics.getReflections().increment();
+            federateMetrics.getBytesDecoded().add(FederateMetrics.encodedLength(attributeValues.values()));
+
+            CallbackPipeline pipeline = callbackPipeline;
+
+            if (pipeline != null) {
+                pipeline.offerReflection(entity, attributeValues);
+            } else {
+                long startNanos = System.nanoTime();
+                ObjectClassModel model = entity.getModel();
+                model.unpackEncodedAttributeValues(entity.getElement(), attributeValues);
+                federateMetrics.getReflectionDecodeLatency().recordSince(startNanos);
+                markRemoteEntityReflected(entity);
             }
         } else {
             throw new UpdateException("Failed to update the object instance <" + objectInstance + "> with incoming attribute values because its representation is missing.");
         }
     }
 
+    private void markRemoteEntityReflected(ObjectClassEntity entity) {
+        if (remoteEntityToMaturity.replace(entity, false, true)) {
+            getListenerDispatcher().dispatch(entity.getHandle(), () -> notifyRemoteInstanceAdded(entity.getName(), entity.getElement()));
+            logger.info("New remote object instance \"{}\" has been initialized for in-federate use.", entity.getName());
+        }
+    }
+
     final void deleteEntity(Object objectInstanceElement, boolean relinquishNameReservation) throws FederateNotExecutionMember, RestoreInProgress, ObjectInstanceNotKnown, DeletePrivilegeNotHeld, NotConnected, RTIinternalError, SaveInProgress, ObjectInstanceNameNotReserved {
-        Predicate<ObjectClassEntity> searchPredicate = e -> e.getElement().equals(objectInstanceElement);
-        ObjectClassEntity entity = queryEntities(searchPredicate);
+        ObjectClassEntity entity = entities.getByElement(objectInstanceElement);
 
         if (entity != null) {
             if (isRemoteEntity(entity)) {
@@ -369,11 +550,11 @@ public class SKFederateAmbassador extends NullFederateAmbassador {
                 return;
             }
 
-            RTIambassador rtiAmbassador = HLAUtilityFactory.INSTANCE.getRtiAmbassador();
+            RTIambassador rtiAmbassador = getContext().getRtiAmbassador();
 
-            if (relinquishNameReservation && nameRegistry.containsKey(entity.getName())) {
+            if (relinquishNameReservation && nameReservations.contains(entity.getName())) {
                 rtiAmbassador.releaseObjectInstanceName(entity.getName());
-                nameRegistry.remove(entity.getName());
+                nameReservations.remove(entity.getName());
                 logger.info("Ownership of the reserved object instance name \"{}\" was relinquished by this federate.", entity.getName());
             }
 
@@ -394,8 +575,13 @@ public class SKFederateAmbassador extends NullFederateAmbassador {
             InteractionClassHandle classHandle = model.getHandle();
             ParameterHandleValueMap parameterValues = model.getEncodedParameterValues(interactionClassElement);
 
-            RTIambassador rtiAmbassador = HLAUtilityFactory.INSTANCE.getRtiAmbassador();
+            RTIambassador rtiAmbassador = getContext().getRtiAmbassador();
             rtiAmbassador.sendInteraction(classHandle, parameterValues, null);
+            recordParameterValues(RecordType.SENT_INTERACTION, classHandle, parameterValues, null);
+
+            FederateMetrics federateMetrics = metrics;
+            federateMetrics.getInteractionsSent().increment();
+            federateMetrics.getBytesEncoded().add(FederateMetrics.encodedLength(parameterValues.values()));
             logger.debug("The interaction <{}> was sent.", interactionClassElement);
 
             return true;
@@ -410,22 +596,39 @@ public class SKFederateAmbassador extends NullFederateAmbassador {
         InteractionClassModel model = queryInteractionClassModels(predicate);
 
         if (model != null) {
-            Class<?> modelClass = model.getInteractionClass();
-            try {
-                Object interactionElement = modelClass.getDeclaredConstructor().newInstance();
-                model.unpackEncodedParameterValues(interactionElement, parameterValues);
+            FederateMetrics federateMetrics = metrics;
+            federateMetrics.getInteractionsReceived().increment();
+            federateMetrics.getBytesDecoded().add(FederateMetrics.encodedLength(parameterValues.values()));
+
+            CallbackPipeline pipeline = callbackPipeline;
 
-                new Thread(() ->notifyInteractionReceived(interactionElement)).start();
-                logger.debug("An interaction <{}> was received.", interactionElement);
-            } catch (InstantiationException | IllegalAccessException | InvocationTargetException |
-                     NoSuchMethodException e) {
-                throw new IllegalStateException("Error encountered while trying to build a representation for the received interaction <" + interactionClass + ">.", e);
+            if (pipeline != null) {
+                pipeline.offerInteraction(model, parameterValues);
+            } else {
+                long startNanos = System.nanoTime();
+                Object interactionElement = createInteractionElement(model);
+                model.unpackEncodedParameterValues(interactionElement, parameterValues);
+                federateMetrics.getInteractionDecodeLatency().recordSince(startNanos);
+                notifyInteractionElementReceived(interactionElement);
             }
         } else {
             logger.error("Failed to build internalized representation for the incoming interaction with the class handle <{}>.", interactionClass);
         }
     }
 
+    private Object createInteractionElement(InteractionClassModel model) {
+        try {
+            return model.getInteractionClass().getDeclaredConstructor().newInstance();
+        } catch (InstantiationException | IllegalAccessException | InvocationTargetException | NoSuchMethodException e) {
+            throw new IllegalStateException("Error encountered while trying to build a representation for the received interaction <" + model.getHandle() + ">.", e);
+        }
+    }
+
+    private void notifyInteractionElementReceived(Object interactionElement) {
+        getListenerDispatcher().dispatch(() -> notifyInteractionReceived(interactionElement));
+        logger.debug("An interaction <{}> was received.", interactionElement);
+    }
+
     public final void addRemoteObjectInstanceListener(RemoteObjectInstanceListener listener) {
         instanceListeners.add(listener);
     }
@@ -442,6 +645,218 @@ public class SKFederateAmbassador extends NullFederateAmbassador {
         interactionListeners.remove(listener);
     }
 
+    /**
+     * Replaces the dispatcher that delivers notifications to interaction and remote object instance listeners. The
+     * previous dispatcher, if any, is shut down after delivering the notifications it has already accepted.
+     * @param dispatcher The new dispatcher.
+     */
+    public final void setListenerDispatcher(ListenerDispatcher dispatcher) {
+        ListenerDispatcher previous;
+
+        synchronized (this) {
+            previous = listenerDispatcher;
+            listenerDispatcher = dispatcher;
+        }
+
+        if (previous != null && previous != dispatcher) {
+            previous.shutdown(0L);
+        }
+    }
+
+    public final ListenerDispatcher getListenerDispatcher() {
+        ListenerDispatcher dispatcher = listenerDispatcher;
+
+        if (dispatcher == null) {
+            synchronized (this) {
+                if (listenerDispatcher == null) {
+                    listenerDispatcher = ListenerDispatchers.createDefault();
+                }
+
+                dispatcher = listenerDispatcher;
+            }
+        }
+
+        return dispatcher;
+    }
+
+    /**
+     * Sets up listener dispatch as configured, unless a dispatcher has already been chosen for this ambassador.
+     */
+    final synchronized void configureListenerDispatch(FederateConfiguration config) {
+        if (listenerDispatcher == null) {
+            listenerDispatcher = ListenerDispatchers.create(config);
+        }
+    }
+
+    /**
+     * Waits for pending listener notifications to be delivered and releases the dispatch threads. A dispatcher
+     * with the default settings is created if notifications arrive afterwards.
+     */
+    final void shutdownListenerDispatch(long timeoutMillis) {
+        ListenerDispatcher dispatcher;
+
+        synchronized (this) {
+            dispatcher = listenerDispatcher;
+            listenerDispatcher = null;
+        }
+
+        if (dispatcher != null && !dispatcher.shutdown(timeoutMillis)) {
+            logger.warn("Listener notifications were still being delivered {} ms after the dispatcher was shut down.", timeoutMillis);
+        }
+    }
+
+    /**
+     * @return The pump evoking callbacks in the HLA_EVOKED callback model, or an immediate pump.
+     */
+    public final CallbackPump getCallbackPump() {
+        return callbackPump;
+    }
+
+    final void setCallbackPump(CallbackPump callbackPump) {
+        this.callbackPump = callbackPump;
+    }
+
+    /**
+     * @return The executor running work that a callback triggers and that has to call the RTI, which is not allowed
+     * from within the callback itself.
+     */
+    public final Executor getExecutor() {
+        return executor;
+    }
+
+    /**
+     * @return The context of the federate this ambassador serves.
+     */
+    public final FederateContext getContext() {
+        FederateContext federateContext = context;
+
+        if (federateContext == null) {
+            throw new IllegalStateException("The federate ambassador has not been handed to a federate yet.");
+        }
+
+        return federateContext;
+    }
+
+    final void setContext(FederateContext context) {
+        this.context = context;
+        this.metrics = new FederateMetrics(context.getMetrics());
+        context.getMetrics().gauge(FederateMetrics.ENTITIES, entities::size);
+    }
+
+    /**
+     * @return The metrics this ambassador and the simulation loop of its federate record. Until the ambassador is handed
+     * to a federate, they are kept in a registry of its own.
+     */
+    public final FederateMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Starts or stops recording the traffic of this ambassador. The classes already known to the ambassador are
+     * defined in the new recording; the previous recorder, if any, is left open for the caller to close.
+     * @param recorder The recorder receiving reflections, updates, interactions, discoveries and removals, or null to
+     * stop recording.
+     */
+    public final void setRecorder(TrafficRecorder recorder) {
+        if (recorder != null) {
+            for (ObjectClassModel model : objectClassModels) {
+                defineRecordedClass(recorder, model);
+            }
+
+            for (InteractionClassModel model : interactionClassModels) {
+                defineRecordedClass(recorder, model);
+            }
+        }
+
+        this.recorder = recorder;
+    }
+
+    /**
+     * @return The recorder of the traffic of this ambassador, or null if it is not being recorded.
+     */
+    public final TrafficRecorder getRecorder() {
+        return recorder;
+    }
+
+    /**
+     * The logical time given to recorded messages that were not delivered with a timestamp.
+     * @return The logical time of the federate; {@link TrafficRecorder#NO_TIME} unless a subclass manages time.
+     */
+    protected long currentLogicalTime() {
+        return TrafficRecorder.NO_TIME;
+    }
+
+    private static void defineRecordedClass(TrafficRecorder recorder, ObjectClassModel model) {
+        if (recorder != null) {
+            recorder.defineObjectClass(model.getHandle(), model.getName(), model.getAttributeHandles());
+        }
+    }
+
+    private static void defineRecordedClass(TrafficRecorder recorder, InteractionClassModel model) {
+        if (recorder != null) {
+            recorder.defineInteractionClass(model.getHandle(), model.getName(), model.getParameterHandles());
+        }
+    }
+
+    private void recordAttributeValues(RecordType type, ObjectInstanceHandle objectInstance, AttributeHandleValueMap attributeValues, LogicalTime<?, ?> time) {
+        TrafficRecorder trafficRecorder = recorder;
+
+        if (trafficRecorder != null) {
+            trafficRecorder.recordAttributeValues(type, objectInstance, attributeValues, recordedTime(time));
+        }
+    }
+
+    private void recordParameterValues(RecordType type, InteractionClassHandle interactionClass, ParameterHandleValueMap parameterValues, LogicalTime<?, ?> time) {
+        TrafficRecorder trafficRecorder = recorder;
+
+        if (trafficRecorder != null) {
+            trafficRecorder.recordParameterValues(type, interactionClass, parameterValues, recordedTime(time));
+        }
+    }
+
+    private long recordedTime(LogicalTime<?, ?> time) {
+        return (time instanceof HLAinteger64Time) ? ((HLAinteger64Time) time).getValue() : currentLogicalTime();
+    }
+
+    /**
+     * @return The pipeline decoding callbacks off the RTI's callback thread, or null if they are decoded on that thread.
+     */
+    public final CallbackPipeline getCallbackPipeline() {
+        return callbackPipeline;
+    }
+
+    /**
+     * Starts the decode workers if the configuration asks for any. Reflections and interactions received afterwards are
+     * only copied on the RTI's callback thread and decoded by the workers.
+     */
+    final synchronized void configureCallbackPipeline(FederateConfiguration config) {
+        if (callbackPipeline == null && config.callbackDecodeWorkers() > 0) {
+            callbackPipeline = new CallbackPipeline(new DecodeStage(), config.callbackDecodeWorkers(), config.callbackRingCapacity(), config.callbackBackPressure());
+            logger.debug("Callbacks will be decoded by {} decode worker(s).", config.callbackDecodeWorkers());
+        }
+    }
+
+    /**
+     * Waits for the decode workers to handle the queued callbacks and stops them. Callbacks received afterwards are
+     * decoded on the RTI's callback thread.
+     */
+    final void shutdownCallbackPipeline(long timeoutMillis) {
+        CallbackPipeline pipeline;
+
+        synchronized (this) {
+            pipeline = callbackPipeline;
+            callbackPipeline = null;
+        }
+
+        if (pipeline != null) {
+            if (!pipeline.shutdown(timeoutMillis)) {
+                logger.warn("Callbacks were still being decoded {} ms after the callback pipeline was shut down.", timeoutMillis);
+            }
+
+            logger.debug("Callback pipeline stopped: {}.", pipeline.getMetrics());
+        }
+    }
+
     private void notifyInteractionReceived(Object receivedInteractionElement) {
         for (var listener : interactionListeners) {
             listener.received(receivedInteractionElement);
@@ -460,6 +875,31 @@ public class SKFederateAmbassador extends NullFederateAmbassador {
         }
     }
 
+    // Runs on the decode workers of the callback pipeline.
+    private final class DecodeStage implements CallbackHandler {
+        @Override
+        public void reflectAttributeValues(ObjectClassEntity entity, AttributeHandle[] attributeHandles, byte[][] encodedValues, int count) {
+            long startNanos = System.nanoTime();
+            entity.getModel().unpackEncodedAttributeValues(entity.getElement(), attributeHandles, encodedValues, count);
+            metrics.getReflectionDecodeLatency().recordSince(startNanos);
+            markRemoteEntityReflected(entity);
+        }
+
+        @Override
+        public void removeObjectInstance(ObjectClassEntity entity) {
+            notifyRemoteEntityRemoved(entity);
+        }
+
+        @Override
+        public void receiveInteraction(InteractionClassModel model, ParameterHandle[] parameterHandles, byte[][] encodedValues, int count) {
+            long startNanos = System.nanoTime();
+            Object interactionElement = createInteractionElement(model);
+            model.unpackEncodedParameterValues(interactionElement, parameterHandles, encodedValues, count);
+            metrics.getInteractionDecodeLatency().recordSince(startNanos);
+            notifyInteractionElementReceived(interactionElement);
+        }
+    }
+
     public enum NameReservationStatus {
         UNRESERVED,
         PENDING,
@@ -29,6 +29,9 @@ package org.see.skf.core;
 import hla.rti1516_2025.RtiConfiguration;
 import hla.rti1516_2025.exceptions.*;
 
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+
 /**
  * The base interface that for all Starter Kit federates. The primary provisions for federate implementations
  * are the management of objects and interactions.
@@ -137,6 +140,40 @@ public interface SKFederateInterface {
      */
     String registerObjectInstance(Object objectInstance, String requestedName) throws FederateNotExecutionMember, RestoreInProgress, IllegalName, NotConnected, RTIinternalError, SaveInProgress, ObjectClassNotPublished, ObjectClassNotDefined, ObjectInstanceNotKnown, ObjectInstanceNameInUse, ObjectInstanceNameNotReserved;
 
+    /**
+     * Create a named instance of an HLA object class without waiting for the RTI to reserve its name. The instance is
+     * registered as soon as the outcome of the reservation arrives; if the name could not be reserved, the RTI assigns
+     * one instead.
+     * <br><br>
+     * The HLA object class that this instance belongs to must have been previously declared as publishable to the RTI.
+     * <br><br>
+     * By default, the instance is registered synchronously through {@link #registerObjectInstance(Object, String)}.
+     * @param objectInstance An object with attributes aligned with the attributes of its HLA object class
+     *                       equivalent in the FOM.
+     * @param requestedName The requestedName for the object instance.
+     * @return A future completed with the name of the object instance at the RTI.
+     * @see #reserveObjectInstanceNames(Collection)
+     */
+    default CompletableFuture<String> registerObjectInstanceAsync(Object objectInstance, String requestedName) throws FederateNotExecutionMember, RestoreInProgress, IllegalName, NotConnected, RTIinternalError, SaveInProgress {
+        try {
+            return CompletableFuture.completedFuture(registerObjectInstance(objectInstance, requestedName));
+        } catch (ObjectClassNotPublished | ObjectClassNotDefined | ObjectInstanceNotKnown | ObjectInstanceNameInUse | ObjectInstanceNameNotReserved e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Reserve several object instance names with a single request to the RTI, ahead of registering the instances that
+     * use them. The RTI reserves either all the names or none of them.
+     * <br><br>
+     * By default, no names are reserved ahead and the returned future is completed with false.
+     * @param names The object instance names.
+     * @return A future completed with true once all the names are reserved, or false if they could not be.
+     */
+    default CompletableFuture<Boolean> reserveObjectInstanceNames(Collection<String> names) throws FederateNotExecutionMember, RestoreInProgress, IllegalName, NotConnected, RTIinternalError, SaveInProgress {
+        return CompletableFuture.completedFuture(false);
+    }
+
     /**
      * Issue an update in the instance's attributes to the RTI for other federates to receive. The HLA object class
      * must have already been declared as publishable by the federate to the RTI beforehand AND the object must have
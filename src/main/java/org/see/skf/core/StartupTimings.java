@@ -0,0 +1,117 @@
+/*****************************************************************
+ SEE HLA Starter Kit Framework -  A Java library that supports
+ the development of HLA Federates in the Simulation Exploration
+ Experience (SEE) program.
+
+ Copyright (c) 2014, 2026 SMASH Lab - University of Calabria
+ (Italy), Hridyanshu Aatreya - Modelling & Simulation Group (MSG)
+ at Brunel University of London. All rights reserved.
+
+ GNU Lesser General Public License (GNU LGPL).
+
+ This library is free software; you can redistribute it and/or
+ modify it under the terms of the GNU Lesser General Public
+ License as published by the Free Software Foundation; either
+ version 3.0 of the License, or (at your option) any later version.
+
+ This library is distributed in the hope that it will be useful,
+ but WITHOUT ANY WARRANTY; without even the implied warranty of
+ MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ Lesser General Public License for more details.
+
+ You should have received a copy of the GNU Lesser General Public
+ License along with this library.
+ If not, see http://http://www.gnu.org/licenses/
+ *****************************************************************/
+
+package org.see.skf.core;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * How long each phase of a federate's startup took. Phases are timed back to back: each one is measured from the end
+ * of the previous one, or from {@link #start()} for the first.
+ *
+ * @since 2.0
+ */
+public final class StartupTimings {
+    private final Map<Phase, Long> phaseNanos;
+    private long startNanos;
+    private long lastMarkNanos;
+
+    public StartupTimings() {
+        phaseNanos = new EnumMap<>(Phase.class);
+    }
+
+    /**
+     * Marks the beginning of the startup.
+     */
+    public synchronized void start() {
+        phaseNanos.clear();
+        startNanos = System.nanoTime();
+        lastMarkNanos = startNanos;
+    }
+
+    /**
+     * Marks the end of a phase.
+     * @param phase The phase that just ended.
+     * @return How long the phase took, in nanoseconds.
+     */
+    public synchronized long completed(Phase phase) {
+        long now = System.nanoTime();
+        long elapsed = now - lastMarkNanos;
+
+        phaseNanos.merge(phase, elapsed, Long::sum);
+        lastMarkNanos = now;
+
+        return elapsed;
+    }
+
+    /**
+     * @param phase A startup phase.
+     * @return How long the phase took, in nanoseconds, or -1 if it has not completed.
+     */
+    public synchronized long getPhaseNanos(Phase phase) {
+        return phaseNanos.getOrDefault(phase, -1L);
+    }
+
+    /**
+     * @return The time from the start until the end of the last completed phase, in nanoseconds.
+     */
+    public synchronized long getTotalNanos() {
+        return lastMarkNanos - startNanos;
+    }
+
+    @Override
+    public synchronized String toString() {
+        StringBuilder report = new StringBuilder();
+        report.append("total=").append(TimeUnit.NANOSECONDS.toMillis(getTotalNanos())).append("ms");
+
+        for (Map.Entry<Phase, Long> entry : phaseNanos.entrySet()) {
+            report.append(", ").append(entry.getKey().getLabel()).append('=')
+                    .append(TimeUnit.NANOSECONDS.toMillis(entry.getValue())).append("ms");
+        }
+
+        return report.toString();
+    }
+
+    public enum Phase {
+        CONNECT("connect"),
+        JOIN("join"),
+        DISCOVER("discover"),
+        DECLARE("declare"),
+        TIME_SETUP("timeSetup");
+
+        private final String label;
+
+        Phase(String label) {
+            this.label = label;
+        }
+
+        public String getLabel() {
+            return label;
+        }
+    }
+}
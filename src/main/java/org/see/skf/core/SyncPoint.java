@@ -29,7 +29,9 @@ package org.see.skf.core;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
- * An enum representation of all supported synchronization points in the SpaceFOM standard.
+ * An enum representation of all supported synchronization points in the SpaceFOM standard. The state held by each
+ * constant is shared by every federate in the JVM and is only kept for compatibility; the state of a single federate is
+ * kept in the {@link SyncPointRegistry} of its context.
  *
  * @since 1.5
  */
@@ -72,6 +74,11 @@ public enum SyncPoint {
         return null;
     }
 
+    /**
+     * @deprecated The state of a federate is kept in its {@link SyncPointRegistry}; use
+     * {@link SyncPointRegistry#resetAll()} on {@link FederateContext#getSyncPoints()} instead.
+     */
+    @Deprecated
     public static synchronized void resetAll() {
         for (SyncPoint sp : values()) {
             sp.reset();
@@ -82,14 +89,29 @@ public enum SyncPoint {
         return value;
     }
 
+    /**
+     * @return true if the federation synchronized on this point.
+     * @deprecated Use {@code getSyncPoints().get(label).isFederationSynchronized()} or
+     * {@link SyncPointState#federationSynchronization()} instead.
+     */
+    @Deprecated
     public boolean isFederationSynchronized() {
         return federationSynchronized.get();
     }
 
+    /**
+     * @deprecated Kept in step with the {@link SyncPointRegistry} of the federate; use
+     * {@code getSyncPoints().get(label)} instead.
+     */
+    @Deprecated
     void setFederationSynchronized() {
         federationSynchronized.set(true);
     }
 
+    /**
+     * @deprecated Use {@code getSyncPoints().reset(label)} instead.
+     */
+    @Deprecated
     public void reset() {
         registered.set(false);
         federationSynchronized.set(false);
@@ -103,10 +125,21 @@ public enum SyncPoint {
         UNACHIEVED
     }
 
+    /**
+     * @return true if the registration of this point succeeded.
+     * @deprecated Use {@code getSyncPoints().get(label).isRegistered()} or {@link SyncPointState#registration()}
+     * instead.
+     */
+    @Deprecated
     public boolean isRegistered() {
         return registered.get();
     }
 
+    /**
+     * @deprecated Kept in step with the {@link SyncPointRegistry} of the federate; use
+     * {@code getSyncPoints().get(label)} instead.
+     */
+    @Deprecated
     void registered(boolean flag) {
         registered.set(flag);
 
@@ -117,18 +150,39 @@ public enum SyncPoint {
         }
     }
 
+    /**
+     * @return true if this point was announced.
+     * @deprecated Use {@code getSyncPoints().get(label).isAnnounced()} or {@link SyncPointState#announcement()}
+     * instead.
+     */
+    @Deprecated
     public boolean isAnnounced() {
         return announced.get();
     }
 
+    /**
+     * @deprecated Kept in step with the {@link SyncPointRegistry} of the federate; use
+     * {@code getSyncPoints().get(label)} instead.
+     */
+    @Deprecated
     void announced() {
         announced.set(true);
     }
 
+    /**
+     * @return true once the outcome of the registration of this point is known.
+     * @deprecated Use {@code getSyncPoints().get(label).isRegistrationReported()} instead.
+     */
+    @Deprecated
     public synchronized boolean isAchieved() {
         return state != Registration.UNACHIEVED;
     }
 
+    /**
+     * @return true if the registration of this point succeeded.
+     * @deprecated Use {@code getSyncPoints().get(label).isRegistered()} instead.
+     */
+    @Deprecated
     public synchronized boolean registrationSucceeded() {
         return state == Registration.SUCCEEDED;
     }
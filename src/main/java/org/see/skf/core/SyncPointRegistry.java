@@ -0,0 +1,88 @@
+/*****************************************************************
+ SEE HLA Starter Kit Framework -  A Java library that supports
+ the development of HLA Federates in the Simulation Exploration
+ Experience (SEE) program.
+
+ Copyright (c) 2014, 2026 SMASH Lab - University of Calabria
+ (Italy), Hridyanshu Aatreya - Modelling & Simulation Group (MSG)
+ at Brunel University of London. All rights reserved.
+
+ GNU Lesser General Public License (GNU LGPL).
+
+ This library is free software; you can redistribute it and/or
+ modify it under the terms of the GNU Lesser General Public
+ License as published by the Free Software Foundation; either
+ version 3.0 of the License, or (at your option) any later version.
+
+ This library is distributed in the hope that it will be useful,
+ but WITHOUT ANY WARRANTY; without even the implied warranty of
+ MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ Lesser General Public License for more details.
+
+ You should have received a copy of the GNU Lesser General Public
+ License along with this library.
+ If not, see http://http://www.gnu.org/licenses/
+ *****************************************************************/
+
+package org.see.skf.core;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * The synchronization points known to one federate, by label. Any label can be tracked, not only those of the SpaceFOM
+ * standard listed in {@link SyncPoint}. The state of a label is created the first time either the federate or a
+ * callback refers to it, so a federate may start waiting for a synchronization point before it is announced.
+ *
+ * @since 2.0
+ */
+public final class SyncPointRegistry {
+    private final ConcurrentMap<String, SyncPointState> states;
+
+    public SyncPointRegistry() {
+        states = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * @param label The synchronization point label.
+     * @return The state of the synchronization point, created if the label was not known yet.
+     */
+    public SyncPointState get(String label) {
+        return states.computeIfAbsent(label, SyncPointState::new);
+    }
+
+    public SyncPointState get(SyncPoint syncPoint) {
+        return get(syncPoint.getLabel());
+    }
+
+    /**
+     * @param label The synchronization point label.
+     * @return The state of the synchronization point, or null if nothing has referred to it yet.
+     */
+    public SyncPointState query(String label) {
+        return states.get(label);
+    }
+
+    /**
+     * Forgets everything known about a synchronization point, so that the label can be used again. Futures obtained
+     * from the previous state are left as they are.
+     * @param label The synchronization point label.
+     * @return The fresh state of the synchronization point.
+     */
+    public SyncPointState reset(String label) {
+        SyncPointState state = new SyncPointState(label);
+        states.put(label, state);
+
+        return state;
+    }
+
+    public void resetAll() {
+        states.clear();
+    }
+
+    public Collection<SyncPointState> getAll() {
+        return Collections.unmodifiableCollection(states.values());
+    }
+}
@@ -0,0 +1,120 @@
+/*****************************************************************
+ SEE HLA Starter Kit Framework -  A Java library that supports
+ the development of HLA Federates in the Simulation Exploration
+ Experience (SEE) program.
+
+ Copyright (c) 2014, 2026 SMASH Lab - University of Calabria
+ (Italy), Hridyanshu Aatreya - Modelling & Simulation Group (MSG)
+ at Brunel University of London. All rights reserved.
+
+ GNU Lesser General Public License (GNU LGPL).
+
+ This library is free software; you can redistribute it and/or
+ modify it under the terms of the GNU Lesser General Public
+ License as published by the Free Software Foundation; either
+ version 3.0 of the License, or (at your option) any later version.
+
+ This library is distributed in the hope that it will be useful,
+ but WITHOUT ANY WARRANTY; without even the implied warranty of
+ MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ Lesser General Public License for more details.
+
+ You should have received a copy of the GNU Lesser General Public
+ License along with this library.
+ If not, see http://http://www.gnu.org/licenses/
+ *****************************************************************/
+
+package org.see.skf.core;
+
+import hla.rti1516_2025.FederateHandleSet;
+import hla.rti1516_2025.SynchronizationPointFailureReason;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * What one federate knows about one synchronization point, as reported by the RTI's callbacks. Each stage of the
+ * synchronization point's lifecycle is exposed as a future that the corresponding callback completes, so that waiting
+ * code resumes as soon as the callback arrives. The futures handed out are copies; completing them has no effect on
+ * the state.
+ *
+ * @since 2.0
+ */
+public final class SyncPointState {
+    private final String label;
+    private final CompletableFuture<byte[]> announcement;
+    private final CompletableFuture<Boolean> registration;
+    private final CompletableFuture<FederateHandleSet> federationSynchronization;
+    private volatile SynchronizationPointFailureReason failureReason;
+
+    SyncPointState(String label) {
+        this.label = label;
+        this.announcement = new CompletableFuture<>();
+        this.registration = new CompletableFuture<>();
+        this.federationSynchronization = new CompletableFuture<>();
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    /**
+     * @return A future completed with the user-supplied tag once the synchronization point is announced.
+     */
+    public CompletableFuture<byte[]> announcement() {
+        return announcement.copy();
+    }
+
+    /**
+     * @return A future completed with the outcome of this federate's request to register the synchronization point.
+     */
+    public CompletableFuture<Boolean> registration() {
+        return registration.copy();
+    }
+
+    /**
+     * @return A future completed with the set of federates that failed to synchronize once the federation execution
+     * has achieved the synchronization point.
+     */
+    public CompletableFuture<FederateHandleSet> federationSynchronization() {
+        return federationSynchronization.copy();
+    }
+
+    public boolean isAnnounced() {
+        return announcement.isDone();
+    }
+
+    /**
+     * @return true once the RTI has reported on the registration of the synchronization point, whatever the outcome.
+     */
+    public boolean isRegistrationReported() {
+        return registration.isDone();
+    }
+
+    public boolean isRegistered() {
+        return Boolean.TRUE.equals(registration.getNow(false));
+    }
+
+    /**
+     * @return Why the registration failed, or null if it has not failed.
+     */
+    public SynchronizationPointFailureReason getFailureReason() {
+        return failureReason;
+    }
+
+    public boolean isFederationSynchronized() {
+        return federationSynchronization.isDone();
+    }
+
+    void announced(byte[] userSuppliedTag) {
+        announcement.complete(userSuppliedTag);
+    }
+
+    void registered(boolean succeeded, SynchronizationPointFailureReason reason) {
+        failureReason = reason;
+        registration.complete(succeeded);
+    }
+
+    void federationSynchronized(FederateHandleSet failedToSyncSet) {
+        federationSynchronization.complete(failedToSyncSet);
+    }
+}
@@ -0,0 +1,463 @@
+/*****************************************************************
+ SEE HLA Starter Kit Framework -  A Java library that supports
+ the development of HLA Federates in the Simulation Exploration
+ Experience (SEE) program.
+
+ Copyright (c) 2014, 2026 SMASH Lab - University of Calabria
+ (Italy), Hridyanshu Aatreya - Modelling & Simulation Group (MSG)
+ at Brunel University of London. All rights reserved.
+
+ GNU Lesser General Public License (GNU LGPL).
+
+ This library is free software; you can redistribute it and/or
+ modify it under the terms of the GNU Lesser General Public
+ License as published by the Free Software Foundation; either
+ version 3.0 of the License, or (at your option) any later version.
+
+ This library is distributed in the hope that it will be useful,
+ but WITHOUT ANY WARRANTY; without even the implied warranty of
+ MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ Lesser General Public License for more details.
+
+ You should have received a copy of the GNU Lesser General Public
+ License along with this library.
+ If not, see http://http://www.gnu.org/licenses/
+ *****************************************************************/
+
+package org.see.skf.loopback;
+
+import hla.rti1516_2025.AttributeHandleSet;
+import hla.rti1516_2025.AttributeHandleSetFactory;
+import hla.rti1516_2025.AttributeHandleValueMap;
+import hla.rti1516_2025.AttributeHandleValueMapFactory;
+import hla.rti1516_2025.CallbackModel;
+import hla.rti1516_2025.FederateAmbassador;
+import hla.rti1516_2025.ParameterHandleValueMap;
+import hla.rti1516_2025.ParameterHandleValueMapFactory;
+import hla.rti1516_2025.ResignAction;
+import hla.rti1516_2025.exceptions.*;
+import org.see.skf.loopback.LoopbackFederation.Member;
+import org.see.skf.loopback.LoopbackFom.ClassDefinition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The RTI ambassador of one federate of the loopback RTI. It backs a dynamic proxy of the RTIambassador interface and
+ * serves the services the framework relies on; the rest throw an UnsupportedOperationException.
+ * <p>
+ * Callbacks are queued as the federation produces them. With HLA_IMMEDIATE they are delivered on a thread of the
+ * connection, with HLA_EVOKED by the threads evoking them, in the order they were queued either way.
+ */
+final class LoopbackAmbassador implements InvocationHandler {
+    private static final Logger logger = LoggerFactory.getLogger(LoopbackAmbassador.class);
+    private static final AtomicLong connectionCount = new AtomicLong();
+    private static final String HLA_VERSION = "IEEE 1516-2025";
+
+    private final LoopbackRti rti;
+    private final AttributeHandleSetFactory attributeSetFactory;
+    private final AttributeHandleValueMapFactory attributeMapFactory;
+    private final ParameterHandleValueMapFactory parameterMapFactory;
+    private volatile Connection connection;
+    private volatile LoopbackFederation federation;
+    private volatile Member member;
+
+    LoopbackAmbassador(LoopbackRti rti) {
+        this.rti = rti;
+        this.attributeSetFactory = LoopbackValues.factory(AttributeHandleSetFactory.class, () -> LoopbackValues.set(AttributeHandleSet.class));
+        this.attributeMapFactory = LoopbackValues.factory(AttributeHandleValueMapFactory.class, () -> LoopbackValues.map(AttributeHandleValueMap.class, 8));
+        this.parameterMapFactory = LoopbackValues.factory(ParameterHandleValueMapFactory.class, () -> LoopbackValues.map(ParameterHandleValueMap.class, 8));
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        switch (method.getName()) {
+            case "connect":
+                connect((FederateAmbassador) args[0], (CallbackModel) args[1]);
+                return null;
+            case "disconnect":
+                disconnect();
+                return null;
+            case "joinFederationExecution":
+                return join(args);
+            case "resignFederationExecution":
+                resign((ResignAction) args[0]);
+                return null;
+            case "registerFederationSynchronizationPoint":
+                federation().registerSyncPoint(member(), (String) args[0], (byte[]) args[1], (args.length > 2) ? (Set<?>) args[2] : null);
+                return null;
+            case "synchronizationPointAchieved":
+                federation().achieveSyncPoint(member(), (String) args[0], args.length < 2 || (Boolean) args[1]);
+                return null;
+            case "reserveObjectInstanceName":
+                federation().reserveName(member(), (String) args[0]);
+                return null;
+            case "reserveMultipleObjectInstanceNames":
+                federation().reserveNames(member(), strings(args[0]));
+                return null;
+            case "releaseObjectInstanceName":
+                federation().releaseNames(member(), Collections.singleton((String) args[0]));
+                return null;
+            case "releaseMultipleObjectInstanceNames":
+                federation().releaseNames(member(), strings(args[0]));
+                return null;
+            case "publishObjectClassAttributes":
+                federation().publishObjectClassAttributes(member(), args[0], (Set<?>) args[1]);
+                return null;
+            case "unpublishObjectClassAttributes":
+            case "unpublishObjectClass":
+                federation().unpublishObjectClassAttributes(member(), args[0], (args.length > 1) ? (Set<?>) args[1] : null);
+                return null;
+            case "subscribeObjectClassAttributes":
+                federation().subscribeObjectClassAttributes(member(), args[0], (Set<?>) args[1]);
+                return null;
+            case "unsubscribeObjectClassAttributes":
+            case "unsubscribeObjectClass":
+                federation().unsubscribeObjectClassAttributes(member(), args[0], (args.length > 1) ? (Set<?>) args[1] : null);
+                return null;
+            case "publishInteractionClass":
+            case "unpublishInteractionClass":
+                federation().publishInteractionClass(member(), args[0], method.getName().startsWith("publish"));
+                return null;
+            case "subscribeInteractionClass":
+            case "unsubscribeInteractionClass":
+                federation().subscribeInteractionClass(member(), args[0], method.getName().startsWith("subscribe"));
+                return null;
+            case "registerObjectInstance":
+                return federation().registerObjectInstance(member(), args[0], (args.length > 1) ? (String) args[1] : null);
+            case "updateAttributeValues":
+                checkReceiveOrder(args, 3);
+                federation().updateAttributeValues(member(), args[0], values(args[1]), (byte[]) args[2]);
+                return null;
+            case "sendInteraction":
+                checkReceiveOrder(args, 3);
+                federation().sendInteraction(member(), args[0], values(args[1]), (byte[]) args[2]);
+                return null;
+            case "deleteObjectInstance":
+                checkReceiveOrder(args, 2);
+                federation().deleteObjectInstance(member(), args[0], (byte[]) args[1]);
+                return null;
+            case "requestAttributeValueUpdate":
+                federation().requestAttributeValueUpdate(member(), args[0], (Set<?>) args[1], (byte[]) args[2]);
+                return null;
+            case "enableTimeRegulation":
+                federation().enableTimeRegulation(member(), args[0]);
+                return null;
+            case "disableTimeRegulation":
+                federation().disableTimeRegulation(member());
+                return null;
+            case "enableTimeConstrained":
+                federation().enableTimeConstrained(member());
+                return null;
+            case "disableTimeConstrained":
+                federation().disableTimeConstrained(member());
+                return null;
+            case "timeAdvanceRequest":
+                federation().timeAdvanceRequest(member(), args[0]);
+                return null;
+            case "enableAsynchronousDelivery":
+            case "disableAsynchronousDelivery":
+                federation().setAsynchronousDelivery(member(), method.getName().startsWith("enable"));
+                return null;
+            case "modifyLookahead":
+                federation().modifyLookahead(member(), args[0]);
+                return null;
+            case "queryLookahead":
+                return LoopbackValues.interval(federation().queryLookahead(member()));
+            case "queryGALT":
+                return federation().queryGALT(member());
+            case "queryLogicalTime":
+                return LoopbackValues.time(federation().getLogicalTime(member()));
+            case "getObjectClassHandle":
+                member();
+                return federation().getObjectClassHandle((String) args[0]);
+            case "getInteractionClassHandle":
+                member();
+                return federation().getInteractionClassHandle((String) args[0]);
+            case "getObjectClassName":
+                return getDefinition(args[0], true).getName();
+            case "getInteractionClassName":
+                return getDefinition(args[0], false).getName();
+            case "getAttributeHandle":
+            case "getParameterHandle":
+                return getMember(args[0], (String) args[1], method.getName().equals("getAttributeHandle"));
+            case "getAttributeName":
+            case "getParameterName":
+                return getMemberName(args[0], args[1], method.getName().equals("getAttributeName"));
+            case "getObjectInstanceName":
+                member();
+                return federation().getObjectInstanceName(args[0]);
+            case "getObjectInstanceHandle":
+                member();
+                return federation().getObjectInstanceHandle((String) args[0]);
+            case "getAttributeHandleSetFactory":
+                member();
+                return attributeSetFactory;
+            case "getAttributeHandleValueMapFactory":
+                member();
+                return attributeMapFactory;
+            case "getParameterHandleValueMapFactory":
+                member();
+                return parameterMapFactory;
+            case "getTimeFactory":
+                member();
+                return LoopbackValues.TIME_FACTORY;
+            case "getHLAversion":
+                return HLA_VERSION;
+            case "evokeCallback":
+                return evoke((double) args[0], (double) args[0], true);
+            case "evokeMultipleCallbacks":
+                return evoke((double) args[0], (double) args[1], false);
+            case "equals":
+                return proxy == args[0];
+            case "hashCode":
+                return System.identityHashCode(proxy);
+            case "toString":
+                Member current = member;
+                return "LoopbackRTIambassador(" + ((current != null) ? current.getFederateHandle() : "not joined") + ")";
+            default:
+                throw new UnsupportedOperationException("The loopback RTI does not support the " + method.getName() + " service.");
+        }
+    }
+
+    /**
+     * Queues a callback for the federate ambassador; it is dropped if the federate is no longer connected.
+     * @param callback The callback.
+     */
+    void post(Callback callback) {
+        Connection current = connection;
+        if (current != null) {
+            current.callbacks.add(callback);
+        }
+    }
+
+    private synchronized void connect(FederateAmbassador federateAmbassador, CallbackModel callbackModel) throws AlreadyConnected, UnsupportedCallbackModel {
+        if (connection != null) {
+            throw new AlreadyConnected("The federate is already connected to the loopback RTI.");
+        } else if (callbackModel == null) {
+            throw new UnsupportedCallbackModel("No callback model was given.");
+        }
+
+        Connection newConnection = new Connection(federateAmbassador, callbackModel);
+        if (callbackModel == CallbackModel.HLA_IMMEDIATE) {
+            Thread thread = new Thread(newConnection::deliverAll, "loopback-callbacks-" + connectionCount.incrementAndGet());
+            thread.setDaemon(true);
+            thread.start();
+        }
+
+        connection = newConnection;
+    }
+
+    private synchronized void disconnect() throws FederateIsExecutionMember {
+        if (member != null) {
+            throw new FederateIsExecutionMember("The federate must resign from the federation execution <" + federation.getName() + "> first.");
+        }
+
+        Connection current = connection;
+        if (current != null) {
+            connection = null;
+            current.callbacks.clear();
+            current.callbacks.add(Connection.STOP);
+        }
+    }
+
+    private synchronized Object join(Object[] args) throws RTIexception {
+        if (connection == null) {
+            throw new NotConnected("The federate is not connected to the loopback RTI.");
+        } else if (member != null) {
+            throw new FederateAlreadyExecutionMember("The federate already joined the federation execution <" + federation.getName() + ">.");
+        }
+
+        // Both the (type, federation) and (name, type, federation) forms may be followed by FOM modules.
+        List<String> names = new ArrayList<>();
+        List<URL> fomModules = new ArrayList<>();
+        for (Object arg : args) {
+            if (arg instanceof String) {
+                names.add((String) arg);
+            } else if (arg instanceof Object[]) {
+                for (Object fomModule : (Object[]) arg) {
+                    fomModules.add(LoopbackRti.locate(fomModule));
+                }
+            } else if (arg != null) {
+                fomModules.add(LoopbackRti.locate(arg));
+            }
+        }
+
+        String federationName = names.get(names.size() - 1);
+        LoopbackFederation joined = rti.getFederation(federationName);
+        if (joined == null) {
+            throw new FederationExecutionDoesNotExist("The federation execution <" + federationName + "> does not exist.");
+        }
+
+        Member joinedMember = joined.join(this, (names.size() > 2) ? names.get(0) : null, names.get(names.size() - 2), fomModules);
+        federation = joined;
+        member = joinedMember;
+        return joinedMember.getFederateHandle();
+    }
+
+    private synchronized void resign(ResignAction resignAction) throws RTIexception {
+        federation().resign(member(), resignAction);
+        member = null;
+        federation = null;
+    }
+
+    private Member member() throws NotConnected, FederateNotExecutionMember {
+        Member current = member;
+        if (current == null) {
+            if (connection == null) {
+                throw new NotConnected("The federate is not connected to the loopback RTI.");
+            }
+
+            throw new FederateNotExecutionMember("The federate has not joined a federation execution.");
+        }
+
+        return current;
+    }
+
+    private LoopbackFederation federation() throws NotConnected, FederateNotExecutionMember {
+        LoopbackFederation current = federation;
+        if (current == null) {
+            member();
+        }
+
+        return current;
+    }
+
+    private ClassDefinition getDefinition(Object classHandle, boolean objectClass) throws RTIexception {
+        member();
+        ClassDefinition definition = federation().getDefinition(classHandle);
+        if (definition == null || definition.isObjectClass() != objectClass) {
+            if (objectClass) {
+                throw new InvalidObjectClassHandle("The object class handle <" + classHandle + "> is not valid.");
+            }
+
+            throw new InvalidInteractionClassHandle("The interaction class handle <" + classHandle + "> is not valid.");
+        }
+
+        return definition;
+    }
+
+    private Object getMember(Object classHandle, String memberName, boolean objectClass) throws RTIexception {
+        ClassDefinition definition = getDefinition(classHandle, objectClass);
+        Object memberHandle = federation().getMember(definition, memberName);
+        if (memberHandle == null) {
+            throw new NameNotFound("The class <" + definition.getName() + "> has no " + (objectClass ? "attribute" : "parameter") + " named <" + memberName + ">.");
+        }
+
+        return memberHandle;
+    }
+
+    private String getMemberName(Object classHandle, Object memberHandle, boolean objectClass) throws RTIexception {
+        ClassDefinition definition = getDefinition(classHandle, objectClass);
+        String memberName = federation().getMemberName(definition, memberHandle);
+        if (memberName == null) {
+            if (objectClass) {
+                throw new AttributeNotDefined("The attribute <" + memberHandle + "> is not defined for the object class <" + definition.getName() + ">.");
+            }
+
+            throw new InteractionParameterNotDefined("The parameter <" + memberHandle + "> is not defined for the interaction class <" + definition.getName() + ">.");
+        }
+
+        return memberName;
+    }
+
+    private boolean evoke(double minimumSeconds, double maximumSeconds, boolean single) {
+        Connection current = connection;
+        if (current == null || current.callbackModel != CallbackModel.HLA_EVOKED) {
+            return false;
+        }
+
+        long start = System.nanoTime();
+        long minimumNanos = (long) (minimumSeconds * 1e9);
+        long maximumNanos = (long) (maximumSeconds * 1e9);
+        while (true) {
+            Callback callback;
+            try {
+                callback = current.callbacks.poll(Math.max(0, minimumNanos - (System.nanoTime() - start)), TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+
+            if (callback == null || callback == Connection.STOP) {
+                break;
+            }
+
+            current.deliver(callback);
+            if (single || System.nanoTime() - start >= maximumNanos) {
+                break;
+            }
+        }
+
+        return !current.callbacks.isEmpty();
+    }
+
+    // Time-stamped updates, interactions and deletions are not supported: everything is sent in receive order.
+    private static void checkReceiveOrder(Object[] args, int receiveOrderArgs) {
+        if (args.length > receiveOrderArgs) {
+            throw new UnsupportedOperationException("The loopback RTI only sends messages in receive order.");
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Set<String> strings(Object names) {
+        return (Set<String>) names;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<?, byte[]> values(Object valueMap) {
+        return (Map<?, byte[]>) valueMap;
+    }
+
+    /**
+     * A callback to a federate ambassador.
+     */
+    @FunctionalInterface
+    interface Callback {
+        void deliver(FederateAmbassador federateAmbassador) throws FederateInternalError;
+    }
+
+    private static final class Connection {
+        private static final Callback STOP = federateAmbassador -> { };
+
+        private final FederateAmbassador federateAmbassador;
+        private final CallbackModel callbackModel;
+        private final BlockingQueue<Callback> callbacks;
+
+        private Connection(FederateAmbassador federateAmbassador, CallbackModel callbackModel) {
+            this.federateAmbassador = federateAmbassador;
+            this.callbackModel = callbackModel;
+            this.callbacks = new LinkedBlockingQueue<>();
+        }
+
+        private void deliverAll() {
+            try {
+                for (Callback callback = callbacks.take(); callback != STOP; callback = callbacks.take()) {
+                    deliver(callback);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        private void deliver(Callback callback) {
+            try {
+                callback.deliver(federateAmbassador);
+            } catch (FederateInternalError | RuntimeException e) {
+                logger.error("The federate ambassador failed to process a callback of the loopback RTI.", e);
+            }
+        }
+    }
+}
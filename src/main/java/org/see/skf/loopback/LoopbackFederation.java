@@ -0,0 +1,901 @@
+/*****************************************************************
+ SEE HLA Starter Kit Framework -  A Java library that supports
+ the development of HLA Federates in the Simulation Exploration
+ Experience (SEE) program.
+
+ Copyright (c) 2014, 2026 SMASH Lab - University of Calabria
+ (Italy), Hridyanshu Aatreya - Modelling & Simulation Group (MSG)
+ at Brunel University of London. All rights reserved.
+
+ GNU Lesser General Public License (GNU LGPL).
+
+ This library is free software; you can redistribute it and/or
+ modify it under the terms of the GNU Lesser General Public
+ License as published by the Free Software Foundation; either
+ version 3.0 of the License, or (at your option) any later version.
+
+ This library is distributed in the hope that it will be useful,
+ but WITHOUT ANY WARRANTY; without even the implied warranty of
+ MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ Lesser General Public License for more details.
+
+ You should have received a copy of the GNU Lesser General Public
+ License along with this library.
+ If not, see http://http://www.gnu.org/licenses/
+ *****************************************************************/
+
+package org.see.skf.loopback;
+
+import hla.rti1516_2025.AttributeHandle;
+import hla.rti1516_2025.AttributeHandleSet;
+import hla.rti1516_2025.AttributeHandleValueMap;
+import hla.rti1516_2025.FederateHandle;
+import hla.rti1516_2025.FederateHandleSet;
+import hla.rti1516_2025.InteractionClassHandle;
+import hla.rti1516_2025.ObjectClassHandle;
+import hla.rti1516_2025.ObjectInstanceHandle;
+import hla.rti1516_2025.ParameterHandle;
+import hla.rti1516_2025.ParameterHandleValueMap;
+import hla.rti1516_2025.ResignAction;
+import hla.rti1516_2025.SynchronizationPointFailureReason;
+import hla.rti1516_2025.TimeQueryReturn;
+import hla.rti1516_2025.TransportationTypeHandle;
+import hla.rti1516_2025.exceptions.*;
+import hla.rti1516_2025.time.HLAinteger64Time;
+import org.see.skf.loopback.LoopbackAmbassador.Callback;
+import org.see.skf.loopback.LoopbackFom.ClassDefinition;
+
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A federation execution of the loopback RTI. It keeps the declarations, object instances, reserved names,
+ * synchronization points and time management state of its members, and routes their updates and interactions to one
+ * another as callbacks queued on the receiving federates' ambassadors. All of it is guarded by the federation itself.
+ * <p>
+ * Updates and interactions are sent in receive order. A time-constrained federate that has not enabled asynchronous
+ * delivery only receives them while it is advancing its time, as with any RTI. A time advance request is granted once
+ * the greatest available logical time (GALT) of the federate, the least time up to which the time-regulating federates
+ * may still send time-stamped messages, rules out messages at or before the requested time. A regulating federate
+ * advancing to t, or granted t, with a lookahead L may send messages stamped t + L or later; with a zero lookahead,
+ * only messages stamped after t.
+ */
+final class LoopbackFederation {
+    private final String name;
+    private final LoopbackFom fom;
+    private final Map<String, Member> members;
+    private final Map<Object, Instance> instances;
+    private final Map<String, Instance> instancesByName;
+    private final Map<String, Member> reservedNames;
+    private final Map<String, SyncPointSet> syncPoints;
+    private final TransportationTypeHandle reliable;
+    private long nextFederate;
+    private long nextInstance;
+
+    LoopbackFederation(String name, Collection<URL> fomModules) throws CouldNotOpenFOM, ErrorReadingFOM, InvalidFOM {
+        this.name = name;
+        this.fom = new LoopbackFom();
+        this.members = new LinkedHashMap<>();
+        this.instances = new HashMap<>();
+        this.instancesByName = new HashMap<>();
+        this.reservedNames = new HashMap<>();
+        this.syncPoints = new LinkedHashMap<>();
+        this.reliable = LoopbackValues.handle(TransportationTypeHandle.class, 1);
+        this.nextFederate = 1;
+        this.nextInstance = 1;
+
+        for (URL fomModule : fomModules) {
+            fom.merge(fomModule);
+        }
+    }
+
+    String getName() {
+        return name;
+    }
+
+    synchronized int getMemberCount() {
+        return members.size();
+    }
+
+    synchronized Member join(LoopbackAmbassador ambassador, String federateName, String federateType, Collection<URL> fomModules) throws FederateNameAlreadyInUse, CouldNotOpenFOM, ErrorReadingFOM, InvalidFOM {
+        long id = nextFederate++;
+        String memberName = (federateName != null) ? federateName : federateType + "-" + id;
+        if (members.containsKey(memberName)) {
+            throw new FederateNameAlreadyInUse("A federate named <" + memberName + "> already joined the federation execution <" + name + ">.");
+        }
+
+        for (URL fomModule : fomModules) {
+            fom.merge(fomModule);
+        }
+
+        Member member = new Member(ambassador, LoopbackValues.handle(FederateHandle.class, id), memberName);
+        members.put(memberName, member);
+
+        for (Map.Entry<String, SyncPointSet> entry : syncPoints.entrySet()) {
+            if (entry.getValue().federationWide) {
+                entry.getValue().achievements.put(member, null);
+                announce(member, entry.getKey(), entry.getValue().tag);
+            }
+        }
+
+        return member;
+    }
+
+    synchronized void resign(Member member, ResignAction resignAction) throws InvalidResignAction {
+        if (resignAction == null) {
+            throw new InvalidResignAction("No resign action was given.");
+        }
+
+        boolean deleteObjects = resignAction == ResignAction.DELETE_OBJECTS || resignAction == ResignAction.DELETE_OBJECTS_THEN_DIVEST
+                || resignAction == ResignAction.CANCEL_THEN_DELETE_THEN_DIVEST;
+        for (Instance instance : new ArrayList<>(instances.values())) {
+            if (instance.owner == member) {
+                if (deleteObjects) {
+                    remove(instance, null);
+                } else {
+                    instance.owner = null;
+                }
+            }
+        }
+
+        reservedNames.values().removeIf(owner -> owner == member);
+        members.remove(member.federateName);
+
+        for (Map.Entry<String, SyncPointSet> entry : new ArrayList<>(syncPoints.entrySet())) {
+            if (entry.getValue().achievements.keySet().remove(member)) {
+                checkSynchronized(entry.getKey(), entry.getValue());
+            }
+        }
+
+        grantTimeAdvances();
+    }
+
+    // Synchronization points
+
+    synchronized void registerSyncPoint(Member member, String label, byte[] tag, Set<?> synchronizationSet) {
+        if (syncPoints.containsKey(label)) {
+            member.post(federateAmbassador -> federateAmbassador.synchronizationPointRegistrationFailed(label, SynchronizationPointFailureReason.SYNCHRONIZATION_POINT_LABEL_NOT_UNIQUE));
+            return;
+        }
+
+        boolean federationWide = synchronizationSet == null || synchronizationSet.isEmpty();
+        List<Member> synchronizedMembers = new ArrayList<>();
+        for (Member candidate : members.values()) {
+            if (federationWide || synchronizationSet.contains(candidate.federateHandle)) {
+                synchronizedMembers.add(candidate);
+            }
+        }
+
+        if (!federationWide && synchronizedMembers.size() != synchronizationSet.size()) {
+            member.post(federateAmbassador -> federateAmbassador.synchronizationPointRegistrationFailed(label, SynchronizationPointFailureReason.SYNCHRONIZATION_SET_MEMBER_NOT_JOINED));
+            return;
+        }
+
+        SyncPointSet syncPoint = new SyncPointSet((tag != null) ? tag.clone() : null, federationWide);
+        syncPoints.put(label, syncPoint);
+        member.post(federateAmbassador -> federateAmbassador.synchronizationPointRegistrationSucceeded(label));
+
+        for (Member synchronizedMember : synchronizedMembers) {
+            syncPoint.achievements.put(synchronizedMember, null);
+            announce(synchronizedMember, label, syncPoint.tag);
+        }
+    }
+
+    synchronized void achieveSyncPoint(Member member, String label, boolean success) throws SynchronizationPointLabelNotAnnounced {
+        SyncPointSet syncPoint = syncPoints.get(label);
+        if (syncPoint == null || !syncPoint.achievements.containsKey(member)) {
+            throw new SynchronizationPointLabelNotAnnounced("The synchronization point <" + label + "> was not announced to the federate.");
+        }
+
+        syncPoint.achievements.put(member, success);
+        checkSynchronized(label, syncPoint);
+    }
+
+    private void announce(Member member, String label, byte[] tag) {
+        member.post(federateAmbassador -> federateAmbassador.announceSynchronizationPoint(label, tag));
+    }
+
+    private void checkSynchronized(String label, SyncPointSet syncPoint) {
+        if (syncPoint.achievements.containsValue(null)) {
+            return;
+        }
+
+        syncPoints.remove(label);
+        for (Member synchronizedMember : syncPoint.achievements.keySet()) {
+            FederateHandleSet failed = LoopbackValues.set(FederateHandleSet.class);
+            for (Map.Entry<Member, Boolean> achievement : syncPoint.achievements.entrySet()) {
+                if (!achievement.getValue()) {
+                    failed.add(achievement.getKey().federateHandle);
+                }
+            }
+
+            synchronizedMember.post(federateAmbassador -> federateAmbassador.federationSynchronized(label, failed));
+        }
+    }
+
+    // Object instance names
+
+    synchronized void reserveName(Member member, String instanceName) throws IllegalName {
+        checkName(instanceName);
+
+        if (isNameFree(instanceName)) {
+            reservedNames.put(instanceName, member);
+            member.post(federateAmbassador -> federateAmbassador.objectInstanceNameReservationSucceeded(instanceName));
+        } else {
+            member.post(federateAmbassador -> federateAmbassador.objectInstanceNameReservationFailed(instanceName));
+        }
+    }
+
+    synchronized void reserveNames(Member member, Set<String> instanceNames) throws IllegalName, NameSetWasEmpty {
+        if (instanceNames.isEmpty()) {
+            throw new NameSetWasEmpty("No object instance names were given.");
+        }
+
+        boolean free = true;
+        for (String instanceName : instanceNames) {
+            checkName(instanceName);
+            free &= isNameFree(instanceName);
+        }
+
+        Set<String> names = new HashSet<>(instanceNames);
+        if (free) {
+            for (String instanceName : names) {
+                reservedNames.put(instanceName, member);
+            }
+            member.post(federateAmbassador -> federateAmbassador.multipleObjectInstanceNameReservationSucceeded(names));
+        } else {
+            member.post(federateAmbassador -> federateAmbassador.multipleObjectInstanceNameReservationFailed(names));
+        }
+    }
+
+    synchronized void releaseNames(Member member, Collection<String> instanceNames) throws ObjectInstanceNameNotReserved {
+        for (String instanceName : instanceNames) {
+            if (reservedNames.get(instanceName) != member) {
+                throw new ObjectInstanceNameNotReserved("The object instance name <" + instanceName + "> is not reserved by the federate.");
+            }
+        }
+
+        reservedNames.keySet().removeAll(instanceNames);
+    }
+
+    private boolean isNameFree(String instanceName) {
+        return !reservedNames.containsKey(instanceName) && !instancesByName.containsKey(instanceName);
+    }
+
+    private static void checkName(String instanceName) throws IllegalName {
+        if (instanceName == null || instanceName.isEmpty() || instanceName.startsWith("HLA")) {
+            throw new IllegalName("The object instance name <" + instanceName + "> is not allowed.");
+        }
+    }
+
+    // Declarations
+
+    synchronized void publishObjectClassAttributes(Member member, Object classHandle, Set<?> attributes) throws ObjectClassNotDefined, AttributeNotDefined {
+        ClassDefinition definition = getObjectClass(classHandle);
+        checkMembers(definition, attributes);
+
+        member.publishedAttributes.computeIfAbsent(definition, key -> new HashSet<>()).addAll(attributes);
+    }
+
+    synchronized void unpublishObjectClassAttributes(Member member, Object classHandle, Set<?> attributes) throws ObjectClassNotDefined, AttributeNotDefined {
+        undeclare(member.publishedAttributes, getObjectClass(classHandle), attributes);
+    }
+
+    synchronized void subscribeObjectClassAttributes(Member member, Object classHandle, Set<?> attributes) throws ObjectClassNotDefined, AttributeNotDefined {
+        ClassDefinition definition = getObjectClass(classHandle);
+        checkMembers(definition, attributes);
+
+        member.subscribedAttributes.computeIfAbsent(definition, key -> new HashSet<>()).addAll(attributes);
+        for (Instance instance : instances.values()) {
+            if (instance.owner != member && !member.knownInstances.containsKey(instance.handle)) {
+                discover(member, instance);
+            }
+        }
+    }
+
+    synchronized void unsubscribeObjectClassAttributes(Member member, Object classHandle, Set<?> attributes) throws ObjectClassNotDefined, AttributeNotDefined {
+        undeclare(member.subscribedAttributes, getObjectClass(classHandle), attributes);
+    }
+
+    private void undeclare(Map<ClassDefinition, Set<Object>> declarations, ClassDefinition definition, Set<?> attributes) throws AttributeNotDefined {
+        if (attributes == null) {
+            declarations.remove(definition);
+            return;
+        }
+
+        checkMembers(definition, attributes);
+        Set<Object> declared = declarations.get(definition);
+        if (declared != null) {
+            declared.removeAll(attributes);
+            if (declared.isEmpty()) {
+                declarations.remove(definition);
+            }
+        }
+    }
+
+    synchronized void publishInteractionClass(Member member, Object classHandle, boolean publish) throws InteractionClassNotDefined {
+        ClassDefinition definition = getInteractionClass(classHandle);
+
+        if (publish) {
+            member.publishedInteractions.add(definition);
+        } else {
+            member.publishedInteractions.remove(definition);
+        }
+    }
+
+    synchronized void subscribeInteractionClass(Member member, Object classHandle, boolean subscribe) throws InteractionClassNotDefined {
+        ClassDefinition definition = getInteractionClass(classHandle);
+
+        if (subscribe) {
+            member.subscribedInteractions.add(definition);
+        } else {
+            member.subscribedInteractions.remove(definition);
+        }
+    }
+
+    // Object instances
+
+    synchronized ObjectInstanceHandle registerObjectInstance(Member member, Object classHandle, String instanceName) throws ObjectClassNotDefined, ObjectClassNotPublished, ObjectInstanceNameNotReserved, ObjectInstanceNameInUse {
+        ClassDefinition definition = getObjectClass(classHandle);
+        Set<Object> published = member.publishedAttributes.get(definition);
+        if (published == null) {
+            throw new ObjectClassNotPublished("The federate does not publish the object class <" + definition.getName() + ">.");
+        }
+
+        long id = nextInstance++;
+        if (instanceName != null) {
+            if (reservedNames.get(instanceName) != member) {
+                throw new ObjectInstanceNameNotReserved("The object instance name <" + instanceName + "> is not reserved by the federate.");
+            } else if (instancesByName.containsKey(instanceName)) {
+                throw new ObjectInstanceNameInUse("The object instance name <" + instanceName + "> is in use.");
+            }
+        } else {
+            instanceName = "HLAobject_" + id;
+        }
+
+        Instance instance = new Instance(LoopbackValues.handle(ObjectInstanceHandle.class, id), instanceName, definition, member, published);
+        instances.put(instance.handle, instance);
+        instancesByName.put(instanceName, instance);
+
+        for (Member other : members.values()) {
+            if (other != member) {
+                discover(other, instance);
+            }
+        }
+
+        return instance.handle;
+    }
+
+    // Discovers the instance as the most specific superclass of its class that the member subscribes to, if any.
+    private void discover(Member member, Instance instance) {
+        for (ClassDefinition definition = instance.definition; definition != null; definition = definition.getParent()) {
+            if (member.subscribedAttributes.containsKey(definition)) {
+                ObjectClassHandle knownClass = (ObjectClassHandle) definition.getHandle();
+
+                member.knownInstances.put(instance.handle, definition);
+                member.deliver(federateAmbassador -> federateAmbassador.discoverObjectInstance(instance.handle, knownClass, instance.name, instance.producer));
+                return;
+            }
+        }
+    }
+
+    synchronized void updateAttributeValues(Member member, Object instanceHandle, Map<?, byte[]> attributeValues, byte[] tag) throws ObjectInstanceNotKnown, AttributeNotDefined, AttributeNotOwned {
+        Instance instance = getInstance(instanceHandle);
+        checkMembers(instance.definition, attributeValues.keySet());
+
+        int count = attributeValues.size();
+        Object[] attributes = new Object[count];
+        byte[][] values = new byte[count][];
+        int i = 0;
+        for (Map.Entry<?, byte[]> entry : attributeValues.entrySet()) {
+            if (instance.owner != member || !instance.ownedAttributes.contains(entry.getKey())) {
+                throw new AttributeNotOwned("The federate does not own the attribute <" + fom.getMemberName(entry.getKey()) + "> of the object instance <" + instance.name + ">.");
+            }
+
+            attributes[i] = entry.getKey();
+            values[i++] = entry.getValue().clone();
+        }
+
+        byte[] sentTag = (tag != null) ? tag.clone() : null;
+        for (Member other : members.values()) {
+            ClassDefinition knownClass = other.knownInstances.get(instance.handle);
+            Set<Object> subscribed = (knownClass != null) ? other.subscribedAttributes.get(knownClass) : null;
+            if (subscribed == null) {
+                continue;
+            }
+
+            AttributeHandleValueMap reflected = null;
+            for (int j = 0; j < count; j++) {
+                if (subscribed.contains(attributes[j])) {
+                    if (reflected == null) {
+                        reflected = LoopbackValues.map(AttributeHandleValueMap.class, count);
+                    }
+
+                    reflected.put((AttributeHandle) attributes[j], values[j]);
+                }
+            }
+
+            if (reflected != null) {
+                AttributeHandleValueMap reflectedValues = reflected;
+                other.deliver(federateAmbassador -> federateAmbassador.reflectAttributeValues(instance.handle, reflectedValues, sentTag, reliable, member.federateHandle, null));
+            }
+        }
+    }
+
+    synchronized void deleteObjectInstance(Member member, Object instanceHandle, byte[] tag) throws ObjectInstanceNotKnown, DeletePrivilegeNotHeld {
+        Instance instance = getInstance(instanceHandle);
+        if (instance.owner != member) {
+            throw new DeletePrivilegeNotHeld("The federate does not own the object instance <" + instance.name + ">.");
+        }
+
+        remove(instance, (tag != null) ? tag.clone() : null);
+    }
+
+    private void remove(Instance instance, byte[] tag) {
+        instances.remove(instance.handle);
+        instancesByName.remove(instance.name);
+
+        for (Member member : members.values()) {
+            if (member.knownInstances.remove(instance.handle) != null) {
+                member.deliver(federateAmbassador -> federateAmbassador.removeObjectInstance(instance.handle, tag, instance.producer));
+            }
+        }
+    }
+
+    synchronized void requestAttributeValueUpdate(Member member, Object target, Set<?> attributes, byte[] tag) throws ObjectInstanceNotKnown, ObjectClassNotDefined, AttributeNotDefined {
+        if (target instanceof ObjectInstanceHandle) {
+            Instance instance = getInstance(target);
+            checkMembers(instance.definition, attributes);
+            provide(member, instance, attributes, tag);
+        } else {
+            ClassDefinition definition = getObjectClass(target);
+            checkMembers(definition, attributes);
+            for (Instance instance : instances.values()) {
+                if (instance.definition.isKindOf(definition)) {
+                    provide(member, instance, attributes, tag);
+                }
+            }
+        }
+    }
+
+    private void provide(Member member, Instance instance, Set<?> attributes, byte[] tag) {
+        if (instance.owner == null || instance.owner == member) {
+            return;
+        }
+
+        AttributeHandleSet requested = LoopbackValues.set(AttributeHandleSet.class);
+        for (Object attribute : attributes) {
+            if (instance.ownedAttributes.contains(attribute)) {
+                requested.add((AttributeHandle) attribute);
+            }
+        }
+
+        if (!requested.isEmpty()) {
+            byte[] sentTag = (tag != null) ? tag.clone() : null;
+            instance.owner.post(federateAmbassador -> federateAmbassador.provideAttributeValueUpdate(instance.handle, requested, sentTag));
+        }
+    }
+
+    synchronized String getObjectInstanceName(Object instanceHandle) throws ObjectInstanceNotKnown {
+        return getInstance(instanceHandle).name;
+    }
+
+    synchronized ObjectInstanceHandle getObjectInstanceHandle(String instanceName) throws ObjectInstanceNotKnown {
+        Instance instance = instancesByName.get(instanceName);
+        if (instance == null) {
+            throw new ObjectInstanceNotKnown("There is no object instance named <" + instanceName + ">.");
+        }
+
+        return instance.handle;
+    }
+
+    // Interactions
+
+    synchronized void sendInteraction(Member member, Object classHandle, Map<?, byte[]> parameterValues, byte[] tag) throws InteractionClassNotDefined, InteractionClassNotPublished, InteractionParameterNotDefined {
+        ClassDefinition definition = getInteractionClass(classHandle);
+        if (!member.publishedInteractions.contains(definition)) {
+            throw new InteractionClassNotPublished("The federate does not publish the interaction class <" + definition.getName() + ">.");
+        }
+
+        int count = parameterValues.size();
+        Object[] parameters = new Object[count];
+        ClassDefinition[] declaringClasses = new ClassDefinition[count];
+        byte[][] values = new byte[count][];
+        int i = 0;
+        for (Map.Entry<?, byte[]> entry : parameterValues.entrySet()) {
+            ClassDefinition declaringClass = fom.getDeclaringClass(entry.getKey());
+            if (declaringClass == null || !definition.isKindOf(declaringClass)) {
+                throw new InteractionParameterNotDefined("The parameter <" + entry.getKey() + "> is not defined for the interaction class <" + definition.getName() + ">.");
+            }
+
+            parameters[i] = entry.getKey();
+            declaringClasses[i] = declaringClass;
+            values[i++] = entry.getValue().clone();
+        }
+
+        byte[] sentTag = (tag != null) ? tag.clone() : null;
+        for (Member other : members.values()) {
+            ClassDefinition receivedClass = (other != member) ? other.getSubscribedInteraction(definition) : null;
+            if (receivedClass == null) {
+                continue;
+            }
+
+            // Parameters the received class does not have are left out.
+            ParameterHandleValueMap received = LoopbackValues.map(ParameterHandleValueMap.class, count);
+            for (int j = 0; j < count; j++) {
+                if (receivedClass.isKindOf(declaringClasses[j])) {
+                    received.put((ParameterHandle) parameters[j], values[j]);
+                }
+            }
+
+            InteractionClassHandle receivedHandle = (InteractionClassHandle) receivedClass.getHandle();
+            other.deliver(federateAmbassador -> federateAmbassador.receiveInteraction(receivedHandle, received, sentTag, reliable, member.federateHandle, null));
+        }
+    }
+
+    // Time management
+
+    synchronized void enableTimeRegulation(Member member, Object lookahead) throws TimeRegulationAlreadyEnabled, InTimeAdvancingState, InvalidLookahead {
+        if (member.regulating) {
+            throw new TimeRegulationAlreadyEnabled("Time regulation is already enabled.");
+        } else if (member.requestedTime >= 0) {
+            throw new InTimeAdvancingState("The federate is advancing its time.");
+        }
+
+        long lookaheadValue = lookahead(lookahead);
+
+        // The federate must not be able to send messages into the past of the constrained federates.
+        long time = member.logicalTime;
+        for (Member other : members.values()) {
+            if (other != member && other.constrained) {
+                time = Math.max(time, other.logicalTime - lookaheadValue);
+            }
+        }
+
+        member.logicalTime = time;
+        member.lookahead = lookaheadValue;
+        member.regulating = true;
+
+        HLAinteger64Time enabledTime = LoopbackValues.time(time);
+        member.post(federateAmbassador -> federateAmbassador.timeRegulationEnabled(enabledTime));
+    }
+
+    synchronized void disableTimeRegulation(Member member) throws TimeRegulationIsNotEnabled {
+        if (!member.regulating) {
+            throw new TimeRegulationIsNotEnabled("Time regulation is not enabled.");
+        }
+
+        member.regulating = false;
+        grantTimeAdvances();
+    }
+
+    synchronized void modifyLookahead(Member member, Object lookahead) throws TimeRegulationIsNotEnabled, InvalidLookahead {
+        if (!member.regulating) {
+            throw new TimeRegulationIsNotEnabled("Time regulation is not enabled.");
+        }
+
+        member.lookahead = lookahead(lookahead);
+        grantTimeAdvances();
+    }
+
+    synchronized long queryLookahead(Member member) throws TimeRegulationIsNotEnabled {
+        if (!member.regulating) {
+            throw new TimeRegulationIsNotEnabled("Time regulation is not enabled.");
+        }
+
+        return member.lookahead;
+    }
+
+    synchronized void enableTimeConstrained(Member member) throws TimeConstrainedAlreadyEnabled, InTimeAdvancingState {
+        if (member.constrained) {
+            throw new TimeConstrainedAlreadyEnabled("The federate is already time constrained.");
+        } else if (member.requestedTime >= 0) {
+            throw new InTimeAdvancingState("The federate is advancing its time.");
+        }
+
+        member.constrained = true;
+
+        HLAinteger64Time enabledTime = LoopbackValues.time(member.logicalTime);
+        member.post(federateAmbassador -> federateAmbassador.timeConstrainedEnabled(enabledTime));
+    }
+
+    synchronized void disableTimeConstrained(Member member) throws TimeConstrainedIsNotEnabled {
+        if (!member.constrained) {
+            throw new TimeConstrainedIsNotEnabled("The federate is not time constrained.");
+        }
+
+        member.constrained = false;
+        member.releaseHeldMessages();
+        grantTimeAdvances();
+    }
+
+    synchronized void setAsynchronousDelivery(Member member, boolean enabled) throws AsynchronousDeliveryAlreadyEnabled, AsynchronousDeliveryAlreadyDisabled {
+        if (enabled && member.asynchronousDelivery) {
+            throw new AsynchronousDeliveryAlreadyEnabled("Asynchronous delivery is already enabled.");
+        } else if (!enabled && !member.asynchronousDelivery) {
+            throw new AsynchronousDeliveryAlreadyDisabled("Asynchronous delivery is already disabled.");
+        }
+
+        member.asynchronousDelivery = enabled;
+        if (enabled) {
+            member.releaseHeldMessages();
+        }
+    }
+
+    synchronized void timeAdvanceRequest(Member member, Object time) throws InTimeAdvancingState, LogicalTimeAlreadyPassed, InvalidLogicalTime {
+        long requestedTime;
+        try {
+            requestedTime = LoopbackValues.valueOf(time);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidLogicalTime(e.getMessage(), e);
+        }
+
+        if (member.requestedTime >= 0) {
+            throw new InTimeAdvancingState("The federate is already advancing its time.");
+        } else if (requestedTime < member.logicalTime) {
+            throw new LogicalTimeAlreadyPassed("The time " + requestedTime + " is before the federate's time " + member.logicalTime + ".");
+        }
+
+        member.requestedTime = requestedTime;
+        member.releaseHeldMessages();
+        grantTimeAdvances();
+    }
+
+    synchronized long getLogicalTime(Member member) {
+        return member.logicalTime;
+    }
+
+    /**
+     * @return The GALT of the federate, invalid if no other federate regulates time.
+     */
+    synchronized TimeQueryReturn queryGALT(Member member) {
+        long galt = Long.MAX_VALUE;
+        boolean regulated = false;
+
+        for (Member other : members.values()) {
+            if (other != member && other.regulating) {
+                galt = Math.min(galt, other.getBound());
+                regulated = true;
+            }
+        }
+
+        return regulated ? new TimeQueryReturn(true, LoopbackValues.time(galt)) : new TimeQueryReturn(false, null);
+    }
+
+    // Grants every pending time advance that the bounds of the regulating federates allow. A grant leaves the bound of
+    // the granted federate where its request had put it, so a single pass suffices.
+    private void grantTimeAdvances() {
+        for (Member member : members.values()) {
+            if (member.requestedTime >= 0 && canGrant(member)) {
+                long grantedTime = member.requestedTime;
+                member.logicalTime = grantedTime;
+                member.requestedTime = -1;
+
+                HLAinteger64Time time = LoopbackValues.time(grantedTime);
+                member.post(federateAmbassador -> federateAmbassador.timeAdvanceGrant(time));
+            }
+        }
+    }
+
+    private boolean canGrant(Member member) {
+        if (!member.constrained) {
+            return true;
+        }
+
+        for (Member other : members.values()) {
+            if (other != member && other.regulating) {
+                long bound = other.getBound();
+                if (bound < member.requestedTime || (bound == member.requestedTime && other.lookahead > 0)) {
+                    return false;
+                }
+            }
+        }
+
+        return true;
+    }
+
+    private static long lookahead(Object lookahead) throws InvalidLookahead {
+        try {
+            long value = LoopbackValues.valueOf(lookahead);
+            if (value >= 0) {
+                return value;
+            }
+        } catch (IllegalArgumentException e) {
+            throw new InvalidLookahead(e.getMessage(), e);
+        }
+
+        throw new InvalidLookahead("The lookahead must not be negative.");
+    }
+
+    // Handles and names
+
+    synchronized ObjectClassHandle getObjectClassHandle(String className) throws NameNotFound {
+        ClassDefinition definition = fom.getObjectClass(className);
+        if (definition == null) {
+            throw new NameNotFound("There is no object class named <" + className + ">.");
+        }
+
+        return (ObjectClassHandle) definition.getHandle();
+    }
+
+    synchronized InteractionClassHandle getInteractionClassHandle(String className) throws NameNotFound {
+        ClassDefinition definition = fom.getInteractionClass(className);
+        if (definition == null) {
+            throw new NameNotFound("There is no interaction class named <" + className + ">.");
+        }
+
+        return (InteractionClassHandle) definition.getHandle();
+    }
+
+    /**
+     * @param classHandle An object or interaction class handle.
+     * @return The class, or null if the handle is not one of this federation.
+     */
+    synchronized ClassDefinition getDefinition(Object classHandle) {
+        return fom.getDefinition(classHandle);
+    }
+
+    /**
+     * @return The handle of the attribute or parameter of the class, or null if the class does not have it.
+     */
+    synchronized Object getMember(ClassDefinition definition, String memberName) {
+        return definition.getMember(memberName);
+    }
+
+    /**
+     * @return The name of the attribute or parameter of the class, or null if the class does not have it.
+     */
+    synchronized String getMemberName(ClassDefinition definition, Object memberHandle) {
+        ClassDefinition declaringClass = fom.getDeclaringClass(memberHandle);
+        return (declaringClass != null && definition.isKindOf(declaringClass)) ? fom.getMemberName(memberHandle) : null;
+    }
+
+    private ClassDefinition getObjectClass(Object classHandle) throws ObjectClassNotDefined {
+        ClassDefinition definition = fom.getDefinition(classHandle);
+        if (definition == null || !definition.isObjectClass()) {
+            throw new ObjectClassNotDefined("The object class <" + classHandle + "> is not defined.");
+        }
+
+        return definition;
+    }
+
+    private ClassDefinition getInteractionClass(Object classHandle) throws InteractionClassNotDefined {
+        ClassDefinition definition = fom.getDefinition(classHandle);
+        if (definition == null || definition.isObjectClass()) {
+            throw new InteractionClassNotDefined("The interaction class <" + classHandle + "> is not defined.");
+        }
+
+        return definition;
+    }
+
+    private Instance getInstance(Object instanceHandle) throws ObjectInstanceNotKnown {
+        Instance instance = instances.get(instanceHandle);
+        if (instance == null) {
+            throw new ObjectInstanceNotKnown("The object instance <" + instanceHandle + "> is not known.");
+        }
+
+        return instance;
+    }
+
+    private void checkMembers(ClassDefinition definition, Collection<?> attributes) throws AttributeNotDefined {
+        for (Object attribute : attributes) {
+            ClassDefinition declaringClass = fom.getDeclaringClass(attribute);
+            if (declaringClass == null || !definition.isKindOf(declaringClass)) {
+                throw new AttributeNotDefined("The attribute <" + attribute + "> is not defined for the object class <" + definition.getName() + ">.");
+            }
+        }
+    }
+
+    /**
+     * The state a federation keeps for one of its federates.
+     */
+    static final class Member {
+        private final LoopbackAmbassador ambassador;
+        private final FederateHandle federateHandle;
+        private final String federateName;
+        private final Map<ClassDefinition, Set<Object>> publishedAttributes;
+        private final Map<ClassDefinition, Set<Object>> subscribedAttributes;
+        private final Set<ClassDefinition> publishedInteractions;
+        private final Set<ClassDefinition> subscribedInteractions;
+        private final Map<Object, ClassDefinition> knownInstances;
+        private final List<Callback> heldMessages;
+        private long logicalTime;
+        private long requestedTime;
+        private long lookahead;
+        private boolean regulating;
+        private boolean constrained;
+        private boolean asynchronousDelivery;
+
+        private Member(LoopbackAmbassador ambassador, FederateHandle federateHandle, String federateName) {
+            this.ambassador = ambassador;
+            this.federateHandle = federateHandle;
+            this.federateName = federateName;
+            this.publishedAttributes = new HashMap<>();
+            this.subscribedAttributes = new HashMap<>();
+            this.publishedInteractions = new HashSet<>();
+            this.subscribedInteractions = new HashSet<>();
+            this.knownInstances = new HashMap<>();
+            this.heldMessages = new ArrayList<>();
+            this.requestedTime = -1;
+        }
+
+        FederateHandle getFederateHandle() {
+            return federateHandle;
+        }
+
+        // The least time stamp the federate may still send messages with, if it regulates time.
+        private long getBound() {
+            long time = (requestedTime >= 0) ? requestedTime : logicalTime;
+            return (time > Long.MAX_VALUE - lookahead) ? Long.MAX_VALUE : time + lookahead;
+        }
+
+        private void post(Callback callback) {
+            ambassador.post(callback);
+        }
+
+        // Receive-order messages wait while the federate is constrained, not advancing, and without asynchronous delivery.
+        private void deliver(Callback callback) {
+            if (constrained && !asynchronousDelivery && requestedTime < 0) {
+                heldMessages.add(callback);
+            } else {
+                ambassador.post(callback);
+            }
+        }
+
+        private void releaseHeldMessages() {
+            for (Iterator<Callback> iterator = heldMessages.iterator(); iterator.hasNext(); ) {
+                ambassador.post(iterator.next());
+                iterator.remove();
+            }
+        }
+
+        private ClassDefinition getSubscribedInteraction(ClassDefinition definition) {
+            for (ClassDefinition candidate = definition; candidate != null; candidate = candidate.getParent()) {
+                if (subscribedInteractions.contains(candidate)) {
+                    return candidate;
+                }
+            }
+
+            return null;
+        }
+    }
+
+    private static final class Instance {
+        private final ObjectInstanceHandle handle;
+        private final String name;
+        private final ClassDefinition definition;
+        private final FederateHandle producer;
+        private final Set<Object> ownedAttributes;
+        private Member owner;
+
+        private Instance(ObjectInstanceHandle handle, String name, ClassDefinition definition, Member owner, Set<Object> ownedAttributes) {
+            this.handle = handle;
+            this.name = name;
+            this.definition = definition;
+            this.producer = owner.federateHandle;
+            this.ownedAttributes = new HashSet<>(ownedAttributes);
+            this.owner = owner;
+        }
+    }
+
+    private static final class SyncPointSet {
+        private final byte[] tag;
+        private final boolean federationWide;
+        // The members to synchronize, mapped to whether they achieved the point successfully; null until they do.
+        private final Map<Member, Boolean> achievements;
+
+        private SyncPointSet(byte[] tag, boolean federationWide) {
+            this.tag = tag;
+            this.federationWide = federationWide;
+            this.achievements = new LinkedHashMap<>();
+        }
+    }
+}
@@ -0,0 +1,287 @@
+/*****************************************************************
+ SEE HLA Starter Kit Framework -  A Java library that supports
+ the development of HLA Federates in the Simulation Exploration
+ Experience (SEE) program.
+
+ Copyright (c) 2014, 2026 SMASH Lab - University of Calabria
+ (Italy), Hridyanshu Aatreya - Modelling & Simulation Group (MSG)
+ at Brunel University of London. All rights reserved.
+
+ GNU Lesser General Public License (GNU LGPL).
+
+ This library is free software; you can redistribute it and/or
+ modify it under the terms of the GNU Lesser General Public
+ License as published by the Free Software Foundation; either
+ version 3.0 of the License, or (at your option) any later version.
+
+ This library is distributed in the hope that it will be useful,
+ but WITHOUT ANY WARRANTY; without even the implied warranty of
+ MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ Lesser General Public License for more details.
+
+ You should have received a copy of the GNU Lesser General Public
+ License along with this library.
+ If not, see http://http://www.gnu.org/licenses/
+ *****************************************************************/
+
+package org.see.skf.loopback;
+
+import hla.rti1516_2025.AttributeHandle;
+import hla.rti1516_2025.InteractionClassHandle;
+import hla.rti1516_2025.ObjectClassHandle;
+import hla.rti1516_2025.ParameterHandle;
+import hla.rti1516_2025.exceptions.CouldNotOpenFOM;
+import hla.rti1516_2025.exceptions.ErrorReadingFOM;
+import hla.rti1516_2025.exceptions.InvalidFOM;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.xml.sax.SAXException;
+
+import javax.xml.XMLConstants;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The object and interaction class trees of a federation execution, read from the FOM modules it was created with and
+ * the modules its federates joined with. Only names are taken from the modules: classes, their attributes and their
+ * parameters each get a handle, and classes inherit the attributes and parameters of their superclasses.
+ */
+final class LoopbackFom {
+    static final String OBJECT_ROOT = "HLAobjectRoot";
+    static final String INTERACTION_ROOT = "HLAinteractionRoot";
+
+    private final Map<String, ClassDefinition> objectClasses;
+    private final Map<String, ClassDefinition> interactionClasses;
+    private final Map<Object, ClassDefinition> classesByHandle;
+    private final Map<Object, ClassDefinition> declaringClasses;
+    private final Map<Object, String> memberNames;
+    private long nextHandle;
+
+    LoopbackFom() {
+        objectClasses = new HashMap<>();
+        interactionClasses = new HashMap<>();
+        classesByHandle = new HashMap<>();
+        declaringClasses = new HashMap<>();
+        memberNames = new HashMap<>();
+        nextHandle = 1;
+
+        ClassDefinition objectRoot = define(null, OBJECT_ROOT, true);
+        declare(objectRoot, "HLAprivilegeToDeleteObject");
+        define(null, INTERACTION_ROOT, false);
+    }
+
+    /**
+     * Adds the classes, attributes and parameters of a FOM module that are not known yet.
+     * @param module The location of the module.
+     */
+    void merge(URL module) throws CouldNotOpenFOM, ErrorReadingFOM, InvalidFOM {
+        Document document;
+        try (InputStream input = module.openStream()) {
+            DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+            factory.setNamespaceAware(true);
+            factory.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
+            factory.setExpandEntityReferences(false);
+            document = factory.newDocumentBuilder().parse(input);
+        } catch (IOException e) {
+            throw new CouldNotOpenFOM("Failed to open the FOM module <" + module + ">.", e);
+        } catch (SAXException | ParserConfigurationException e) {
+            throw new ErrorReadingFOM("Failed to read the FOM module <" + module + ">.", e);
+        }
+
+        for (Element objects : children(document.getDocumentElement(), "objects")) {
+            for (Element objectClass : children(objects, "objectClass")) {
+                merge(objectClass, null, true);
+            }
+        }
+
+        for (Element interactions : children(document.getDocumentElement(), "interactions")) {
+            for (Element interactionClass : children(interactions, "interactionClass")) {
+                merge(interactionClass, null, false);
+            }
+        }
+    }
+
+    private void merge(Element element, ClassDefinition parent, boolean objectClass) throws InvalidFOM {
+        String name = name(element);
+        String root = objectClass ? OBJECT_ROOT : INTERACTION_ROOT;
+        if (parent == null && !name.equals(root)) {
+            throw new InvalidFOM("The class <" + name + "> is not a subclass of " + root + ".");
+        }
+
+        String qualifiedName = (parent == null) ? name : parent.getName() + "." + name;
+        ClassDefinition definition = (objectClass ? objectClasses : interactionClasses).get(qualifiedName);
+        if (definition == null) {
+            definition = define(parent, qualifiedName, objectClass);
+        }
+
+        for (Element member : children(element, objectClass ? "attribute" : "parameter")) {
+            String memberName = name(member);
+            if (definition.getMember(memberName) == null) {
+                declare(definition, memberName);
+            }
+        }
+
+        for (Element subclass : children(element, objectClass ? "objectClass" : "interactionClass")) {
+            merge(subclass, definition, objectClass);
+        }
+    }
+
+    private ClassDefinition define(ClassDefinition parent, String qualifiedName, boolean objectClass) {
+        Class<?> handleType = objectClass ? ObjectClassHandle.class : InteractionClassHandle.class;
+        Object handle = LoopbackValues.handle(handleType, nextHandle++);
+        ClassDefinition definition = new ClassDefinition(handle, qualifiedName, parent, objectClass);
+
+        (objectClass ? objectClasses : interactionClasses).put(qualifiedName, definition);
+        classesByHandle.put(handle, definition);
+        return definition;
+    }
+
+    private void declare(ClassDefinition definition, String memberName) {
+        Class<?> handleType = definition.isObjectClass() ? AttributeHandle.class : ParameterHandle.class;
+        Object handle = LoopbackValues.handle(handleType, nextHandle++);
+
+        definition.members.put(memberName, handle);
+        declaringClasses.put(handle, definition);
+        memberNames.put(handle, memberName);
+    }
+
+    /**
+     * @param name The name of an object class, with or without the HLAobjectRoot prefix.
+     * @return The class, or null if there is no such class.
+     */
+    ClassDefinition getObjectClass(String name) {
+        return find(objectClasses, OBJECT_ROOT, name);
+    }
+
+    /**
+     * @param name The name of an interaction class, with or without the HLAinteractionRoot prefix.
+     * @return The class, or null if there is no such class.
+     */
+    ClassDefinition getInteractionClass(String name) {
+        return find(interactionClasses, INTERACTION_ROOT, name);
+    }
+
+    /**
+     * @param handle An object or interaction class handle.
+     * @return The class, or null if the handle is not one of this FOM.
+     */
+    ClassDefinition getDefinition(Object handle) {
+        return (handle != null) ? classesByHandle.get(handle) : null;
+    }
+
+    /**
+     * @param memberHandle An attribute or parameter handle.
+     * @return The class declaring it, or null if the handle is not one of this FOM.
+     */
+    ClassDefinition getDeclaringClass(Object memberHandle) {
+        return (memberHandle != null) ? declaringClasses.get(memberHandle) : null;
+    }
+
+    String getMemberName(Object memberHandle) {
+        return memberNames.get(memberHandle);
+    }
+
+    private static ClassDefinition find(Map<String, ClassDefinition> classes, String root, String name) {
+        ClassDefinition definition = classes.get(name);
+        if (definition == null && name != null && !name.startsWith(root)) {
+            definition = classes.get(root + "." + name);
+        }
+
+        return definition;
+    }
+
+    private static String name(Element element) throws InvalidFOM {
+        for (Element name : children(element, "name")) {
+            String text = name.getTextContent().trim();
+            if (!text.isEmpty()) {
+                return text;
+            }
+        }
+
+        throw new InvalidFOM("Found an <" + element.getLocalName() + "> element without a name.");
+    }
+
+    private static List<Element> children(Element parent, String localName) {
+        List<Element> children = new ArrayList<>();
+        for (Node node = parent.getFirstChild(); node != null; node = node.getNextSibling()) {
+            if (node instanceof Element && localName.equals(node.getLocalName())) {
+                children.add((Element) node);
+            }
+        }
+
+        return children;
+    }
+
+    /**
+     * An object or interaction class, with the attributes or parameters it declares itself.
+     */
+    static final class ClassDefinition {
+        private final Object handle;
+        private final String name;
+        private final ClassDefinition parent;
+        private final boolean objectClass;
+        private final Map<String, Object> members;
+
+        private ClassDefinition(Object handle, String name, ClassDefinition parent, boolean objectClass) {
+            this.handle = handle;
+            this.name = name;
+            this.parent = parent;
+            this.objectClass = objectClass;
+            this.members = new LinkedHashMap<>();
+        }
+
+        Object getHandle() {
+            return handle;
+        }
+
+        String getName() {
+            return name;
+        }
+
+        ClassDefinition getParent() {
+            return parent;
+        }
+
+        boolean isObjectClass() {
+            return objectClass;
+        }
+
+        /**
+         * @param memberName The name of an attribute or parameter.
+         * @return Its handle, if this class declares or inherits it, or null.
+         */
+        Object getMember(String memberName) {
+            for (ClassDefinition definition = this; definition != null; definition = definition.parent) {
+                Object member = definition.members.get(memberName);
+                if (member != null) {
+                    return member;
+                }
+            }
+
+            return null;
+        }
+
+        /**
+         * @param other Another class of the same tree.
+         * @return Whether this class is the other class or one of its subclasses.
+         */
+        boolean isKindOf(ClassDefinition other) {
+            for (ClassDefinition definition = this; definition != null; definition = definition.parent) {
+                if (definition == other) {
+                    return true;
+                }
+            }
+
+            return false;
+        }
+    }
+}
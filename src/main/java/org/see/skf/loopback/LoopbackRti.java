@@ -0,0 +1,166 @@
+/*****************************************************************
+ SEE HLA Starter Kit Framework -  A Java library that supports
+ the development of HLA Federates in the Simulation Exploration
+ Experience (SEE) program.
+
+ Copyright (c) 2014, 2026 SMASH Lab - University of Calabria
+ (Italy), Hridyanshu Aatreya - Modelling & Simulation Group (MSG)
+ at Brunel University of London. All rights reserved.
+
+ GNU Lesser General Public License (GNU LGPL).
+
+ This library is free software; you can redistribute it and/or
+ modify it under the terms of the GNU Lesser General Public
+ License as published by the Free Software Foundation; either
+ version 3.0 of the License, or (at your option) any later version.
+
+ This library is distributed in the hope that it will be useful,
+ but WITHOUT ANY WARRANTY; without even the implied warranty of
+ MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ Lesser General Public License for more details.
+
+ You should have received a copy of the GNU Lesser General Public
+ License along with this library.
+ If not, see http://http://www.gnu.org/licenses/
+ *****************************************************************/
+
+package org.see.skf.loopback;
+
+import hla.rti1516_2025.RTIambassador;
+import hla.rti1516_2025.RtiFactory;
+import hla.rti1516_2025.exceptions.CouldNotOpenFOM;
+import hla.rti1516_2025.exceptions.ErrorReadingFOM;
+import hla.rti1516_2025.exceptions.InvalidFOM;
+
+import java.io.File;
+import java.lang.reflect.Proxy;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * An RTI that runs inside the JVM, so that federates built on the framework can be tested and benchmarked end to end
+ * without an RTI to connect to. Several federates of the same JVM can join its federation executions and exchange
+ * updates, interactions and synchronization points through it, and regulate and constrain one another's time.
+ * <p>
+ * The loopback RTI serves the subset of the HLA services the framework relies on: connecting and joining, handle and
+ * name lookups based on the FOM modules, declaration management, object registration, updates, reflections and
+ * deletions, interactions, object instance name reservations, synchronization points and time management by time
+ * advance requests. Updates and interactions are always sent in receive order. It brings no encoder factory, so the
+ * federates using it must encode their data with the framework's native coders.
+ * <p>
+ * The framework takes its RTI ambassadors from the loopback RTI once it is installed in the {@code HLAUtilityFactory}:
+ * <pre>
+ *     LoopbackRti rti = new LoopbackRti();
+ *     rti.createFederationExecution("SEE 2026", fomModules);
+ *     HLAUtilityFactory.INSTANCE.setRtiFactory(rti.getRtiFactory());
+ *     FederateContext context = HLAUtilityFactory.INSTANCE.newContext();
+ * </pre>
+ *
+ * @since 2.0
+ */
+public final class LoopbackRti {
+    public static final String RTI_NAME = "SKF Loopback RTI";
+    public static final String RTI_VERSION = "1.0";
+
+    private final ConcurrentMap<String, LoopbackFederation> federations;
+    private final RtiFactory rtiFactory;
+
+    public LoopbackRti() {
+        federations = new ConcurrentHashMap<>();
+        rtiFactory = (RtiFactory) Proxy.newProxyInstance(RtiFactory.class.getClassLoader(), new Class<?>[] {RtiFactory.class}, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "getRtiAmbassador": return createRtiAmbassador();
+                case "getEncoderFactory": return null;
+                case "rtiName": return RTI_NAME;
+                case "rtiVersion": return RTI_VERSION;
+                case "equals": return proxy == args[0];
+                case "hashCode": return System.identityHashCode(proxy);
+                case "toString": return RTI_NAME + " " + RTI_VERSION;
+                default: throw new UnsupportedOperationException(method.getName());
+            }
+        });
+    }
+
+    /**
+     * @return A new RTI ambassador of this RTI, for one federate.
+     */
+    public RTIambassador createRtiAmbassador() {
+        return (RTIambassador) Proxy.newProxyInstance(RTIambassador.class.getClassLoader(), new Class<?>[] {RTIambassador.class}, new LoopbackAmbassador(this));
+    }
+
+    /**
+     * @return A factory of this RTI, handing out a new RTI ambassador every time one is asked for.
+     */
+    public RtiFactory getRtiFactory() {
+        return rtiFactory;
+    }
+
+    /**
+     * Creates a federation execution that federates can then join.
+     * @param federationName The name of the federation execution.
+     * @param fomModules The FOM modules of the federation execution.
+     * @throws IllegalStateException if a federation execution with the same name exists.
+     */
+    public void createFederationExecution(String federationName, URL... fomModules) throws CouldNotOpenFOM, ErrorReadingFOM, InvalidFOM {
+        LoopbackFederation federation = new LoopbackFederation(federationName, Arrays.asList(fomModules));
+
+        if (federations.putIfAbsent(federationName, federation) != null) {
+            throw new IllegalStateException("The federation execution <" + federationName + "> already exists.");
+        }
+    }
+
+    /**
+     * Destroys a federation execution that no federate is joined to anymore.
+     * @param federationName The name of the federation execution.
+     * @return Whether the federation execution existed.
+     * @throws IllegalStateException if federates are still joined to the federation execution.
+     */
+    public boolean destroyFederationExecution(String federationName) {
+        LoopbackFederation federation = federations.get(federationName);
+        if (federation == null) {
+            return false;
+        }
+
+        synchronized (federation) {
+            if (federation.getMemberCount() > 0) {
+                throw new IllegalStateException("Federates are still joined to the federation execution <" + federationName + ">.");
+            }
+
+            return federations.remove(federationName, federation);
+        }
+    }
+
+    LoopbackFederation getFederation(String federationName) {
+        return federations.get(federationName);
+    }
+
+    /**
+     * @param fomModule A URL, or the path or URL of a FOM module, or the name of a class path resource.
+     * @return The location of the FOM module.
+     */
+    static URL locate(Object fomModule) throws CouldNotOpenFOM {
+        if (fomModule instanceof URL) {
+            return (URL) fomModule;
+        }
+
+        String location = String.valueOf(fomModule);
+        try {
+            File file = new File(location);
+            if (file.isFile()) {
+                return file.toURI().toURL();
+            }
+
+            return new URL(location);
+        } catch (MalformedURLException e) {
+            URL resource = LoopbackRti.class.getClassLoader().getResource(location);
+            if (resource != null) {
+                return resource;
+            }
+
+            throw new CouldNotOpenFOM("Failed to locate the FOM module <" + location + ">.", e);
+        }
+    }
+}
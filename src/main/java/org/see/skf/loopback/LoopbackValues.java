@@ -0,0 +1,334 @@
+/*****************************************************************
+ SEE HLA Starter Kit Framework -  A Java library that supports
+ the development of HLA Federates in the Simulation Exploration
+ Experience (SEE) program.
+
+ Copyright (c) 2014, 2026 SMASH Lab - University of Calabria
+ (Italy), Hridyanshu Aatreya - Modelling & Simulation Group (MSG)
+ at Brunel University of London. All rights reserved.
+
+ GNU Lesser General Public License (GNU LGPL).
+
+ This library is free software; you can redistribute it and/or
+ modify it under the terms of the GNU Lesser General Public
+ License as published by the Free Software Foundation; either
+ version 3.0 of the License, or (at your option) any later version.
+
+ This library is distributed in the hope that it will be useful,
+ but WITHOUT ANY WARRANTY; without even the implied warranty of
+ MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ Lesser General Public License for more details.
+
+ You should have received a copy of the GNU Lesser General Public
+ License along with this library.
+ If not, see http://http://www.gnu.org/licenses/
+ *****************************************************************/
+
+package org.see.skf.loopback;
+
+import hla.rti1516_2025.exceptions.CouldNotDecode;
+import hla.rti1516_2025.exceptions.IllegalTimeArithmetic;
+import hla.rti1516_2025.time.HLAinteger64Interval;
+import hla.rti1516_2025.time.HLAinteger64Time;
+import hla.rti1516_2025.time.HLAinteger64TimeFactory;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * The handles, handle sets, value maps, logical times and factories handed out by the loopback RTI. They are dynamic
+ * proxies of the HLA interfaces, so the loopback RTI keeps working against whichever revision of the API is on the
+ * class path. The handles, handle sets and value maps also stand in for those of an RTI in tests and benchmarks that
+ * exercise the framework without one.
+ *
+ * @since 2.0
+ */
+public final class LoopbackValues {
+    static final String TIME_NAME = "HLAinteger64Time";
+    static final HLAinteger64TimeFactory TIME_FACTORY = factory(HLAinteger64TimeFactory.class, new TimeFactoryHandler());
+
+    private LoopbackValues() {
+    }
+
+    /**
+     * @param type The handle interface.
+     * @param id The identifier of the handle, unique among the handles of its type.
+     * @return A handle equal to every other handle of the same type and identifier.
+     */
+    public static <T> T handle(Class<T> type, long id) {
+        return proxy(type, new HandleHandler(type, id));
+    }
+
+    /**
+     * @param type A handle set interface.
+     * @return An empty, mutable set.
+     */
+    public static <T> T set(Class<T> type) {
+        return proxy(type, new DelegateHandler(new HashSet<>()));
+    }
+
+    /**
+     * @param type A value map interface.
+     * @param capacity The expected number of entries.
+     * @return An empty, mutable map.
+     */
+    public static <T> T map(Class<T> type, int capacity) {
+        return proxy(type, new DelegateHandler(new HashMap<>(Math.max(4, capacity * 2))));
+    }
+
+    /**
+     * @param type A handle set or value map factory interface.
+     * @param creator Creates what the factory hands out.
+     * @return A factory whose {@code create} methods all return the outcome of the creator.
+     */
+    static <T> T factory(Class<T> type, Supplier<?> creator) {
+        return factory(type, (proxy, method, args) -> {
+            if (method.getName().equals("create")) {
+                return creator.get();
+            }
+
+            throw new UnsupportedOperationException(method.getName());
+        });
+    }
+
+    static HLAinteger64Time time(long value) {
+        return proxy(HLAinteger64Time.class, new TimeHandler(value, false));
+    }
+
+    static HLAinteger64Interval interval(long value) {
+        return proxy(HLAinteger64Interval.class, new TimeHandler(value, true));
+    }
+
+    /**
+     * @param timeOrInterval A logical time or time interval of the HLAinteger64Time representation.
+     * @return Its value.
+     * @throws IllegalArgumentException if the argument is of another representation.
+     */
+    static long valueOf(Object timeOrInterval) {
+        if (timeOrInterval instanceof Proxy && Proxy.getInvocationHandler(timeOrInterval) instanceof TimeHandler) {
+            return ((TimeHandler) Proxy.getInvocationHandler(timeOrInterval)).value;
+        } else if (timeOrInterval instanceof HLAinteger64Time) {
+            return ((HLAinteger64Time) timeOrInterval).getValue();
+        } else if (timeOrInterval instanceof HLAinteger64Interval) {
+            return ((HLAinteger64Interval) timeOrInterval).getValue();
+        }
+
+        throw new IllegalArgumentException("Unsupported logical time representation <" + timeOrInterval + ">.");
+    }
+
+    private static <T> T factory(Class<T> type, InvocationHandler handler) {
+        return proxy(type, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "equals": return proxy == args[0];
+                case "hashCode": return System.identityHashCode(proxy);
+                case "toString": return type.getSimpleName();
+                default: return handler.invoke(proxy, method, args);
+            }
+        });
+    }
+
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, handler));
+    }
+
+    private static Object encode(Method method, long value, byte[] buffer, int offset) {
+        for (int i = 7; i >= 0; i--) {
+            buffer[offset + i] = (byte) value;
+            value >>>= 8;
+        }
+
+        return (method.getReturnType() == int.class) ? (Object) 8 : null;
+    }
+
+    private static long decode(byte[] buffer, int offset) throws CouldNotDecode {
+        if (buffer == null || offset < 0 || buffer.length - offset < 8) {
+            throw new CouldNotDecode("Expected eight bytes at offset " + offset + ".");
+        }
+
+        long value = 0;
+        for (int i = 0; i < 8; i++) {
+            value = (value << 8) | (buffer[offset + i] & 0xFF);
+        }
+
+        return value;
+    }
+
+    private static final class HandleHandler implements InvocationHandler {
+        private final Class<?> type;
+        private final long id;
+
+        private HandleHandler(Class<?> type, long id) {
+            this.type = type;
+            this.id = id;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) {
+            switch (method.getName()) {
+                case "equals":
+                    return args[0] instanceof Proxy && Proxy.getInvocationHandler(args[0]) instanceof HandleHandler
+                            && ((HandleHandler) Proxy.getInvocationHandler(args[0])).type == type
+                            && ((HandleHandler) Proxy.getInvocationHandler(args[0])).id == id;
+                case "hashCode":
+                    return Long.hashCode(id) * 31 + type.hashCode();
+                case "toString":
+                    return type.getSimpleName() + "(" + id + ")";
+                case "encodedLength":
+                    return 8;
+                case "encode":
+                    return LoopbackValues.encode(method, id, (byte[]) args[0], (int) args[1]);
+                default:
+                    throw new UnsupportedOperationException(method.getName());
+            }
+        }
+    }
+
+    // Forwards the calls made through the collection interfaces to a plain Java collection, sparing the common ones the
+    // cost of reflection.
+    @SuppressWarnings("unchecked")
+    private static final class DelegateHandler implements InvocationHandler {
+        private final Object delegate;
+
+        private DelegateHandler(Object delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            int argCount = (args == null) ? 0 : args.length;
+
+            if (delegate instanceof Map) {
+                Map<Object, Object> map = (Map<Object, Object>) delegate;
+                switch (method.getName()) {
+                    case "get": if (argCount == 1) return map.get(args[0]); break;
+                    case "put": return map.put(args[0], args[1]);
+                    case "entrySet": return map.entrySet();
+                    case "keySet": return map.keySet();
+                    case "values": return map.values();
+                    case "containsKey": return map.containsKey(args[0]);
+                    case "clear": map.clear(); return null;
+                    default: break;
+                }
+            } else {
+                Set<Object> set = (Set<Object>) delegate;
+                switch (method.getName()) {
+                    case "add": return set.add(args[0]);
+                    case "contains": return set.contains(args[0]);
+                    case "iterator": return set.iterator();
+                    case "addAll": return set.addAll((Collection<Object>) args[0]);
+                    default: break;
+                }
+            }
+
+            switch (method.getName()) {
+                case "size": return (delegate instanceof Map) ? ((Map<?, ?>) delegate).size() : ((Set<?>) delegate).size();
+                case "isEmpty": return (delegate instanceof Map) ? ((Map<?, ?>) delegate).isEmpty() : ((Set<?>) delegate).isEmpty();
+                case "equals": return proxy == args[0] || delegate.equals(args[0]);
+                case "hashCode": return delegate.hashCode();
+                case "toString": return delegate.toString();
+                case "clone": return proxy(proxy.getClass().getInterfaces()[0],
+                        new DelegateHandler((delegate instanceof Map) ? new HashMap<>((Map<?, ?>) delegate) : new HashSet<>((Set<?>) delegate)));
+                default: break;
+            }
+
+            try {
+                return method.invoke(delegate, args);
+            } catch (IllegalArgumentException e) {
+                throw new UnsupportedOperationException(method.getName(), e);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+
+    private static final class TimeHandler implements InvocationHandler {
+        private final long value;
+        private final boolean interval;
+
+        private TimeHandler(long value, boolean interval) {
+            this.value = value;
+            this.interval = interval;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws IllegalTimeArithmetic {
+            switch (method.getName()) {
+                case "getValue":
+                    return value;
+                case "isInitial":
+                case "isZero":
+                    return value == 0;
+                case "isFinal":
+                    return value == Long.MAX_VALUE;
+                case "isEpsilon":
+                    return value == 1;
+                case "add":
+                    return make(value, valueOf(args[0]));
+                case "subtract":
+                    return make(value, -valueOf(args[0]));
+                case "distance":
+                    return interval(Math.abs(value - valueOf(args[0])));
+                case "compareTo":
+                    return Long.compare(value, valueOf(args[0]));
+                case "equals":
+                    return args[0] instanceof Proxy && Proxy.getInvocationHandler(args[0]) instanceof TimeHandler
+                            && ((TimeHandler) Proxy.getInvocationHandler(args[0])).interval == interval
+                            && ((TimeHandler) Proxy.getInvocationHandler(args[0])).value == value;
+                case "hashCode":
+                    return Long.hashCode(value);
+                case "toString":
+                    return (interval ? "HLAinteger64Interval(" : "HLAinteger64Time(") + value + ")";
+                case "encodedLength":
+                    return 8;
+                case "encode":
+                    return LoopbackValues.encode(method, value, (byte[]) args[0], (int) args[1]);
+                case "getName":
+                    return TIME_NAME;
+                default:
+                    throw new UnsupportedOperationException(method.getName());
+            }
+        }
+
+        // Neither times nor intervals of this representation can be negative.
+        private Object make(long augend, long addend) throws IllegalTimeArithmetic {
+            long result;
+            try {
+                result = Math.addExact(augend, addend);
+            } catch (ArithmeticException e) {
+                result = -1;
+            }
+
+            if (result < 0) {
+                throw new IllegalTimeArithmetic("The result of " + augend + " + " + addend + " is out of the range of " + TIME_NAME + ".");
+            }
+
+            return interval ? interval(result) : time(result);
+        }
+    }
+
+    private static final class TimeFactoryHandler implements InvocationHandler {
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws CouldNotDecode {
+            switch (method.getName()) {
+                case "makeTime": return time((long) args[0]);
+                case "makeInterval": return interval((long) args[0]);
+                case "makeInitial":
+                case "makeZero": return method.getName().equals("makeZero") ? interval(0) : time(0);
+                case "makeFinal": return time(Long.MAX_VALUE);
+                case "makeEpsilon": return interval(1);
+                case "decodeTime": return time(decode((byte[]) args[0], (int) args[1]));
+                case "decodeInterval": return interval(decode((byte[]) args[0], (int) args[1]));
+                case "getName": return TIME_NAME;
+                default: throw new UnsupportedOperationException(method.getName());
+            }
+        }
+    }
+}
@@ -0,0 +1,163 @@
+/*****************************************************************
+ SEE HLA Starter Kit Framework -  A Java library that supports
+ the development of HLA Federates in the Simulation Exploration
+ Experience (SEE) program.
+
+ Copyright (c) 2014, 2026 SMASH Lab - University of Calabria
+ (Italy), Hridyanshu Aatreya - Modelling & Simulation Group (MSG)
+ at Brunel University of London. All rights reserved.
+
+ GNU Lesser General Public License (GNU LGPL).
+
+ This library is free software; you can redistribute it and/or
+ modify it under the terms of the GNU Lesser General Public
+ License as published by the Free Software Foundation; either
+ version 3.0 of the License, or (at your option) any later version.
+
+ This library is distributed in the hope that it will be useful,
+ but WITHOUT ANY WARRANTY; without even the implied warranty of
+ MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ Lesser General Public License for more details.
+
+ You should have received a copy of the GNU Lesser General Public
+ License along with this library.
+ If not, see http://http://www.gnu.org/licenses/
+ *****************************************************************/
+
+package org.see.skf.metrics;
+
+/**
+ * The metrics the framework records for every federate, in the registry of its context. Latencies are in nanoseconds.
+ * <ul>
+ *     <li>{@value #REFLECTIONS}, {@value #INTERACTIONS_RECEIVED}, {@value #DISCOVERIES}, {@value #REMOVALS}: callbacks
+ *     received from the RTI.</li>
+ *     <li>{@value #UPDATES_SENT}, {@value #INTERACTIONS_SENT}: attribute updates and interactions sent to the RTI.</li>
+ *     <li>{@value #BYTES_ENCODED}, {@value #BYTES_DECODED}: encoded attribute and parameter values sent and
+ *     received.</li>
+ *     <li>{@value #REFLECTION_DECODE_LATENCY}, {@value #INTERACTION_DECODE_LATENCY}: time spent decoding a reflection
+ *     or an interaction into its Java object.</li>
+ *     <li>{@value #FRAME_TIME}, {@value #TIME_ADVANCE_WAIT}, {@value #UPDATE_DURATION}: one iteration of the simulation
+ *     loop, the part of it spent waiting for the time advance grant, and the part spent in update().</li>
+ *     <li>{@value #ENTITIES}: object instances known to the federate, local and remote.</li>
+ * </ul>
+ *
+ * @since 2.0
+ */
+public final class FederateMetrics {
+    public static final String REFLECTIONS = "skf.callbacks.reflections";
+    public static final String INTERACTIONS_RECEIVED = "skf.callbacks.interactions";
+    public static final String DISCOVERIES = "skf.callbacks.discoveries";
+    public static final String REMOVALS = "skf.callbacks.removals";
+    public static final String UPDATES_SENT = "skf.sent.updates";
+    public static final String INTERACTIONS_SENT = "skf.sent.interactions";
+    public static final String BYTES_ENCODED = "skf.bytes.encoded";
+    public static final String BYTES_DECODED = "skf.bytes.decoded";
+    public static final String REFLECTION_DECODE_LATENCY = "skf.decode.reflection";
+    public static final String INTERACTION_DECODE_LATENCY = "skf.decode.interaction";
+    public static final String FRAME_TIME = "skf.frame.time";
+    public static final String TIME_ADVANCE_WAIT = "skf.frame.timeAdvanceWait";
+    public static final String UPDATE_DURATION = "skf.frame.update";
+    public static final String ENTITIES = "skf.entities";
+
+    private final Counter reflections;
+    private final Counter interactionsReceived;
+    private final Counter discoveries;
+    private final Counter removals;
+    private final Counter updatesSent;
+    private final Counter interactionsSent;
+    private final Counter bytesEncoded;
+    private final Counter bytesDecoded;
+    private final Histogram reflectionDecodeLatency;
+    private final Histogram interactionDecodeLatency;
+    private final Histogram frameTime;
+    private final Histogram timeAdvanceWait;
+    private final Histogram updateDuration;
+
+    public FederateMetrics(MetricsRegistry registry) {
+        reflections = registry.counter(REFLECTIONS);
+        interactionsReceived = registry.counter(INTERACTIONS_RECEIVED);
+        discoveries = registry.counter(DISCOVERIES);
+        removals = registry.counter(REMOVALS);
+        updatesSent = registry.counter(UPDATES_SENT);
+        interactionsSent = registry.counter(INTERACTIONS_SENT);
+        bytesEncoded = registry.counter(BYTES_ENCODED);
+        bytesDecoded = registry.counter(BYTES_DECODED);
+        reflectionDecodeLatency = registry.histogram(REFLECTION_DECODE_LATENCY);
+        interactionDecodeLatency = registry.histogram(INTERACTION_DECODE_LATENCY);
+        frameTime = registry.histogram(FRAME_TIME);
+        timeAdvanceWait = registry.histogram(TIME_ADVANCE_WAIT);
+        updateDuration = registry.histogram(UPDATE_DURATION);
+    }
+
+    public Counter getReflections() {
+        return reflections;
+    }
+
+    public Counter getInteractionsReceived() {
+        return interactionsReceived;
+    }
+
+    public Counter getDiscoveries() {
+        return discoveries;
+    }
+
+    public Counter getRemovals() {
+        return removals;
+    }
+
+    /**
+     * @return The number of reflections, interactions, discoveries and removals received from the RTI.
+     */
+    public long getCallbacksReceived() {
+        return reflections.getCount() + interactionsReceived.getCount() + discoveries.getCount() + removals.getCount();
+    }
+
+    public Counter getUpdatesSent() {
+        return updatesSent;
+    }
+
+    public Counter getInteractionsSent() {
+        return interactionsSent;
+    }
+
+    public Counter getBytesEncoded() {
+        return bytesEncoded;
+    }
+
+    public Counter getBytesDecoded() {
+        return bytesDecoded;
+    }
+
+    public Histogram getReflectionDecodeLatency() {
+        return reflectionDecodeLatency;
+    }
+
+    public Histogram getInteractionDecodeLatency() {
+        return interactionDecodeLatency;
+    }
+
+    public Histogram getFrameTime() {
+        return frameTime;
+    }
+
+    public Histogram getTimeAdvanceWait() {
+        return timeAdvanceWait;
+    }
+
+    public Histogram getUpdateDuration() {
+        return updateDuration;
+    }
+
+    /**
+     * @param encodedValues Encoded attribute or parameter values.
+     * @return The number of bytes the values take up.
+     */
+    public static long encodedLength(Iterable<byte[]> encodedValues) {
+        long length = 0L;
+        for (byte[] encodedValue : encodedValues) {
+            length += encodedValue.length;
+        }
+
+        return length;
+    }
+}
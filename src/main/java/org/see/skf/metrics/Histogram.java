@@ -0,0 +1,120 @@
+/*****************************************************************
+ SEE HLA Starter Kit Framework -  A Java library that supports
+ the development of HLA Federates in the Simulation Exploration
+ Experience (SEE) program.
+
+ Copyright (c) 2014, 2026 SMASH Lab - University of Calabria
+ (Italy), Hridyanshu Aatreya - Modelling & Simulation Group (MSG)
+ at Brunel University of London. All rights reserved.
+
+ GNU Lesser General Public License (GNU LGPL).
+
+ This library is free software; you can redistribute it and/or
+ modify it under the terms of the GNU Lesser General Public
+ License as published by the Free Software Foundation; either
+ version 3.0 of the License, or (at your option) any later version.
+
+ This library is distributed in the hope that it will be useful,
+ but WITHOUT ANY WARRANTY; without even the implied warranty of
+ MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ Lesser General Public License for more details.
+
+ You should have received a copy of the GNU Lesser General Public
+ License along with this library.
+ If not, see http://http://www.gnu.org/licenses/
+ *****************************************************************/
+
+package org.see.skf.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A lock-free histogram of non-negative values, typically latencies in nanoseconds. Buckets follow the layout of
+ * HdrHistogram: every power of two is split into 64 linear sub-buckets, so any recorded value is reported with a relative
+ * error below 1/64 across the whole range of long, in a fixed table of 3712 counts. Recording a value is a handful of
+ * uncontended atomic operations and never allocates.
+ *
+ * @since 2.0
+ */
+public final class Histogram {
+    private static final int SUB_BUCKET_BITS = 7;
+    private static final int SUB_BUCKET_HALF = 1 << (SUB_BUCKET_BITS - 1);
+    private static final long SUB_BUCKET_MASK = (1L << SUB_BUCKET_BITS) - 1;
+
+    static final int BUCKET_COUNT = (Long.SIZE - SUB_BUCKET_BITS + 1) * SUB_BUCKET_HALF;
+
+    private final AtomicLongArray counts;
+    private final LongAdder total;
+    private final AtomicLong min;
+    private final AtomicLong max;
+
+    /**
+     * Creates a histogram of its own. Histograms reported with the metrics of a federate come from
+     * {@link MetricsRegistry#histogram(String)} instead.
+     */
+    public Histogram() {
+        counts = new AtomicLongArray(BUCKET_COUNT);
+        total = new LongAdder();
+        min = new AtomicLong(Long.MAX_VALUE);
+        max = new AtomicLong(Long.MIN_VALUE);
+    }
+
+    /**
+     * @param value The value to record; negative values are recorded as zero.
+     */
+    public void record(long value) {
+        long recorded = Math.max(0L, value);
+
+        counts.incrementAndGet(indexOf(recorded));
+        total.add(recorded);
+
+        long currentMin = min.get();
+        while (recorded < currentMin && !min.compareAndSet(currentMin, recorded)) {
+            currentMin = min.get();
+        }
+
+        long currentMax = max.get();
+        while (recorded > currentMax && !max.compareAndSet(currentMax, recorded)) {
+            currentMax = max.get();
+        }
+    }
+
+    /**
+     * Records the nanoseconds elapsed since the given instant.
+     * @param startNanos A value previously returned by {@link System#nanoTime()}.
+     */
+    public void recordSince(long startNanos) {
+        record(System.nanoTime() - startNanos);
+    }
+
+    /**
+     * @return The distribution of the values recorded so far. Values recorded while the snapshot is taken may or may not
+     * be part of it.
+     */
+    public HistogramSnapshot snapshot() {
+        long[] snapshotCounts = new long[BUCKET_COUNT];
+        long count = 0L;
+
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            snapshotCounts[i] = counts.get(i);
+            count += snapshotCounts[i];
+        }
+
+        return new HistogramSnapshot(snapshotCounts, count, total.sum(), min.get(), max.get());
+    }
+
+    static int indexOf(long value) {
+        int shift = Long.SIZE - SUB_BUCKET_BITS - Long.numberOfLeadingZeros(value | SUB_BUCKET_MASK);
+        return (shift * SUB_BUCKET_HALF) + (int) (value >>> shift);
+    }
+
+    static long highestValueAt(int index) {
+        int shift = Math.max(0, (index / SUB_BUCKET_HALF) - 1);
+        long subBucket = index - ((long) shift * SUB_BUCKET_HALF);
+        long lowest = subBucket << shift;
+
+        return lowest + ((1L << shift) - 1);
+    }
+}
@@ -0,0 +1,110 @@
+/*****************************************************************
+ SEE HLA Starter Kit Framework -  A Java library that supports
+ the development of HLA Federates in the Simulation Exploration
+ Experience (SEE) program.
+
+ Copyright (c) 2014, 2026 SMASH Lab - University of Calabria
+ (Italy), Hridyanshu Aatreya - Modelling & Simulation Group (MSG)
+ at Brunel University of London. All rights reserved.
+
+ GNU Lesser General Public License (GNU LGPL).
+
+ This library is free software; you can redistribute it and/or
+ modify it under the terms of the GNU Lesser General Public
+ License as published by the Free Software Foundation; either
+ version 3.0 of the License, or (at your option) any later version.
+
+ This library is distributed in the hope that it will be useful,
+ but WITHOUT ANY WARRANTY; without even the implied warranty of
+ MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ Lesser General Public License for more details.
+
+ You should have received a copy of the GNU Lesser General Public
+ License along with this library.
+ If not, see http://http://www.gnu.org/licenses/
+ *****************************************************************/
+
+package org.see.skf.metrics;
+
+/**
+ * The distribution of the values a {@link Histogram} had recorded when the snapshot was taken. Percentiles are reported
+ * as the highest value of the bucket they fall in, capped at the largest recorded value.
+ *
+ * @since 2.0
+ */
+public final class HistogramSnapshot {
+    private final long[] counts;
+    private final long count;
+    private final long total;
+    private final long min;
+    private final long max;
+
+    HistogramSnapshot(long[] counts, long count, long total, long min, long max) {
+        this.counts = counts;
+        this.count = count;
+        this.total = total;
+        this.min = min;
+        this.max = max;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * @return The smallest recorded value, or 0 if none was recorded.
+     */
+    public long getMin() {
+        return (count > 0L) ? min : 0L;
+    }
+
+    /**
+     * @return The largest recorded value, or 0 if none was recorded.
+     */
+    public long getMax() {
+        return (count > 0L) ? max : 0L;
+    }
+
+    /**
+     * @return The mean of the recorded values, or 0 if none was recorded.
+     */
+    public double getMean() {
+        return (count > 0L) ? (double) total / count : 0.0;
+    }
+
+    /**
+     * @param percentile The percentile, between 0 and 100.
+     * @return The value below or at which the given percentage of the recorded values lie, or 0 if none was recorded.
+     */
+    public long getValueAtPercentile(double percentile) {
+        if (count == 0L) {
+            return 0L;
+        }
+
+        double clamped = Math.min(100.0, Math.max(0.0, percentile));
+        long rank = Math.max(1L, (long) Math.ceil((clamped / 100.0) * count));
+        long seen = 0L;
+
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+
+            if (seen >= rank) {
+                return Math.min(Histogram.highestValueAt(i), max);
+            }
+        }
+
+        return max;
+    }
+
+    @Override
+    public String toString() {
+        return "count=" + count
+                + ", min=" + getMin()
+                + ", mean=" + Math.round(getMean())
+                + ", p50=" + getValueAtPercentile(50.0)
+                + ", p90=" + getValueAtPercentile(90.0)
+                + ", p99=" + getValueAtPercentile(99.0)
+                + ", p99.9=" + getValueAtPercentile(99.9)
+                + ", max=" + getMax();
+    }
+}
@@ -0,0 +1,56 @@
+/*****************************************************************
+ SEE HLA Starter Kit Framework -  A Java library that supports
+ the development of HLA Federates in the Simulation Exploration
+ Experience (SEE) program.
+
+ Copyright (c) 2014, 2026 SMASH Lab - University of Calabria
+ (Italy), Hridyanshu Aatreya - Modelling & Simulation Group (MSG)
+ at Brunel University of London. All rights reserved.
+
+ GNU Lesser General Public License (GNU LGPL).
+
+ This library is free software; you can redistribute it and/or
+ modify it under the terms of the GNU Lesser General Public
+ License as published by the Free Software Foundation; either
+ version 3.0 of the License, or (at your option) any later version.
+
+ This library is distributed in the hope that it will be useful,
+ but WITHOUT ANY WARRANTY; without even the implied warranty of
+ MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ Lesser General Public License for more details.
+
+ You should have received a copy of the GNU Lesser General Public
+ License along with this library.
+ If not, see http://http://www.gnu.org/licenses/
+ *****************************************************************/
+
+package org.see.skf.metrics;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+
+/**
+ * Writes every metric of a snapshot to the log at INFO level, one line per metric.
+ *
+ * @since 2.0
+ */
+public final class LoggingMetricsReporter implements MetricsReporter {
+    private static final Logger logger = LoggerFactory.getLogger(LoggingMetricsReporter.class);
+
+    @Override
+    public void report(MetricsSnapshot snapshot) {
+        for (Map.Entry<String, Long> counter : snapshot.getCounters().entrySet()) {
+            logger.info("{}: {}", counter.getKey(), counter.getValue());
+        }
+
+        for (Map.Entry<String, Long> gauge : snapshot.getGauges().entrySet()) {
+            logger.info("{}: {}", gauge.getKey(), gauge.getValue());
+        }
+
+        for (Map.Entry<String, HistogramSnapshot> histogram : snapshot.getHistograms().entrySet()) {
+            logger.info("{}: {}", histogram.getKey(), histogram.getValue());
+        }
+    }
+}
@@ -0,0 +1,157 @@
+/*****************************************************************
+ SEE HLA Starter Kit Framework -  A Java library that supports
+ the development of HLA Federates in the Simulation Exploration
+ Experience (SEE) program.
+
+ Copyright (c) 2014, 2026 SMASH Lab - University of Calabria
+ (Italy), Hridyanshu Aatreya - Modelling & Simulation Group (MSG)
+ at Brunel University of London. All rights reserved.
+
+ GNU Lesser General Public License (GNU LGPL).
+
+ This library is free software; you can redistribute it and/or
+ modify it under the terms of the GNU Lesser General Public
+ License as published by the Free Software Foundation; either
+ version 3.0 of the License, or (at your option) any later version.
+
+ This library is distributed in the hope that it will be useful,
+ but WITHOUT ANY WARRANTY; without even the implied warranty of
+ MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ Lesser General Public License for more details.
+
+ You should have received a copy of the GNU Lesser General Public
+ License along with this library.
+ If not, see http://http://www.gnu.org/licenses/
+ *****************************************************************/
+
+package org.see.skf.metrics;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Named counters, gauges and histograms of a federate. Metrics are created on first use and kept for the lifetime of
+ * the registry; code on hot paths looks its metrics up once and keeps the references, since recording is then lock-free
+ * and allocation-free. Snapshots of all metrics can be taken at any time, or pushed periodically to reporters.
+ *
+ * @see org.see.skf.core.FederateContext#getMetrics()
+ * @since 2.0
+ */
+public final class MetricsRegistry {
+    private static final Logger logger = LoggerFactory.getLogger(MetricsRegistry.class);
+    private static final AtomicInteger reporterCount = new AtomicInteger();
+
+    private final ConcurrentMap<String, Counter> counters;
+    private final ConcurrentMap<String, Gauge> gauges;
+    private final ConcurrentMap<String, Histogram> histograms;
+    private ScheduledExecutorService reportingExecutor;
+
+    public MetricsRegistry() {
+        counters = new ConcurrentHashMap<>();
+        gauges = new ConcurrentHashMap<>();
+        histograms = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * @param name The name of the counter.
+     * @return The counter of the given name, created if needed.
+     */
+    public Counter counter(String name) {
+        Counter counter = counters.get(name);
+        return (counter != null) ? counter : counters.computeIfAbsent(checkUnique(name, counters), key -> new Counter());
+    }
+
+    /**
+     * Registers a gauge, replacing any gauge previously registered under the same name.
+     * @param name The name of the gauge.
+     * @param gauge The gauge.
+     */
+    public void gauge(String name, Gauge gauge) {
+        gauges.put(checkUnique(name, gauges), gauge);
+    }
+
+    /**
+     * @param name The name of the histogram.
+     * @return The histogram of the given name, created if needed.
+     */
+    public Histogram histogram(String name) {
+        Histogram histogram = histograms.get(name);
+        return (histogram != null) ? histogram : histograms.computeIfAbsent(checkUnique(name, histograms), key -> new Histogram());
+    }
+
+    private String checkUnique(String name, Map<String, ?> owner) {
+        for (Map<?, ?> metrics : new Map<?, ?>[] {counters, gauges, histograms}) {
+            if (metrics != owner && metrics.containsKey(name)) {
+                throw new IllegalArgumentException("A metric of another kind is already registered under the name \"" + name + "\".");
+            }
+        }
+
+        return name;
+    }
+
+    /**
+     * @return The current values of all metrics.
+     */
+    public MetricsSnapshot snapshot() {
+        Map<String, Long> counterValues = new TreeMap<>();
+        counters.forEach((name, counter) -> counterValues.put(name, counter.getCount()));
+
+        Map<String, Long> gaugeValues = new TreeMap<>();
+        gauges.forEach((name, gauge) -> gaugeValues.put(name, gauge.getValue()));
+
+        Map<String, HistogramSnapshot> histogramValues = new TreeMap<>();
+        histograms.forEach((name, histogram) -> histogramValues.put(name, histogram.snapshot()));
+
+        return new MetricsSnapshot(System.currentTimeMillis(), counterValues, gaugeValues, histogramValues);
+    }
+
+    /**
+     * Sends a snapshot to the reporter at a fixed rate, on a daemon thread shared by all reporters of this registry.
+     * @param reporter The reporter.
+     * @param period The reporting period.
+     * @param unit The unit of the period.
+     */
+    public synchronized void startReporting(MetricsReporter reporter, long period, TimeUnit unit) {
+        if (reportingExecutor == null) {
+            reportingExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "skf-metrics-reporter-" + reporterCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+
+        reportingExecutor.scheduleAtFixedRate(() -> report(reporter), period, period, unit);
+    }
+
+    /**
+     * Stops all periodic reporting. Reporters are not sent a final snapshot; call {@link #report(MetricsReporter)} for
+     * that.
+     */
+    public synchronized void stopReporting() {
+        if (reportingExecutor != null) {
+            reportingExecutor.shutdownNow();
+            reportingExecutor = null;
+        }
+    }
+
+    /**
+     * Sends a snapshot to the reporter on the calling thread.
+     * @param reporter The reporter.
+     */
+    public void report(MetricsReporter reporter) {
+        try {
+            reporter.report(snapshot());
+        } catch (RuntimeException e) {
+            logger.error("The metrics reporter <{}> failed to report a snapshot.", reporter, e);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+/*****************************************************************
+ SEE HLA Starter Kit Framework -  A Java library that supports
+ the development of HLA Federates in the Simulation Exploration
+ Experience (SEE) program.
+
+ Copyright (c) 2014, 2026 SMASH Lab - University of Calabria
+ (Italy), Hridyanshu Aatreya - Modelling & Simulation Group (MSG)
+ at Brunel University of London. All rights reserved.
+
+ GNU Lesser General Public License (GNU LGPL).
+
+ This library is free software; you can redistribute it and/or
+ modify it under the terms of the GNU Lesser General Public
+ License as published by the Free Software Foundation; either
+ version 3.0 of the License, or (at your option) any later version.
+
+ This library is distributed in the hope that it will be useful,
+ but WITHOUT ANY WARRANTY; without even the implied warranty of
+ MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ Lesser General Public License for more details.
+
+ You should have received a copy of the GNU Lesser General Public
+ License along with this library.
+ If not, see http://http://www.gnu.org/licenses/
+ *****************************************************************/
+
+package org.see.skf.metrics;
+
+/**
+ * Receives the snapshots of a {@link MetricsRegistry}, e.g. to log them or to push them to a monitoring system.
+ *
+ * @see MetricsRegistry#startReporting(MetricsReporter, long, java.util.concurrent.TimeUnit)
+ * @since 2.0
+ */
+@FunctionalInterface
+public interface MetricsReporter {
+    /**
+     * Called on the reporting thread of the registry; an exception thrown here is logged and does not stop reporting.
+     * @param snapshot The values of all metrics of the registry.
+     */
+    void report(MetricsSnapshot snapshot);
+}
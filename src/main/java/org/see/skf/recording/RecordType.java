@@ -0,0 +1,81 @@
+/*****************************************************************
+ SEE HLA Starter Kit Framework -  A Java library that supports
+ the development of HLA Federates in the Simulation Exploration
+ Experience (SEE) program.
+
+ Copyright (c) 2014, 2026 SMASH Lab - University of Calabria
+ (Italy), Hridyanshu Aatreya - Modelling & Simulation Group (MSG)
+ at Brunel University of London. All rights reserved.
+
+ GNU Lesser General Public License (GNU LGPL).
+
+ This library is free software; you can redistribute it and/or
+ modify it under the terms of the GNU Lesser General Public
+ License as published by the Free Software Foundation; either
+ version 3.0 of the License, or (at your option) any later version.
+
+ This library is distributed in the hope that it will be useful,
+ but WITHOUT ANY WARRANTY; without even the implied warranty of
+ MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ Lesser General Public License for more details.
+
+ You should have received a copy of the GNU Lesser General Public
+ License along with this library.
+ If not, see http://http://www.gnu.org/licenses/
+ *****************************************************************/
+
+package org.see.skf.recording;
+
+/**
+ * The kinds of records in a traffic recording. Class definitions map the handles found in the other records to the
+ * names of the FOM, so that a recording can be read back against an RTI that assigns different handles.
+ *
+ * @since 2.0
+ */
+public enum RecordType {
+    /** An object class and the handles of its attributes. */
+    OBJECT_CLASS_DEFINITION(1),
+    /** An interaction class and the handles of its parameters. */
+    INTERACTION_CLASS_DEFINITION(2),
+    /** A remote object instance was discovered. */
+    DISCOVERY(3),
+    /** A remote object instance was removed. */
+    REMOVAL(4),
+    /** Attribute values of a remote object instance were reflected. */
+    REFLECTION(5),
+    /** Attribute values of an object instance owned by this federate were sent to the RTI. */
+    UPDATE(6),
+    /** An interaction was received. */
+    RECEIVED_INTERACTION(7),
+    /** An interaction was sent to the RTI. */
+    SENT_INTERACTION(8);
+
+    private static final RecordType[] BY_CODE;
+
+    static {
+        RecordType[] types = values();
+        BY_CODE = new RecordType[types.length + 1];
+
+        for (RecordType type : types) {
+            BY_CODE[type.code] = type;
+        }
+    }
+
+    private final byte code;
+
+    RecordType(int code) {
+        this.code = (byte) code;
+    }
+
+    byte getCode() {
+        return code;
+    }
+
+    static RecordType fromCode(byte code) {
+        if (code <= 0 || code >= BY_CODE.length) {
+            throw new IllegalStateException("Unknown record type " + code + " in the traffic recording.");
+        }
+
+        return BY_CODE[code];
+    }
+}
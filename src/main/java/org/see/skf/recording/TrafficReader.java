@@ -0,0 +1,186 @@
+/*****************************************************************
+ SEE HLA Starter Kit Framework -  A Java library that supports
+ the development of HLA Federates in the Simulation Exploration
+ Experience (SEE) program.
+
+ Copyright (c) 2014, 2026 SMASH Lab - University of Calabria
+ (Italy), Hridyanshu Aatreya - Modelling & Simulation Group (MSG)
+ at Brunel University of London. All rights reserved.
+
+ GNU Lesser General Public License (GNU LGPL).
+
+ This library is free software; you can redistribute it and/or
+ modify it under the terms of the GNU Lesser General Public
+ License as published by the Free Software Foundation; either
+ version 3.0 of the License, or (at your option) any later version.
+
+ This library is distributed in the hope that it will be useful,
+ but WITHOUT ANY WARRANTY; without even the implied warranty of
+ MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ Lesser General Public License for more details.
+
+ You should have received a copy of the GNU Lesser General Public
+ License along with this library.
+ If not, see http://http://www.gnu.org/licenses/
+ *****************************************************************/
+
+package org.see.skf.recording;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Reads the records of a traffic recording back in the order they were written, segment by segment.
+ *
+ * @since 2.0
+ */
+public final class TrafficReader {
+    private static final Logger logger = LoggerFactory.getLogger(TrafficReader.class);
+
+    private final Path directory;
+    private final List<Path> segments;
+    private int nextSegment;
+    private MappedByteBuffer segment;
+
+    private TrafficReader(Path directory, List<Path> segments) {
+        this.directory = directory;
+        this.segments = segments;
+    }
+
+    /**
+     * Opens the recording in the given directory.
+     * @param directory The directory holding the segment files.
+     * @return The reader, positioned before the first record.
+     * @throws IOException If the directory cannot be listed.
+     */
+    public static TrafficReader open(Path directory) throws IOException {
+        return new TrafficReader(directory, TrafficRecorder.listSegments(directory));
+    }
+
+    /**
+     * Reads the next record.
+     * @param record The record to fill in.
+     * @return true if a record was read; false at the end of the recording.
+     * @throws IOException If a segment cannot be mapped or is not part of a traffic recording.
+     */
+    public boolean next(TrafficRecord record) throws IOException {
+        while (!hasRecord()) {
+            if (nextSegment == segments.size()) {
+                segment = null;
+                return false;
+            }
+
+            openSegment(segments.get(nextSegment++));
+        }
+
+        int length = segment.getInt();
+        int end = segment.position() + length;
+        read(record);
+
+        if (segment.position() != end) {
+            throw new IOException("Malformed " + record.type + " record in the traffic recording <" + directory + ">.");
+        }
+
+        return true;
+    }
+
+    private boolean hasRecord() {
+        if (segment == null || segment.remaining() < Integer.BYTES) {
+            return false;
+        }
+
+        int length = segment.getInt(segment.position());
+        if (length > segment.remaining() - Integer.BYTES) {
+            logger.warn("Ignored a truncated record at the end of a segment of the traffic recording <{}>.", directory);
+            return false;
+        }
+
+        return length > 0;
+    }
+
+    private void openSegment(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            segment = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+
+        segment.order(TrafficRecorder.BYTE_ORDER);
+        if (segment.remaining() < TrafficRecorder.SEGMENT_HEADER_LENGTH || segment.getInt() != TrafficRecorder.MAGIC) {
+            throw new IOException("The file <" + path + "> is not a segment of a traffic recording.");
+        }
+
+        int version = segment.getInt();
+        if (version != TrafficRecorder.VERSION) {
+            throw new IOException("Unsupported version " + version + " of the traffic recording segment <" + path + ">.");
+        }
+
+        segment.getLong();
+    }
+
+    private void read(TrafficRecord record) {
+        record.type = RecordType.fromCode(segment.get());
+        record.wallTimeMicros = segment.getLong();
+        record.logicalTime = segment.getLong();
+        record.handle = readHandle();
+        record.classHandle = null;
+        record.name = null;
+        record.memberCount = 0;
+
+        switch (record.type) {
+            case OBJECT_CLASS_DEFINITION:
+            case INTERACTION_CLASS_DEFINITION:
+                record.name = readName();
+                readMembers(record, false);
+                break;
+            case DISCOVERY:
+                record.classHandle = readHandle();
+                record.name = readName();
+                break;
+            case REMOVAL:
+                break;
+            default:
+                readMembers(record, true);
+                break;
+        }
+    }
+
+    private void readMembers(TrafficRecord record, boolean withValues) {
+        int count = segment.getInt();
+        record.ensureMemberCapacity(count);
+
+        for (int i = 0; i < count; i++) {
+            record.memberHandles[i] = readHandle();
+
+            if (withValues) {
+                byte[] value = new byte[segment.getInt()];
+                segment.get(value);
+                record.values[i] = value;
+                record.memberNames[i] = null;
+            } else {
+                record.values[i] = null;
+                record.memberNames[i] = readName();
+            }
+        }
+
+        record.memberCount = count;
+    }
+
+    private byte[] readHandle() {
+        byte[] handle = new byte[segment.get() & 0xFF];
+        segment.get(handle);
+        return handle;
+    }
+
+    private String readName() {
+        byte[] name = new byte[segment.getShort() & 0xFFFF];
+        segment.get(name);
+        return new String(name, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,146 @@
+/*****************************************************************
+ SEE HLA Starter Kit Framework -  A Java library that supports
+ the development of HLA Federates in the Simulation Exploration
+ Experience (SEE) program.
+
+ Copyright (c) 2014, 2026 SMASH Lab - University of Calabria
+ (Italy), Hridyanshu Aatreya - Modelling & Simulation Group (MSG)
+ at Brunel University of London. All rights reserved.
+
+ GNU Lesser General Public License (GNU LGPL).
+
+ This library is free software; you can redistribute it and/or
+ modify it under the terms of the GNU Lesser General Public
+ License as published by the Free Software Foundation; either
+ version 3.0 of the License, or (at your option) any later version.
+
+ This library is distributed in the hope that it will be useful,
+ but WITHOUT ANY WARRANTY; without even the implied warranty of
+ MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ Lesser General Public License for more details.
+
+ You should have received a copy of the GNU Lesser General Public
+ License along with this library.
+ If not, see http://http://www.gnu.org/licenses/
+ *****************************************************************/
+
+package org.see.skf.recording;
+
+/**
+ * A record read back from a traffic recording. The reader refills the same instance for every record; the handles and
+ * values it hands out are fresh arrays that remain valid after the next record is read.
+ * <p>
+ * Handles are kept in the encoding of the RTI that made the recording. The class definitions give the FOM names they
+ * stand for.
+ *
+ * @since 2.0
+ */
+public final class TrafficRecord {
+    private static final byte[][] NO_BYTES = new byte[0][];
+    private static final String[] NO_NAMES = new String[0];
+
+    RecordType type;
+    long wallTimeMicros;
+    long logicalTime;
+    byte[] handle;
+    byte[] classHandle;
+    String name;
+    int memberCount;
+    byte[][] memberHandles = NO_BYTES;
+    byte[][] values = NO_BYTES;
+    String[] memberNames = NO_NAMES;
+
+    void ensureMemberCapacity(int count) {
+        if (memberHandles.length < count) {
+            memberHandles = new byte[count][];
+            values = new byte[count][];
+            memberNames = new String[count];
+        }
+    }
+
+    public RecordType getType() {
+        return type;
+    }
+
+    /**
+     * @return Wall-clock time of the record in microseconds since the epoch.
+     */
+    public long getWallTimeMicros() {
+        return wallTimeMicros;
+    }
+
+    /**
+     * @return Logical time of the federate when the record was made, or {@link TrafficRecorder#NO_TIME}.
+     */
+    public long getLogicalTime() {
+        return logicalTime;
+    }
+
+    public boolean hasLogicalTime() {
+        return logicalTime != TrafficRecorder.NO_TIME;
+    }
+
+    /**
+     * @return The encoded object instance handle of discovery, removal, reflection and update records, or the encoded
+     * class handle of definitions and interactions.
+     */
+    public byte[] getHandle() {
+        return handle;
+    }
+
+    /**
+     * @return The encoded object class handle of a discovery record; null for other records.
+     */
+    public byte[] getClassHandle() {
+        return classHandle;
+    }
+
+    /**
+     * @return The object instance name of a discovery record, or the class name of a definition; null for other records.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return The number of attributes or parameters in the record.
+     */
+    public int getMemberCount() {
+        return memberCount;
+    }
+
+    /**
+     * @return The encoded attribute or parameter handle at the given index.
+     */
+    public byte[] getMemberHandle(int index) {
+        checkIndex(index);
+        return memberHandles[index];
+    }
+
+    /**
+     * @return The encoded attribute or parameter value at the given index; null in definitions.
+     */
+    public byte[] getValue(int index) {
+        checkIndex(index);
+        return values[index];
+    }
+
+    /**
+     * @return The FOM name of the attribute or parameter at the given index of a definition; null for other records.
+     */
+    public String getMemberName(int index) {
+        checkIndex(index);
+        return memberNames[index];
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= memberCount) {
+            throw new IndexOutOfBoundsException("Member " + index + " of a record with " + memberCount + " member(s).");
+        }
+    }
+
+    @Override
+    public String toString() {
+        return type + "[logicalTime=" + logicalTime + ", wallTimeMicros=" + wallTimeMicros + ", members=" + memberCount + "]";
+    }
+}
@@ -0,0 +1,502 @@
+/*****************************************************************
+ SEE HLA Starter Kit Framework -  A Java library that supports
+ the development of HLA Federates in the Simulation Exploration
+ Experience (SEE) program.
+
+ Copyright (c) 2014, 2026 SMASH Lab - University of Calabria
+ (Italy), Hridyanshu Aatreya - Modelling & Simulation Group (MSG)
+ at Brunel University of London. All rights reserved.
+
+ GNU Lesser General Public License (GNU LGPL).
+
+ This library is free software; you can redistribute it and/or
+ modify it under the terms of the GNU Lesser General Public
+ License as published by the Free Software Foundation; either
+ version 3.0 of the License, or (at your option) any later version.
+
+ This library is distributed in the hope that it will be useful,
+ but WITHOUT ANY WARRANTY; without even the implied warranty of
+ MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ Lesser General Public License for more details.
+
+ You should have received a copy of the GNU Lesser General Public
+ License along with this library.
+ If not, see http://http://www.gnu.org/licenses/
+ *****************************************************************/
+
+package org.see.skf.recording;
+
+import hla.rti1516_2025.AttributeHandle;
+import hla.rti1516_2025.AttributeHandleValueMap;
+import hla.rti1516_2025.InteractionClassHandle;
+import hla.rti1516_2025.ObjectClassHandle;
+import hla.rti1516_2025.ObjectInstanceHandle;
+import hla.rti1516_2025.ParameterHandle;
+import hla.rti1516_2025.ParameterHandleValueMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Appends the encoded values of the reflections, updates and interactions seen by a federate to an append-only log of
+ * memory-mapped segment files. Values are copied into the mapped segment as they were handed to or received from the
+ * RTI, together with the handles they belong to, the logical time of the federate and the wall-clock time; recording a
+ * callback does not allocate once its handles have been encoded once.
+ * <p>
+ * A segment is a file of fixed size that starts with a header followed by length-prefixed records. When a record does
+ * not fit into the remaining space, a new segment is mapped and the class definitions recorded so far are repeated at
+ * its start, so every segment can be read on its own. Unused space at the end of a segment is left zeroed, which
+ * marks the end of its records. Records are written on the calling thread under the lock of the recorder.
+ * <p>
+ * A failure to map a new segment stops the recording instead of propagating into the RTI's callback thread.
+ *
+ * @since 2.0
+ */
+public final class TrafficRecorder implements Closeable {
+    private static final Logger logger = LoggerFactory.getLogger(TrafficRecorder.class);
+
+    /** Logical time of records captured while the federate had no logical time. */
+    public static final long NO_TIME = Long.MIN_VALUE;
+
+    static final int MAGIC = 0x534B4652;
+    static final int VERSION = 1;
+    static final int SEGMENT_HEADER_LENGTH = 2 * Integer.BYTES + Long.BYTES;
+    static final ByteOrder BYTE_ORDER = ByteOrder.LITTLE_ENDIAN;
+    static final String SEGMENT_PREFIX = "traffic-";
+    static final String SEGMENT_SUFFIX = ".skfr";
+
+    // Every record starts with its length, then its type, wall-clock time and logical time.
+    private static final int RECORD_HEADER_LENGTH = Integer.BYTES + 1 + 2 * Long.BYTES;
+    private static final int MIN_SEGMENT_SIZE = 4096;
+    private static final int MAX_HANDLE_LENGTH = 0xFF;
+    private static final int MAX_NAME_LENGTH = 0xFFFF;
+
+    private final Path directory;
+    private final int segmentSize;
+    private final long baseEpochMicros;
+    private final long baseNanos;
+    private final List<byte[]> definitions;
+    private int definitionsLength;
+
+    private MappedByteBuffer segment;
+    private long segmentIndex;
+    private int segmentCount;
+    private byte[] handleBuffer;
+    private long recordCount;
+    private long valueCount;
+    private boolean closed;
+
+    private TrafficRecorder(Path directory, int segmentSize, long firstSegmentIndex) {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.baseEpochMicros = System.currentTimeMillis() * 1000L;
+        this.baseNanos = System.nanoTime();
+        this.definitions = new ArrayList<>();
+        this.segmentIndex = firstSegmentIndex;
+        this.handleBuffer = new byte[16];
+    }
+
+    /**
+     * Opens a recording in the given directory. Segments already present in the directory are kept, and the new
+     * segments are numbered after them.
+     * @param directory The directory receiving the segment files; created if it does not exist.
+     * @param segmentSize The size of a segment in bytes. Records larger than a segment get a segment of their own.
+     * @return The recorder.
+     * @throws IOException If the directory or the first segment cannot be created.
+     */
+    public static TrafficRecorder open(Path directory, int segmentSize) throws IOException {
+        if (segmentSize < MIN_SEGMENT_SIZE) {
+            throw new IllegalArgumentException("Segments of a traffic recording must be at least " + MIN_SEGMENT_SIZE + " bytes long.");
+        }
+
+        Files.createDirectories(directory);
+        TrafficRecorder recorder = new TrafficRecorder(directory, segmentSize, nextSegmentIndex(directory));
+        recorder.openSegment(0);
+        logger.info("Recording federate traffic to <{}>.", directory);
+
+        return recorder;
+    }
+
+    static String segmentFileName(long index) {
+        return String.format(Locale.ROOT, "%s%08d%s", SEGMENT_PREFIX, index, SEGMENT_SUFFIX);
+    }
+
+    static List<Path> listSegments(Path directory) throws IOException {
+        List<Path> segments = new ArrayList<>();
+
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, SEGMENT_PREFIX + "*" + SEGMENT_SUFFIX)) {
+            for (Path path : stream) {
+                segments.add(path);
+            }
+        }
+
+        // Indices are zero-padded, so the names sort in the order the segments were written.
+        segments.sort(null);
+        return segments;
+    }
+
+    private static long nextSegmentIndex(Path directory) throws IOException {
+        List<Path> segments = listSegments(directory);
+
+        if (segments.isEmpty()) {
+            return 0L;
+        }
+
+        String lastName = segments.get(segments.size() - 1).getFileName().toString();
+        String index = lastName.substring(SEGMENT_PREFIX.length(), lastName.length() - SEGMENT_SUFFIX.length());
+
+        try {
+            return Long.parseLong(index) + 1L;
+        } catch (NumberFormatException e) {
+            throw new IOException("Unexpected segment file <" + lastName + "> in the traffic recording <" + directory + ">.", e);
+        }
+    }
+
+    /**
+     * Records the handles of an object class and its attributes. Definitions are expected once per class, before any
+     * record that refers to the class.
+     */
+    public synchronized void defineObjectClass(ObjectClassHandle classHandle, String className, Map<String, AttributeHandle> attributeHandles) {
+        if (closed) {
+            return;
+        }
+
+        List<byte[]> names = new ArrayList<>(attributeHandles.size());
+        List<byte[]> handles = new ArrayList<>(attributeHandles.size());
+        for (var entry : attributeHandles.entrySet()) {
+            names.add(encodeName(entry.getKey()));
+            handles.add(copyOf(entry.getValue()));
+        }
+
+        define(RecordType.OBJECT_CLASS_DEFINITION, copyOf(classHandle), encodeName(className), handles, names);
+    }
+
+    /**
+     * Records the handles of an interaction class and its parameters. Definitions are expected once per class, before
+     * any record that refers to the class.
+     */
+    public synchronized void defineInteractionClass(InteractionClassHandle classHandle, String className, Map<String, ParameterHandle> parameterHandles) {
+        if (closed) {
+            return;
+        }
+
+        List<byte[]> names = new ArrayList<>(parameterHandles.size());
+        List<byte[]> handles = new ArrayList<>(parameterHandles.size());
+        for (var entry : parameterHandles.entrySet()) {
+            names.add(encodeName(entry.getKey()));
+            handles.add(copyOf(entry.getValue()));
+        }
+
+        define(RecordType.INTERACTION_CLASS_DEFINITION, copyOf(classHandle), encodeName(className), handles, names);
+    }
+
+    private void define(RecordType type, byte[] classHandle, byte[] className, List<byte[]> memberHandles, List<byte[]> memberNames) {
+        int length = RECORD_HEADER_LENGTH + 1 + classHandle.length + Short.BYTES + className.length + Integer.BYTES;
+        for (int i = 0; i < memberHandles.size(); i++) {
+            length += 1 + memberHandles.get(i).length + Short.BYTES + memberNames.get(i).length;
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(length).order(BYTE_ORDER);
+        buffer.putInt(length - Integer.BYTES)
+                .put(type.getCode())
+                .putLong(wallTimeMicros())
+                .putLong(NO_TIME);
+        buffer.put((byte) classHandle.length).put(classHandle);
+        buffer.putShort((short) className.length).put(className);
+        buffer.putInt(memberHandles.size());
+        for (int i = 0; i < memberHandles.size(); i++) {
+            byte[] memberHandle = memberHandles.get(i);
+            byte[] memberName = memberNames.get(i);
+            buffer.put((byte) memberHandle.length).put(memberHandle);
+            buffer.putShort((short) memberName.length).put(memberName);
+        }
+
+        byte[] record = buffer.array();
+        if (ensureCapacity(record.length)) {
+            segment.put(record);
+            recordCount++;
+        }
+
+        // Added after writing, since a new segment would already have repeated it.
+        definitions.add(record);
+        definitionsLength += record.length;
+    }
+
+    public synchronized void recordDiscovery(ObjectInstanceHandle instanceHandle, ObjectClassHandle classHandle, String instanceName, long logicalTime) {
+        if (closed) {
+            return;
+        }
+
+        byte[] name = encodeName(instanceName);
+        int length = RECORD_HEADER_LENGTH + 1 + instanceHandle.encodedLength() + 1 + classHandle.encodedLength() + Short.BYTES + name.length;
+
+        if (ensureCapacity(length)) {
+            int start = beginRecord(RecordType.DISCOVERY, logicalTime);
+            putHandle(instanceHandle);
+            putHandle(classHandle);
+            segment.putShort((short) name.length).put(name);
+            endRecord(start);
+        }
+    }
+
+    public synchronized void recordRemoval(ObjectInstanceHandle instanceHandle, long logicalTime) {
+        if (closed) {
+            return;
+        }
+
+        int length = RECORD_HEADER_LENGTH + 1 + instanceHandle.encodedLength();
+
+        if (ensureCapacity(length)) {
+            int start = beginRecord(RecordType.REMOVAL, logicalTime);
+            putHandle(instanceHandle);
+            endRecord(start);
+        }
+    }
+
+    /**
+     * Records the attribute values of a reflection or an update.
+     * @param type {@link RecordType#REFLECTION} or {@link RecordType#UPDATE}.
+     */
+    public synchronized void recordAttributeValues(RecordType type, ObjectInstanceHandle instanceHandle, AttributeHandleValueMap attributeValues, long logicalTime) {
+        if (closed) {
+            return;
+        }
+
+        int length = RECORD_HEADER_LENGTH + 1 + instanceHandle.encodedLength() + Integer.BYTES;
+        for (var entry : attributeValues.entrySet()) {
+            length += 1 + entry.getKey().encodedLength() + Integer.BYTES + entry.getValue().length;
+        }
+
+        if (ensureCapacity(length)) {
+            int start = beginRecord(type, logicalTime);
+            putHandle(instanceHandle);
+            segment.putInt(attributeValues.size());
+            for (var entry : attributeValues.entrySet()) {
+                byte[] value = entry.getValue();
+                putHandle(entry.getKey());
+                segment.putInt(value.length).put(value);
+            }
+
+            endRecord(start);
+            valueCount += attributeValues.size();
+        }
+    }
+
+    /**
+     * Records the parameter values of an interaction that was received or sent.
+     * @param type {@link RecordType#RECEIVED_INTERACTION} or {@link RecordType#SENT_INTERACTION}.
+     */
+    public synchronized void recordParameterValues(RecordType type, InteractionClassHandle classHandle, ParameterHandleValueMap parameterValues, long logicalTime) {
+        if (closed) {
+            return;
+        }
+
+        int length = RECORD_HEADER_LENGTH + 1 + classHandle.encodedLength() + Integer.BYTES;
+        for (var entry : parameterValues.entrySet()) {
+            length += 1 + entry.getKey().encodedLength() + Integer.BYTES + entry.getValue().length;
+        }
+
+        if (ensureCapacity(length)) {
+            int start = beginRecord(type, logicalTime);
+            putHandle(classHandle);
+            segment.putInt(parameterValues.size());
+            for (var entry : parameterValues.entrySet()) {
+                byte[] value = entry.getValue();
+                putHandle(entry.getKey());
+                segment.putInt(value.length).put(value);
+            }
+
+            endRecord(start);
+            valueCount += parameterValues.size();
+        }
+    }
+
+    private int beginRecord(RecordType type, long logicalTime) {
+        int start = segment.position();
+        segment.position(start + Integer.BYTES);
+        segment.put(type.getCode())
+                .putLong(wallTimeMicros())
+                .putLong(logicalTime);
+
+        return start;
+    }
+
+    // The length is written last, so a record cut short by a crash reads as the end of the segment.
+    private void endRecord(int start) {
+        segment.putInt(start, segment.position() - start - Integer.BYTES);
+        recordCount++;
+    }
+
+    private boolean ensureCapacity(int recordLength) {
+        if (segment.remaining() >= recordLength) {
+            return true;
+        }
+
+        segment.force();
+
+        try {
+            openSegment(recordLength);
+            return true;
+        } catch (IOException e) {
+            logger.error("Stopped recording federate traffic because a new segment could not be created in <{}>.", directory, e);
+            closed = true;
+            segment = null;
+            return false;
+        }
+    }
+
+    private void openSegment(int minimumRecordLength) throws IOException {
+        int size = Math.max(segmentSize, SEGMENT_HEADER_LENGTH + definitionsLength + minimumRecordLength);
+        Path path = directory.resolve(segmentFileName(segmentIndex));
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            // The mapping stays valid once the channel is closed.
+            segment = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        }
+
+        segment.order(BYTE_ORDER);
+        segment.putInt(MAGIC).putInt(VERSION).putLong(segmentIndex);
+        for (byte[] definition : definitions) {
+            segment.put(definition);
+            recordCount++;
+        }
+
+        segmentIndex++;
+        segmentCount++;
+    }
+
+    private long wallTimeMicros() {
+        return baseEpochMicros + (System.nanoTime() - baseNanos) / 1000L;
+    }
+
+    private void putHandle(ObjectInstanceHandle handle) {
+        int length = checkHandleLength(handle.encodedLength());
+        handle.encode(handleBuffer, 0);
+        segment.put((byte) length).put(handleBuffer, 0, length);
+    }
+
+    private void putHandle(ObjectClassHandle handle) {
+        int length = checkHandleLength(handle.encodedLength());
+        handle.encode(handleBuffer, 0);
+        segment.put((byte) length).put(handleBuffer, 0, length);
+    }
+
+    private void putHandle(InteractionClassHandle handle) {
+        int length = checkHandleLength(handle.encodedLength());
+        handle.encode(handleBuffer, 0);
+        segment.put((byte) length).put(handleBuffer, 0, length);
+    }
+
+    private void putHandle(AttributeHandle handle) {
+        int length = checkHandleLength(handle.encodedLength());
+        handle.encode(handleBuffer, 0);
+        segment.put((byte) length).put(handleBuffer, 0, length);
+    }
+
+    private void putHandle(ParameterHandle handle) {
+        int length = checkHandleLength(handle.encodedLength());
+        handle.encode(handleBuffer, 0);
+        segment.put((byte) length).put(handleBuffer, 0, length);
+    }
+
+    private int checkHandleLength(int length) {
+        if (length > MAX_HANDLE_LENGTH) {
+            throw new IllegalArgumentException("Handles longer than " + MAX_HANDLE_LENGTH + " bytes cannot be recorded.");
+        }
+
+        if (length > handleBuffer.length) {
+            handleBuffer = new byte[length];
+        }
+
+        return length;
+    }
+
+    private byte[] copyOf(ObjectClassHandle handle) {
+        byte[] encoded = new byte[checkHandleLength(handle.encodedLength())];
+        handle.encode(encoded, 0);
+        return encoded;
+    }
+
+    private byte[] copyOf(InteractionClassHandle handle) {
+        byte[] encoded = new byte[checkHandleLength(handle.encodedLength())];
+        handle.encode(encoded, 0);
+        return encoded;
+    }
+
+    private byte[] copyOf(AttributeHandle handle) {
+        byte[] encoded = new byte[checkHandleLength(handle.encodedLength())];
+        handle.encode(encoded, 0);
+        return encoded;
+    }
+
+    private byte[] copyOf(ParameterHandle handle) {
+        byte[] encoded = new byte[checkHandleLength(handle.encodedLength())];
+        handle.encode(encoded, 0);
+        return encoded;
+    }
+
+    private static byte[] encodeName(String name) {
+        byte[] encoded = name.getBytes(StandardCharsets.UTF_8);
+
+        if (encoded.length > MAX_NAME_LENGTH) {
+            throw new IllegalArgumentException("Names longer than " + MAX_NAME_LENGTH + " bytes cannot be recorded.");
+        }
+
+        return encoded;
+    }
+
+    /**
+     * @return The number of records written, including the class definitions repeated in every segment.
+     */
+    public synchronized long getRecordCount() {
+        return recordCount;
+    }
+
+    /**
+     * @return The number of attribute and parameter values written.
+     */
+    public synchronized long getValueCount() {
+        return valueCount;
+    }
+
+    /**
+     * @return The number of segments this recorder has created.
+     */
+    public synchronized int getSegmentCount() {
+        return segmentCount;
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Flushes the current segment to its file and stops recording. Records offered afterwards are ignored.
+     */
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+
+        closed = true;
+        segment.force();
+        segment = null;
+        logger.info("Recorded {} values in {} records across {} segment(s) to <{}>.", valueCount, recordCount, segmentCount, directory);
+    }
+}
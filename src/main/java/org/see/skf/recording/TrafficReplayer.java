@@ -0,0 +1,460 @@
+/*****************************************************************
+ SEE HLA Starter Kit Framework -  A Java library that supports
+ the development of HLA Federates in the Simulation Exploration
+ Experience (SEE) program.
+
+ Copyright (c) 2014, 2026 SMASH Lab - University of Calabria
+ (Italy), Hridyanshu Aatreya - Modelling & Simulation Group (MSG)
+ at Brunel University of London. All rights reserved.
+
+ GNU Lesser General Public License (GNU LGPL).
+
+ This library is free software; you can redistribute it and/or
+ modify it under the terms of the GNU Lesser General Public
+ License as published by the Free Software Foundation; either
+ version 3.0 of the License, or (at your option) any later version.
+
+ This library is distributed in the hope that it will be useful,
+ but WITHOUT ANY WARRANTY; without even the implied warranty of
+ MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ Lesser General Public License for more details.
+
+ You should have received a copy of the GNU Lesser General Public
+ License along with this library.
+ If not, see http://http://www.gnu.org/licenses/
+ *****************************************************************/
+
+package org.see.skf.recording;
+
+import hla.rti1516_2025.AttributeHandle;
+import hla.rti1516_2025.AttributeHandleValueMap;
+import hla.rti1516_2025.InteractionClassHandle;
+import hla.rti1516_2025.ObjectClassHandle;
+import hla.rti1516_2025.ObjectInstanceHandle;
+import hla.rti1516_2025.ParameterHandle;
+import hla.rti1516_2025.ParameterHandleValueMap;
+import hla.rti1516_2025.RTIambassador;
+import hla.rti1516_2025.exceptions.NameNotFound;
+import hla.rti1516_2025.exceptions.RTIexception;
+import org.see.skf.core.SKFederateAmbassador;
+import org.see.skf.exceptions.UpdateException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Drives a federate from a traffic recording instead of an RTI. Discoveries, reflections, removals and received
+ * interactions are handed to the federate ambassador through the same callbacks the RTI would invoke, on the thread
+ * calling {@link #replay(Path)}; updates and interactions the recorded federate sent itself are skipped.
+ * <p>
+ * The federate is expected to be joined to a federation of the {@link org.see.skf.loopback.LoopbackRti} with the FOM
+ * modules of the recording, through an RTI ambassador wrapped by {@link #offline(RTIambassador)}, and to have
+ * subscribed the classes to replay. Recorded handles are matched to the handles of that federation by the FOM names
+ * in the class definitions of the recording, so a recording made with any RTI can be replayed.
+ *
+ * @since 2.0
+ */
+public final class TrafficReplayer {
+    private static final Logger logger = LoggerFactory.getLogger(TrafficReplayer.class);
+
+    /** Logical time units per second of the SpaceFOM, whose logical time is in microseconds. */
+    public static final long DEFAULT_LOGICAL_TIME_UNITS_PER_SECOND = 1_000_000L;
+
+    private final SKFederateAmbassador federateAmbassador;
+    private final ReplayPacing pacing;
+    private final double nanosPerLogicalTimeUnit;
+
+    private final Map<HandleKey, ObjectClassTranslation> objectClasses;
+    private final Map<HandleKey, InteractionClassTranslation> interactionClasses;
+    private final Map<HandleKey, ReplayedInstance> instances;
+
+    private long deliveredCount;
+    private long skippedCount;
+    private long firstLogicalTime;
+    private long firstNanos;
+
+    public TrafficReplayer(SKFederateAmbassador federateAmbassador, ReplayPacing pacing) {
+        this(federateAmbassador, pacing, DEFAULT_LOGICAL_TIME_UNITS_PER_SECOND);
+    }
+
+    /**
+     * @param federateAmbassador The federate ambassador receiving the callbacks.
+     * @param pacing How quickly records are delivered.
+     * @param logicalTimeUnitsPerSecond How many units of logical time make up one second of wall-clock time when
+     * replaying at the {@link ReplayPacing#LOGICAL_TIME} pace; raise it to replay faster than the recorded run.
+     */
+    public TrafficReplayer(SKFederateAmbassador federateAmbassador, ReplayPacing pacing, long logicalTimeUnitsPerSecond) {
+        if (logicalTimeUnitsPerSecond <= 0) {
+            throw new IllegalArgumentException("The logical time units per second must be positive.");
+        }
+
+        this.federateAmbassador = federateAmbassador;
+        this.pacing = pacing;
+        this.nanosPerLogicalTimeUnit = 1e9 / logicalTimeUnitsPerSecond;
+        this.objectClasses = new HashMap<>();
+        this.interactionClasses = new HashMap<>();
+        this.instances = new HashMap<>();
+    }
+
+    /**
+     * Wraps an RTI ambassador of the loopback RTI for a federate that is driven by a replay. Replayed object instances
+     * are unknown to the RTI, so the requests for their attribute values a federate ambassador makes when it discovers
+     * them are dropped; every other call is passed on.
+     * @param rtiAmbassador The RTI ambassador to wrap.
+     * @return The wrapped RTI ambassador.
+     */
+    public static RTIambassador offline(RTIambassador rtiAmbassador) {
+        return (RTIambassador) Proxy.newProxyInstance(RTIambassador.class.getClassLoader(), new Class<?>[] {RTIambassador.class}, new OfflineAmbassador(rtiAmbassador));
+    }
+
+    /**
+     * Replays a recording. Object instances discovered by an earlier replay with this replayer remain known, so the
+     * recordings of consecutive runs can be replayed one after another.
+     * @param directory The directory holding the segments of the recording.
+     * @return The number of callbacks delivered to the federate ambassador.
+     * @throws IOException If the recording cannot be read.
+     * @throws InterruptedException If the calling thread is interrupted; the replay stops after the current record.
+     */
+    public long replay(Path directory) throws IOException, InterruptedException {
+        TrafficReader reader = TrafficReader.open(directory);
+        TrafficRecord record = new TrafficRecord();
+        long startCount = deliveredCount;
+        firstLogicalTime = TrafficRecorder.NO_TIME;
+
+        while (reader.next(record)) {
+            if (pacing == ReplayPacing.LOGICAL_TIME && record.hasLogicalTime()) {
+                awaitLogicalTime(record.getLogicalTime());
+            }
+
+            if (Thread.interrupted()) {
+                throw new InterruptedException("The replay of <" + directory + "> was interrupted.");
+            }
+
+            replay(record);
+        }
+
+        long delivered = deliveredCount - startCount;
+        logger.info("Replayed {} callbacks from <{}>; {} records were skipped so far.", delivered, directory, skippedCount);
+
+        return delivered;
+    }
+
+    private void awaitLogicalTime(long logicalTime) throws InterruptedException {
+        if (firstLogicalTime == TrafficRecorder.NO_TIME) {
+            firstLogicalTime = logicalTime;
+            firstNanos = System.nanoTime();
+            return;
+        }
+
+        long dueNanos = firstNanos + Math.round((logicalTime - firstLogicalTime) * nanosPerLogicalTimeUnit);
+        long remainingNanos;
+        while ((remainingNanos = dueNanos - System.nanoTime()) > 0L) {
+            LockSupport.parkNanos(remainingNanos);
+
+            if (Thread.interrupted()) {
+                throw new InterruptedException("The replay was interrupted while waiting for the logical time " + logicalTime + ".");
+            }
+        }
+    }
+
+    private void replay(TrafficRecord record) {
+        switch (record.getType()) {
+            case OBJECT_CLASS_DEFINITION:
+                defineObjectClass(record);
+                break;
+            case INTERACTION_CLASS_DEFINITION:
+                defineInteractionClass(record);
+                break;
+            case DISCOVERY:
+                discover(record);
+                break;
+            case REMOVAL:
+                remove(record);
+                break;
+            case REFLECTION:
+                reflect(record);
+                break;
+            case RECEIVED_INTERACTION:
+                receive(record);
+                break;
+            default:
+                // Traffic sent by the recorded federate is what the replayed federate is expected to produce.
+                skippedCount++;
+                break;
+        }
+    }
+
+    private void defineObjectClass(TrafficRecord record) {
+        HandleKey key = new HandleKey(record.getHandle());
+        if (objectClasses.containsKey(key)) {
+            return;
+        }
+
+        RTIambassador rtiAmbassador = federateAmbassador.getContext().getRtiAmbassador();
+        try {
+            ObjectClassHandle classHandle = rtiAmbassador.getObjectClassHandle(record.getName());
+            ObjectClassTranslation translation = new ObjectClassTranslation(classHandle);
+
+            for (int i = 0; i < record.getMemberCount(); i++) {
+                try {
+                    translation.attributes.put(new HandleKey(record.getMemberHandle(i)), rtiAmbassador.getAttributeHandle(classHandle, record.getMemberName(i)));
+                } catch (NameNotFound e) {
+                    logger.warn("The attribute \"{}\" of the HLA object class <{}> is not in the FOM of the federation and will not be replayed.", record.getMemberName(i), record.getName());
+                }
+            }
+
+            objectClasses.put(key, translation);
+        } catch (NameNotFound e) {
+            logger.warn("The HLA object class <{}> is not in the FOM of the federation and will not be replayed.", record.getName());
+        } catch (RTIexception e) {
+            throw new IllegalStateException("Failed to look up the handles of the HLA object class <" + record.getName() + "> for the replay.", e);
+        }
+    }
+
+    private void defineInteractionClass(TrafficRecord record) {
+        HandleKey key = new HandleKey(record.getHandle());
+        if (interactionClasses.containsKey(key)) {
+            return;
+        }
+
+        RTIambassador rtiAmbassador = federateAmbassador.getContext().getRtiAmbassador();
+        try {
+            InteractionClassHandle classHandle = rtiAmbassador.getInteractionClassHandle(record.getName());
+            InteractionClassTranslation translation = new InteractionClassTranslation(classHandle);
+
+            for (int i = 0; i < record.getMemberCount(); i++) {
+                try {
+                    translation.parameters.put(new HandleKey(record.getMemberHandle(i)), rtiAmbassador.getParameterHandle(classHandle, record.getMemberName(i)));
+                } catch (NameNotFound e) {
+                    logger.warn("The parameter \"{}\" of the HLA interaction class <{}> is not in the FOM of the federation and will not be replayed.", record.getMemberName(i), record.getName());
+                }
+            }
+
+            interactionClasses.put(key, translation);
+        } catch (NameNotFound e) {
+            logger.warn("The HLA interaction class <{}> is not in the FOM of the federation and will not be replayed.", record.getName());
+        } catch (RTIexception e) {
+            throw new IllegalStateException("Failed to look up the handles of the HLA interaction class <" + record.getName() + "> for the replay.", e);
+        }
+    }
+
+    private void discover(TrafficRecord record) {
+        ObjectClassTranslation translation = objectClasses.get(new HandleKey(record.getClassHandle()));
+        HandleKey key = new HandleKey(record.getHandle());
+
+        if (translation == null || instances.containsKey(key)) {
+            skippedCount++;
+            return;
+        }
+
+        ReplayedObjectInstanceHandle instanceHandle = new ReplayedObjectInstanceHandle(record.getHandle());
+        instances.put(key, new ReplayedInstance(instanceHandle, translation));
+        federateAmbassador.discoverObjectInstance(instanceHandle, translation.handle, record.getName(), null);
+        deliveredCount++;
+    }
+
+    private void remove(TrafficRecord record) {
+        ReplayedInstance instance = instances.remove(new HandleKey(record.getHandle()));
+
+        if (instance == null) {
+            skippedCount++;
+            return;
+        }
+
+        federateAmbassador.removeObjectInstance(instance.handle, null, null);
+        deliveredCount++;
+    }
+
+    private void reflect(TrafficRecord record) {
+        ReplayedInstance instance = instances.get(new HandleKey(record.getHandle()));
+
+        if (instance == null) {
+            skippedCount++;
+            return;
+        }
+
+        AttributeHandleValueMap attributeValues;
+        try {
+            attributeValues = federateAmbassador.getContext().getRtiAmbassador().getAttributeHandleValueMapFactory().create(record.getMemberCount());
+        } catch (RTIexception e) {
+            throw new IllegalStateException("Failed to create an attribute value map for the replay.", e);
+        }
+
+        for (int i = 0; i < record.getMemberCount(); i++) {
+            AttributeHandle attributeHandle = instance.objectClass.attributes.get(new HandleKey(record.getMemberHandle(i)));
+
+            if (attributeHandle != null) {
+                attributeValues.put(attributeHandle, record.getValue(i));
+            }
+        }
+
+        if (attributeValues.isEmpty()) {
+            skippedCount++;
+            return;
+        }
+
+        try {
+            federateAmbassador.reflectAttributeValues(instance.handle, attributeValues, null, null, null, null);
+            deliveredCount++;
+        } catch (UpdateException e) {
+            // The federate did not subscribe the class of the instance, so the discovery built no representation.
+            logger.debug("Skipped a reflection of a replayed object instance the federate does not represent.", e);
+            skippedCount++;
+        }
+    }
+
+    private void receive(TrafficRecord record) {
+        InteractionClassTranslation translation = interactionClasses.get(new HandleKey(record.getHandle()));
+
+        if (translation == null) {
+            skippedCount++;
+            return;
+        }
+
+        ParameterHandleValueMap parameterValues;
+        try {
+            parameterValues = federateAmbassador.getContext().getRtiAmbassador().getParameterHandleValueMapFactory().create(record.getMemberCount());
+        } catch (RTIexception e) {
+            throw new IllegalStateException("Failed to create a parameter value map for the replay.", e);
+        }
+
+        for (int i = 0; i < record.getMemberCount(); i++) {
+            ParameterHandle parameterHandle = translation.parameters.get(new HandleKey(record.getMemberHandle(i)));
+
+            if (parameterHandle != null) {
+                parameterValues.put(parameterHandle, record.getValue(i));
+            }
+        }
+
+        federateAmbassador.receiveInteraction(translation.handle, parameterValues, null, null, null, null);
+        deliveredCount++;
+    }
+
+    /**
+     * @return The number of callbacks delivered to the federate ambassador by all replays.
+     */
+    public long getDeliveredCount() {
+        return deliveredCount;
+    }
+
+    /**
+     * @return The number of records that were not delivered by all replays, because they were sent by the recorded
+     * federate or refer to classes, instances or members the federate does not know.
+     */
+    public long getSkippedCount() {
+        return skippedCount;
+    }
+
+    private static final class ObjectClassTranslation {
+        private final ObjectClassHandle handle;
+        private final Map<HandleKey, AttributeHandle> attributes = new HashMap<>();
+
+        private ObjectClassTranslation(ObjectClassHandle handle) {
+            this.handle = handle;
+        }
+    }
+
+    private static final class InteractionClassTranslation {
+        private final InteractionClassHandle handle;
+        private final Map<HandleKey, ParameterHandle> parameters = new HashMap<>();
+
+        private InteractionClassTranslation(InteractionClassHandle handle) {
+            this.handle = handle;
+        }
+    }
+
+    private static final class ReplayedInstance {
+        private final ObjectInstanceHandle handle;
+        private final ObjectClassTranslation objectClass;
+
+        private ReplayedInstance(ObjectInstanceHandle handle, ObjectClassTranslation objectClass) {
+            this.handle = handle;
+            this.objectClass = objectClass;
+        }
+    }
+
+    private static final class HandleKey {
+        private final byte[] encoded;
+
+        private HandleKey(byte[] encoded) {
+            this.encoded = encoded;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof HandleKey && Arrays.equals(((HandleKey) other).encoded, encoded);
+        }
+
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(encoded);
+        }
+    }
+
+    // Stands in for the handle of a recorded object instance, which the RTI of the replay never registered.
+    private static final class ReplayedObjectInstanceHandle implements ObjectInstanceHandle {
+        private static final long serialVersionUID = 1L;
+
+        private final byte[] encoded;
+
+        private ReplayedObjectInstanceHandle(byte[] encoded) {
+            this.encoded = encoded;
+        }
+
+        @Override
+        public int encodedLength() {
+            return encoded.length;
+        }
+
+        @Override
+        public void encode(byte[] buffer, int offset) {
+            System.arraycopy(encoded, 0, buffer, offset, encoded.length);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof ReplayedObjectInstanceHandle && Arrays.equals(((ReplayedObjectInstanceHandle) other).encoded, encoded);
+        }
+
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(encoded);
+        }
+
+        @Override
+        public String toString() {
+            return "ReplayedObjectInstanceHandle" + Arrays.toString(encoded);
+        }
+    }
+
+    private static final class OfflineAmbassador implements InvocationHandler {
+        private final RTIambassador delegate;
+
+        private OfflineAmbassador(RTIambassador delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (method.getName().equals("requestAttributeValueUpdate") && args[0] instanceof ReplayedObjectInstanceHandle) {
+                return null;
+            }
+
+            try {
+                return method.invoke(delegate, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
@@ -32,8 +32,11 @@ import org.slf4j.LoggerFactory;
 
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -45,21 +48,23 @@ public abstract class AbstractModelParser {
     private String fomClassName;
 
     private final Class<?> fomClass;
+    private final CoderCollection coders;
     private final Set<Field> fields;
-    private final Map<String, Field> fomElementNameToField;
-    private final Map<Field, String> fieldToFomElementName;
-    private final Map<Field, Class<? extends Coder<?>>> fieldToCoder;
-    private final Map<Field, Method> fieldToGetter;
-    private final Map<Field, Method> fieldToSetter;
+    private final List<FieldBinding> bindings;
+    private final Map<String, FieldBinding> fomElementNameToBinding;
+    private final Map<Field, FieldBinding> fieldToBinding;
 
     protected AbstractModelParser(Class<?> fomClass) {
+        this(fomClass, CoderCollection.shared());
+    }
+
+    protected AbstractModelParser(Class<?> fomClass, CoderCollection coders) {
         this.fomClass = fomClass;
+        this.coders = coders;
         this.fields = new HashSet<>();
-        this.fomElementNameToField = new HashMap<>();
-        this.fieldToFomElementName = new HashMap<>();
-        this.fieldToCoder = new HashMap<>();
-        this.fieldToGetter = new HashMap<>();
-        this.fieldToSetter = new HashMap<>();
+        this.bindings = new ArrayList<>();
+        this.fomElementNameToBinding = new HashMap<>();
+        this.fieldToBinding = new HashMap<>();
 
         retrieveModelStructure();
     }
@@ -68,27 +73,45 @@ public abstract class AbstractModelParser {
 
     public abstract Map<String, byte[]> encode(Object element);
 
-    private void setFieldAccessors(Field field) {
+    private FieldBinding bindField(String fomName, Field field, Class<? extends Coder<?>> coder) {
         var getterName = generateMethodName("get", field.getName());
         var setterName = generateMethodName("set", field.getName());
 
         Method getter;
         try {
             getter = fomClass.getMethod(getterName);
-            fieldToGetter.put(field, getter);
         } catch (NoSuchMethodException e) {
             String fieldName = field.getName();
             throw new IllegalArgumentException("Failed to locate a suitable getter for the field \"" + fieldName + "\" of the HLA object class <" + fomClassName + ">.");
         }
 
+        Method setter;
         try {
             Class<?> getterReturnType = getter.getReturnType();
-            Method setter = fomClass.getMethod(setterName, getterReturnType);
-            fieldToSetter.put(field, setter);
+            setter = fomClass.getMethod(setterName, getterReturnType);
         } catch (NoSuchMethodException e) {
             String fieldName = field.getName();
             throw new IllegalArgumentException("Failed to locate a suitable setter for the field \"" + fieldName + "\" of the HLA object class <" + fomClassName + ">.");
         }
+
+        // Everything needed to encode/decode the field is resolved here, once, so the hot paths only have to walk
+        // the precomputed bindings.
+        return new FieldBinding(fomName, field, getter, setter, coder, coders);
+    }
+
+    /**
+     * @return The collection the coders of the fields are taken from.
+     */
+    public CoderCollection getCoders() {
+        return coders;
+    }
+
+    /**
+     * @param entries The number of entries a map will hold.
+     * @return The initial capacity at which a HashMap holds that many entries without being resized.
+     */
+    protected static int mapCapacity(int entries) {
+        return (int) (entries / 0.75f) + 1;
     }
 
     public String generateMethodName(String prefix, String fieldName) {
@@ -108,16 +131,18 @@ public abstract class AbstractModelParser {
         return result.toString();
     }
 
-    public void addField(String fomName, Field field, Class<? extends Coder<?>> coder) {
+    public FieldBinding addField(String fomName, Field field, Class<? extends Coder<?>> coder) {
         // Fields have 3 KEY features: FOM name (attribute/parameter), and a Coder.
         // Access level can vary because objects have them at the attribute level, whereas interactions have them at
         // the class level. This functionality is implemented by the subclasses respectively.
+        FieldBinding binding = bindField(fomName, field, coder);
+
         this.fields.add(field);
-        this.fomElementNameToField.put(fomName, field);
-        this.fieldToFomElementName.put(field, fomName);
+        this.bindings.add(binding);
+        this.fomElementNameToBinding.put(fomName, binding);
+        this.fieldToBinding.put(field, binding);
 
-        setFieldAccessors(field);
-        this.fieldToCoder.put(field, coder);
+        return binding;
     }
 
     private String capitalize(String word) {
@@ -140,23 +165,41 @@ public abstract class AbstractModelParser {
         return fields;
     }
 
+    public List<FieldBinding> getBindings() {
+        return Collections.unmodifiableList(bindings);
+    }
+
+    public FieldBinding getBinding(String fomName) {
+        return fomElementNameToBinding.get(fomName);
+    }
+
     public Field getFieldForFomElement(String fomName) {
-        return fomElementNameToField.get(fomName);
+        FieldBinding binding = fomElementNameToBinding.get(fomName);
+        return (binding != null) ? binding.getField() : null;
     }
 
     public String getFomElementNameForField(Field field) {
-        return fieldToFomElementName.get(field);
+        FieldBinding binding = fieldToBinding.get(field);
+        return (binding != null) ? binding.getFomName() : null;
     }
 
     public Method getFieldGetter(Field field) {
-        return fieldToGetter.get(field);
+        FieldBinding binding = fieldToBinding.get(field);
+        return (binding != null) ? binding.getGetter() : null;
     }
 
     public Method getFieldSetter(Field field) {
-        return fieldToSetter.get(field);
+        FieldBinding binding = fieldToBinding.get(field);
+        return (binding != null) ? binding.getSetter() : null;
+    }
+
+    public FieldAccessor getFieldAccessor(Field field) {
+        FieldBinding binding = fieldToBinding.get(field);
+        return (binding != null) ? binding.getAccessor() : null;
     }
 
     public Class<? extends Coder<?>> getFieldCoder(Field field) {
-        return fieldToCoder.get(field);
+        FieldBinding binding = fieldToBinding.get(field);
+        return (binding != null) ? binding.getCoderClass() : null;
     }
 }
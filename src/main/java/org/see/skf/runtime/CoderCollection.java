@@ -30,33 +30,151 @@ import org.see.skf.core.Coder;
 
 import java.lang.reflect.InvocationTargetException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
+/**
+ * Registry of the coder instances used by the framework. Most coders wrap a mutable encoding buffer and therefore
+ * cannot be shared between threads; the encode/decode paths obtain them through {@link #getPool(Class)}, which lends
+ * each caller an instance of its own unless the coder declares itself thread-safe.
+ * <p>
+ * Each federate context has a collection of its own, so that federates sharing a JVM may configure their coders
+ * differently. The static methods operate on the shared collection used by models parsed outside of any context.
+ */
 public final class CoderCollection {
-    private static final ConcurrentHashMap<Class<? extends Coder<?>>, Coder<?>> coderMap = new ConcurrentHashMap<>();
+    private static final CoderCollection SHARED = new CoderCollection();
 
-    private CoderCollection() {}
+    private final ConcurrentHashMap<Class<? extends Coder<?>>, Coder<?>> coderMap;
+    private final ConcurrentHashMap<Class<? extends Coder<?>>, Supplier<? extends Coder<?>>> factoryMap;
+    private final ConcurrentHashMap<Class<? extends Coder<?>>, CoderPool<?>> poolMap;
 
+    public CoderCollection() {
+        coderMap = new ConcurrentHashMap<>();
+        factoryMap = new ConcurrentHashMap<>();
+        poolMap = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * @return The collection shared by every model parsed outside of a federate context.
+     */
+    public static CoderCollection shared() {
+        return SHARED;
+    }
+
+    /**
+     * Registers a coder instance in the shared collection.
+     * @see #register(Class, Coder)
+     */
     public static void add(Class<? extends Coder<?>> coderClass, Coder<?> coderInstance) {
-        coderMap.put(coderClass, coderInstance);
+        SHARED.register(coderClass, coderInstance);
+    }
+
+    /**
+     * Registers a coder factory in the shared collection.
+     * @see #register(Class, Supplier)
+     */
+    public static void add(Class<? extends Coder<?>> coderClass, Supplier<? extends Coder<?>> factory) {
+        SHARED.register(coderClass, factory);
     }
 
+    /**
+     * Drops a coder class from the shared collection.
+     * @see #unregister(Class)
+     */
+    public static void remove(Class<? extends Coder<?>> coderClass) {
+        SHARED.unregister(coderClass);
+    }
+
+    /**
+     * Retrieves the instance of a coder class in the shared collection.
+     * @see #get(Class)
+     */
     public static Coder<?> query(Class<? extends Coder<?>> coderClass) {
+        return SHARED.get(coderClass);
+    }
+
+    /**
+     * Retrieves the pool of a coder class in the shared collection.
+     * @see #getPool(Class)
+     */
+    public static <T> CoderPool<T> pool(Class<? extends Coder<?>> coderClass) {
+        return SHARED.getPool(coderClass);
+    }
+
+    /**
+     * Registers a coder instance. If the coder is not thread-safe, the instance is only one of the instances handed out
+     * by the pool of its class; further instances are created with the coder's no-argument constructor.
+     * @param coderClass The coder class.
+     * @param coderInstance An instance of the coder class.
+     */
+    public void register(Class<? extends Coder<?>> coderClass, Coder<?> coderInstance) {
+        coderMap.put(coderClass, coderInstance);
+        poolMap.remove(coderClass);
+    }
+
+    /**
+     * Registers a factory for coders that lack a no-argument constructor or need configuration.
+     * @param coderClass The coder class.
+     * @param factory Supplier of new, independent instances of the coder class.
+     */
+    public void register(Class<? extends Coder<?>> coderClass, Supplier<? extends Coder<?>> factory) {
+        factoryMap.put(coderClass, factory);
+        coderMap.remove(coderClass);
+        poolMap.remove(coderClass);
+    }
+
+    /**
+     * Drops the registered instance and factory of a coder class, so that its instances are created with its
+     * no-argument constructor again.
+     * @param coderClass The coder class.
+     */
+    public void unregister(Class<? extends Coder<?>> coderClass) {
+        factoryMap.remove(coderClass);
+        coderMap.remove(coderClass);
+        poolMap.remove(coderClass);
+    }
+
+    /**
+     * Retrieves the registered instance of a coder class, creating it if necessary. The instance is shared: unless the
+     * coder is thread-safe, concurrent code must use {@link #getPool(Class)} instead.
+     * @param coderClass The coder class.
+     * @return The registered instance.
+     */
+    public Coder<?> get(Class<? extends Coder<?>> coderClass) {
         Coder<?> coder = coderMap.get(coderClass);
 
         // Cache previously undiscovered coders until this method can guarantee the retrieval of every coder ever
         // used by the simulation in its lifetime.
         if (coder == null) {
-            coder = createCoderInstance(coderClass);
+            coder = coderMap.computeIfAbsent(coderClass, this::createCoderInstance);
         }
 
         return coder;
     }
 
-    private static Coder<?> createCoderInstance(Class<? extends Coder<?>> coderClass) {
+    /**
+     * Retrieves the pool lending out instances of a coder class to concurrent callers.
+     * @param coderClass The coder class.
+     * @return The pool for the coder class.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> CoderPool<T> getPool(Class<? extends Coder<?>> coderClass) {
+        CoderPool<?> pool = poolMap.get(coderClass);
+
+        if (pool == null) {
+            pool = poolMap.computeIfAbsent(coderClass, type -> new CoderPool<>(() -> (Coder<Object>) createCoderInstance(type), (Coder<Object>) get(type)));
+        }
+
+        return (CoderPool<T>) pool;
+    }
+
+    private Coder<?> createCoderInstance(Class<? extends Coder<?>> coderClass) {
+        Supplier<? extends Coder<?>> factory = factoryMap.get(coderClass);
+        if (factory != null) {
+            return factory.get();
+        }
+
         try {
-            Coder<?> coder = coderClass.getDeclaredConstructor().newInstance();
-            coderMap.put(coderClass, coder);
-            return coder;
+            return coderClass.getDeclaredConstructor().newInstance();
         } catch (InstantiationException | IllegalAccessException | InvocationTargetException |
                  NoSuchMethodException e) {
             throw new IllegalArgumentException(e);
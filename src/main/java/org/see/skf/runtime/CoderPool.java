@@ -0,0 +1,105 @@
+/*****************************************************************
+ SEE HLA Starter Kit Framework -  A Java library that supports
+ the development of HLA Federates in the Simulation Exploration
+ Experience (SEE) program.
+
+ Copyright (c) 2014, 2026 SMASH Lab - University of Calabria
+ (Italy), Hridyanshu Aatreya - Modelling & Simulation Group (MSG)
+ at Brunel University of London. All rights reserved.
+
+ GNU Lesser General Public License (GNU LGPL).
+
+ This library is free software; you can redistribute it and/or
+ modify it under the terms of the GNU Lesser General Public
+ License as published by the Free Software Foundation; either
+ version 3.0 of the License, or (at your option) any later version.
+
+ This library is distributed in the hope that it will be useful,
+ but WITHOUT ANY WARRANTY; without even the implied warranty of
+ MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ Lesser General Public License for more details.
+
+ You should have received a copy of the GNU Lesser General Public
+ License along with this library.
+ If not, see http://http://www.gnu.org/licenses/
+ *****************************************************************/
+
+package org.see.skf.runtime;
+
+import org.see.skf.core.Coder;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Supplier;
+
+/**
+ * Hands out instances of one coder class to concurrent callers. A coder that reports itself as thread-safe is shared by
+ * everyone. Any other coder is lent out for the duration of a single encode/decode: instances are kept in a small set
+ * of slots selected by the calling thread, so that a thread normally gets back the instance it released last, and a
+ * new instance is created only when two threads collide on a slot.
+ *
+ * @param <T> The type that will be encoded and decoded by the pooled coder.
+ * @since 2.0
+ */
+public final class CoderPool<T> {
+    // Each slot sits on its own cache line so that threads releasing coders do not contend with their neighbours.
+    private static final int SLOT_SPACING = 16;
+    private static final int SLOT_COUNT = slotCount();
+
+    private final Supplier<? extends Coder<T>> factory;
+    private final Coder<T> shared;
+    private final AtomicReferenceArray<Coder<T>> slots;
+
+    CoderPool(Supplier<? extends Coder<T>> factory, Coder<T> prototype) {
+        this.factory = factory;
+
+        if (prototype.isThreadSafe()) {
+            this.shared = prototype;
+            this.slots = null;
+        } else {
+            this.shared = null;
+            this.slots = new AtomicReferenceArray<>(SLOT_COUNT * SLOT_SPACING);
+            slots.set(slotIndex(), prototype);
+        }
+    }
+
+    /**
+     * Borrows an instance of the coder for the exclusive use of the calling thread, until it is passed to
+     * {@link #release(Coder)}.
+     * @return A coder instance.
+     */
+    public Coder<T> acquire() {
+        if (shared != null) {
+            return shared;
+        }
+
+        Coder<T> coder = slots.getAndSet(slotIndex(), null);
+        return (coder != null) ? coder : factory.get();
+    }
+
+    /**
+     * Returns a previously acquired instance to the pool. The instance must not be used by the caller afterwards.
+     * @param coder The coder instance returned by {@link #acquire()}.
+     */
+    public void release(Coder<T> coder) {
+        if (shared == null) {
+            // If another thread has already filled the slot, the instance is simply dropped.
+            slots.compareAndSet(slotIndex(), null, coder);
+        }
+    }
+
+    /**
+     * @return True if a single coder instance is shared by all threads.
+     */
+    public boolean isShared() {
+        return shared != null;
+    }
+
+    private static int slotIndex() {
+        return ((int) Thread.currentThread().getId() & (SLOT_COUNT - 1)) * SLOT_SPACING;
+    }
+
+    private static int slotCount() {
+        int processors = Runtime.getRuntime().availableProcessors();
+        return Integer.highestOneBit(Math.max(1, processors * 2 - 1)) << 1;
+    }
+}
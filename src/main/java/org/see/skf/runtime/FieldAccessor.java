@@ -0,0 +1,280 @@
+/*****************************************************************
+ SEE HLA Starter Kit Framework -  A Java library that supports
+ the development of HLA Federates in the Simulation Exploration
+ Experience (SEE) program.
+
+ Copyright (c) 2014, 2026 SMASH Lab - University of Calabria
+ (Italy), Hridyanshu Aatreya - Modelling & Simulation Group (MSG)
+ at Brunel University of London. All rights reserved.
+
+ GNU Lesser General Public License (GNU LGPL).
+
+ This library is free software; you can redistribute it and/or
+ modify it under the terms of the GNU Lesser General Public
+ License as published by the Free Software Foundation; either
+ version 3.0 of the License, or (at your option) any later version.
+
+ This library is distributed in the hope that it will be useful,
+ but WITHOUT ANY WARRANTY; without even the implied warranty of
+ MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ Lesser General Public License for more details.
+
+ You should have received a copy of the GNU Lesser General Public
+ License along with this library.
+ If not, see http://http://www.gnu.org/licenses/
+ *****************************************************************/
+
+package org.see.skf.runtime;
+
+import org.see.skf.core.Coder;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.ObjDoubleConsumer;
+import java.util.function.ObjIntConsumer;
+import java.util.function.ObjLongConsumer;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * Non-reflective access to the property of an object/interaction class that is backed by an annotated field. The
+ * getter and setter of the property are bound once, when the class model is built, to lambdas generated with the
+ * LambdaMetafactory. Invoking them afterwards costs about as much as calling the methods directly, unlike
+ * Method.invoke which checks access and boxes its arguments into an array on every call.
+ *
+ * @since 2.0
+ */
+public final class FieldAccessor {
+    private final Function<Object, Object> getter;
+    private final BiConsumer<Object, Object> setter;
+
+    private FieldAccessor(Function<Object, Object> getter, BiConsumer<Object, Object> setter) {
+        this.getter = getter;
+        this.setter = setter;
+    }
+
+    public static FieldAccessor of(Method getter, Method setter) {
+        return new FieldAccessor(generateGetter(getter), generateSetter(setter));
+    }
+
+    /**
+     * Binds the getter and setter of a property to an accessor that encodes and decodes its value without boxing.
+     * @param getter The getter of the property.
+     * @param setter The setter of the property.
+     * @param coder The coder of the property.
+     * @return The accessor, or null if the {@link PrimitiveAccessor.Kind kind} of the property cannot be encoded without
+     * boxing or its methods cannot be bound from the framework's module.
+     */
+    public static PrimitiveAccessor forPrimitive(Method getter, Method setter, Coder<?> coder) {
+        PrimitiveAccessor.Kind kind = PrimitiveAccessor.Kind.of(getter.getReturnType(), coder);
+        if (kind == null) {
+            return null;
+        }
+
+        switch (kind) {
+            case DOUBLE: {
+                ToDoubleFunction<?> get = generate(ToDoubleFunction.class, "applyAsDouble", MethodType.methodType(double.class, Object.class), getter);
+                ObjDoubleConsumer<?> set = generate(ObjDoubleConsumer.class, "accept", MethodType.methodType(void.class, Object.class, double.class), setter);
+                return (get != null && set != null) ? new PrimitiveAccessor.DoubleAccessor(get, set) : null;
+            }
+            case FLOAT: {
+                ToDoubleFunction<?> get = generate(ToDoubleFunction.class, "applyAsDouble", MethodType.methodType(double.class, Object.class), getter);
+                ObjFloatConsumer set = generate(ObjFloatConsumer.class, "accept", MethodType.methodType(void.class, Object.class, float.class), setter);
+                return (get != null && set != null) ? new PrimitiveAccessor.FloatAccessor(get, set) : null;
+            }
+            case LONG: {
+                ToLongFunction<?> get = generate(ToLongFunction.class, "applyAsLong", MethodType.methodType(long.class, Object.class), getter);
+                ObjLongConsumer<?> set = generate(ObjLongConsumer.class, "accept", MethodType.methodType(void.class, Object.class, long.class), setter);
+                return (get != null && set != null) ? new PrimitiveAccessor.LongAccessor(get, set) : null;
+            }
+            case INT: {
+                ToIntFunction<?> get = generate(ToIntFunction.class, "applyAsInt", MethodType.methodType(int.class, Object.class), getter);
+                ObjIntConsumer<?> set = generate(ObjIntConsumer.class, "accept", MethodType.methodType(void.class, Object.class, int.class), setter);
+                return (get != null && set != null) ? new PrimitiveAccessor.IntAccessor(get, set) : null;
+            }
+            case SHORT: {
+                ToIntFunction<?> get = generate(ToIntFunction.class, "applyAsInt", MethodType.methodType(int.class, Object.class), getter);
+                ObjShortConsumer set = generate(ObjShortConsumer.class, "accept", MethodType.methodType(void.class, Object.class, short.class), setter);
+                return (get != null && set != null) ? new PrimitiveAccessor.ShortAccessor(get, set) : null;
+            }
+            default:
+                return null;
+        }
+    }
+
+    public static Method findGetter(Class<?> type, Field field) {
+        String getterName = "get" + capitalize(field.getName());
+
+        try {
+            return type.getMethod(getterName);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalArgumentException("Failed to locate the getter " + getterName + "() for the field \"" + field.getName() + "\" of <" + type.getName() + ">.", e);
+        }
+    }
+
+    public static Method findSetter(Class<?> type, Field field) {
+        String setterName = "set" + capitalize(field.getName());
+
+        try {
+            return type.getMethod(setterName, findGetter(type, field).getReturnType());
+        } catch (NoSuchMethodException e) {
+            throw new IllegalArgumentException("Failed to locate the setter " + setterName + "() for the field \"" + field.getName() + "\" of <" + type.getName() + ">.", e);
+        }
+    }
+
+    public Object get(Object element) {
+        return getter.apply(element);
+    }
+
+    public void set(Object element, Object value) {
+        setter.accept(element, value);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Function<Object, Object> generateGetter(Method getter) {
+        Class<?> declaringClass = getter.getDeclaringClass();
+        MethodHandle handle = null;
+
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(declaringClass, MethodHandles.lookup());
+            handle = lookup.unreflect(getter);
+
+            CallSite site = LambdaMetafactory.metafactory(lookup, "apply",
+                    MethodType.methodType(Function.class),
+                    MethodType.methodType(Object.class, Object.class),
+                    handle,
+                    MethodType.methodType(wrap(getter.getReturnType()), declaringClass));
+
+            return (Function<Object, Object>) site.getTarget().invokeExact();
+        } catch (Throwable e) {
+            // The class may live in a module that does not open its package to the framework. Fall back to a plain
+            // method handle, which is slower but still avoids the per-call cost of reflection.
+            MethodHandle fallback = (handle != null) ? handle : unreflect(getter);
+            MethodHandle adapted = fallback.asType(MethodType.methodType(Object.class, Object.class));
+
+            return element -> {
+                try {
+                    return adapted.invokeExact(element);
+                } catch (RuntimeException | Error ex) {
+                    throw ex;
+                } catch (Throwable ex) {
+                    throw new IllegalStateException(ex);
+                }
+            };
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static BiConsumer<Object, Object> generateSetter(Method setter) {
+        Class<?> declaringClass = setter.getDeclaringClass();
+        MethodHandle handle = null;
+
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(declaringClass, MethodHandles.lookup());
+            handle = lookup.unreflect(setter);
+
+            CallSite site = LambdaMetafactory.metafactory(lookup, "accept",
+                    MethodType.methodType(BiConsumer.class),
+                    MethodType.methodType(void.class, Object.class, Object.class),
+                    handle,
+                    MethodType.methodType(void.class, declaringClass, wrap(setter.getParameterTypes()[0])));
+
+            return (BiConsumer<Object, Object>) site.getTarget().invokeExact();
+        } catch (Throwable e) {
+            MethodHandle fallback = (handle != null) ? handle : unreflect(setter);
+            MethodHandle adapted = fallback.asType(MethodType.methodType(void.class, Object.class, Object.class));
+
+            return (element, value) -> {
+                try {
+                    adapted.invokeExact(element, value);
+                } catch (RuntimeException | Error ex) {
+                    throw ex;
+                } catch (Throwable ex) {
+                    throw new IllegalStateException(ex);
+                }
+            };
+        }
+    }
+
+    /**
+     * Binds a method to an instance of a functional interface using the LambdaMetafactory.
+     * @param functionalInterface The interface to implement. It must be public.
+     * @param methodName The name of the interface's single abstract method.
+     * @param erasedType The erased signature of the abstract method.
+     * @param method The method to bind. Its declaring class becomes the first parameter of the instantiated signature.
+     * @return The generated implementation, or null if the method cannot be bound from the framework's module.
+     */
+    static <T> T generate(Class<T> functionalInterface, String methodName, MethodType erasedType, Method method) {
+        Class<?> declaringClass = method.getDeclaringClass();
+
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(declaringClass, MethodHandles.lookup());
+            MethodHandle handle = lookup.unreflect(method);
+            MethodType instantiatedType = instantiate(erasedType, handle.type());
+
+            CallSite site = LambdaMetafactory.metafactory(lookup, methodName,
+                    MethodType.methodType(functionalInterface),
+                    erasedType,
+                    handle,
+                    instantiatedType);
+
+            return functionalInterface.cast(site.getTarget().invoke());
+        } catch (Throwable e) {
+            return null;
+        }
+    }
+
+    /**
+     * Setter of a short-valued property. The JDK has no functional interface for this shape.
+     */
+    @FunctionalInterface
+    public interface ObjShortConsumer {
+        void accept(Object element, short value);
+    }
+
+    /**
+     * Setter of a float-valued property. The JDK has no functional interface for this shape.
+     */
+    @FunctionalInterface
+    public interface ObjFloatConsumer {
+        void accept(Object element, float value);
+    }
+
+    // Primitive positions of the erased signature are kept as they are, reference positions take the (boxed) types of
+    // the implementation.
+    private static MethodType instantiate(MethodType erasedType, MethodType implementationType) {
+        MethodType instantiatedType = erasedType.returnType().isPrimitive() ? erasedType : erasedType.changeReturnType(wrap(implementationType.returnType()));
+
+        for (int i = 0; i < erasedType.parameterCount(); i++) {
+            if (!erasedType.parameterType(i).isPrimitive()) {
+                instantiatedType = instantiatedType.changeParameterType(i, wrap(implementationType.parameterType(i)));
+            }
+        }
+
+        return instantiatedType;
+    }
+
+    private static MethodHandle unreflect(Method method) {
+        try {
+            return MethodHandles.publicLookup().unreflect(method);
+        } catch (IllegalAccessException e) {
+            throw new IllegalArgumentException("The method <" + method + "> is not accessible to the framework.", e);
+        }
+    }
+
+    private static String capitalize(String word) {
+        return word.substring(0, 1).toUpperCase() + word.substring(1);
+    }
+
+    private static Class<?> wrap(Class<?> type) {
+        return MethodType.methodType(type).wrap().returnType();
+    }
+}
@@ -0,0 +1,255 @@
+/*****************************************************************
+ SEE HLA Starter Kit Framework -  A Java library that supports
+ the development of HLA Federates in the Simulation Exploration
+ Experience (SEE) program.
+
+ Copyright (c) 2014, 2026 SMASH Lab - University of Calabria
+ (Italy), Hridyanshu Aatreya - Modelling & Simulation Group (MSG)
+ at Brunel University of London. All rights reserved.
+
+ GNU Lesser General Public License (GNU LGPL).
+
+ This library is free software; you can redistribute it and/or
+ modify it under the terms of the GNU Lesser General Public
+ License as published by the Free Software Foundation; either
+ version 3.0 of the License, or (at your option) any later version.
+
+ This library is distributed in the hope that it will be useful,
+ but WITHOUT ANY WARRANTY; without even the implied warranty of
+ MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ Lesser General Public License for more details.
+
+ You should have received a copy of the GNU Lesser General Public
+ License along with this library.
+ If not, see http://http://www.gnu.org/licenses/
+ *****************************************************************/
+
+package org.see.skf.runtime;
+
+import hla.rti1516_2025.encoding.DecoderException;
+import org.see.skf.core.BufferCoder;
+import org.see.skf.core.Coder;
+import org.see.skf.core.DoubleCoder;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+
+/**
+ * Everything the framework needs to move the value of one annotated field to and from its encoded representation,
+ * resolved once when the class model is parsed: the FOM element name, the accessors for the field and the coder
+ * instance bound to its type.
+ * <p>
+ * When the property is of a primitive type and its coder implements the matching primitive coder interface (for
+ * instance a double property with a {@link DoubleCoder}), the value is moved between the property and the encoded bytes
+ * without being boxed. Otherwise, when the coder is a {@link BufferCoder}, values of mutable types such as records,
+ * arrays and lists are decoded into the current value of the property instead of a new instance.
+ *
+ * @since 2.0
+ */
+public final class FieldBinding {
+    private final String fomName;
+    private final Field field;
+    private final Method getter;
+    private final Method setter;
+    private final FieldAccessor accessor;
+    private final Class<? extends Coder<?>> coderClass;
+    private final CoderPool<Object> coders;
+    private final ValueCodec codec;
+
+    FieldBinding(String fomName, Field field, Method getter, Method setter, Class<? extends Coder<?>> coderClass, CoderCollection coderCollection) {
+        this.fomName = fomName;
+        this.field = field;
+        this.getter = getter;
+        this.setter = setter;
+        this.accessor = FieldAccessor.of(getter, setter);
+        this.coderClass = coderClass;
+
+        // Coders are invoked through their interface: the erased signature accepts the boxed field value directly. Each
+        // encode/decode borrows its own instance, as the callback and simulation threads may use the field at once.
+        this.coders = coderCollection.getPool(coderClass);
+
+        Coder<?> coder = coderCollection.get(coderClass);
+        PrimitiveAccessor primitiveAccessor = FieldAccessor.forPrimitive(getter, setter, coder);
+        this.codec = (primitiveAccessor != null) ? new PrimitiveCodec(primitiveAccessor, coders) : new BoxedCodec(accessor, coders, coder instanceof BufferCoder);
+    }
+
+    /**
+     * Encodes the current value of the field.
+     * @param element The object that owns the field.
+     * @return The encoded value, or null if the getter returned null.
+     */
+    public byte[] encode(Object element) {
+        return codec.encode(element);
+    }
+
+    /**
+     * Decodes a value of the field's type without assigning it.
+     * @param buffer The encoded value.
+     * @return The decoded value.
+     * @throws DecoderException if the buffer does not hold a valid encoding for the coder.
+     */
+    public Object decode(byte[] buffer) throws DecoderException {
+        Coder<Object> coder = coders.acquire();
+        try {
+            return coder.decode(buffer);
+        } finally {
+            coders.release(coder);
+        }
+    }
+
+    /**
+     * Decodes a value and assigns it to the field. Primitive properties are assigned without boxing, and the current
+     * value of the field is overwritten in place when its coder supports it, so mutable values must not be shared
+     * between objects.
+     * @param element The object that owns the field.
+     * @param buffer The encoded value.
+     * @throws DecoderException if the buffer does not hold a valid encoding for the coder.
+     */
+    public void decodeInto(Object element, byte[] buffer) throws DecoderException {
+        codec.decodeInto(element, buffer, true);
+    }
+
+    /**
+     * Decodes a value into a new instance and assigns it to the field, leaving the previous value untouched, as needed
+     * to report both values to property change listeners.
+     * @param element The object that owns the field.
+     * @param buffer The encoded value.
+     * @throws DecoderException if the buffer does not hold a valid encoding for the coder.
+     */
+    public void decodeReplacing(Object element, byte[] buffer) throws DecoderException {
+        codec.decodeInto(element, buffer, false);
+    }
+
+    /**
+     * @return True if the value of the field is encoded and decoded without boxing.
+     */
+    public boolean isPrimitive() {
+        return !(codec instanceof BoxedCodec);
+    }
+
+    public Object get(Object element) {
+        return accessor.get(element);
+    }
+
+    public void set(Object element, Object value) {
+        accessor.set(element, value);
+    }
+
+    public String getFomName() {
+        return fomName;
+    }
+
+    public Field getField() {
+        return field;
+    }
+
+    public Method getGetter() {
+        return getter;
+    }
+
+    public Method getSetter() {
+        return setter;
+    }
+
+    public FieldAccessor getAccessor() {
+        return accessor;
+    }
+
+    public Class<? extends Coder<?>> getCoderClass() {
+        return coderClass;
+    }
+
+    public CoderPool<Object> getCoderPool() {
+        return coders;
+    }
+
+    // A thread-safe coder is taken from its pool once, when the field is bound, so that encoding and decoding skip the
+    // pool and the cast to the coder's interface. Releasing it back to the pool is a no-op.
+    private interface ValueCodec {
+        byte[] encode(Object element);
+        void decodeInto(Object element, byte[] buffer, boolean reuse) throws DecoderException;
+    }
+
+    private static final class BoxedCodec implements ValueCodec {
+        private final FieldAccessor accessor;
+        private final CoderPool<Object> coders;
+        private final Coder<Object> shared;
+        private final boolean reusable;
+
+        private BoxedCodec(FieldAccessor accessor, CoderPool<Object> coders, boolean reusable) {
+            this.accessor = accessor;
+            this.coders = coders;
+            this.shared = coders.isShared() ? coders.acquire() : null;
+            this.reusable = reusable;
+        }
+
+        @Override
+        public byte[] encode(Object element) {
+            Object value = accessor.get(element);
+            if (value == null) {
+                return null;
+            }
+
+            Coder<Object> coder = (shared != null) ? shared : coders.acquire();
+            try {
+                return coder.encode(value);
+            } finally {
+                coders.release(coder);
+            }
+        }
+
+        @Override
+        public void decodeInto(Object element, byte[] buffer, boolean reuse) throws DecoderException {
+            Object value;
+
+            Coder<Object> coder = (shared != null) ? shared : coders.acquire();
+            try {
+                if (reuse && reusable) {
+                    value = ((BufferCoder<Object>) coder).decode(ByteBuffer.wrap(buffer), 0, accessor.get(element));
+                } else {
+                    value = coder.decode(buffer);
+                }
+            } finally {
+                coders.release(coder);
+            }
+
+            accessor.set(element, value);
+        }
+    }
+
+    private static final class PrimitiveCodec implements ValueCodec {
+        private final PrimitiveAccessor accessor;
+        private final CoderPool<Object> coders;
+        private final Coder<Object> shared;
+
+        private PrimitiveCodec(PrimitiveAccessor accessor, CoderPool<Object> coders) {
+            this.accessor = accessor;
+            this.coders = coders;
+            this.shared = coders.isShared() ? coders.acquire() : null;
+        }
+
+        @Override
+        public byte[] encode(Object element) {
+            Coder<Object> coder = (shared != null) ? shared : coders.acquire();
+            try {
+                BufferCoder<?> bufferCoder = (BufferCoder<?>) coder;
+                byte[] buffer = new byte[bufferCoder.getFixedEncodedLength()];
+                accessor.encode(element, bufferCoder, ByteBuffer.wrap(buffer), 0);
+                return buffer;
+            } finally {
+                coders.release(coder);
+            }
+        }
+
+        @Override
+        public void decodeInto(Object element, byte[] buffer, boolean reuse) throws DecoderException {
+            Coder<Object> coder = (shared != null) ? shared : coders.acquire();
+            try {
+                accessor.decode(element, (BufferCoder<?>) coder, ByteBuffer.wrap(buffer), 0);
+            } finally {
+                coders.release(coder);
+            }
+        }
+    }
+}
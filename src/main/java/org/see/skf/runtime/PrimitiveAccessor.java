@@ -0,0 +1,214 @@
+/*****************************************************************
+ SEE HLA Starter Kit Framework -  A Java library that supports
+ the development of HLA Federates in the Simulation Exploration
+ Experience (SEE) program.
+
+ Copyright (c) 2014, 2026 SMASH Lab - University of Calabria
+ (Italy), Hridyanshu Aatreya - Modelling & Simulation Group (MSG)
+ at Brunel University of London. All rights reserved.
+
+ GNU Lesser General Public License (GNU LGPL).
+
+ This library is free software; you can redistribute it and/or
+ modify it under the terms of the GNU Lesser General Public
+ License as published by the Free Software Foundation; either
+ version 3.0 of the License, or (at your option) any later version.
+
+ This library is distributed in the hope that it will be useful,
+ but WITHOUT ANY WARRANTY; without even the implied warranty of
+ MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ Lesser General Public License for more details.
+
+ You should have received a copy of the GNU Lesser General Public
+ License along with this library.
+ If not, see http://http://www.gnu.org/licenses/
+ *****************************************************************/
+
+package org.see.skf.runtime;
+
+import hla.rti1516_2025.encoding.DecoderException;
+import org.see.skf.core.BufferCoder;
+import org.see.skf.core.Coder;
+import org.see.skf.core.DoubleCoder;
+import org.see.skf.core.FloatCoder;
+import org.see.skf.core.IntCoder;
+import org.see.skf.core.LongCoder;
+import org.see.skf.core.ShortCoder;
+
+import java.nio.ByteBuffer;
+import java.util.function.ObjDoubleConsumer;
+import java.util.function.ObjIntConsumer;
+import java.util.function.ObjLongConsumer;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * Access to a property of type double, float, long, int or short that moves its value between the object and a buffer
+ * without boxing, through the primitive coder interface matching the type. Accessors are created by
+ * {@link FieldAccessor#forPrimitive(java.lang.reflect.Method, java.lang.reflect.Method, Coder)}; the coder itself is
+ * passed on every call, so that one accessor serves every instance lent by a coder pool.
+ *
+ * @since 2.0
+ */
+public abstract class PrimitiveAccessor {
+    /**
+     * The primitive types whose values are encoded without boxing.
+     */
+    public enum Kind {
+        DOUBLE,
+        FLOAT,
+        LONG,
+        INT,
+        SHORT;
+
+        /**
+         * @param type The type of the values.
+         * @param coder The coder of the values.
+         * @return The kind of the values, or null if the type is not one of the primitive types above or the coder does
+         * not implement the matching primitive coder interface.
+         */
+        public static Kind of(Class<?> type, Coder<?> coder) {
+            if (type == double.class && coder instanceof DoubleCoder) {
+                return DOUBLE;
+            } else if (type == float.class && coder instanceof FloatCoder) {
+                return FLOAT;
+            } else if (type == long.class && coder instanceof LongCoder) {
+                return LONG;
+            } else if (type == int.class && coder instanceof IntCoder) {
+                return INT;
+            } else if (type == short.class && coder instanceof ShortCoder) {
+                return SHORT;
+            }
+
+            return null;
+        }
+    }
+
+    PrimitiveAccessor() {
+    }
+
+    /**
+     * Encodes the value of the property into the buffer.
+     * @param element The object that owns the property.
+     * @param coder An instance of the coder the accessor was created for.
+     * @param buffer The destination buffer.
+     * @param offset The absolute index at which the encoded value begins.
+     */
+    public abstract void encode(Object element, BufferCoder<?> coder, ByteBuffer buffer, int offset);
+
+    /**
+     * Decodes a value from the buffer and assigns it to the property.
+     * @param element The object that owns the property.
+     * @param coder An instance of the coder the accessor was created for.
+     * @param buffer The source buffer.
+     * @param offset The absolute index at which the encoded value begins.
+     * @throws DecoderException if the buffer holds fewer bytes than an encoded value needs at the given offset.
+     */
+    public abstract void decode(Object element, BufferCoder<?> coder, ByteBuffer buffer, int offset) throws DecoderException;
+
+    static final class DoubleAccessor extends PrimitiveAccessor {
+        private final ToDoubleFunction<Object> getter;
+        private final ObjDoubleConsumer<Object> setter;
+
+        @SuppressWarnings("unchecked")
+        DoubleAccessor(ToDoubleFunction<?> getter, ObjDoubleConsumer<?> setter) {
+            this.getter = (ToDoubleFunction<Object>) getter;
+            this.setter = (ObjDoubleConsumer<Object>) setter;
+        }
+
+        @Override
+        public void encode(Object element, BufferCoder<?> coder, ByteBuffer buffer, int offset) {
+            ((DoubleCoder) coder).encode(getter.applyAsDouble(element), buffer, offset);
+        }
+
+        @Override
+        public void decode(Object element, BufferCoder<?> coder, ByteBuffer buffer, int offset) throws DecoderException {
+            setter.accept(element, ((DoubleCoder) coder).decodeDouble(buffer, offset));
+        }
+    }
+
+    static final class FloatAccessor extends PrimitiveAccessor {
+        private final ToDoubleFunction<Object> getter;
+        private final FieldAccessor.ObjFloatConsumer setter;
+
+        @SuppressWarnings("unchecked")
+        FloatAccessor(ToDoubleFunction<?> getter, FieldAccessor.ObjFloatConsumer setter) {
+            this.getter = (ToDoubleFunction<Object>) getter;
+            this.setter = setter;
+        }
+
+        @Override
+        public void encode(Object element, BufferCoder<?> coder, ByteBuffer buffer, int offset) {
+            ((FloatCoder) coder).encode((float) getter.applyAsDouble(element), buffer, offset);
+        }
+
+        @Override
+        public void decode(Object element, BufferCoder<?> coder, ByteBuffer buffer, int offset) throws DecoderException {
+            setter.accept(element, ((FloatCoder) coder).decodeFloat(buffer, offset));
+        }
+    }
+
+    static final class LongAccessor extends PrimitiveAccessor {
+        private final ToLongFunction<Object> getter;
+        private final ObjLongConsumer<Object> setter;
+
+        @SuppressWarnings("unchecked")
+        LongAccessor(ToLongFunction<?> getter, ObjLongConsumer<?> setter) {
+            this.getter = (ToLongFunction<Object>) getter;
+            this.setter = (ObjLongConsumer<Object>) setter;
+        }
+
+        @Override
+        public void encode(Object element, BufferCoder<?> coder, ByteBuffer buffer, int offset) {
+            ((LongCoder) coder).encode(getter.applyAsLong(element), buffer, offset);
+        }
+
+        @Override
+        public void decode(Object element, BufferCoder<?> coder, ByteBuffer buffer, int offset) throws DecoderException {
+            setter.accept(element, ((LongCoder) coder).decodeLong(buffer, offset));
+        }
+    }
+
+    static final class IntAccessor extends PrimitiveAccessor {
+        private final ToIntFunction<Object> getter;
+        private final ObjIntConsumer<Object> setter;
+
+        @SuppressWarnings("unchecked")
+        IntAccessor(ToIntFunction<?> getter, ObjIntConsumer<?> setter) {
+            this.getter = (ToIntFunction<Object>) getter;
+            this.setter = (ObjIntConsumer<Object>) setter;
+        }
+
+        @Override
+        public void encode(Object element, BufferCoder<?> coder, ByteBuffer buffer, int offset) {
+            ((IntCoder) coder).encode(getter.applyAsInt(element), buffer, offset);
+        }
+
+        @Override
+        public void decode(Object element, BufferCoder<?> coder, ByteBuffer buffer, int offset) throws DecoderException {
+            setter.accept(element, ((IntCoder) coder).decodeInt(buffer, offset));
+        }
+    }
+
+    static final class ShortAccessor extends PrimitiveAccessor {
+        private final ToIntFunction<Object> getter;
+        private final FieldAccessor.ObjShortConsumer setter;
+
+        @SuppressWarnings("unchecked")
+        ShortAccessor(ToIntFunction<?> getter, FieldAccessor.ObjShortConsumer setter) {
+            this.getter = (ToIntFunction<Object>) getter;
+            this.setter = setter;
+        }
+
+        @Override
+        public void encode(Object element, BufferCoder<?> coder, ByteBuffer buffer, int offset) {
+            ((ShortCoder) coder).encode((short) getter.applyAsInt(element), buffer, offset);
+        }
+
+        @Override
+        public void decode(Object element, BufferCoder<?> coder, ByteBuffer buffer, int offset) throws DecoderException {
+            setter.accept(element, ((ShortCoder) coder).decodeShort(buffer, offset));
+        }
+    }
+}
@@ -0,0 +1,58 @@
+/*****************************************************************
+ SEE HLA Starter Kit Framework -  A Java library that supports
+ the development of HLA Federates in the Simulation Exploration
+ Experience (SEE) program.
+
+ Copyright (c) 2014, 2026 SMASH Lab - University of Calabria
+ (Italy), Hridyanshu Aatreya - Modelling & Simulation Group (MSG)
+ at Brunel University of London. All rights reserved.
+
+ GNU Lesser General Public License (GNU LGPL).
+
+ This library is free software; you can redistribute it and/or
+ modify it under the terms of the GNU Lesser General Public
+ License as published by the Free Software Foundation; either
+ version 3.0 of the License, or (at your option) any later version.
+
+ This library is distributed in the hope that it will be useful,
+ but WITHOUT ANY WARRANTY; without even the implied warranty of
+ MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ Lesser General Public License for more details.
+
+ You should have received a copy of the GNU Lesser General Public
+ License along with this library.
+ If not, see http://http://www.gnu.org/licenses/
+ *****************************************************************/
+
+package org.see.skf.runtime.dispatch;
+
+/**
+ * How listener notifications are delivered.
+ *
+ * @since 2.0
+ */
+public enum DispatchMode {
+    /**
+     * On the thread that received the RTI callback. Cheapest and fully ordered, but a slow listener stalls callback
+     * processing.
+     */
+    INLINE,
+
+    /**
+     * On a single dedicated thread, in the order the callbacks were received.
+     */
+    ORDERED,
+
+    /**
+     * On a fixed pool of threads fed by a bounded queue. Notifications concerning the same object instance are delivered
+     * in order; others, including interactions, may be delivered concurrently and out of order.
+     */
+    EXECUTOR,
+
+    /**
+     * On a new virtual thread per notification, with the number in flight bounded by the queue capacity and the same
+     * ordering guarantees as {@link #EXECUTOR}. Requires Java
+     * 21 or later; older runtimes fall back to {@link #EXECUTOR}.
+     */
+    VIRTUAL
+}
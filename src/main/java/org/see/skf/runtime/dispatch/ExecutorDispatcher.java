@@ -0,0 +1,146 @@
+/*****************************************************************
+ SEE HLA Starter Kit Framework -  A Java library that supports
+ the development of HLA Federates in the Simulation Exploration
+ Experience (SEE) program.
+
+ Copyright (c) 2014, 2026 SMASH Lab - University of Calabria
+ (Italy), Hridyanshu Aatreya - Modelling & Simulation Group (MSG)
+ at Brunel University of London. All rights reserved.
+
+ GNU Lesser General Public License (GNU LGPL).
+
+ This library is free software; you can redistribute it and/or
+ modify it under the terms of the GNU Lesser General Public
+ License as published by the Free Software Foundation; either
+ version 3.0 of the License, or (at your option) any later version.
+
+ This library is distributed in the hope that it will be useful,
+ but WITHOUT ANY WARRANTY; without even the implied warranty of
+ MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ Lesser General Public License for more details.
+
+ You should have received a copy of the GNU Lesser General Public
+ License along with this library.
+ If not, see http://http://www.gnu.org/licenses/
+ *****************************************************************/
+
+package org.see.skf.runtime.dispatch;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Delivers notifications on a fixed pool of daemon threads fed by a queue. With a single thread, notifications are
+ * delivered in submission order.
+ */
+final class ExecutorDispatcher implements ListenerDispatcher {
+    private final ThreadPoolExecutor executor;
+    private final BlockingQueue<Runnable> queue;
+    private final BackPressure backPressure;
+    private final LongAdder dropped;
+
+    ExecutorDispatcher(String threadName, int threads, int queueCapacity, BackPressure backPressure) {
+        this(threadName, threads, boundedQueue(queueCapacity), backPressure);
+    }
+
+    /**
+     * Creates a dispatcher with an unbounded queue, for callers that bound the number of pending notifications
+     * themselves.
+     */
+    ExecutorDispatcher(String threadName, int threads) {
+        this(threadName, threads, new LinkedBlockingQueue<>(), BackPressure.BLOCK);
+    }
+
+    private ExecutorDispatcher(String threadName, int threads, BlockingQueue<Runnable> queue, BackPressure backPressure) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("A listener dispatcher needs at least one thread and a queue capacity of at least one.");
+        }
+
+        this.queue = queue;
+        this.backPressure = backPressure;
+        this.dropped = new LongAdder();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS, queue, new DaemonThreadFactory(threadName), new ThreadPoolExecutor.AbortPolicy());
+        executor.prestartAllCoreThreads();
+    }
+
+    private static BlockingQueue<Runnable> boundedQueue(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("A listener dispatcher needs at least one thread and a queue capacity of at least one.");
+        }
+
+        return new ArrayBlockingQueue<>(capacity);
+    }
+
+    @Override
+    public void dispatch(Runnable notification) {
+        Runnable task = () -> ListenerDispatchers.deliver(notification);
+
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException e) {
+            if (executor.isShutdown()) {
+                dropped.increment();
+                return;
+            }
+
+            switch (backPressure) {
+                case BLOCK:
+                    try {
+                        queue.put(task);
+                    } catch (InterruptedException interrupted) {
+                        Thread.currentThread().interrupt();
+                        dropped.increment();
+                    }
+                    break;
+                case CALLER_RUNS:
+                    task.run();
+                    break;
+                case DROP:
+                default:
+                    dropped.increment();
+                    break;
+            }
+        }
+    }
+
+    @Override
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    @Override
+    public boolean shutdown(long timeoutMillis) {
+        executor.shutdown();
+
+        try {
+            return executor.awaitTermination(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static final class DaemonThreadFactory implements ThreadFactory {
+        private final String name;
+        private final AtomicInteger count;
+
+        private DaemonThreadFactory(String name) {
+            this.name = name;
+            this.count = new AtomicInteger();
+        }
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, name + "-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,232 @@
+/*****************************************************************
+ SEE HLA Starter Kit Framework -  A Java library that supports
+ the development of HLA Federates in the Simulation Exploration
+ Experience (SEE) program.
+
+ Copyright (c) 2014, 2026 SMASH Lab - University of Calabria
+ (Italy), Hridyanshu Aatreya - Modelling & Simulation Group (MSG)
+ at Brunel University of London. All rights reserved.
+
+ GNU Lesser General Public License (GNU LGPL).
+
+ This library is free software; you can redistribute it and/or
+ modify it under the terms of the GNU Lesser General Public
+ License as published by the Free Software Foundation; either
+ version 3.0 of the License, or (at your option) any later version.
+
+ This library is distributed in the hope that it will be useful,
+ but WITHOUT ANY WARRANTY; without even the implied warranty of
+ MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ Lesser General Public License for more details.
+
+ You should have received a copy of the GNU Lesser General Public
+ License along with this library.
+ If not, see http://http://www.gnu.org/licenses/
+ *****************************************************************/
+
+package org.see.skf.runtime.dispatch;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Runs notifications on a concurrent dispatcher while delivering those sharing a key one after another, in the order
+ * they were dispatched. Each key with pending notifications has its own queue, which is drained by one task of the
+ * underlying dispatcher at a time; queues are discarded as soon as they run empty, so keys cost nothing while idle.
+ * Notifications for different keys, and notifications without a key, still run in parallel.
+ * <p>
+ * The number of pending notifications is bounded as a whole. When the bound is reached, the back-pressure policy
+ * applies, except that keyed notifications are never run on the caller under {@link BackPressure#CALLER_RUNS}, which
+ * would let them overtake earlier ones for the same key: the caller blocks instead.
+ * <p>
+ * Once shut down, drain tasks deliver what is left of their key without yielding. Notifications still queued when the
+ * underlying dispatcher stops are discarded and counted as dropped.
+ */
+final class KeyedSerialDispatcher implements ListenerDispatcher {
+    // Upper bound on the notifications one drain task delivers before yielding its thread to other keys.
+    static final int DRAIN_BATCH = 64;
+
+    private final ListenerDispatcher delegate;
+    private final ConcurrentMap<Object, KeyQueue> queues;
+    private final Semaphore pending;
+    private final BackPressure backPressure;
+    private final LongAdder dropped;
+    private final Object shutdownLock;
+    private volatile boolean shuttingDown;
+
+    /**
+     * @param delegate Dispatcher running the notifications, which must accept every task without blocking: drain tasks
+     *                 dispatch their continuation from the delegate's own threads.
+     * @param capacity Maximum number of pending notifications.
+     * @param backPressure What to do beyond that maximum.
+     */
+    KeyedSerialDispatcher(ListenerDispatcher delegate, int capacity, BackPressure backPressure) {
+        this.delegate = delegate;
+        this.queues = new ConcurrentHashMap<>();
+        this.pending = new Semaphore(capacity);
+        this.backPressure = backPressure;
+        this.dropped = new LongAdder();
+        this.shutdownLock = new Object();
+    }
+
+    @Override
+    public void dispatch(Runnable notification) {
+        if (shuttingDown) {
+            dropped.increment();
+            return;
+        }
+
+        if (!pending.tryAcquire()) {
+            if (backPressure == BackPressure.CALLER_RUNS) {
+                ListenerDispatchers.deliver(notification);
+                return;
+            }
+
+            if (!acquireUnderPressure()) {
+                return;
+            }
+        }
+
+        delegate.dispatch(() -> {
+            try {
+                ListenerDispatchers.deliver(notification);
+            } finally {
+                pending.release();
+            }
+        });
+    }
+
+    @Override
+    public void dispatch(Object key, Runnable notification) {
+        if (shuttingDown) {
+            dropped.increment();
+            return;
+        }
+
+        if (!pending.tryAcquire() && !acquireUnderPressure()) {
+            return;
+        }
+
+        KeyQueue[] started = new KeyQueue[1];
+        queues.compute(key, (k, queue) -> {
+            if (queue == null) {
+                queue = new KeyQueue(k);
+                started[0] = queue;
+            }
+
+            queue.notifications.add(notification);
+            return queue;
+        });
+
+        if (started[0] != null) {
+            KeyQueue queue = started[0];
+            delegate.dispatch(() -> drain(queue));
+        }
+    }
+
+    private boolean acquireUnderPressure() {
+        if (backPressure == BackPressure.DROP) {
+            dropped.increment();
+            return false;
+        }
+
+        try {
+            pending.acquire();
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            dropped.increment();
+            return false;
+        }
+    }
+
+    private void drain(KeyQueue queue) {
+        while (deliverBatch(queue)) {
+            // The queue is still registered, so later notifications for the key keep queueing behind this task. Once
+            // shutting down, the delegate would reject the continuation, so the rest of the key is delivered inline.
+            synchronized (shutdownLock) {
+                if (!shuttingDown) {
+                    delegate.dispatch(() -> drain(queue));
+                    return;
+                }
+            }
+        }
+    }
+
+    // Delivers up to a batch of notifications of a key and tells whether the key may have more.
+    private boolean deliverBatch(KeyQueue queue) {
+        for (int i = 0; i < DRAIN_BATCH; i++) {
+            Runnable notification = poll(queue);
+
+            if (notification == null) {
+                return false;
+            }
+
+            try {
+                ListenerDispatchers.deliver(notification);
+            } finally {
+                pending.release();
+            }
+        }
+
+        return true;
+    }
+
+    // Takes the next notification of a key, unregistering its queue in the same atomic step if there is none.
+    private Runnable poll(KeyQueue queue) {
+        Runnable[] next = new Runnable[1];
+        queues.computeIfPresent(queue.key, (k, current) -> {
+            next[0] = current.notifications.poll();
+            return (next[0] != null) ? current : null;
+        });
+
+        return next[0];
+    }
+
+    @Override
+    public long getDroppedCount() {
+        return dropped.sum() + delegate.getDroppedCount();
+    }
+
+    @Override
+    public boolean shutdown(long timeoutMillis) {
+        synchronized (shutdownLock) {
+            shuttingDown = true;
+        }
+
+        boolean terminated = delegate.shutdown(timeoutMillis);
+        return discardQueues() == 0 && terminated;
+    }
+
+    // Unregisters the queues left behind, so that a drain task still running stops at its next notification.
+    private int discardQueues() {
+        int discarded = 0;
+
+        for (Object key : queues.keySet()) {
+            KeyQueue queue = queues.remove(key);
+
+            if (queue != null) {
+                int count = queue.notifications.size();
+                dropped.add(count);
+                pending.release(count);
+                discarded += count;
+            }
+        }
+
+        return discarded;
+    }
+
+    private static final class KeyQueue {
+        private final Object key;
+        private final Queue<Runnable> notifications;
+
+        private KeyQueue(Object key) {
+            this.key = key;
+            this.notifications = new ArrayDeque<>();
+        }
+    }
+}
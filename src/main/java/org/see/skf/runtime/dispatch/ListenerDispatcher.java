@@ -0,0 +1,66 @@
+/*****************************************************************
+ SEE HLA Starter Kit Framework -  A Java library that supports
+ the development of HLA Federates in the Simulation Exploration
+ Experience (SEE) program.
+
+ Copyright (c) 2014, 2026 SMASH Lab - University of Calabria
+ (Italy), Hridyanshu Aatreya - Modelling & Simulation Group (MSG)
+ at Brunel University of London. All rights reserved.
+
+ GNU Lesser General Public License (GNU LGPL).
+
+ This library is free software; you can redistribute it and/or
+ modify it under the terms of the GNU Lesser General Public
+ License as published by the Free Software Foundation; either
+ version 3.0 of the License, or (at your option) any later version.
+
+ This library is distributed in the hope that it will be useful,
+ but WITHOUT ANY WARRANTY; without even the implied warranty of
+ MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ Lesser General Public License for more details.
+
+ You should have received a copy of the GNU Lesser General Public
+ License along with this library.
+ If not, see http://http://www.gnu.org/licenses/
+ *****************************************************************/
+
+package org.see.skf.runtime.dispatch;
+
+/**
+ * Delivers listener notifications raised from RTI callbacks, so that listeners doing lengthy work do not hold up the
+ * federate ambassador. Implementations that deliver notifications concurrently must still honour the ordering of keyed
+ * notifications; the default keyed dispatch suits implementations that deliver everything in order anyway.
+ *
+ * @since 2.0
+ */
+public interface ListenerDispatcher {
+    /**
+     * Hands a notification over for delivery. Depending on the dispatcher and its back-pressure policy, this may run the
+     * notification on the calling thread, block until there is room for it, or drop it.
+     * @param notification The notification to deliver.
+     */
+    void dispatch(Runnable notification);
+
+    /**
+     * Hands over a notification that must be delivered after every notification previously dispatched with the same
+     * key, such as the events concerning one object instance. Notifications with different keys may still be delivered
+     * concurrently.
+     * @param key Key of the notification, compared with equals().
+     * @param notification The notification to deliver.
+     */
+    default void dispatch(Object key, Runnable notification) {
+        dispatch(notification);
+    }
+
+    /**
+     * @return The number of notifications dropped because the dispatcher was saturated or shut down.
+     */
+    long getDroppedCount();
+
+    /**
+     * Stops accepting notifications and waits for the pending ones to be delivered.
+     * @param timeoutMillis Maximum time to wait, in milliseconds.
+     * @return true if every pending notification was delivered in time.
+     */
+    boolean shutdown(long timeoutMillis);
+}
@@ -0,0 +1,116 @@
+/*****************************************************************
+ SEE HLA Starter Kit Framework -  A Java library that supports
+ the development of HLA Federates in the Simulation Exploration
+ Experience (SEE) program.
+
+ Copyright (c) 2014, 2026 SMASH Lab - University of Calabria
+ (Italy), Hridyanshu Aatreya - Modelling & Simulation Group (MSG)
+ at Brunel University of London. All rights reserved.
+
+ GNU Lesser General Public License (GNU LGPL).
+
+ This library is free software; you can redistribute it and/or
+ modify it under the terms of the GNU Lesser General Public
+ License as published by the Free Software Foundation; either
+ version 3.0 of the License, or (at your option) any later version.
+
+ This library is distributed in the hope that it will be useful,
+ but WITHOUT ANY WARRANTY; without even the implied warranty of
+ MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ Lesser General Public License for more details.
+
+ You should have received a copy of the GNU Lesser General Public
+ License along with this library.
+ If not, see http://http://www.gnu.org/licenses/
+ *****************************************************************/
+
+package org.see.skf.runtime.dispatch;
+
+import org.see.skf.conf.FederateConfiguration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Factory methods for the dispatchers behind each {@link DispatchMode}.
+ *
+ * @since 2.0
+ */
+public final class ListenerDispatchers {
+    private static final Logger logger = LoggerFactory.getLogger(ListenerDispatchers.class);
+
+    public static final int DEFAULT_QUEUE_CAPACITY = 4096;
+    public static final int DEFAULT_THREADS = Math.max(2, Runtime.getRuntime().availableProcessors());
+
+    private ListenerDispatchers() {}
+
+    /**
+     * @return A bounded executor with the default pool size and queue capacity, blocking when saturated.
+     */
+    public static ListenerDispatcher createDefault() {
+        return bounded(DEFAULT_THREADS, DEFAULT_QUEUE_CAPACITY, BackPressure.BLOCK);
+    }
+
+    public static ListenerDispatcher create(FederateConfiguration config) {
+        return create(config.listenerDispatchMode(), config.listenerDispatchThreads(), config.listenerQueueCapacity(), config.listenerBackPressure());
+    }
+
+    public static ListenerDispatcher create(DispatchMode mode, int threads, int queueCapacity, BackPressure backPressure) {
+        switch (mode) {
+            case INLINE:
+                return inline();
+            case ORDERED:
+                return ordered(queueCapacity, backPressure);
+            case VIRTUAL:
+                return virtualThreads(threads, queueCapacity, backPressure);
+            case EXECUTOR:
+            default:
+                return bounded(threads, queueCapacity, backPressure);
+        }
+    }
+
+    public static ListenerDispatcher inline() {
+        return new InlineDispatcher();
+    }
+
+    public static ListenerDispatcher ordered(int queueCapacity, BackPressure backPressure) {
+        return new ExecutorDispatcher("skf-listener-ordered", 1, queueCapacity, backPressure);
+    }
+
+    public static ListenerDispatcher bounded(int threads, int queueCapacity, BackPressure backPressure) {
+        // The queue capacity excludes the notifications being delivered. The keyed dispatcher bounds the pending
+        // notifications, so the executor's own queue is unbounded: a worker handing the rest of a key back to the
+        // executor must never block on a queue that only the workers consume.
+        return new KeyedSerialDispatcher(new ExecutorDispatcher("skf-listener", threads), queueCapacity + threads, backPressure);
+    }
+
+    /**
+     * Creates a dispatcher starting a virtual thread per notification, or a bounded executor if the runtime does not
+     * support virtual threads.
+     * @param threads Pool size of the fallback executor.
+     * @param maxInFlight Maximum number of notifications being delivered at once.
+     * @param backPressure What to do with notifications beyond that maximum.
+     * @return A new dispatcher.
+     */
+    public static ListenerDispatcher virtualThreads(int threads, int maxInFlight, BackPressure backPressure) {
+        try {
+            // Looked up reflectively so that the framework still compiles and runs on Java 11.
+            ExecutorService executor = (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+            return new KeyedSerialDispatcher(new VirtualThreadDispatcher(executor), maxInFlight, backPressure);
+        } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
+            logger.warn("Virtual threads are not available on Java {}. Listener notifications will be dispatched by a bounded executor instead.", Runtime.version().feature());
+            return bounded(threads, maxInFlight, backPressure);
+        }
+    }
+
+    static void deliver(Runnable notification) {
+        try {
+            notification.run();
+        } catch (RuntimeException e) {
+            logger.error("A listener failed while handling a notification.", e);
+        }
+    }
+}
@@ -0,0 +1,117 @@
+/*****************************************************************
+ SEE HLA Starter Kit Framework -  A Java library that supports
+ the development of HLA Federates in the Simulation Exploration
+ Experience (SEE) program.
+
+ Copyright (c) 2014, 2026 SMASH Lab - University of Calabria
+ (Italy), Hridyanshu Aatreya - Modelling & Simulation Group (MSG)
+ at Brunel University of London. All rights reserved.
+
+ GNU Lesser General Public License (GNU LGPL).
+
+ This library is free software; you can redistribute it and/or
+ modify it under the terms of the GNU Lesser General Public
+ License as published by the Free Software Foundation; either
+ version 3.0 of the License, or (at your option) any later version.
+
+ This library is distributed in the hope that it will be useful,
+ but WITHOUT ANY WARRANTY; without even the implied warranty of
+ MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ Lesser General Public License for more details.
+
+ You should have received a copy of the GNU Lesser General Public
+ License along with this library.
+ If not, see http://http://www.gnu.org/licenses/
+ *****************************************************************/
+
+package org.see.skf.runtime.dispatch;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Delivers each notification on its own virtual thread. Virtual threads are cheap, but not free, so a semaphore caps
+ * the number of notifications in flight and the back-pressure policy applies beyond it.
+ */
+final class VirtualThreadDispatcher implements ListenerDispatcher {
+    private final ExecutorService executor;
+    private final Semaphore inFlight;
+    private final BackPressure backPressure;
+    private final LongAdder dropped;
+
+    /**
+     * Creates a dispatcher without a cap of its own, for callers that bound the number of pending notifications
+     * themselves.
+     */
+    VirtualThreadDispatcher(ExecutorService executor) {
+        this(executor, Integer.MAX_VALUE, BackPressure.BLOCK);
+    }
+
+    VirtualThreadDispatcher(ExecutorService executor, int maxInFlight, BackPressure backPressure) {
+        if (maxInFlight < 1) {
+            throw new IllegalArgumentException("A listener dispatcher needs a queue capacity of at least one.");
+        }
+
+        this.executor = executor;
+        this.inFlight = new Semaphore(maxInFlight);
+        this.backPressure = backPressure;
+        this.dropped = new LongAdder();
+    }
+
+    @Override
+    public void dispatch(Runnable notification) {
+        if (!inFlight.tryAcquire()) {
+            switch (backPressure) {
+                case BLOCK:
+                    try {
+                        inFlight.acquire();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        dropped.increment();
+                        return;
+                    }
+                    break;
+                case CALLER_RUNS:
+                    ListenerDispatchers.deliver(notification);
+                    return;
+                case DROP:
+                default:
+                    dropped.increment();
+                    return;
+            }
+        }
+
+        try {
+            executor.execute(() -> {
+                try {
+                    ListenerDispatchers.deliver(notification);
+                } finally {
+                    inFlight.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            inFlight.release();
+            dropped.increment();
+        }
+    }
+
+    @Override
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    @Override
+    public boolean shutdown(long timeoutMillis) {
+        executor.shutdown();
+
+        try {
+            return executor.awaitTermination(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -34,40 +34,50 @@ import hla.rti1516_2025.exceptions.*;
 import org.see.skf.core.HLAUtilityFactory;
 import org.see.skf.runtime.AbstractClassModel;
 import org.see.skf.runtime.DeclarationStatus;
+import org.see.skf.runtime.FieldBinding;
 
-import java.lang.reflect.Field;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.Set;
 
 public final class InteractionClassModel extends AbstractClassModel {
     private final RTIambassador rtiAmbassador;
     private final InteractionClassHandle handle;
 
     private final Map<String, ParameterHandle> parameterNameToHandle;
-    private final Map<ParameterHandle, String> parameterHandleToName;
+    private final Map<ParameterHandle, FieldBinding> parameterHandleToBinding;
+    private final ParameterHandle[] parameterHandles;
 
     private final InteractionClassModelParser parser;
 
     public InteractionClassModel(InteractionClassModelParser parser, InteractionClassHandle handle) throws FederateNotExecutionMember, InvalidInteractionClassHandle, NameNotFound, NotConnected, RTIinternalError {
-        rtiAmbassador = HLAUtilityFactory.INSTANCE.getRtiAmbassador();
+        this(parser, handle, HLAUtilityFactory.INSTANCE.getRtiAmbassador());
+    }
+
+    public InteractionClassModel(InteractionClassModelParser parser, InteractionClassHandle handle, RTIambassador rtiAmbassador) throws FederateNotExecutionMember, InvalidInteractionClassHandle, NameNotFound, NotConnected, RTIinternalError {
+        this.rtiAmbassador = rtiAmbassador;
         this.handle = handle;
         this.parameterNameToHandle = new HashMap<>();
-        this.parameterHandleToName = new HashMap<>();
+        this.parameterHandleToBinding = new HashMap<>();
         this.parser = parser;
 
-        Set<Field> fomFields = parser.getAllFields();
-
         try {
-            for (Field fomField : fomFields) {
-                String fieldName = parser.getFomElementNameForField(fomField);
+            for (FieldBinding binding : parser.getBindings()) {
+                String fieldName = binding.getFomName();
                 ParameterHandle parameterHandle = rtiAmbassador.getParameterHandle(handle, fieldName);
                 parameterNameToHandle.put(fieldName, parameterHandle);
-                parameterHandleToName.put(parameterHandle, fieldName);
+                parameterHandleToBinding.put(parameterHandle, binding);
             }
         } catch (NameNotFound e) {
             throw new IllegalStateException("Failed to procure a parameter handle for the interaction class <" + getName() + ">. Parameter names match the one specified in the FOM.", e);
         }
+
+        // Aligned with the parser's parameter bindings so that encoding needs no name lookups.
+        FieldBinding[] parameterBindings = parser.getParameterBindings();
+        this.parameterHandles = new ParameterHandle[parameterBindings.length];
+        for (int i = 0; i < parameterBindings.length; i++) {
+            parameterHandles[i] = parameterNameToHandle.get(parameterBindings[i].getFomName());
+        }
     }
 
     public void publish() throws FederateNotExecutionMember, RestoreInProgress, InteractionClassNotDefined, NotConnected, RTIinternalError, SaveInProgress {
@@ -122,12 +132,7 @@ public final class InteractionClassModel extends AbstractClassModel {
         int mapSize = parser.getParameterCount();
         try {
             ParameterHandleValueMap parameterHandleToValue = rtiAmbassador.getParameterHandleValueMapFactory().create(mapSize);
-            Map<String, byte[]> encodingMap = parser.encode(element);
-
-            for (var entry : encodingMap.entrySet()) {
-                ParameterHandle parameterHandle = parameterNameToHandle.get(entry.getKey());
-                parameterHandleToValue.put(parameterHandle, entry.getValue());
-            }
+            parser.encode(element, parameterHandleToValue, parameterHandles);
 
             return parameterHandleToValue;
         } catch (FederateNotExecutionMember | NotConnected e) {
@@ -136,7 +141,11 @@ public final class InteractionClassModel extends AbstractClassModel {
     }
 
     public void unpackEncodedParameterValues(Object element, ParameterHandleValueMap parameterHandleToValue) {
-        parser.decode(element, parameterHandleToValue, parameterHandleToName);
+        parser.decode(element, parameterHandleToValue, parameterHandleToBinding);
+    }
+
+    public void unpackEncodedParameterValues(Object element, ParameterHandle[] parameterHandles, byte[][] encodedValues, int count) {
+        parser.decode(element, parameterHandles, encodedValues, count, parameterHandleToBinding);
     }
 
     public InteractionClassHandle getHandle() {
@@ -147,6 +156,13 @@ public final class InteractionClassModel extends AbstractClassModel {
         return parser.getFomClass();
     }
 
+    /**
+     * @return The handles of the parameters in this model, by their FOM name.
+     */
+    public Map<String, ParameterHandle> getParameterHandles() {
+        return Collections.unmodifiableMap(parameterNameToHandle);
+    }
+
     @Override
     public String getName() {
         return parser.getFomClassName();
@@ -28,33 +28,41 @@ package org.see.skf.runtime.interactions;
 
 import hla.rti1516_2025.ParameterHandle;
 import hla.rti1516_2025.ParameterHandleValueMap;
+import hla.rti1516_2025.encoding.DecoderException;
 import org.see.skf.annotations.InteractionClass;
 import org.see.skf.annotations.Parameter;
 import org.see.skf.core.Coder;
-import org.see.skf.runtime.CoderCollection;
 import org.see.skf.runtime.AbstractModelParser;
+import org.see.skf.runtime.CoderCollection;
+import org.see.skf.runtime.FieldBinding;
 
 import java.lang.reflect.Field;
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
 public final class InteractionClassModelParser extends AbstractModelParser {
     private Set<String> parameterNames;
+    private FieldBinding[] parameterBindings;
 
     public InteractionClassModelParser(Class<?> interactionClass) {
         super(interactionClass);
     }
 
+    public InteractionClassModelParser(Class<?> interactionClass, CoderCollection coders) {
+        super(interactionClass, coders);
+    }
+
     @Override
     protected void retrieveModelStructure() {
         InteractionClass interactionClass = getFomClass().getAnnotation(InteractionClass.class);
         setFomClassName(interactionClass.name());
 
         parameterNames = new HashSet<>();
+        List<FieldBinding> bindings = new ArrayList<>();
         Field[] classFields = getFomClass().getDeclaredFields();
         for (Field field : classFields) {
             if (field.isAnnotationPresent(Parameter.class)) {
@@ -62,68 +70,99 @@ public final class InteractionClassModelParser extends AbstractModelParser {
                 String parameterName = parameter.name();
                 Class<? extends Coder<?>> coderClass = parameter.coder();
 
-                addField(parameterName, field, coderClass);
+                bindings.add(addField(parameterName, field, coderClass));
                 parameterNames.add(parameterName);
             }
         }
 
+        this.parameterBindings = bindings.toArray(new FieldBinding[0]);
+
         logger.debug("Generated model class structure for the HLA interaction class <{}>.", interactionClass.name());
     }
 
     @Override
     public Map<String, byte[]> encode(Object element) {
-        Map<String, byte[]> encodingMap = new HashMap<>();
+        Map<String, byte[]> encodingMap = new HashMap<>(mapCapacity(parameterBindings.length));
 
-        try {
-            for (String parameterName : parameterNames) {
-                Field field = getFieldForFomElement(parameterName);
-                Method getter = getFieldGetter(field);
-                Object fieldValue = getter.invoke(element);
-
-                if (fieldValue != null) {
-                    var coderClass = getFieldCoder(field);
-                    Coder<?> coder = CoderCollection.query(coderClass);
-
-                    Method encode = coderClass.getMethod("encode", getter.getReturnType());
-                    Object encodedValue = encode.invoke(coder, fieldValue);
-                    encodingMap.put(parameterName, (byte[]) encodedValue);
-                } else {
-                    logger.error("Failed to encode data for the parameter \"{}\" of the HLA interaction class <{}> because the property getter method returned NULL.", field.getName(), getFomClassName());
-                }
+        for (FieldBinding binding : parameterBindings) {
+            byte[] encodedValue = encodeParameter(element, binding);
+
+            if (encodedValue != null) {
+                encodingMap.put(binding.getFomName(), encodedValue);
             }
-        } catch (IllegalAccessException | InvocationTargetException | NoSuchMethodException e) {
-            throw new IllegalStateException(e);
         }
 
         return encodingMap;
     }
 
-    public void decode(Object element, ParameterHandleValueMap parameterHandleToValue, Map<ParameterHandle, String> parameterHandleToName) {
-            try {
-                for (var entry : parameterHandleToValue.entrySet()) {
-                    String parameterName = parameterHandleToName.get(entry.getKey());
-
-                    Field field = getFieldForFomElement(parameterName);
-                    var coderClass = getFieldCoder(field);
-                    Coder<?> coder = CoderCollection.query(coderClass);
-
-                    var decode = coderClass.getMethod("decode", byte[].class);
-                    var encodedValue = entry.getValue();
-
-                    // IntelliJ will warn you here that the following line is incorrect. Changing the second argument to
-                    // Object.class makes the warning go away. Be wise, and do not heed its words. All is as it should be.
-                    // Using byte[].class for the parameter type is, in fact, the correct choice - decoding won't work
-                    // otherwise.
-                    Object newFieldValue = decode.invoke(coder, encodedValue);
-                    Method setter = getFieldSetter(field);
-
-                    setter.invoke(element, newFieldValue);
-                }
-            } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
-                throw new IllegalStateException("Unexpected problem encountered when trying to decode the latest values for an HLA interaction <" + element + "> of the type <" + getFomClassName() + ">" + e);
-            } catch (IllegalArgumentException e) {
-                throw new IllegalArgumentException("Mismatch in fields of interaction class detected. Ensure object fields are properly initialized and the getter and setter methods are of the correct type.");
+    /**
+     * Encodes every parameter of the given interaction straight into a parameter value map.
+     * @param element The interaction to encode.
+     * @param parameterHandleToValue The map receiving the encoded values.
+     * @param parameterHandles Parameter handles in the same order as {@link #getParameterBindings()}.
+     */
+    public void encode(Object element, ParameterHandleValueMap parameterHandleToValue, ParameterHandle[] parameterHandles) {
+        for (int i = 0; i < parameterBindings.length; i++) {
+            byte[] encodedValue = encodeParameter(element, parameterBindings[i]);
+
+            if (encodedValue != null) {
+                parameterHandleToValue.put(parameterHandles[i], encodedValue);
             }
+        }
+    }
+
+    private byte[] encodeParameter(Object element, FieldBinding binding) {
+        byte[] encodedValue;
+        try {
+            encodedValue = binding.encode(element);
+        } catch (ClassCastException e) {
+            throw new IllegalArgumentException("Mismatch in fields of interaction class detected. Ensure object fields are properly initialized and the getter and setter methods are of the correct type.", e);
+        }
+
+        if (encodedValue == null) {
+            logger.error("Failed to encode data for the parameter \"{}\" of the HLA interaction class <{}> because the property getter method returned NULL.", binding.getField().getName(), getFomClassName());
+        }
+
+        return encodedValue;
+    }
+
+    public void decode(Object element, ParameterHandleValueMap parameterHandleToValue, Map<ParameterHandle, FieldBinding> parameterHandleToBinding) {
+        for (var entry : parameterHandleToValue.entrySet()) {
+            decodeParameter(element, parameterHandleToBinding.get(entry.getKey()), entry.getValue());
+        }
+    }
+
+    /**
+     * Decodes parameter values that were copied out of a parameter value map into parallel arrays.
+     * @param element The interaction receiving the values.
+     * @param parameterHandles The parameter handles; only the first {@code count} entries are read.
+     * @param encodedValues The encoded values, in the same order as the handles.
+     * @param count The number of parameter values.
+     * @param parameterHandleToBinding The bindings of the parameters of this class, by handle.
+     */
+    public void decode(Object element, ParameterHandle[] parameterHandles, byte[][] encodedValues, int count, Map<ParameterHandle, FieldBinding> parameterHandleToBinding) {
+        for (int i = 0; i < count; i++) {
+            decodeParameter(element, parameterHandleToBinding.get(parameterHandles[i]), encodedValues[i]);
+        }
+    }
+
+    private void decodeParameter(Object element, FieldBinding binding, byte[] encodedValue) {
+        if (binding == null) {
+            logger.debug("Ignored a value for a parameter that is not part of the model of the HLA interaction class <{}>.", getFomClassName());
+            return;
+        }
+
+        try {
+            binding.decodeInto(element, encodedValue);
+        } catch (DecoderException e) {
+            throw new IllegalStateException("Unexpected problem encountered when trying to decode the latest values for an HLA interaction <" + element + "> of the type <" + getFomClassName() + ">", e);
+        } catch (ClassCastException | NullPointerException e) {
+            throw new IllegalArgumentException("Mismatch in fields of interaction class detected. Ensure object fields are properly initialized and the getter and setter methods are of the correct type.", e);
+        }
+    }
+
+    public FieldBinding[] getParameterBindings() {
+        return parameterBindings;
     }
 
     public Set<String> getParameterNames() {
@@ -0,0 +1,116 @@
+/*****************************************************************
+ SEE HLA Starter Kit Framework -  A Java library that supports
+ the development of HLA Federates in the Simulation Exploration
+ Experience (SEE) program.
+
+ Copyright (c) 2014, 2026 SMASH Lab - University of Calabria
+ (Italy), Hridyanshu Aatreya - Modelling & Simulation Group (MSG)
+ at Brunel University of London. All rights reserved.
+
+ GNU Lesser General Public License (GNU LGPL).
+
+ This library is free software; you can redistribute it and/or
+ modify it under the terms of the GNU Lesser General Public
+ License as published by the Free Software Foundation; either
+ version 3.0 of the License, or (at your option) any later version.
+
+ This library is distributed in the hope that it will be useful,
+ but WITHOUT ANY WARRANTY; without even the implied warranty of
+ MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ Lesser General Public License for more details.
+
+ You should have received a copy of the GNU Lesser General Public
+ License along with this library.
+ If not, see http://http://www.gnu.org/licenses/
+ *****************************************************************/
+
+package org.see.skf.runtime.objects;
+
+import hla.rti1516_2025.ObjectInstanceHandle;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Predicate;
+
+/**
+ * Indexed store for the object instances known to a federate. Entities can be looked up in constant time by their
+ * instance handle, their instance name, or the identity of the Java object that represents them. Lookups are lock-free;
+ * insertions and removals keep the three indices consistent with one another.
+ *
+ * @since 2.0
+ */
+public final class EntityRegistry {
+    private final ConcurrentMap<ObjectInstanceHandle, ObjectClassEntity> handleIndex;
+    private final ConcurrentMap<String, ObjectClassEntity> nameIndex;
+    private final ConcurrentMap<ElementKey, ObjectClassEntity> elementIndex;
+
+    public EntityRegistry() {
+        handleIndex = new ConcurrentHashMap<>();
+        nameIndex = new ConcurrentHashMap<>();
+        elementIndex = new ConcurrentHashMap<>();
+    }
+
+    public synchronized void add(ObjectClassEntity entity) {
+        handleIndex.put(entity.getHandle(), entity);
+        nameIndex.put(entity.getName(), entity);
+        elementIndex.put(new ElementKey(entity.getElement()), entity);
+    }
+
+    public synchronized boolean remove(ObjectClassEntity entity) {
+        boolean removed = handleIndex.remove(entity.getHandle(), entity);
+        nameIndex.remove(entity.getName(), entity);
+        elementIndex.remove(new ElementKey(entity.getElement()), entity);
+
+        return removed;
+    }
+
+    public synchronized void removeIf(Predicate<ObjectClassEntity> predicate) {
+        for (ObjectClassEntity entity : handleIndex.values()) {
+            if (predicate.test(entity)) {
+                remove(entity);
+            }
+        }
+    }
+
+    public ObjectClassEntity getByHandle(ObjectInstanceHandle handle) {
+        return (handle != null) ? handleIndex.get(handle) : null;
+    }
+
+    public ObjectClassEntity getByName(String instanceName) {
+        return (instanceName != null) ? nameIndex.get(instanceName) : null;
+    }
+
+    public ObjectClassEntity getByElement(Object element) {
+        return (element != null) ? elementIndex.get(new ElementKey(element)) : null;
+    }
+
+    public Collection<ObjectClassEntity> getAll() {
+        return Collections.unmodifiableCollection(handleIndex.values());
+    }
+
+    public int size() {
+        return handleIndex.size();
+    }
+
+    // Elements are matched by reference rather than equals() so that user classes overriding equals/hashCode with
+    // mutable state cannot corrupt the index.
+    private static final class ElementKey {
+        private final Object element;
+
+        private ElementKey(Object element) {
+            this.element = element;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof ElementKey && ((ElementKey) other).element == element;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(element);
+        }
+    }
+}
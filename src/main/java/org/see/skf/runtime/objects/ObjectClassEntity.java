@@ -33,6 +33,7 @@ public final class ObjectClassEntity extends AbstractClassElement {
     private final String name;
     private final ObjectInstanceHandle handle;
     private final ObjectClassModel model;
+    private final byte[][] lastEncodedValues;
 
     public ObjectClassEntity(String instanceName, ObjectInstanceHandle handle, ObjectClassModel model, Object element) {
         super(element);
@@ -40,6 +41,7 @@ public final class ObjectClassEntity extends AbstractClassElement {
         this.name = instanceName;
         this.handle = handle;
         this.model = model;
+        this.lastEncodedValues = (model != null && model.isDeltaUpdateEnabled()) ? new byte[model.getPublishableAttributeCount()][] : null;
     }
 
     public String getName() {
@@ -53,4 +55,12 @@ public final class ObjectClassEntity extends AbstractClassElement {
     public ObjectInstanceHandle getHandle() {
         return handle;
     }
+
+    /**
+     * @return The attribute encodings of the most recent update of this instance, in the order of the model's publishable
+     * attributes, or null if its class does not use delta updates.
+     */
+    public byte[][] getLastEncodedValues() {
+        return lastEncodedValues;
+    }
 }
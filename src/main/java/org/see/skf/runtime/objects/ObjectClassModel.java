@@ -28,14 +28,17 @@ package org.see.skf.runtime.objects;
 
 import hla.rti1516_2025.*;
 import hla.rti1516_2025.exceptions.*;
+import org.see.skf.core.DirtyTracking;
 import org.see.skf.core.HLAUtilityFactory;
 import org.see.skf.runtime.AbstractClassModel;
 import org.see.skf.runtime.DeclarationStatus;
+import org.see.skf.runtime.FieldBinding;
 
-import java.lang.reflect.Field;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
 
 public final class ObjectClassModel extends AbstractClassModel {
     private final RTIambassador rtiAmbassador;
@@ -44,29 +47,43 @@ public final class ObjectClassModel extends AbstractClassModel {
     private AttributeHandleSet subscriptionSet;
 
     private final Map<String, AttributeHandle> attributeNameToHandle;
-    private final Map<AttributeHandle, String> attributeHandleToName;
+    private final Map<AttributeHandle, FieldBinding> attributeHandleToBinding;
+    private final AttributeHandle[] publishableAttributeHandles;
+    private final LongAdder sentAttributeCount;
+    private final LongAdder suppressedAttributeCount;
 
     private final ObjectClassModelParser parser;
 
     public ObjectClassModel(ObjectClassModelParser parser, ObjectClassHandle handle) throws FederateNotExecutionMember, NotConnected, RTIinternalError, InvalidObjectClassHandle {
-        rtiAmbassador = HLAUtilityFactory.INSTANCE.getRtiAmbassador();
+        this(parser, handle, HLAUtilityFactory.INSTANCE.getRtiAmbassador());
+    }
+
+    public ObjectClassModel(ObjectClassModelParser parser, ObjectClassHandle handle, RTIambassador rtiAmbassador) throws FederateNotExecutionMember, NotConnected, RTIinternalError, InvalidObjectClassHandle {
+        this.rtiAmbassador = rtiAmbassador;
         this.handle = handle;
         this.attributeNameToHandle = new HashMap<>();
-        this.attributeHandleToName = new HashMap<>();
+        this.attributeHandleToBinding = new HashMap<>();
         this.parser = parser;
-
-        Set<Field> fomFields = parser.getAllFields();
+        this.sentAttributeCount = new LongAdder();
+        this.suppressedAttributeCount = new LongAdder();
 
         try {
-            for (Field fomField : fomFields) {
-                String fieldName = parser.getFomElementNameForField(fomField);
+            for (FieldBinding binding : parser.getBindings()) {
+                String fieldName = binding.getFomName();
                 AttributeHandle attributeHandle = rtiAmbassador.getAttributeHandle(handle, fieldName);
                 attributeNameToHandle.put(fieldName, attributeHandle);
-                attributeHandleToName.put(attributeHandle, fieldName);
+                attributeHandleToBinding.put(attributeHandle, binding);
             }
         } catch (NameNotFound e) {
             throw new IllegalStateException("Failed to procure an attribute handle for the object class <" + getName() + ">. Attribute names must match the one specified in the FOM.", e);
         }
+
+        // Aligned with the parser's publishable bindings so that encoding needs no name lookups.
+        FieldBinding[] publishableBindings = parser.getPublishableBindings();
+        this.publishableAttributeHandles = new AttributeHandle[publishableBindings.length];
+        for (int i = 0; i < publishableBindings.length; i++) {
+            publishableAttributeHandles[i] = attributeNameToHandle.get(publishableBindings[i].getFomName());
+        }
     }
 
     public void publish() throws FederateNotExecutionMember, NotConnected, AttributeNotDefined, ObjectClassNotDefined, RestoreInProgress, RTIinternalError, SaveInProgress {
@@ -165,6 +182,13 @@ public final class ObjectClassModel extends AbstractClassModel {
         return parser.getFomClass();
     }
 
+    /**
+     * @return The handles of the attributes in this model, by their FOM name.
+     */
+    public Map<String, AttributeHandle> getAttributeHandles() {
+        return Collections.unmodifiableMap(attributeNameToHandle);
+    }
+
     public AttributeHandleSet getPublicationSet() {
         return publicationSet;
     }
@@ -177,20 +201,125 @@ public final class ObjectClassModel extends AbstractClassModel {
         int mapSize = parser.getPublishableAttributesCount();
         try {
             AttributeHandleValueMap attributeHandleToValue = rtiAmbassador.getAttributeHandleValueMapFactory().create(mapSize);
-            Map<String, byte[]> encodingMap = parser.encode(element);
+            parser.encode(element, attributeHandleToValue, publishableAttributeHandles);
 
-            for (var entry : encodingMap.entrySet()) {
-                AttributeHandle attributeHandle = attributeNameToHandle.get(entry.getKey());
-                attributeHandleToValue.put(attributeHandle, entry.getValue());
+            return attributeHandleToValue;
+        } catch (FederateNotExecutionMember | NotConnected e) {
+            throw new IllegalStateException("Failed to build encoded representation of attribute values for an object instance of the HLA object class <" + getName() + ">.");
+        }
+    }
+
+    /**
+     * Encodes the attribute values to send in an update of the given object instance. Unless a full refresh is requested,
+     * instances extending {@link DirtyTracking} contribute only the attributes they have marked as dirty, and for classes
+     * with delta updates enabled, attributes whose encoding has not changed since the previous update are left out. The
+     * outcome of sending the values must be reported through {@link #updateSent(ObjectClassEntity, AttributeHandleValueMap)}
+     * or {@link #updateFailed(ObjectClassEntity, AttributeHandleValueMap)}.
+     * @param entity The object instance to encode.
+     * @param fullRefresh Whether all attributes must be included, e.g. when the RTI has asked for them.
+     * @return The attribute values to send, possibly none.
+     */
+    public AttributeHandleValueMap getEncodedAttributeValues(ObjectClassEntity entity, boolean fullRefresh) {
+        Object element = entity.getElement();
+
+        if (!fullRefresh && element instanceof DirtyTracking) {
+            return getDirtyAttributeValues((DirtyTracking) element);
+        }
+
+        byte[][] lastEncodedValues = entity.getLastEncodedValues();
+
+        if (lastEncodedValues == null) {
+            return getEncodedAttributeValues(element);
+        }
+
+        try {
+            AttributeHandleValueMap attributeHandleToValue = rtiAmbassador.getAttributeHandleValueMapFactory().create(publishableAttributeHandles.length);
+            int suppressed;
+
+            // Comparisons must not read the recorded encodings while a sent update is replacing them.
+            synchronized (lastEncodedValues) {
+                suppressed = parser.encodeChanged(element, attributeHandleToValue, publishableAttributeHandles, lastEncodedValues, fullRefresh);
             }
 
+            suppressedAttributeCount.add(suppressed);
+            return attributeHandleToValue;
+        } catch (FederateNotExecutionMember | NotConnected e) {
+            throw new IllegalStateException("Failed to build encoded representation of attribute values for an object instance of the HLA object class <" + getName() + ">.");
+        }
+    }
+
+    private AttributeHandleValueMap getDirtyAttributeValues(DirtyTracking element) {
+        try {
+            AttributeHandleValueMap attributeHandleToValue = rtiAmbassador.getAttributeHandleValueMapFactory().create(publishableAttributeHandles.length);
+            int suppressed = parser.encodeDirty(element, attributeHandleToValue, publishableAttributeHandles);
+
+            suppressedAttributeCount.add(suppressed);
             return attributeHandleToValue;
         } catch (FederateNotExecutionMember | NotConnected e) {
             throw new IllegalStateException("Failed to build encoded representation of attribute values for an object instance of the HLA object class <" + getName() + ">.");
         }
     }
 
+    /**
+     * Records that the RTI accepted an update of the given object instance, so that delta updates compare the following
+     * updates against the values it carried.
+     * @param entity The object instance that was updated.
+     * @param attributeValues The attribute values that were sent.
+     */
+    public void updateSent(ObjectClassEntity entity, AttributeHandleValueMap attributeValues) {
+        sentAttributeCount.add(attributeValues.size());
+        byte[][] lastEncodedValues = entity.getLastEncodedValues();
+
+        if (lastEncodedValues != null) {
+            synchronized (lastEncodedValues) {
+                parser.recordSentValues(attributeValues, publishableAttributeHandles, lastEncodedValues);
+            }
+        }
+    }
+
+    /**
+     * Records that an update of the given object instance could not be sent. Attributes of instances extending
+     * {@link DirtyTracking} are marked dirty again so that the next update carries them.
+     * @param entity The object instance whose update failed.
+     * @param attributeValues The attribute values that were not sent.
+     */
+    public void updateFailed(ObjectClassEntity entity, AttributeHandleValueMap attributeValues) {
+        Object element = entity.getElement();
+
+        if (element instanceof DirtyTracking) {
+            for (AttributeHandle attributeHandle : attributeValues.keySet()) {
+                ((DirtyTracking) element).markDirty(attributeHandleToBinding.get(attributeHandle).getFomName());
+            }
+        }
+    }
+
+    public boolean isDeltaUpdateEnabled() {
+        return parser.isDeltaUpdateEnabled();
+    }
+
+    public int getPublishableAttributeCount() {
+        return publishableAttributeHandles.length;
+    }
+
+    /**
+     * @return The number of attribute values of this class handed to the RTI in updates.
+     */
+    public long getSentAttributeCount() {
+        return sentAttributeCount.sum();
+    }
+
+    /**
+     * @return The number of attribute values of this class left out of updates because they had not changed.
+     */
+    public long getSuppressedAttributeCount() {
+        return suppressedAttributeCount.sum();
+    }
+
     public void unpackEncodedAttributeValues(Object element, AttributeHandleValueMap attributeHandleToValue) {
-        parser.decode(element, attributeHandleToValue, attributeHandleToName);
+        parser.decode(element, attributeHandleToValue, attributeHandleToBinding);
+    }
+
+    public void unpackEncodedAttributeValues(Object element, AttributeHandle[] attributeHandles, byte[][] encodedValues, int count) {
+        parser.decode(element, attributeHandles, encodedValues, count, attributeHandleToBinding);
     }
 }
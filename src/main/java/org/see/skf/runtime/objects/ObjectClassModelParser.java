@@ -28,36 +28,51 @@ package org.see.skf.runtime.objects;
 
 import hla.rti1516_2025.AttributeHandle;
 import hla.rti1516_2025.AttributeHandleValueMap;
+import hla.rti1516_2025.encoding.DecoderException;
 import org.see.skf.annotations.Attribute;
 import org.see.skf.annotations.ObjectClass;
 import org.see.skf.core.Coder;
-import org.see.skf.runtime.CoderCollection;
+import org.see.skf.core.DirtyTracking;
 import org.see.skf.core.PropertyChangeSubject;
 import org.see.skf.runtime.AbstractModelParser;
+import org.see.skf.runtime.CoderCollection;
+import org.see.skf.runtime.FieldBinding;
 import org.see.skf.runtime.ScopeLevel;
 
 import java.lang.reflect.Field;
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
 public final class ObjectClassModelParser extends AbstractModelParser {
     private Set<String> publishableAttributeNames;
     private Set<String> subscribableAttributeNames;
+    private FieldBinding[] publishableBindings;
+    private FieldBinding[] subscribableBindings;
+    private boolean deltaUpdates;
+    private int[] dirtyIndexToPublishable;
 
     public ObjectClassModelParser(Class<?> objectClass) {
         super(objectClass);
     }
 
+    public ObjectClassModelParser(Class<?> objectClass, CoderCollection coders) {
+        super(objectClass, coders);
+    }
+
     @Override
     protected void retrieveModelStructure() {
         ObjectClass objectClass = getFomClass().getAnnotation(ObjectClass.class);
         setFomClassName(objectClass.name());
+        this.deltaUpdates = objectClass.deltaUpdates();
         this.publishableAttributeNames = new HashSet<>();
         this.subscribableAttributeNames = new HashSet<>();
+        List<FieldBinding> publishable = new ArrayList<>();
+        List<FieldBinding> subscribable = new ArrayList<>();
 
         Field[] classFields = getFomClass().getDeclaredFields();
         for (Field field : classFields) {
@@ -67,8 +82,20 @@ public final class ObjectClassModelParser extends AbstractModelParser {
                 Class<? extends Coder<?>> coderClass = attribute.coder();
                 ScopeLevel scopeLevel = attribute.scope();
 
-                addField(attributeName, field, coderClass);
-                setAttributeAccessLevel(attributeName, scopeLevel);
+                FieldBinding binding = addField(attributeName, field, coderClass);
+                setAttributeAccessLevel(binding, scopeLevel, publishable, subscribable);
+            }
+        }
+
+        this.publishableBindings = publishable.toArray(new FieldBinding[0]);
+        this.subscribableBindings = subscribable.toArray(new FieldBinding[0]);
+
+        if (DirtyTracking.class.isAssignableFrom(getFomClass())) {
+            this.dirtyIndexToPublishable = new int[getBindings().size()];
+            Arrays.fill(dirtyIndexToPublishable, -1);
+
+            for (int i = 0; i < publishableBindings.length; i++) {
+                dirtyIndexToPublishable[DirtyTracking.getAttributeIndex(getFomClass(), publishableBindings[i].getFomName())] = i;
             }
         }
 
@@ -77,81 +104,230 @@ public final class ObjectClassModelParser extends AbstractModelParser {
 
     @Override
     public Map<String, byte[]> encode(Object element) {
-        Map<String, byte[]> encodingMap = new HashMap<>();
+        Map<String, byte[]> encodingMap = new HashMap<>(mapCapacity(publishableBindings.length));
 
-        try {
-            for (String attributeName : publishableAttributeNames) {
-                Field field = getFieldForFomElement(attributeName);
-                Method getter = getFieldGetter(field);
-                Object fieldValue = getter.invoke(element);
-
-                if (fieldValue != null) {
-                    Class<? extends Coder<?>> coderClass = getFieldCoder(field);
-                    Coder<?> coder = CoderCollection.query(coderClass);
-
-                    Method encode = coderClass.getMethod("encode", getter.getReturnType());
-                    Object encodedValue = encode.invoke(coder, fieldValue);
-                    encodingMap.put(attributeName, (byte[]) encodedValue);
-                } else {
-                    logger.error("Failed to encode data for the attribute \"{}\" of the HLA object class <{}> because the property getter method returned NULL.", field.getName(), getFomClassName());
-                }
+        for (FieldBinding binding : publishableBindings) {
+            byte[] encodedValue = encodeAttribute(element, binding);
+
+            if (encodedValue != null) {
+                encodingMap.put(binding.getFomName(), encodedValue);
             }
-        } catch (InvocationTargetException | IllegalAccessException | NoSuchMethodException e) {
-            throw new IllegalStateException(e);
         }
 
         return encodingMap;
     }
 
-    public void decode(Object element, AttributeHandleValueMap attributeHandleToValue, Map<AttributeHandle, String> attributeHandleToName) {
-        for (var entry : attributeHandleToValue.entrySet()) {
-            try {
-                String attributeName = attributeHandleToName.get(entry.getKey());
+    /**
+     * Encodes every publishable attribute of the given element into an array, without going through a map.
+     * @param element The object instance to encode.
+     * @param encodedValues Receives the encoded values in the same order as {@link #getPublishableBindings()}; entries
+     *                      of attributes whose getter returned null are set to null.
+     * @return The number of attributes encoded.
+     */
+    public int encode(Object element, byte[][] encodedValues) {
+        int encoded = 0;
+
+        for (int i = 0; i < publishableBindings.length; i++) {
+            encodedValues[i] = encodeAttribute(element, publishableBindings[i]);
+
+            if (encodedValues[i] != null) {
+                encoded++;
+            }
+        }
+
+        return encoded;
+    }
+
+    /**
+     * Encodes every publishable attribute of the given element straight into an attribute value map.
+     * @param element The object instance to encode.
+     * @param attributeHandleToValue The map receiving the encoded values.
+     * @param attributeHandles Attribute handles in the same order as {@link #getPublishableBindings()}.
+     */
+    public void encode(Object element, AttributeHandleValueMap attributeHandleToValue, AttributeHandle[] attributeHandles) {
+        for (int i = 0; i < publishableBindings.length; i++) {
+            byte[] encodedValue = encodeAttribute(element, publishableBindings[i]);
+
+            if (encodedValue != null) {
+                attributeHandleToValue.put(attributeHandles[i], encodedValue);
+            }
+        }
+    }
+
+    /**
+     * Encodes the publishable attributes of the given element, leaving out those whose encoding is identical to the one
+     * recorded for the previous update. The recorded encodings are left untouched; once the update has been sent, pass it
+     * to {@link #recordSentValues(AttributeHandleValueMap, AttributeHandle[], byte[][])}.
+     * @param element The object instance to encode.
+     * @param attributeHandleToValue The map receiving the encoded values.
+     * @param attributeHandles Attribute handles in the same order as {@link #getPublishableBindings()}.
+     * @param lastEncodedValues Encodings of the previous update, in the same order; entries are null until first sent.
+     * @param fullRefresh If true, every attribute is put into the map whether it changed or not.
+     * @return The number of attributes left out because their encoding had not changed.
+     */
+    public int encodeChanged(Object element, AttributeHandleValueMap attributeHandleToValue, AttributeHandle[] attributeHandles, byte[][] lastEncodedValues, boolean fullRefresh) {
+        int suppressed = 0;
+
+        for (int i = 0; i < publishableBindings.length; i++) {
+            byte[] encodedValue = encodeAttribute(element, publishableBindings[i]);
+
+            if (encodedValue == null) {
+                continue;
+            }
+
+            if (!fullRefresh && Arrays.equals(encodedValue, lastEncodedValues[i])) {
+                suppressed++;
+            } else {
+                attributeHandleToValue.put(attributeHandles[i], encodedValue);
+            }
+        }
+
+        return suppressed;
+    }
+
+    /**
+     * Records the encodings of an update that the RTI accepted, for comparison with the following updates.
+     * @param attributeHandleToValue The attribute values that were sent.
+     * @param attributeHandles Attribute handles in the same order as {@link #getPublishableBindings()}.
+     * @param lastEncodedValues Encodings of the previous update, in the same order, which are replaced.
+     */
+    public void recordSentValues(AttributeHandleValueMap attributeHandleToValue, AttributeHandle[] attributeHandles, byte[][] lastEncodedValues) {
+        for (int i = 0; i < attributeHandles.length; i++) {
+            byte[] sentValue = attributeHandleToValue.get(attributeHandles[i]);
+
+            if (sentValue != null) {
+                lastEncodedValues[i] = sentValue;
+            }
+        }
+    }
 
-                Field field = getFieldForFomElement(attributeName);
-                Class<? extends Coder<?>> coderClass = getFieldCoder(field);
-                Coder<?> coder = CoderCollection.query(coderClass);
+    /**
+     * Encodes the publishable attributes that the given element has marked as dirty, clearing the marks. Attributes that
+     * are not marked are neither read nor encoded; those that fail to encode stay marked.
+     * @param element The object instance to encode, which must be of this parser's class.
+     * @param attributeHandleToValue The map receiving the encoded values.
+     * @param attributeHandles Attribute handles in the same order as {@link #getPublishableBindings()}.
+     * @return The number of publishable attributes left out because they were not marked.
+     */
+    public int encodeDirty(DirtyTracking element, AttributeHandleValueMap attributeHandleToValue, AttributeHandle[] attributeHandles) {
+        int encoded = 0;
+
+        for (int word = 0; word < element.getDirtyWordCount(); word++) {
+            long dirtyAttributes = element.takeDirtyAttributes(word);
+            long unencoded = 0L;
+
+            while (dirtyAttributes != 0) {
+                int index = word * Long.SIZE + Long.numberOfTrailingZeros(dirtyAttributes);
+                dirtyAttributes &= dirtyAttributes - 1;
+                int publishableIndex = dirtyIndexToPublishable[index];
+
+                if (publishableIndex >= 0) {
+                    byte[] encodedValue = encodeAttribute(element, publishableBindings[publishableIndex]);
+
+                    if (encodedValue != null) {
+                        attributeHandleToValue.put(attributeHandles[publishableIndex], encodedValue);
+                        encoded++;
+                    } else {
+                        unencoded |= 1L << (index % Long.SIZE);
+                    }
+                }
+            }
+
+            element.restoreDirtyAttributes(word, unencoded);
+        }
+
+        return publishableBindings.length - encoded;
+    }
+
+    private byte[] encodeAttribute(Object element, FieldBinding binding) {
+        byte[] encodedValue;
+        try {
+            encodedValue = binding.encode(element);
+        } catch (ClassCastException e) {
+            throw new IllegalArgumentException("Mismatch in fields of object class detected. Ensure object fields are properly initialized and the getter and setter methods are of the correct type.", e);
+        }
+
+        if (encodedValue == null) {
+            logger.error("Failed to encode data for the attribute \"{}\" of the HLA object class <{}> because the property getter method returned NULL.", binding.getField().getName(), getFomClassName());
+        }
+
+        return encodedValue;
+    }
+
+    public void decode(Object element, AttributeHandleValueMap attributeHandleToValue, Map<AttributeHandle, FieldBinding> attributeHandleToBinding) {
+        // Object classes that do not extend PropertyChangeSubject simply do not get property change events.
+        PropertyChangeSubject subject = (element instanceof PropertyChangeSubject) ? (PropertyChangeSubject) element : null;
 
-                Method decode = coderClass.getMethod("decode", byte[].class);
-                Object encodedValue = entry.getValue();
+        for (var entry : attributeHandleToValue.entrySet()) {
+            decodeAttribute(element, subject, attributeHandleToBinding.get(entry.getKey()), entry.getValue());
+        }
+    }
 
-                // IntelliJ will warn you here that the following line is incorrect. Changing the second argument to
-                // Object.class makes the warning go away. Be wise, and do not heed its words. All is as it should be.
-                // Using byte[].class for the parameter type is, in fact, the correct choice - decoding won't work
-                // otherwise.
-                Object newFieldValue = decode.invoke(coder, encodedValue);
+    /**
+     * Decodes attribute values that were copied out of an attribute value map into parallel arrays.
+     * @param element The object instance receiving the values.
+     * @param attributeHandles The attribute handles; only the first {@code count} entries are read.
+     * @param encodedValues The encoded values, in the same order as the handles.
+     * @param count The number of attribute values.
+     * @param attributeHandleToBinding The bindings of the attributes of this class, by handle.
+     */
+    public void decode(Object element, AttributeHandle[] attributeHandles, byte[][] encodedValues, int count, Map<AttributeHandle, FieldBinding> attributeHandleToBinding) {
+        PropertyChangeSubject subject = (element instanceof PropertyChangeSubject) ? (PropertyChangeSubject) element : null;
+
+        for (int i = 0; i < count; i++) {
+            decodeAttribute(element, subject, attributeHandleToBinding.get(attributeHandles[i]), encodedValues[i]);
+        }
+    }
 
-                Method getter = getFieldGetter(field);
-                Object oldFieldValue = getter.invoke(element);
-                Method setter = getFieldSetter(field);
+    private void decodeAttribute(Object element, PropertyChangeSubject subject, FieldBinding binding, byte[] encodedValue) {
+        if (binding == null) {
+            logger.debug("Ignored a value for an attribute that is not part of the model of the HLA object class <{}>.", getFomClassName());
+            return;
+        }
 
-                setter.invoke(element, newFieldValue);
+        try {
+            String attributeName = binding.getFomName();
 
-                PropertyChangeSubject prematureReference = (PropertyChangeSubject) element;
+            if (subject != null && subject.hasPropertyListeners(attributeName)) {
+                // The old value is kept intact for the listeners rather than decoded into.
+                Object oldFieldValue = binding.get(element);
+                binding.decodeReplacing(element, encodedValue);
 
                 // Dispatch updates to all registered property listeners that this field has been updated.
-                prematureReference.notifyListeners(attributeName, oldFieldValue, newFieldValue);
-            } catch (IllegalAccessException | InvocationTargetException | NoSuchMethodException e) {
-                throw new IllegalStateException("Unexpected problem encountered when trying to decode the latest values for an HLA object instance <" + element + "> of the type <" + getFomClassName() + ">" + e);
-            } catch (IllegalArgumentException e) {
-                throw new IllegalArgumentException("Mismatch in fields of object class detected. Ensure object fields are properly initialized and the getter and setter methods are of the correct type.");
-            } catch (ClassCastException ignore) {
-                // The object class does not implement UpdatableInstance. No property change updates will be dispatched.
+                subject.notifyListeners(attributeName, oldFieldValue, binding.get(element));
+            } else {
+                // Nobody is listening, so primitive attributes can be assigned without boxing the values.
+                binding.decodeInto(element, encodedValue);
             }
+        } catch (DecoderException e) {
+            throw new IllegalStateException("Unexpected problem encountered when trying to decode the latest values for an HLA object instance <" + element + "> of the type <" + getFomClassName() + ">", e);
+        } catch (ClassCastException | NullPointerException e) {
+            throw new IllegalArgumentException("Mismatch in fields of object class detected. Ensure object fields are properly initialized and the getter and setter methods are of the correct type.", e);
         }
     }
 
-    private void setAttributeAccessLevel(String attributeName, ScopeLevel scopeLevel) {
-        if (scopeLevel == ScopeLevel.PUBLISH_SUBSCRIBE) {
-            publishableAttributeNames.add(attributeName);
-            subscribableAttributeNames.add(attributeName);
-        } else if (scopeLevel == ScopeLevel.PUBLISH) {
+    private void setAttributeAccessLevel(FieldBinding binding, ScopeLevel scopeLevel, List<FieldBinding> publishable, List<FieldBinding> subscribable) {
+        String attributeName = binding.getFomName();
+
+        if (scopeLevel == ScopeLevel.PUBLISH || scopeLevel == ScopeLevel.PUBLISH_SUBSCRIBE) {
             publishableAttributeNames.add(attributeName);
-        } else if (scopeLevel == ScopeLevel.SUBSCRIBE) {
+            publishable.add(binding);
+        }
+
+        if (scopeLevel == ScopeLevel.SUBSCRIBE || scopeLevel == ScopeLevel.PUBLISH_SUBSCRIBE) {
             subscribableAttributeNames.add(attributeName);
+            subscribable.add(binding);
         }
     }
 
+    public FieldBinding[] getPublishableBindings() {
+        return publishableBindings;
+    }
+
+    public FieldBinding[] getSubscribableBindings() {
+        return subscribableBindings;
+    }
+
     public Set<String> getPublishableAttributeNames() {
         return publishableAttributeNames;
     }
@@ -168,6 +344,10 @@ public final class ObjectClassModelParser extends AbstractModelParser {
         return publishableAttributeNames.size();
     }
 
+    public boolean isDeltaUpdateEnabled() {
+        return deltaUpdates;
+    }
+
     public boolean isPublishable() {
         return !publishableAttributeNames.isEmpty();
     }
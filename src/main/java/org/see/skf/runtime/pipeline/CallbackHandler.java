@@ -0,0 +1,64 @@
+/*****************************************************************
+ SEE HLA Starter Kit Framework -  A Java library that supports
+ the development of HLA Federates in the Simulation Exploration
+ Experience (SEE) program.
+
+ Copyright (c) 2014, 2026 SMASH Lab - University of Calabria
+ (Italy), Hridyanshu Aatreya - Modelling & Simulation Group (MSG)
+ at Brunel University of London. All rights reserved.
+
+ GNU Lesser General Public License (GNU LGPL).
+
+ This library is free software; you can redistribute it and/or
+ modify it under the terms of the GNU Lesser General Public
+ License as published by the Free Software Foundation; either
+ version 3.0 of the License, or (at your option) any later version.
+
+ This library is distributed in the hope that it will be useful,
+ but WITHOUT ANY WARRANTY; without even the implied warranty of
+ MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ Lesser General Public License for more details.
+
+ You should have received a copy of the GNU Lesser General Public
+ License along with this library.
+ If not, see http://http://www.gnu.org/licenses/
+ *****************************************************************/
+
+package org.see.skf.runtime.pipeline;
+
+import hla.rti1516_2025.AttributeHandle;
+import hla.rti1516_2025.ParameterHandle;
+import org.see.skf.runtime.interactions.InteractionClassModel;
+import org.see.skf.runtime.objects.ObjectClassEntity;
+
+/**
+ * Receives the callbacks taken off a {@link CallbackPipeline}, on one of its decode workers. Callbacks concerning the
+ * same object instance, or the same interaction class, are handed over by the same worker in the order they arrived.
+ * <p>
+ * The handle and value arrays belong to the pipeline and are overwritten once the handler returns, so neither they nor
+ * the encoded values may be kept.
+ *
+ * @since 2.0
+ */
+public interface CallbackHandler {
+    /**
+     * @param entity The object instance whose attributes were reflected.
+     * @param attributeHandles The reflected attributes; only the first {@code count} entries are valid.
+     * @param encodedValues The encoded attribute values, in the same order as the handles.
+     * @param count The number of reflected attributes.
+     */
+    void reflectAttributeValues(ObjectClassEntity entity, AttributeHandle[] attributeHandles, byte[][] encodedValues, int count);
+
+    /**
+     * @param entity The object instance that was removed.
+     */
+    void removeObjectInstance(ObjectClassEntity entity);
+
+    /**
+     * @param model The model of the class of the received interaction.
+     * @param parameterHandles The received parameters; only the first {@code count} entries are valid.
+     * @param encodedValues The encoded parameter values, in the same order as the handles.
+     * @param count The number of received parameters.
+     */
+    void receiveInteraction(InteractionClassModel model, ParameterHandle[] parameterHandles, byte[][] encodedValues, int count);
+}
@@ -0,0 +1,321 @@
+/*****************************************************************
+ SEE HLA Starter Kit Framework -  A Java library that supports
+ the development of HLA Federates in the Simulation Exploration
+ Experience (SEE) program.
+
+ Copyright (c) 2014, 2026 SMASH Lab - University of Calabria
+ (Italy), Hridyanshu Aatreya - Modelling & Simulation Group (MSG)
+ at Brunel University of London. All rights reserved.
+
+ GNU Lesser General Public License (GNU LGPL).
+
+ This library is free software; you can redistribute it and/or
+ modify it under the terms of the GNU Lesser General Public
+ License as published by the Free Software Foundation; either
+ version 3.0 of the License, or (at your option) any later version.
+
+ This library is distributed in the hope that it will be useful,
+ but WITHOUT ANY WARRANTY; without even the implied warranty of
+ MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ Lesser General Public License for more details.
+
+ You should have received a copy of the GNU Lesser General Public
+ License along with this library.
+ If not, see http://http://www.gnu.org/licenses/
+ *****************************************************************/
+
+package org.see.skf.runtime.pipeline;
+
+import hla.rti1516_2025.AttributeHandleValueMap;
+import hla.rti1516_2025.ParameterHandleValueMap;
+import org.see.skf.runtime.dispatch.BackPressure;
+import org.see.skf.runtime.interactions.InteractionClassModel;
+import org.see.skf.runtime.objects.ObjectClassEntity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Moves the decoding of reflected attributes and received interactions off the RTI's callback thread. The callbacks
+ * only copy the encoded values into a preallocated slot of a lock-free ring; decode workers take them from there and
+ * hand them to a {@link CallbackHandler}, which decodes them and notifies the listeners.
+ * <p>
+ * Each worker owns one ring. Callbacks are assigned to a ring by object instance handle or interaction class handle, so
+ * the callbacks concerning one instance are handled by one worker, in the order they arrived, while different instances
+ * are decoded in parallel.
+ * <p>
+ * When a ring is full, reflections and interactions are dropped under the DROP policy and otherwise wait for a free
+ * slot; CALLER_RUNS is treated as BLOCK, as handling a callback on the RTI's thread could overtake earlier callbacks for
+ * the same instance. Removals always wait, because the instance is already gone from the federate's registry.
+ *
+ * @since 2.0
+ */
+public final class CallbackPipeline {
+    private static final Logger logger = LoggerFactory.getLogger(CallbackPipeline.class);
+
+    public static final int DEFAULT_RING_CAPACITY = 1024;
+
+    private static final int IDLE_SPINS = 100;
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1L);
+    private static final long FULL_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50L);
+
+    private final CallbackHandler handler;
+    private final BackPressure backPressure;
+    private final Worker[] workers;
+    private final CallbackPipelineMetrics metrics;
+    private volatile boolean running;
+
+    /**
+     * Creates the pipeline and starts its decode workers.
+     * @param handler Receives the callbacks on the decode workers.
+     * @param workerCount The number of decode workers.
+     * @param ringCapacity The number of callbacks each worker's ring holds, rounded up to a power of two.
+     * @param backPressure What happens to reflections and interactions arriving while their ring is full.
+     */
+    public CallbackPipeline(CallbackHandler handler, int workerCount, int ringCapacity, BackPressure backPressure) {
+        if (workerCount <= 0 || ringCapacity <= 0) {
+            throw new IllegalArgumentException("A callback pipeline needs at least one decode worker and a ring capacity of at least one.");
+        }
+
+        this.handler = handler;
+        this.backPressure = backPressure;
+        this.workers = new Worker[workerCount];
+        this.metrics = new CallbackPipelineMetrics(this::getQueueDepth);
+        this.running = true;
+
+        for (int i = 0; i < workerCount; i++) {
+            workers[i] = new Worker(new CallbackRing(ringCapacity));
+        }
+
+        for (int i = 0; i < workerCount; i++) {
+            Thread thread = new Thread(workers[i], "skf-decode-" + (i + 1));
+            thread.setDaemon(true);
+            workers[i].thread = thread;
+            thread.start();
+        }
+    }
+
+    /**
+     * Copies reflected attribute values into the ring of the instance.
+     * @return false if the reflection was dropped.
+     */
+    public boolean offerReflection(ObjectClassEntity entity, AttributeHandleValueMap attributeValues) {
+        Worker worker = workerFor(entity.getHandle());
+        long position = claim(worker.ring, backPressure != BackPressure.DROP);
+
+        if (position < 0) {
+            return false;
+        }
+
+        CallbackSlot slot = worker.ring.slotAt(position);
+        slot.kind = CallbackSlot.REFLECTION;
+        slot.target = entity;
+        slot.copyAttributeValues(attributeValues);
+        publish(worker, slot, position);
+
+        return true;
+    }
+
+    /**
+     * Queues the removal of an instance behind the callbacks already queued for it, waiting for room if need be.
+     * @return false if the pipeline has been shut down.
+     */
+    public boolean offerRemoval(ObjectClassEntity entity) {
+        Worker worker = workerFor(entity.getHandle());
+        long position = claim(worker.ring, true);
+
+        if (position < 0) {
+            return false;
+        }
+
+        CallbackSlot slot = worker.ring.slotAt(position);
+        slot.kind = CallbackSlot.REMOVAL;
+        slot.target = entity;
+        slot.count = 0;
+        publish(worker, slot, position);
+
+        return true;
+    }
+
+    /**
+     * Copies received parameter values into the ring of the interaction class.
+     * @return false if the interaction was dropped.
+     */
+    public boolean offerInteraction(InteractionClassModel model, ParameterHandleValueMap parameterValues) {
+        Worker worker = workerFor(model.getHandle());
+        long position = claim(worker.ring, backPressure != BackPressure.DROP);
+
+        if (position < 0) {
+            return false;
+        }
+
+        CallbackSlot slot = worker.ring.slotAt(position);
+        slot.kind = CallbackSlot.INTERACTION;
+        slot.target = model;
+        slot.copyParameterValues(parameterValues);
+        publish(worker, slot, position);
+
+        return true;
+    }
+
+    public CallbackPipelineMetrics getMetrics() {
+        return metrics;
+    }
+
+    public int getWorkerCount() {
+        return workers.length;
+    }
+
+    /**
+     * @return The number of callbacks waiting in the rings or being handled right now.
+     */
+    public int getQueueDepth() {
+        int depth = 0;
+
+        for (Worker worker : workers) {
+            depth += worker.ring.size();
+        }
+
+        return depth;
+    }
+
+    /**
+     * Stops accepting callbacks and waits for the workers to handle the ones already queued.
+     * @param timeoutMillis Maximum time to wait, in milliseconds.
+     * @return true if every queued callback was handled in time.
+     */
+    public boolean shutdown(long timeoutMillis) {
+        running = false;
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+
+        for (Worker worker : workers) {
+            LockSupport.unpark(worker.thread);
+        }
+
+        try {
+            for (Worker worker : workers) {
+                long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+
+                if (remainingMillis > 0) {
+                    worker.thread.join(remainingMillis);
+                }
+
+                if (worker.thread.isAlive()) {
+                    return false;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+
+        return true;
+    }
+
+    private Worker workerFor(Object key) {
+        int hash = key.hashCode();
+        hash ^= (hash >>> 16);
+
+        return workers[(hash & Integer.MAX_VALUE) % workers.length];
+    }
+
+    private long claim(CallbackRing ring, boolean wait) {
+        while (running) {
+            long position = ring.claim();
+
+            if (position >= 0) {
+                return position;
+            }
+
+            if (!wait) {
+                break;
+            }
+
+            LockSupport.parkNanos(this, FULL_PARK_NANOS);
+        }
+
+        metrics.recordDropped();
+        return -1L;
+    }
+
+    private void publish(Worker worker, CallbackSlot slot, long position) {
+        slot.enqueuedNanos = System.nanoTime();
+        worker.ring.publish(slot, position);
+        metrics.recordAccepted(worker.ring.size());
+
+        if (worker.idle) {
+            LockSupport.unpark(worker.thread);
+        }
+    }
+
+    private void handle(CallbackSlot slot) {
+        boolean succeeded = false;
+
+        try {
+            switch (slot.kind) {
+                case CallbackSlot.REFLECTION:
+                    handler.reflectAttributeValues((ObjectClassEntity) slot.target, slot.attributeHandles, slot.encodedValues, slot.count);
+                    break;
+                case CallbackSlot.REMOVAL:
+                    handler.removeObjectInstance((ObjectClassEntity) slot.target);
+                    break;
+                case CallbackSlot.INTERACTION:
+                default:
+                    handler.receiveInteraction((InteractionClassModel) slot.target, slot.parameterHandles, slot.encodedValues, slot.count);
+                    break;
+            }
+
+            succeeded = true;
+        } catch (RuntimeException e) {
+            logger.error("A callback could not be handled by the decode worker.", e);
+        } finally {
+            metrics.recordProcessed(System.nanoTime() - slot.enqueuedNanos, succeeded);
+        }
+    }
+
+    private final class Worker implements Runnable {
+        private final CallbackRing ring;
+        private volatile Thread thread;
+        private volatile boolean idle;
+
+        private Worker(CallbackRing ring) {
+            this.ring = ring;
+        }
+
+        @Override
+        public void run() {
+            int spins = 0;
+
+            while (true) {
+                CallbackSlot slot = ring.peek();
+
+                if (slot != null) {
+                    handle(slot);
+                    ring.release(slot);
+                    spins = 0;
+                } else if (!running) {
+                    // Producers no longer claim slots, so an empty ring stays empty.
+                    if (ring.size() == 0) {
+                        return;
+                    }
+
+                    Thread.onSpinWait();
+                } else if (spins < IDLE_SPINS) {
+                    spins++;
+                    Thread.onSpinWait();
+                } else {
+                    idle = true;
+
+                    // Re-check after announcing idleness, or a callback published in between would wait for the timeout.
+                    if (ring.peek() == null && running) {
+                        LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+                    }
+
+                    idle = false;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,166 @@
+/*****************************************************************
+ SEE HLA Starter Kit Framework -  A Java library that supports
+ the development of HLA Federates in the Simulation Exploration
+ Experience (SEE) program.
+
+ Copyright (c) 2014, 2026 SMASH Lab - University of Calabria
+ (Italy), Hridyanshu Aatreya - Modelling & Simulation Group (MSG)
+ at Brunel University of London. All rights reserved.
+
+ GNU Lesser General Public License (GNU LGPL).
+
+ This library is free software; you can redistribute it and/or
+ modify it under the terms of the GNU Lesser General Public
+ License as published by the Free Software Foundation; either
+ version 3.0 of the License, or (at your option) any later version.
+
+ This library is distributed in the hope that it will be useful,
+ but WITHOUT ANY WARRANTY; without even the implied warranty of
+ MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ Lesser General Public License for more details.
+
+ You should have received a copy of the GNU Lesser General Public
+ License along with this library.
+ If not, see http://http://www.gnu.org/licenses/
+ *****************************************************************/
+
+package org.see.skf.runtime.pipeline;
+
+import org.see.skf.metrics.Histogram;
+import org.see.skf.metrics.HistogramSnapshot;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntSupplier;
+
+/**
+ * Counters of a {@link CallbackPipeline}: how many callbacks it took in, dropped and handled, how deep its rings are,
+ * and how long callbacks took from being copied into a ring until their handler returned. Latencies are kept in a
+ * {@link Histogram}. All counters are updated without locks.
+ *
+ * @since 2.0
+ */
+public final class CallbackPipelineMetrics {
+    private final IntSupplier queueDepth;
+    private final LongAdder accepted;
+    private final LongAdder dropped;
+    private final LongAdder processed;
+    private final LongAdder failed;
+    private final AtomicLong maxQueueDepth;
+    private final Histogram latency;
+
+    CallbackPipelineMetrics(IntSupplier queueDepth) {
+        this.queueDepth = queueDepth;
+        this.accepted = new LongAdder();
+        this.dropped = new LongAdder();
+        this.processed = new LongAdder();
+        this.failed = new LongAdder();
+        this.maxQueueDepth = new AtomicLong();
+        this.latency = new Histogram();
+    }
+
+    void recordAccepted(int depth) {
+        accepted.increment();
+        updateMax(maxQueueDepth, depth);
+    }
+
+    void recordDropped() {
+        dropped.increment();
+    }
+
+    void recordProcessed(long latencyNanos, boolean succeeded) {
+        processed.increment();
+        if (!succeeded) {
+            failed.increment();
+        }
+
+        latency.record(latencyNanos);
+    }
+
+    /**
+     * @return The number of callbacks waiting in the rings or being handled right now.
+     */
+    public int getQueueDepth() {
+        return queueDepth.getAsInt();
+    }
+
+    /**
+     * @return The largest number of callbacks a single ring held when a callback was taken in.
+     */
+    public long getMaxQueueDepth() {
+        return maxQueueDepth.get();
+    }
+
+    public long getAcceptedCount() {
+        return accepted.sum();
+    }
+
+    /**
+     * @return The number of callbacks dropped because their ring was full or the pipeline was shut down.
+     */
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    public long getProcessedCount() {
+        return processed.sum();
+    }
+
+    /**
+     * @return The number of callbacks whose handler threw an exception.
+     */
+    public long getFailedCount() {
+        return failed.sum();
+    }
+
+    /**
+     * @return The distribution of the latencies of the callbacks handled so far, in nanoseconds.
+     */
+    public HistogramSnapshot getLatency() {
+        return latency.snapshot();
+    }
+
+    public double getMeanLatencyNanos() {
+        return getLatency().getMean();
+    }
+
+    public long getMaxLatencyNanos() {
+        return getLatency().getMax();
+    }
+
+    /**
+     * @param percentile The percentile, between 0 and 100.
+     * @return The latency below or at which the given percentage of the callbacks was handled, or 0 if no callback has
+     * been handled yet.
+     */
+    public long getLatencyPercentileNanos(double percentile) {
+        if (percentile < 0.0 || percentile > 100.0) {
+            throw new IllegalArgumentException("The percentile must be between 0 and 100, not " + percentile + ".");
+        }
+
+        return getLatency().getValueAtPercentile(percentile);
+    }
+
+    @Override
+    public String toString() {
+        HistogramSnapshot latencySnapshot = getLatency();
+
+        return "accepted=" + getAcceptedCount()
+                + ", dropped=" + getDroppedCount()
+                + ", processed=" + getProcessedCount()
+                + ", failed=" + getFailedCount()
+                + ", depth=" + getQueueDepth()
+                + ", maxDepth=" + getMaxQueueDepth()
+                + ", meanLatencyNs=" + Math.round(latencySnapshot.getMean())
+                + ", p99LatencyNs=" + latencySnapshot.getValueAtPercentile(99.0)
+                + ", maxLatencyNs=" + latencySnapshot.getMax();
+    }
+
+    private static void updateMax(AtomicLong max, long value) {
+        long current = max.get();
+
+        while (value > current && !max.compareAndSet(current, value)) {
+            current = max.get();
+        }
+    }
+}
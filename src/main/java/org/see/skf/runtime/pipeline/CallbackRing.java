@@ -0,0 +1,121 @@
+/*****************************************************************
+ SEE HLA Starter Kit Framework -  A Java library that supports
+ the development of HLA Federates in the Simulation Exploration
+ Experience (SEE) program.
+
+ Copyright (c) 2014, 2026 SMASH Lab - University of Calabria
+ (Italy), Hridyanshu Aatreya - Modelling & Simulation Group (MSG)
+ at Brunel University of London. All rights reserved.
+
+ GNU Lesser General Public License (GNU LGPL).
+
+ This library is free software; you can redistribute it and/or
+ modify it under the terms of the GNU Lesser General Public
+ License as published by the Free Software Foundation; either
+ version 3.0 of the License, or (at your option) any later version.
+
+ This library is distributed in the hope that it will be useful,
+ but WITHOUT ANY WARRANTY; without even the implied warranty of
+ MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ Lesser General Public License for more details.
+
+ You should have received a copy of the GNU Lesser General Public
+ License along with this library.
+ If not, see http://http://www.gnu.org/licenses/
+ *****************************************************************/
+
+package org.see.skf.runtime.pipeline;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded lock-free queue of preallocated callback slots, written by any number of producers and read by a single
+ * consumer. Every slot carries a sequence number telling whose turn it is: a producer may claim the slot at position p
+ * once its sequence equals p, and the consumer may read it once the producer has moved the sequence on to p + 1.
+ * Releasing the slot moves the sequence to p + capacity, its position in the next lap around the ring.
+ */
+final class CallbackRing {
+    private final CallbackSlot[] slots;
+    private final int mask;
+    private final AtomicLong tail;
+    private final AtomicLong head;
+
+    CallbackRing(int capacity) {
+        int size = Integer.highestOneBit(Math.max(capacity - 1, 1)) << 1;
+
+        this.slots = new CallbackSlot[size];
+        this.mask = size - 1;
+        this.tail = new AtomicLong();
+        this.head = new AtomicLong();
+
+        for (int i = 0; i < size; i++) {
+            slots[i] = new CallbackSlot(i);
+        }
+    }
+
+    /**
+     * Claims the next free slot for a producer, which must fill it and then {@link #publish(CallbackSlot, long)} it.
+     * @return The position of the claimed slot, or -1 if the ring is full.
+     */
+    long claim() {
+        long position = tail.get();
+
+        while (true) {
+            long difference = slots[(int) position & mask].sequence - position;
+
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    return position;
+                }
+
+                position = tail.get();
+            } else if (difference < 0) {
+                return -1L;
+            } else {
+                // Another producer claimed this position in the meantime.
+                position = tail.get();
+            }
+        }
+    }
+
+    CallbackSlot slotAt(long position) {
+        return slots[(int) position & mask];
+    }
+
+    void publish(CallbackSlot slot, long position) {
+        slot.sequence = position + 1;
+    }
+
+    /**
+     * @return The slot at the head of the ring if a producer has published it, otherwise null. Consumer only.
+     */
+    CallbackSlot peek() {
+        long position = head.get();
+        CallbackSlot slot = slots[(int) position & mask];
+
+        return (slot.sequence == position + 1) ? slot : null;
+    }
+
+    /**
+     * Hands the slot returned by {@link #peek()} back to the producers. Consumer only.
+     */
+    void release(CallbackSlot slot) {
+        long position = head.get();
+
+        slot.clear();
+        slot.sequence = position + slots.length;
+        head.lazySet(position + 1);
+    }
+
+    /**
+     * @return The number of claimed slots that have not been released yet.
+     */
+    int size() {
+        long size = tail.get() - head.get();
+        return (int) Math.max(0L, Math.min(size, slots.length));
+    }
+
+    int capacity() {
+        return slots.length;
+    }
+}
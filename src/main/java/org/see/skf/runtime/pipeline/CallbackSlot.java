@@ -0,0 +1,127 @@
+/*****************************************************************
+ SEE HLA Starter Kit Framework -  A Java library that supports
+ the development of HLA Federates in the Simulation Exploration
+ Experience (SEE) program.
+
+ Copyright (c) 2014, 2026 SMASH Lab - University of Calabria
+ (Italy), Hridyanshu Aatreya - Modelling & Simulation Group (MSG)
+ at Brunel University of London. All rights reserved.
+
+ GNU Lesser General Public License (GNU LGPL).
+
+ This library is free software; you can redistribute it and/or
+ modify it under the terms of the GNU Lesser General Public
+ License as published by the Free Software Foundation; either
+ version 3.0 of the License, or (at your option) any later version.
+
+ This library is distributed in the hope that it will be useful,
+ but WITHOUT ANY WARRANTY; without even the implied warranty of
+ MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ Lesser General Public License for more details.
+
+ You should have received a copy of the GNU Lesser General Public
+ License along with this library.
+ If not, see http://http://www.gnu.org/licenses/
+ *****************************************************************/
+
+package org.see.skf.runtime.pipeline;
+
+import hla.rti1516_2025.AttributeHandle;
+import hla.rti1516_2025.ParameterHandle;
+
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * One preallocated entry of a {@link CallbackRing}. The handle and value arrays grow to the largest callback seen and
+ * are then reused, as are the value buffers whenever the encoded length of a value does not change between callbacks.
+ */
+final class CallbackSlot {
+    static final int REFLECTION = 1;
+    static final int REMOVAL = 2;
+    static final int INTERACTION = 3;
+
+    private static final int INITIAL_VALUE_CAPACITY = 8;
+
+    // Published by the producer and released by the consumer, see CallbackRing.
+    volatile long sequence;
+
+    int kind;
+    Object target;
+    AttributeHandle[] attributeHandles;
+    ParameterHandle[] parameterHandles;
+    byte[][] encodedValues;
+    int count;
+    long enqueuedNanos;
+
+    CallbackSlot(long sequence) {
+        this.sequence = sequence;
+        this.encodedValues = new byte[INITIAL_VALUE_CAPACITY][];
+    }
+
+    void copyAttributeValues(Map<AttributeHandle, byte[]> attributeValues) {
+        int size = attributeValues.size();
+        ensureCapacity(size);
+
+        if (attributeHandles == null || attributeHandles.length < encodedValues.length) {
+            attributeHandles = new AttributeHandle[encodedValues.length];
+        }
+
+        int i = 0;
+        for (var entry : attributeValues.entrySet()) {
+            attributeHandles[i] = entry.getKey();
+            copyValue(i++, entry.getValue());
+        }
+
+        count = i;
+    }
+
+    void copyParameterValues(Map<ParameterHandle, byte[]> parameterValues) {
+        int size = parameterValues.size();
+        ensureCapacity(size);
+
+        if (parameterHandles == null || parameterHandles.length < encodedValues.length) {
+            parameterHandles = new ParameterHandle[encodedValues.length];
+        }
+
+        int i = 0;
+        for (var entry : parameterValues.entrySet()) {
+            parameterHandles[i] = entry.getKey();
+            copyValue(i++, entry.getValue());
+        }
+
+        count = i;
+    }
+
+    void clear() {
+        // Drop the references to RTI objects but keep the value buffers for the next callback.
+        target = null;
+
+        if (attributeHandles != null) {
+            Arrays.fill(attributeHandles, 0, Math.min(count, attributeHandles.length), null);
+        }
+
+        if (parameterHandles != null) {
+            Arrays.fill(parameterHandles, 0, Math.min(count, parameterHandles.length), null);
+        }
+
+        count = 0;
+    }
+
+    private void ensureCapacity(int size) {
+        if (encodedValues.length < size) {
+            encodedValues = Arrays.copyOf(encodedValues, Math.max(size, encodedValues.length * 2));
+        }
+    }
+
+    private void copyValue(int index, byte[] value) {
+        byte[] buffer = encodedValues[index];
+
+        if (buffer == null || buffer.length != value.length) {
+            buffer = new byte[value.length];
+            encodedValues[index] = buffer;
+        }
+
+        System.arraycopy(value, 0, buffer, 0, value.length);
+    }
+}
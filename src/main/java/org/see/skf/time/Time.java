@@ -68,11 +68,22 @@ public final class Time {
         return lookAhead.getValue();
     }
 
+    /**
+     * @param lookAheadInterval The lookahead, in the units of the HLAinteger64Time representation.
+     * @deprecated Makes the interval with the time factory of the shared context, which federates with a context of
+     * their own may not be connected through; use {@link #setLookAhead(HLAinteger64Interval)} with the time factory of
+     * the federate context instead.
+     */
+    @Deprecated
     public void setLookAhead(long lookAheadInterval) {
         HLAinteger64TimeFactory timeFactory = HLAUtilityFactory.INSTANCE.getTimeFactory();
         lookAhead = timeFactory.makeInterval(lookAheadInterval);
     }
 
+    public void setLookAhead(HLAinteger64Interval lookAheadInterval) {
+        lookAhead = lookAheadInterval;
+    }
+
     public double getSstEpoch() {
         return sstEpoch;
     }
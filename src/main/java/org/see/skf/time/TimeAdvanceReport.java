@@ -0,0 +1,243 @@
+/*****************************************************************
+ SEE HLA Starter Kit Framework -  A Java library that supports
+ the development of HLA Federates in the Simulation Exploration
+ Experience (SEE) program.
+
+ Copyright (c) 2014, 2026 SMASH Lab - University of Calabria
+ (Italy), Hridyanshu Aatreya - Modelling & Simulation Group (MSG)
+ at Brunel University of London. All rights reserved.
+
+ GNU Lesser General Public License (GNU LGPL).
+
+ This library is free software; you can redistribute it and/or
+ modify it under the terms of the GNU Lesser General Public
+ License as published by the Free Software Foundation; either
+ version 3.0 of the License, or (at your option) any later version.
+
+ This library is distributed in the hope that it will be useful,
+ but WITHOUT ANY WARRANTY; without even the implied warranty of
+ MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ Lesser General Public License for more details.
+
+ You should have received a copy of the GNU Lesser General Public
+ License along with this library.
+ If not, see http://http://www.gnu.org/licenses/
+ *****************************************************************/
+
+package org.see.skf.time;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Where the wall-clock time of a federate's simulation loop went over the cycles of a {@link TimeAdvanceTrace}: waiting
+ * for time advance grants, waking up after them, or computing in update(). Cycles whose request was ahead of the GALT
+ * had to wait for other federates; when those dominate the wait, a larger lookahead in the federation (or faster peers)
+ * raises throughput, whereas a loop dominated by update() only speeds up with a faster federate.
+ *
+ * @since 2.0
+ */
+public final class TimeAdvanceReport {
+    private final int cycleCount;
+    private final long lookAhead;
+    private final long grantWaitNanos;
+    private final long wakeUpNanos;
+    private final long updateNanos;
+    private final long[] sortedGrantWaits;
+    private final long[] sortedUpdates;
+    private final int galtBoundCycles;
+    private final double meanGaltHeadroom;
+    private final long logicalTimeAdvanced;
+
+    TimeAdvanceReport(List<TimeAdvanceTrace.Cycle> cycles, long lookAhead) {
+        this.cycleCount = cycles.size();
+        this.lookAhead = lookAhead;
+        this.sortedGrantWaits = new long[cycleCount];
+        this.sortedUpdates = new long[cycleCount];
+
+        long totalGrantWait = 0L;
+        long totalWakeUp = 0L;
+        long totalUpdate = 0L;
+        int galtBound = 0;
+        int galtCount = 0;
+        double headroom = 0.0;
+
+        for (int i = 0; i < cycleCount; i++) {
+            TimeAdvanceTrace.Cycle cycle = cycles.get(i);
+            sortedGrantWaits[i] = cycle.getGrantWaitNanos();
+            sortedUpdates[i] = cycle.getUpdateNanos();
+
+            totalGrantWait += cycle.getGrantWaitNanos();
+            totalWakeUp += cycle.getWakeUpNanos();
+            totalUpdate += cycle.getUpdateNanos();
+
+            if (cycle.getGalt() != TimeAdvanceTrace.NO_GALT) {
+                ++galtCount;
+                headroom += (double) (cycle.getGalt() - cycle.getRequestedTime()) / Math.max(1L, lookAhead);
+
+                if (cycle.isGaltBound()) {
+                    ++galtBound;
+                }
+            }
+        }
+
+        Arrays.sort(sortedGrantWaits);
+        Arrays.sort(sortedUpdates);
+
+        this.grantWaitNanos = totalGrantWait;
+        this.wakeUpNanos = totalWakeUp;
+        this.updateNanos = totalUpdate;
+        this.galtBoundCycles = galtBound;
+        this.meanGaltHeadroom = (galtCount > 0) ? headroom / galtCount : Double.NaN;
+        this.logicalTimeAdvanced = (cycleCount > 1) ? cycles.get(cycleCount - 1).getGrantedTime() - cycles.get(0).getGrantedTime() : 0L;
+    }
+
+    public int getCycleCount() {
+        return cycleCount;
+    }
+
+    /**
+     * @return The wall-clock time covered by the cycles, excluding any time the loop spent frozen, in nanoseconds.
+     */
+    public long getTotalNanos() {
+        return grantWaitNanos + wakeUpNanos + updateNanos;
+    }
+
+    /**
+     * @return The time spent between issuing time advance requests and receiving their grants, in nanoseconds.
+     */
+    public long getGrantWaitNanos() {
+        return grantWaitNanos;
+    }
+
+    /**
+     * @return The time spent between receiving grants and resuming the simulation loop, in nanoseconds.
+     */
+    public long getWakeUpNanos() {
+        return wakeUpNanos;
+    }
+
+    /**
+     * @return The time spent in update(), in nanoseconds.
+     */
+    public long getUpdateNanos() {
+        return updateNanos;
+    }
+
+    /**
+     * @return The share of the wall-clock time spent waiting on the federation for grants.
+     */
+    public double getGrantWaitFraction() {
+        return fraction(grantWaitNanos);
+    }
+
+    /**
+     * @return The share of the wall-clock time spent in update().
+     */
+    public double getUpdateFraction() {
+        return fraction(updateNanos);
+    }
+
+    /**
+     * @return The number of cycles whose request was ahead of the GALT, so that the grant waited for other federates.
+     */
+    public int getGaltBoundCycles() {
+        return galtBoundCycles;
+    }
+
+    /**
+     * @return How far the GALT was ahead of the requested time on average, in lookaheads; negative when requests
+     * typically had to wait for other federates, NaN if the RTI never reported a GALT.
+     */
+    public double getMeanGaltHeadroom() {
+        return meanGaltHeadroom;
+    }
+
+    /**
+     * @param percentile The percentile, between 0 and 100.
+     * @return The time a grant took to arrive at the given percentile, in nanoseconds.
+     */
+    public long getGrantWaitPercentile(double percentile) {
+        return percentile(sortedGrantWaits, percentile);
+    }
+
+    /**
+     * @param percentile The percentile, between 0 and 100.
+     * @return The duration of update() at the given percentile, in nanoseconds.
+     */
+    public long getUpdatePercentile(double percentile) {
+        return percentile(sortedUpdates, percentile);
+    }
+
+    /**
+     * @return The logical time advanced per second of wall-clock time, in logical time units.
+     */
+    public double getLogicalTimeRate() {
+        long totalNanos = getTotalNanos();
+        return (totalNanos > 0L) ? logicalTimeAdvanced / (totalNanos / 1.0e9) : 0.0;
+    }
+
+    public Bottleneck getBottleneck() {
+        if (cycleCount == 0) {
+            return Bottleneck.UNKNOWN;
+        } else if (grantWaitNanos >= updateNanos) {
+            return (galtBoundCycles * 2 > cycleCount) ? Bottleneck.FEDERATION : Bottleneck.GRANT_LATENCY;
+        } else {
+            return Bottleneck.UPDATE;
+        }
+    }
+
+    private double fraction(long nanos) {
+        long totalNanos = getTotalNanos();
+        return (totalNanos > 0L) ? (double) nanos / totalNanos : 0.0;
+    }
+
+    private static long percentile(long[] sortedValues, double percentile) {
+        if (sortedValues.length == 0) {
+            return 0L;
+        }
+
+        double clamped = Math.min(100.0, Math.max(0.0, percentile));
+        int rank = (int) Math.ceil((clamped / 100.0) * sortedValues.length);
+
+        return sortedValues[Math.max(0, rank - 1)];
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder report = new StringBuilder();
+        report.append(String.format(Locale.ROOT, "%d cycles over %d ms, lookahead %d, %.1f logical time units per second%n",
+                cycleCount, TimeUnit.NANOSECONDS.toMillis(getTotalNanos()), lookAhead, getLogicalTimeRate()));
+        report.append(String.format(Locale.ROOT, "  waiting for grants: %5.1f%% (p50 %d us, p99 %d us)%n",
+                100.0 * getGrantWaitFraction(), TimeUnit.NANOSECONDS.toMicros(getGrantWaitPercentile(50.0)), TimeUnit.NANOSECONDS.toMicros(getGrantWaitPercentile(99.0))));
+        report.append(String.format(Locale.ROOT, "  waking up:          %5.1f%%%n", 100.0 * fraction(wakeUpNanos)));
+        report.append(String.format(Locale.ROOT, "  in update():        %5.1f%% (p50 %d us, p99 %d us)%n",
+                100.0 * getUpdateFraction(), TimeUnit.NANOSECONDS.toMicros(getUpdatePercentile(50.0)), TimeUnit.NANOSECONDS.toMicros(getUpdatePercentile(99.0))));
+        report.append(String.format(Locale.ROOT, "  GALT-bound cycles:  %d, mean GALT headroom %.2f lookaheads%n", galtBoundCycles, meanGaltHeadroom));
+        report.append("  ").append(getBottleneck().getAdvice());
+
+        return report.toString();
+    }
+
+    /**
+     * What limits the frame rate of the simulation loop.
+     */
+    public enum Bottleneck {
+        FEDERATION("Most time is spent waiting for grants held back by the GALT: a larger lookahead in the slowest regulating federates, or faster peers, would raise throughput."),
+        GRANT_LATENCY("Most time is spent waiting for grants the GALT already allowed: the RTI's grant latency dominates, so a larger lookahead (fewer, longer steps) would amortize it."),
+        UPDATE("Most time is spent in update(): a faster federate, not a larger lookahead, would raise throughput."),
+        UNKNOWN("No cycles were traced.");
+
+        private final String advice;
+
+        Bottleneck(String advice) {
+            this.advice = advice;
+        }
+
+        public String getAdvice() {
+            return advice;
+        }
+    }
+}
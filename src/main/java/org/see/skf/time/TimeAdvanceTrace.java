@@ -0,0 +1,214 @@
+/*****************************************************************
+ SEE HLA Starter Kit Framework -  A Java library that supports
+ the development of HLA Federates in the Simulation Exploration
+ Experience (SEE) program.
+
+ Copyright (c) 2014, 2026 SMASH Lab - University of Calabria
+ (Italy), Hridyanshu Aatreya - Modelling & Simulation Group (MSG)
+ at Brunel University of London. All rights reserved.
+
+ GNU Lesser General Public License (GNU LGPL).
+
+ This library is free software; you can redistribute it and/or
+ modify it under the terms of the GNU Lesser General Public
+ License as published by the Free Software Foundation; either
+ version 3.0 of the License, or (at your option) any later version.
+
+ This library is distributed in the hope that it will be useful,
+ but WITHOUT ANY WARRANTY; without even the implied warranty of
+ MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ Lesser General Public License for more details.
+
+ You should have received a copy of the GNU Lesser General Public
+ License along with this library.
+ If not, see http://http://www.gnu.org/licenses/
+ *****************************************************************/
+
+package org.see.skf.time;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The last cycles of a federate's simulation loop, kept in a ring buffer of fixed capacity so that tracing can stay on
+ * for a whole run. Each cycle records when the time advance request (TAR) was issued, when the grant (TAG) arrived and
+ * when the loop resumed, the requested and granted logical times, the GALT reported right after the request, and how
+ * long update() took. Wall-clock instants are {@link System#nanoTime()} values.
+ *
+ * @see TimeAdvanceReport
+ * @since 2.0
+ */
+public final class TimeAdvanceTrace {
+    /**
+     * The GALT recorded when the RTI reported no valid GALT, i.e. no other federate was regulating.
+     */
+    public static final long NO_GALT = Long.MIN_VALUE;
+
+    private final int capacity;
+    private final long[] requestNanos;
+    private final long[] grantNanos;
+    private final long[] resumeNanos;
+    private final long[] updateNanos;
+    private final long[] requestedTimes;
+    private final long[] grantedTimes;
+    private final long[] galts;
+    private long recordedCount;
+
+    /**
+     * @param capacity The number of cycles kept; 0 disables tracing.
+     */
+    public TimeAdvanceTrace(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("The capacity of a time advance trace cannot be negative.");
+        }
+
+        this.capacity = capacity;
+        requestNanos = new long[capacity];
+        grantNanos = new long[capacity];
+        resumeNanos = new long[capacity];
+        updateNanos = new long[capacity];
+        requestedTimes = new long[capacity];
+        grantedTimes = new long[capacity];
+        galts = new long[capacity];
+    }
+
+    public boolean isEnabled() {
+        return capacity > 0;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * @return The number of cycles recorded since the trace was created, including those overwritten since.
+     */
+    public synchronized long getRecordedCount() {
+        return recordedCount;
+    }
+
+    /**
+     * Records a cycle, overwriting the oldest one once the trace is full.
+     * @param cycle The cycle.
+     */
+    public synchronized void record(Cycle cycle) {
+        if (capacity == 0) {
+            return;
+        }
+
+        int slot = (int) (recordedCount % capacity);
+        requestNanos[slot] = cycle.requestNanos;
+        grantNanos[slot] = cycle.grantNanos;
+        resumeNanos[slot] = cycle.resumeNanos;
+        updateNanos[slot] = cycle.updateNanos;
+        requestedTimes[slot] = cycle.requestedTime;
+        grantedTimes[slot] = cycle.grantedTime;
+        galts[slot] = cycle.galt;
+        ++recordedCount;
+    }
+
+    /**
+     * @return The cycles held by the trace, oldest first.
+     */
+    public synchronized List<Cycle> getCycles() {
+        int size = (int) Math.min(recordedCount, capacity);
+        List<Cycle> cycles = new ArrayList<>(size);
+
+        for (long i = recordedCount - size; i < recordedCount; i++) {
+            int slot = (int) (i % capacity);
+            cycles.add(new Cycle(requestNanos[slot], grantNanos[slot], resumeNanos[slot], updateNanos[slot], requestedTimes[slot], grantedTimes[slot], galts[slot]));
+        }
+
+        return Collections.unmodifiableList(cycles);
+    }
+
+    /**
+     * @param lookAhead The lookahead of the federate, in logical time units.
+     * @return An analysis of the cycles held by the trace.
+     */
+    public TimeAdvanceReport report(long lookAhead) {
+        return new TimeAdvanceReport(getCycles(), lookAhead);
+    }
+
+    /**
+     * One cycle of the simulation loop: the wait for the grant of a time advance request, then update().
+     */
+    public static final class Cycle {
+        private final long requestNanos;
+        private final long grantNanos;
+        private final long resumeNanos;
+        private final long updateNanos;
+        private final long requestedTime;
+        private final long grantedTime;
+        private final long galt;
+
+        /**
+         * @param requestNanos When the time advance request was issued.
+         * @param grantNanos When the time advance grant was delivered.
+         * @param resumeNanos When the simulation loop resumed after the grant.
+         * @param updateNanos How long update() took, in nanoseconds.
+         * @param requestedTime The requested logical time.
+         * @param grantedTime The granted logical time.
+         * @param galt The GALT right after the request, or {@link #NO_GALT}.
+         */
+        public Cycle(long requestNanos, long grantNanos, long resumeNanos, long updateNanos, long requestedTime, long grantedTime, long galt) {
+            this.requestNanos = requestNanos;
+            this.grantNanos = grantNanos;
+            this.resumeNanos = resumeNanos;
+            this.updateNanos = updateNanos;
+            this.requestedTime = requestedTime;
+            this.grantedTime = grantedTime;
+            this.galt = galt;
+        }
+
+        public long getRequestNanos() {
+            return requestNanos;
+        }
+
+        public long getGrantNanos() {
+            return grantNanos;
+        }
+
+        public long getResumeNanos() {
+            return resumeNanos;
+        }
+
+        public long getUpdateNanos() {
+            return updateNanos;
+        }
+
+        public long getRequestedTime() {
+            return requestedTime;
+        }
+
+        public long getGrantedTime() {
+            return grantedTime;
+        }
+
+        public long getGalt() {
+            return galt;
+        }
+
+        /**
+         * @return The time from the request until the grant arrived, spent waiting on the federation.
+         */
+        public long getGrantWaitNanos() {
+            return Math.max(0L, grantNanos - requestNanos);
+        }
+
+        /**
+         * @return The time from the grant until the simulation loop resumed.
+         */
+        public long getWakeUpNanos() {
+            return Math.max(0L, resumeNanos - grantNanos);
+        }
+
+        /**
+         * @return Whether the GALT was behind the requested time, so that the grant had to wait for other federates.
+         */
+        public boolean isGaltBound() {
+            return galt != NO_GALT && galt < requestedTime;
+        }
+    }
+}
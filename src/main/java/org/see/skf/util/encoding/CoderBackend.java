@@ -0,0 +1,182 @@
+/*****************************************************************
+ SEE HLA Starter Kit Framework -  A Java library that supports
+ the development of HLA Federates in the Simulation Exploration
+ Experience (SEE) program.
+
+ Copyright (c) 2014, 2026 SMASH Lab - University of Calabria
+ (Italy), Hridyanshu Aatreya - Modelling & Simulation Group (MSG)
+ at Brunel University of London. All rights reserved.
+
+ GNU Lesser General Public License (GNU LGPL).
+
+ This library is free software; you can redistribute it and/or
+ modify it under the terms of the GNU Lesser General Public
+ License as published by the Free Software Foundation; either
+ version 3.0 of the License, or (at your option) any later version.
+
+ This library is distributed in the hope that it will be useful,
+ but WITHOUT ANY WARRANTY; without even the implied warranty of
+ MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ Lesser General Public License for more details.
+
+ You should have received a copy of the GNU Lesser General Public
+ License along with this library.
+ If not, see http://http://www.gnu.org/licenses/
+ *****************************************************************/
+
+package org.see.skf.util.encoding;
+
+import hla.rti1516_2025.encoding.EncoderFactory;
+import hla.rti1516_2025.encoding.HLAASCIIchar;
+import hla.rti1516_2025.encoding.HLAASCIIstring;
+import hla.rti1516_2025.encoding.HLAboolean;
+import hla.rti1516_2025.encoding.HLAbyte;
+import hla.rti1516_2025.encoding.HLAfloat32BE;
+import hla.rti1516_2025.encoding.HLAfloat32LE;
+import hla.rti1516_2025.encoding.HLAfloat64BE;
+import hla.rti1516_2025.encoding.HLAfloat64LE;
+import hla.rti1516_2025.encoding.HLAinteger16BE;
+import hla.rti1516_2025.encoding.HLAinteger16LE;
+import hla.rti1516_2025.encoding.HLAinteger32BE;
+import hla.rti1516_2025.encoding.HLAinteger32LE;
+import hla.rti1516_2025.encoding.HLAinteger64BE;
+import hla.rti1516_2025.encoding.HLAinteger64LE;
+import hla.rti1516_2025.encoding.HLAoctet;
+import hla.rti1516_2025.encoding.HLAunicodeChar;
+import hla.rti1516_2025.encoding.HLAunicodeString;
+import org.see.skf.core.Coder;
+import org.see.skf.core.HLAUtilityFactory;
+import org.see.skf.runtime.CoderCollection;
+import org.see.skf.util.models.ExecutionConfiguration;
+import org.see.skf.util.models.ModeTransitionRequest;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Selects the implementation behind the standard coders of this package. By default they are implemented in plain
+ * Java on top of ByteBuffers and need no RTI; the RTI backend routes the same coder classes through the DataElements of
+ * the RTI's EncoderFactory instead, e.g. to cross-check the encodings of a particular RTI. Models keep referring to the
+ * same coder classes in their annotations either way.
+ * <p>
+ * The backend should be selected before any object or interaction class is registered, since the model parsers
+ * resolve their coders when the classes are parsed.
+ *
+ * @since 2.0
+ */
+public enum CoderBackend {
+    /**
+     * Pure-Java coders working directly on byte buffers.
+     */
+    NATIVE,
+
+    /**
+     * Coders backed by the DataElements of the RTI's EncoderFactory.
+     */
+    RTI;
+
+    private static final Map<Class<? extends Coder<?>>, Function<EncoderFactory, Coder<?>>> RTI_CODERS = rtiCoders();
+
+    /**
+     * Makes this backend the one used for all standard coder classes of this package in the shared coder collection.
+     * The RTI backend takes its DataElements from the EncoderFactory of the HLAUtilityFactory.
+     */
+    public void select() {
+        select(CoderCollection.shared(), HLAUtilityFactory.INSTANCE::getEncoderFactory);
+    }
+
+    /**
+     * Makes this backend the one used for all standard coder classes of this package in a coder collection, such as
+     * the one of a federate context.
+     * @param coders The coder collection.
+     * @param encoderFactory The EncoderFactory the RTI backend takes its DataElements from.
+     */
+    public void select(CoderCollection coders, EncoderFactory encoderFactory) {
+        select(coders, () -> encoderFactory);
+    }
+
+    private void select(CoderCollection coders, Supplier<EncoderFactory> encoderFactory) {
+        for (Map.Entry<Class<? extends Coder<?>>, Function<EncoderFactory, Coder<?>>> entry : RTI_CODERS.entrySet()) {
+            if (this == RTI) {
+                Function<EncoderFactory, Coder<?>> rtiCoder = entry.getValue();
+                coders.register(entry.getKey(), () -> rtiCoder.apply(encoderFactory.get()));
+            } else {
+                coders.unregister(entry.getKey());
+            }
+        }
+    }
+
+    /**
+     * Creates a coder of this backend for one of the standard coder classes, without changing the selected backend.
+     * The RTI backend takes its DataElements from the EncoderFactory of the HLAUtilityFactory.
+     * @param coderClass A standard coder class of this package.
+     * @return A new coder instance.
+     */
+    public Coder<?> create(Class<? extends Coder<?>> coderClass) {
+        return create(coderClass, (this == RTI) ? HLAUtilityFactory.INSTANCE.getEncoderFactory() : null);
+    }
+
+    /**
+     * Creates a coder of this backend for one of the standard coder classes, without changing the selected backend.
+     * @param coderClass A standard coder class of this package.
+     * @param encoderFactory The EncoderFactory the RTI backend takes its DataElements from; unused by the native one.
+     * @return A new coder instance.
+     */
+    public Coder<?> create(Class<? extends Coder<?>> coderClass, EncoderFactory encoderFactory) {
+        Function<EncoderFactory, Coder<?>> rtiCoder = RTI_CODERS.get(coderClass);
+
+        if (rtiCoder == null) {
+            throw new IllegalArgumentException("<" + coderClass.getName() + "> is not a standard coder of the framework.");
+        }
+
+        if (this == RTI) {
+            return rtiCoder.apply(encoderFactory);
+        }
+
+        try {
+            return coderClass.getDeclaredConstructor().newInstance();
+        } catch (InstantiationException | IllegalAccessException | InvocationTargetException | NoSuchMethodException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * @return The standard coder classes whose implementation is selected by the backend.
+     */
+    public static Set<Class<? extends Coder<?>>> getCoderClasses() {
+        return Collections.unmodifiableSet(RTI_CODERS.keySet());
+    }
+
+    private static Map<Class<? extends Coder<?>>, Function<EncoderFactory, Coder<?>>> rtiCoders() {
+        Map<Class<? extends Coder<?>>, Function<EncoderFactory, Coder<?>>> coders = new LinkedHashMap<>();
+
+        coders.put(HLAfloat32BECoder.class, encoderFactory -> new RtiCoder<>(encoderFactory, Float.class, EncoderFactory::createHLAfloat32BE, HLAfloat32BE::getValue, HLAfloat32BE::setValue));
+        coders.put(HLAfloat32LECoder.class, encoderFactory -> new RtiCoder<>(encoderFactory, Float.class, EncoderFactory::createHLAfloat32LE, HLAfloat32LE::getValue, HLAfloat32LE::setValue));
+        coders.put(HLAfloat64BECoder.class, encoderFactory -> new RtiCoder<>(encoderFactory, Double.class, EncoderFactory::createHLAfloat64BE, HLAfloat64BE::getValue, HLAfloat64BE::setValue));
+        coders.put(HLAfloat64LECoder.class, encoderFactory -> new RtiCoder<>(encoderFactory, Double.class, EncoderFactory::createHLAfloat64LE, HLAfloat64LE::getValue, HLAfloat64LE::setValue));
+        coders.put(HLAinteger16BECoder.class, encoderFactory -> new RtiCoder<>(encoderFactory, Short.class, EncoderFactory::createHLAinteger16BE, HLAinteger16BE::getValue, HLAinteger16BE::setValue));
+        coders.put(HLAinteger16LECoder.class, encoderFactory -> new RtiCoder<>(encoderFactory, Short.class, EncoderFactory::createHLAinteger16LE, HLAinteger16LE::getValue, HLAinteger16LE::setValue));
+        coders.put(HLAinteger32BECoder.class, encoderFactory -> new RtiCoder<>(encoderFactory, Integer.class, EncoderFactory::createHLAinteger32BE, HLAinteger32BE::getValue, HLAinteger32BE::setValue));
+        coders.put(HLAinteger32LECoder.class, encoderFactory -> new RtiCoder<>(encoderFactory, Integer.class, EncoderFactory::createHLAinteger32LE, HLAinteger32LE::getValue, HLAinteger32LE::setValue));
+        coders.put(HLAinteger64BECoder.class, encoderFactory -> new RtiCoder<>(encoderFactory, Long.class, EncoderFactory::createHLAinteger64BE, HLAinteger64BE::getValue, HLAinteger64BE::setValue));
+        coders.put(HLAinteger64LECoder.class, encoderFactory -> new RtiCoder<>(encoderFactory, Long.class, EncoderFactory::createHLAinteger64LE, HLAinteger64LE::getValue, HLAinteger64LE::setValue));
+        coders.put(HLAbooleanCoder.class, encoderFactory -> new RtiCoder<>(encoderFactory, Boolean.class, EncoderFactory::createHLAboolean, HLAboolean::getValue, HLAboolean::setValue));
+        coders.put(HLAbyteCoder.class, encoderFactory -> new RtiCoder<>(encoderFactory, Byte.class, EncoderFactory::createHLAbyte, HLAbyte::getValue, HLAbyte::setValue));
+        coders.put(HLAoctetCoder.class, encoderFactory -> new RtiCoder<>(encoderFactory, Byte.class, EncoderFactory::createHLAoctet, HLAoctet::getValue, HLAoctet::setValue));
+        coders.put(HLAASCIIcharCoder.class, encoderFactory -> new RtiCoder<>(encoderFactory, Byte.class, EncoderFactory::createHLAASCIIchar, HLAASCIIchar::getValue, HLAASCIIchar::setValue));
+        coders.put(HLAunicodeCharCoder.class, encoderFactory -> new RtiCoder<>(encoderFactory, Short.class, EncoderFactory::createHLAunicodeChar, HLAunicodeChar::getValue, HLAunicodeChar::setValue));
+        coders.put(HLAASCIIstringCoder.class, encoderFactory -> new RtiCoder<>(encoderFactory, String.class, EncoderFactory::createHLAASCIIstring, HLAASCIIstring::getValue, HLAASCIIstring::setValue));
+        coders.put(HLAunicodeStringCoder.class, encoderFactory -> new RtiCoder<>(encoderFactory, String.class, EncoderFactory::createHLAunicodeString, HLAunicodeString::getValue, HLAunicodeString::setValue));
+        coders.put(ExecutionModeCoder.class, encoderFactory -> new RtiCoder<ExecutionConfiguration.ExecutionMode, HLAinteger16LE>(encoderFactory, ExecutionConfiguration.ExecutionMode.class, EncoderFactory::createHLAinteger16LE,
+                element -> ExecutionConfiguration.ExecutionMode.query(element.getValue()), (element, value) -> element.setValue(value.getValue())));
+        coders.put(MTRModeCoder.class, encoderFactory -> new RtiCoder<ModeTransitionRequest.MTRMode, HLAinteger16LE>(encoderFactory, ModeTransitionRequest.MTRMode.class, EncoderFactory::createHLAinteger16LE,
+                element -> ModeTransitionRequest.MTRMode.query(element.getValue()), (element, value) -> element.setValue(value.getValue())));
+
+        return coders;
+    }
+}
@@ -27,34 +27,43 @@
 package org.see.skf.util.encoding;
 
 import hla.rti1516_2025.encoding.DecoderException;
-import hla.rti1516_2025.encoding.EncoderFactory;
-import hla.rti1516_2025.encoding.HLAinteger16LE;
-import org.see.skf.core.Coder;
+import org.see.skf.core.BufferCoder;
 import org.see.skf.util.models.ExecutionConfiguration;
-import org.see.skf.core.HLAUtilityFactory;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 
 /**
- * Coder for the SpaceFOM ExecutionMode enum data type.
+ * Coder for the SpaceFOM ExecutionMode enum data type, represented as an HLAinteger16LE.
  * @since 1.5
  */
-public class ExecutionModeCoder implements Coder<ExecutionConfiguration.ExecutionMode> {
-    private final HLAinteger16LE coder;
+public class ExecutionModeCoder implements BufferCoder<ExecutionConfiguration.ExecutionMode> {
+    private static final int ENCODED_LENGTH = 2;
+
+    @Override
+    public int getOctetBoundary() {
+        return ENCODED_LENGTH;
+    }
 
-    public ExecutionModeCoder() {
-        EncoderFactory encoderFactory = HLAUtilityFactory.INSTANCE.getEncoderFactory();
-        this.coder = encoderFactory.createHLAinteger16LE();
+    @Override
+    public int getEncodedLength(ExecutionConfiguration.ExecutionMode element) {
+        return ENCODED_LENGTH;
+    }
+
+    @Override
+    public int getFixedEncodedLength() {
+        return ENCODED_LENGTH;
     }
 
     @Override
-    public ExecutionConfiguration.ExecutionMode decode(byte[] buffer) throws DecoderException {
-        coder.decode(buffer);
-        return ExecutionConfiguration.ExecutionMode.query(coder.getValue());
+    public void encode(ExecutionConfiguration.ExecutionMode element, ByteBuffer buffer, int offset) {
+        PrimitiveBuffers.putShort(buffer, offset, element.getValue(), ByteOrder.LITTLE_ENDIAN);
     }
 
     @Override
-    public byte[] encode(ExecutionConfiguration.ExecutionMode element) {
-        coder.setValue(element.getValue());
-        return coder.toByteArray();
+    public ExecutionConfiguration.ExecutionMode decode(ByteBuffer buffer, int offset) throws DecoderException {
+        PrimitiveBuffers.checkRemaining(buffer, offset, ENCODED_LENGTH);
+        return ExecutionConfiguration.ExecutionMode.query(PrimitiveBuffers.getShort(buffer, offset, ByteOrder.LITTLE_ENDIAN));
     }
 
     @Override
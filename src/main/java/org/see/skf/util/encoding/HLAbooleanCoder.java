@@ -27,33 +27,42 @@
 package org.see.skf.util.encoding;
 
 import hla.rti1516_2025.encoding.DecoderException;
-import hla.rti1516_2025.encoding.EncoderFactory;
-import hla.rti1516_2025.encoding.HLAboolean;
-import org.see.skf.core.Coder;
-import org.see.skf.core.HLAUtilityFactory;
+import org.see.skf.core.BufferCoder;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 
 /**
- * Coder for the HLAboolean data type.
+ * Coder for the HLAboolean data type, an enumeration represented as an HLAinteger32BE where HLAtrue is 1.
  * @since 1.5
  */
-public class HLAbooleanCoder implements Coder<Boolean> {
-    private final HLAboolean coder;
+public class HLAbooleanCoder implements BufferCoder<Boolean> {
+    private static final int ENCODED_LENGTH = 4;
+
+    @Override
+    public int getOctetBoundary() {
+        return ENCODED_LENGTH;
+    }
 
-    public HLAbooleanCoder() {
-        EncoderFactory encoderFactory = HLAUtilityFactory.INSTANCE.getEncoderFactory();
-        this.coder = encoderFactory.createHLAboolean();
+    @Override
+    public int getEncodedLength(Boolean element) {
+        return ENCODED_LENGTH;
+    }
+
+    @Override
+    public int getFixedEncodedLength() {
+        return ENCODED_LENGTH;
     }
 
     @Override
-    public Boolean decode(byte[] buffer) throws DecoderException {
-        coder.decode(buffer);
-        return coder.getValue();
+    public void encode(Boolean element, ByteBuffer buffer, int offset) {
+        PrimitiveBuffers.putInt(buffer, offset, element ? 1 : 0, ByteOrder.BIG_ENDIAN);
     }
 
     @Override
-    public byte[] encode(Boolean element) {
-        coder.setValue(element);
-        return coder.toByteArray();
+    public Boolean decode(ByteBuffer buffer, int offset) throws DecoderException {
+        PrimitiveBuffers.checkRemaining(buffer, offset, ENCODED_LENGTH);
+        return PrimitiveBuffers.getInt(buffer, offset, ByteOrder.BIG_ENDIAN) != 0;
     }
 
     @Override
@@ -27,33 +27,39 @@
 package org.see.skf.util.encoding;
 
 import hla.rti1516_2025.encoding.DecoderException;
-import hla.rti1516_2025.encoding.EncoderFactory;
-import hla.rti1516_2025.encoding.HLAbyte;
-import org.see.skf.core.Coder;
-import org.see.skf.core.HLAUtilityFactory;
+import org.see.skf.core.BufferCoder;
+
+import java.nio.ByteBuffer;
 
 /**
  * Coder for the HLAbyte data type.
  * @since 1.5
  */
-public class HLAbyteCoder implements Coder<Byte> {
-    private final HLAbyte coder;
+public class HLAbyteCoder implements BufferCoder<Byte> {
+    @Override
+    public int getOctetBoundary() {
+        return 1;
+    }
 
-    public HLAbyteCoder() {
-        EncoderFactory encoderFactory = HLAUtilityFactory.INSTANCE.getEncoderFactory();
-        coder = encoderFactory.createHLAbyte();
+    @Override
+    public int getEncodedLength(Byte element) {
+        return 1;
+    }
+
+    @Override
+    public int getFixedEncodedLength() {
+        return 1;
     }
 
     @Override
-    public Byte decode(byte[] buffer) throws DecoderException {
-        coder.decode(buffer);
-        return coder.getValue();
+    public void encode(Byte element, ByteBuffer buffer, int offset) {
+        buffer.put(offset, element);
     }
 
     @Override
-    public byte[] encode(Byte element) {
-        coder.setValue(element);
-        return coder.toByteArray();
+    public Byte decode(ByteBuffer buffer, int offset) throws DecoderException {
+        PrimitiveBuffers.checkRemaining(buffer, offset, 1);
+        return buffer.get(offset);
     }
 
     @Override
@@ -0,0 +1,450 @@
+/*****************************************************************
+ SEE HLA Starter Kit Framework -  A Java library that supports
+ the development of HLA Federates in the Simulation Exploration
+ Experience (SEE) program.
+
+ Copyright (c) 2014, 2026 SMASH Lab - University of Calabria
+ (Italy), Hridyanshu Aatreya - Modelling & Simulation Group (MSG)
+ at Brunel University of London. All rights reserved.
+
+ GNU Lesser General Public License (GNU LGPL).
+
+ This library is free software; you can redistribute it and/or
+ modify it under the terms of the GNU Lesser General Public
+ License as published by the Free Software Foundation; either
+ version 3.0 of the License, or (at your option) any later version.
+
+ This library is distributed in the hope that it will be useful,
+ but WITHOUT ANY WARRANTY; without even the implied warranty of
+ MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ Lesser General Public License for more details.
+
+ You should have received a copy of the GNU Lesser General Public
+ License along with this library.
+ If not, see http://http://www.gnu.org/licenses/
+ *****************************************************************/
+
+package org.see.skf.util.encoding;
+
+import hla.rti1516_2025.encoding.DecoderException;
+import org.see.skf.core.BufferCoder;
+import org.see.skf.core.DoubleCoder;
+import org.see.skf.core.FloatCoder;
+import org.see.skf.core.IntCoder;
+import org.see.skf.core.LongCoder;
+import org.see.skf.core.ShortCoder;
+import org.see.skf.runtime.PrimitiveAccessor;
+
+import java.lang.reflect.Array;
+import java.nio.ByteBuffer;
+
+/**
+ * Coder for HLAfixedArray data types. The array is represented by a Java array of the element type; arrays of double,
+ * float, long, int and short are encoded without boxing when the element coder implements the matching primitive
+ * coder interface. Elements are padded to the octet boundary of the element type, as required by the HLA encoding
+ * rules, and arrays of fixed-size elements use a precomputed stride.
+ * <p>
+ * Subclass this coder with a no-argument constructor to use it in an {@code @Attribute} or {@code @Parameter}
+ * annotation.
+ *
+ * @param <A> The Java array type, e.g. double[].
+ * @since 2.0
+ */
+public class HLAfixedArrayCoder<A> implements BufferCoder<A> {
+    private final Class<A> arrayType;
+    private final int length;
+    private final ElementCodec codec;
+
+    public HLAfixedArrayCoder(Class<A> arrayType, BufferCoder<?> elementCoder, int length) {
+        if (!arrayType.isArray()) {
+            throw new IllegalArgumentException("<" + arrayType.getName() + "> is not an array type.");
+        }
+
+        if (length <= 0) {
+            throw new IllegalArgumentException("The length of an HLAfixedArray must be positive.");
+        }
+
+        this.arrayType = arrayType;
+        this.length = length;
+        this.codec = ElementCodec.of(arrayType.getComponentType(), elementCoder);
+    }
+
+    /**
+     * @return The number of elements of the array.
+     */
+    public int getLength() {
+        return length;
+    }
+
+    @Override
+    public int getOctetBoundary() {
+        return codec.getOctetBoundary();
+    }
+
+    @Override
+    public int getEncodedLength(A element) {
+        return codec.getEncodedLength(element, length);
+    }
+
+    @Override
+    public int getFixedEncodedLength() {
+        return codec.getFixedEncodedLength(length);
+    }
+
+    @Override
+    public void encode(A element, ByteBuffer buffer, int offset) {
+        int actualLength = Array.getLength(element);
+
+        if (actualLength != length) {
+            throw new IllegalArgumentException("Expected an array of " + length + " elements for an HLAfixedArray, but got " + actualLength + ".");
+        }
+
+        codec.encode(element, length, buffer, offset);
+    }
+
+    @Override
+    public A decode(ByteBuffer buffer, int offset) throws DecoderException {
+        return decode(buffer, offset, null);
+    }
+
+    @Override
+    public A decode(ByteBuffer buffer, int offset, A reuse) throws DecoderException {
+        Object target = (reuse != null && Array.getLength(reuse) == length) ? reuse : Array.newInstance(arrayType.getComponentType(), length);
+        codec.decode(target, length, buffer, offset);
+        return arrayType.cast(target);
+    }
+
+    @Override
+    public Class<A> getAllowedType() {
+        return arrayType;
+    }
+
+    /**
+     * Element-wise encoding of a Java array, shared by fixed and variable arrays. Primitive elements always have a
+     * fixed size, so their codecs replace the generic loops with ones that step over a constant stride.
+     */
+    abstract static class ElementCodec {
+        private final int octetBoundary;
+        private final int elementLength;
+        private final int stride;
+
+        ElementCodec(int octetBoundary, int elementLength) {
+            this.octetBoundary = octetBoundary;
+            this.elementLength = elementLength;
+            this.stride = (elementLength < 0) ? -1 : PrimitiveBuffers.align(elementLength, octetBoundary);
+        }
+
+        static ElementCodec of(Class<?> componentType, BufferCoder<?> elementCoder) {
+            PrimitiveAccessor.Kind kind = PrimitiveAccessor.Kind.of(componentType, elementCoder);
+
+            if (kind != null) {
+                switch (kind) {
+                    case DOUBLE:
+                        return new DoubleElements((DoubleCoder) elementCoder);
+                    case FLOAT:
+                        return new FloatElements((FloatCoder) elementCoder);
+                    case LONG:
+                        return new LongElements((LongCoder) elementCoder);
+                    case INT:
+                        return new IntElements((IntCoder) elementCoder);
+                    case SHORT:
+                        return new ShortElements((ShortCoder) elementCoder);
+                    default:
+                        break;
+                }
+            } else if (!componentType.isPrimitive()) {
+                return new ObjectElements(elementCoder);
+            }
+
+            throw new IllegalArgumentException("The coder <" + elementCoder.getClass().getName() + "> cannot encode elements of type " + componentType.getName() + ".");
+        }
+
+        int getOctetBoundary() {
+            return octetBoundary;
+        }
+
+        int getStride() {
+            return stride;
+        }
+
+        int getFixedEncodedLength(int count) {
+            return (stride < 0) ? -1 : encodedLength(count);
+        }
+
+        int getEncodedLength(Object array, int count) {
+            if (stride >= 0) {
+                return encodedLength(count);
+            }
+
+            int position = 0;
+            for (int i = 0; i < count; i++) {
+                position = PrimitiveBuffers.align(position, octetBoundary) + elementLength(array, i);
+            }
+
+            return position;
+        }
+
+        // No padding follows the last element.
+        private int encodedLength(int count) {
+            return (count == 0) ? 0 : stride * (count - 1) + elementLength;
+        }
+
+        void encode(Object array, int count, ByteBuffer buffer, int offset) {
+            int position = offset;
+
+            for (int i = 0; i < count; i++) {
+                position = offset + PrimitiveBuffers.align(position - offset, octetBoundary);
+                encodeElement(array, i, buffer, position);
+                position += (stride >= 0) ? elementLength : elementLength(array, i);
+            }
+        }
+
+        void decode(Object array, int count, ByteBuffer buffer, int offset) throws DecoderException {
+            if (stride >= 0) {
+                PrimitiveBuffers.checkRemaining(buffer, offset, encodedLength(count));
+            }
+
+            int position = offset;
+
+            for (int i = 0; i < count; i++) {
+                position = offset + PrimitiveBuffers.align(position - offset, octetBoundary);
+                decodeElement(array, i, buffer, position);
+                position += (stride >= 0) ? elementLength : elementLength(array, i);
+            }
+        }
+
+        int elementLength(Object array, int index) {
+            return elementLength;
+        }
+
+        abstract void encodeElement(Object array, int index, ByteBuffer buffer, int offset);
+
+        abstract void decodeElement(Object array, int index, ByteBuffer buffer, int offset) throws DecoderException;
+    }
+
+    private static final class DoubleElements extends ElementCodec {
+        private final DoubleCoder coder;
+
+        private DoubleElements(DoubleCoder coder) {
+            super(coder.getOctetBoundary(), coder.getEncodedLength());
+            this.coder = coder;
+        }
+
+        @Override
+        void encode(Object array, int count, ByteBuffer buffer, int offset) {
+            double[] values = (double[]) array;
+            int stride = getStride();
+
+            for (int i = 0; i < count; i++) {
+                coder.encode(values[i], buffer, offset + i * stride);
+            }
+        }
+
+        @Override
+        void decode(Object array, int count, ByteBuffer buffer, int offset) throws DecoderException {
+            PrimitiveBuffers.checkRemaining(buffer, offset, getFixedEncodedLength(count));
+            double[] values = (double[]) array;
+            int stride = getStride();
+
+            for (int i = 0; i < count; i++) {
+                values[i] = coder.decodeDouble(buffer, offset + i * stride);
+            }
+        }
+
+        @Override
+        void encodeElement(Object array, int index, ByteBuffer buffer, int offset) {
+            coder.encode(((double[]) array)[index], buffer, offset);
+        }
+
+        @Override
+        void decodeElement(Object array, int index, ByteBuffer buffer, int offset) throws DecoderException {
+            ((double[]) array)[index] = coder.decodeDouble(buffer, offset);
+        }
+    }
+
+    private static final class FloatElements extends ElementCodec {
+        private final FloatCoder coder;
+
+        private FloatElements(FloatCoder coder) {
+            super(coder.getOctetBoundary(), coder.getEncodedLength());
+            this.coder = coder;
+        }
+
+        @Override
+        void encode(Object array, int count, ByteBuffer buffer, int offset) {
+            float[] values = (float[]) array;
+            int stride = getStride();
+
+            for (int i = 0; i < count; i++) {
+                coder.encode(values[i], buffer, offset + i * stride);
+            }
+        }
+
+        @Override
+        void decode(Object array, int count, ByteBuffer buffer, int offset) throws DecoderException {
+            PrimitiveBuffers.checkRemaining(buffer, offset, getFixedEncodedLength(count));
+            float[] values = (float[]) array;
+            int stride = getStride();
+
+            for (int i = 0; i < count; i++) {
+                values[i] = coder.decodeFloat(buffer, offset + i * stride);
+            }
+        }
+
+        @Override
+        void encodeElement(Object array, int index, ByteBuffer buffer, int offset) {
+            coder.encode(((float[]) array)[index], buffer, offset);
+        }
+
+        @Override
+        void decodeElement(Object array, int index, ByteBuffer buffer, int offset) throws DecoderException {
+            ((float[]) array)[index] = coder.decodeFloat(buffer, offset);
+        }
+    }
+
+    private static final class LongElements extends ElementCodec {
+        private final LongCoder coder;
+
+        private LongElements(LongCoder coder) {
+            super(coder.getOctetBoundary(), coder.getEncodedLength());
+            this.coder = coder;
+        }
+
+        @Override
+        void encode(Object array, int count, ByteBuffer buffer, int offset) {
+            long[] values = (long[]) array;
+            int stride = getStride();
+
+            for (int i = 0; i < count; i++) {
+                coder.encode(values[i], buffer, offset + i * stride);
+            }
+        }
+
+        @Override
+        void decode(Object array, int count, ByteBuffer buffer, int offset) throws DecoderException {
+            PrimitiveBuffers.checkRemaining(buffer, offset, getFixedEncodedLength(count));
+            long[] values = (long[]) array;
+            int stride = getStride();
+
+            for (int i = 0; i < count; i++) {
+                values[i] = coder.decodeLong(buffer, offset + i * stride);
+            }
+        }
+
+        @Override
+        void encodeElement(Object array, int index, ByteBuffer buffer, int offset) {
+            coder.encode(((long[]) array)[index], buffer, offset);
+        }
+
+        @Override
+        void decodeElement(Object array, int index, ByteBuffer buffer, int offset) throws DecoderException {
+            ((long[]) array)[index] = coder.decodeLong(buffer, offset);
+        }
+    }
+
+    private static final class IntElements extends ElementCodec {
+        private final IntCoder coder;
+
+        private IntElements(IntCoder coder) {
+            super(coder.getOctetBoundary(), coder.getEncodedLength());
+            this.coder = coder;
+        }
+
+        @Override
+        void encode(Object array, int count, ByteBuffer buffer, int offset) {
+            int[] values = (int[]) array;
+            int stride = getStride();
+
+            for (int i = 0; i < count; i++) {
+                coder.encode(values[i], buffer, offset + i * stride);
+            }
+        }
+
+        @Override
+        void decode(Object array, int count, ByteBuffer buffer, int offset) throws DecoderException {
+            PrimitiveBuffers.checkRemaining(buffer, offset, getFixedEncodedLength(count));
+            int[] values = (int[]) array;
+            int stride = getStride();
+
+            for (int i = 0; i < count; i++) {
+                values[i] = coder.decodeInt(buffer, offset + i * stride);
+            }
+        }
+
+        @Override
+        void encodeElement(Object array, int index, ByteBuffer buffer, int offset) {
+            coder.encode(((int[]) array)[index], buffer, offset);
+        }
+
+        @Override
+        void decodeElement(Object array, int index, ByteBuffer buffer, int offset) throws DecoderException {
+            ((int[]) array)[index] = coder.decodeInt(buffer, offset);
+        }
+    }
+
+    private static final class ShortElements extends ElementCodec {
+        private final ShortCoder coder;
+
+        private ShortElements(ShortCoder coder) {
+            super(coder.getOctetBoundary(), coder.getEncodedLength());
+            this.coder = coder;
+        }
+
+        @Override
+        void encode(Object array, int count, ByteBuffer buffer, int offset) {
+            short[] values = (short[]) array;
+            int stride = getStride();
+
+            for (int i = 0; i < count; i++) {
+                coder.encode(values[i], buffer, offset + i * stride);
+            }
+        }
+
+        @Override
+        void decode(Object array, int count, ByteBuffer buffer, int offset) throws DecoderException {
+            PrimitiveBuffers.checkRemaining(buffer, offset, getFixedEncodedLength(count));
+            short[] values = (short[]) array;
+            int stride = getStride();
+
+            for (int i = 0; i < count; i++) {
+                values[i] = coder.decodeShort(buffer, offset + i * stride);
+            }
+        }
+
+        @Override
+        void encodeElement(Object array, int index, ByteBuffer buffer, int offset) {
+            coder.encode(((short[]) array)[index], buffer, offset);
+        }
+
+        @Override
+        void decodeElement(Object array, int index, ByteBuffer buffer, int offset) throws DecoderException {
+            ((short[]) array)[index] = coder.decodeShort(buffer, offset);
+        }
+    }
+
+    private static final class ObjectElements extends ElementCodec {
+        private final BufferCoder<Object> coder;
+
+        @SuppressWarnings("unchecked")
+        private ObjectElements(BufferCoder<?> coder) {
+            super(coder.getOctetBoundary(), coder.getFixedEncodedLength());
+            this.coder = (BufferCoder<Object>) coder;
+        }
+
+        @Override
+        int elementLength(Object array, int index) {
+            return coder.getEncodedLength(((Object[]) array)[index]);
+        }
+
+        @Override
+        void encodeElement(Object array, int index, ByteBuffer buffer, int offset) {
+            coder.encode(((Object[]) array)[index], buffer, offset);
+        }
+
+        @Override
+        void decodeElement(Object array, int index, ByteBuffer buffer, int offset) throws DecoderException {
+            Object[] elements = (Object[]) array;
+            elements[index] = coder.decode(buffer, offset, elements[index]);
+        }
+    }
+}
@@ -0,0 +1,330 @@
+/*****************************************************************
+ SEE HLA Starter Kit Framework -  A Java library that supports
+ the development of HLA Federates in the Simulation Exploration
+ Experience (SEE) program.
+
+ Copyright (c) 2014, 2026 SMASH Lab - University of Calabria
+ (Italy), Hridyanshu Aatreya - Modelling & Simulation Group (MSG)
+ at Brunel University of London. All rights reserved.
+
+ GNU Lesser General Public License (GNU LGPL).
+
+ This library is free software; you can redistribute it and/or
+ modify it under the terms of the GNU Lesser General Public
+ License as published by the Free Software Foundation; either
+ version 3.0 of the License, or (at your option) any later version.
+
+ This library is distributed in the hope that it will be useful,
+ but WITHOUT ANY WARRANTY; without even the implied warranty of
+ MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ Lesser General Public License for more details.
+
+ You should have received a copy of the GNU Lesser General Public
+ License along with this library.
+ If not, see http://http://www.gnu.org/licenses/
+ *****************************************************************/
+
+package org.see.skf.util.encoding;
+
+import hla.rti1516_2025.encoding.DecoderException;
+import org.see.skf.annotations.FixedRecord;
+import org.see.skf.annotations.RecordField;
+import org.see.skf.core.BufferCoder;
+import org.see.skf.core.Coder;
+import org.see.skf.runtime.FieldAccessor;
+import org.see.skf.runtime.PrimitiveAccessor;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Coder for HLAfixedRecord data types declared as classes annotated with {@link FixedRecord}. The layout of the record
+ * is resolved once, when the coder is created: fields are placed in index order, each aligned to the octet boundary of
+ * its type, and when every field has a fixed size (as in the SpaceFOM reference frame and coordinate state types) their
+ * offsets are precomputed so that a record is encoded into a single buffer without any intermediate arrays. Fields of
+ * primitive types are accessed without boxing, and nested records and arrays are decoded into the instances already
+ * held by the record when one is passed for reuse.
+ * <p>
+ * Subclass this coder with a no-argument constructor to use it in an {@code @Attribute} or {@code @Parameter}
+ * annotation. Field coders must implement BufferCoder; they are always the framework's native implementations,
+ * whichever {@link CoderBackend} is selected.
+ *
+ * @param <T> The record class.
+ * @since 2.0
+ */
+public class HLAfixedRecordCoder<T> implements BufferCoder<T> {
+    private final Class<T> recordType;
+    private final MethodHandle constructor;
+    private final RecordSlot[] slots;
+    private final int octetBoundary;
+    private final int fixedLength;
+    private final int[] offsets;
+
+    public HLAfixedRecordCoder(Class<T> recordType) {
+        if (!recordType.isAnnotationPresent(FixedRecord.class)) {
+            throw new IllegalArgumentException("<" + recordType.getName() + "> is not annotated with @FixedRecord.");
+        }
+
+        this.recordType = recordType;
+        this.constructor = findConstructor(recordType);
+        this.slots = createSlots(recordType);
+
+        int boundary = 1;
+        int position = 0;
+        int[] slotOffsets = new int[slots.length];
+
+        for (int i = 0; i < slots.length; i++) {
+            boundary = Math.max(boundary, slots[i].octetBoundary);
+
+            if (position >= 0) {
+                slotOffsets[i] = PrimitiveBuffers.align(position, slots[i].octetBoundary);
+                position = (slots[i].fixedLength >= 0) ? slotOffsets[i] + slots[i].fixedLength : -1;
+            }
+        }
+
+        this.octetBoundary = boundary;
+        this.fixedLength = position;
+        this.offsets = (position >= 0) ? slotOffsets : null;
+    }
+
+    @Override
+    public int getOctetBoundary() {
+        return octetBoundary;
+    }
+
+    @Override
+    public int getFixedEncodedLength() {
+        return fixedLength;
+    }
+
+    @Override
+    public int getEncodedLength(T element) {
+        if (fixedLength >= 0) {
+            return fixedLength;
+        }
+
+        int position = 0;
+        for (RecordSlot slot : slots) {
+            position = PrimitiveBuffers.align(position, slot.octetBoundary) + slot.getEncodedLength(element);
+        }
+
+        return position;
+    }
+
+    @Override
+    public void encode(T element, ByteBuffer buffer, int offset) {
+        if (offsets != null) {
+            for (int i = 0; i < slots.length; i++) {
+                slots[i].encode(element, buffer, offset + offsets[i]);
+            }
+        } else {
+            int position = 0;
+            for (RecordSlot slot : slots) {
+                position = PrimitiveBuffers.align(position, slot.octetBoundary);
+                slot.encode(element, buffer, offset + position);
+                position += slot.getEncodedLength(element);
+            }
+        }
+    }
+
+    @Override
+    public T decode(ByteBuffer buffer, int offset) throws DecoderException {
+        return decode(buffer, offset, null);
+    }
+
+    @Override
+    public T decode(ByteBuffer buffer, int offset, T reuse) throws DecoderException {
+        T element = (reuse != null) ? reuse : newInstance();
+
+        if (offsets != null) {
+            PrimitiveBuffers.checkRemaining(buffer, offset, fixedLength);
+
+            for (int i = 0; i < slots.length; i++) {
+                slots[i].decode(element, buffer, offset + offsets[i]);
+            }
+        } else {
+            int position = 0;
+            for (RecordSlot slot : slots) {
+                position = PrimitiveBuffers.align(position, slot.octetBoundary);
+                slot.decode(element, buffer, offset + position);
+                position += slot.getEncodedLength(element);
+            }
+        }
+
+        return element;
+    }
+
+    @Override
+    public Class<T> getAllowedType() {
+        return recordType;
+    }
+
+    private T newInstance() {
+        try {
+            return recordType.cast(constructor.invoke());
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException("Failed to instantiate the record class <" + recordType.getName() + ">.", e);
+        }
+    }
+
+    private static MethodHandle findConstructor(Class<?> recordType) {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(recordType, MethodHandles.lookup());
+            return lookup.findConstructor(recordType, MethodType.methodType(void.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new IllegalArgumentException("The record class <" + recordType.getName() + "> must have an accessible no-argument constructor.", e);
+        }
+    }
+
+    private static RecordSlot[] createSlots(Class<?> recordType) {
+        List<Field> fields = new ArrayList<>();
+        for (Field field : recordType.getDeclaredFields()) {
+            if (field.isAnnotationPresent(RecordField.class)) {
+                fields.add(field);
+            }
+        }
+
+        fields.sort(Comparator.comparingInt(field -> field.getAnnotation(RecordField.class).index()));
+
+        RecordSlot[] slots = new RecordSlot[fields.size()];
+        for (int i = 0; i < slots.length; i++) {
+            Field field = fields.get(i);
+            RecordField annotation = field.getAnnotation(RecordField.class);
+
+            if (i > 0 && annotation.index() == fields.get(i - 1).getAnnotation(RecordField.class).index()) {
+                throw new IllegalArgumentException("The fields \"" + fields.get(i - 1).getName() + "\" and \"" + field.getName() + "\" of <" + recordType.getName() + "> share the same index.");
+            }
+
+            slots[i] = createSlot(recordType, field, annotation);
+        }
+
+        return slots;
+    }
+
+    private static RecordSlot createSlot(Class<?> recordType, Field field, RecordField annotation) {
+        Method getter = FieldAccessor.findGetter(recordType, field);
+        Method setter = FieldAccessor.findSetter(recordType, field);
+        Class<?> type = getter.getReturnType();
+        BufferCoder<?> coder;
+
+        if (annotation.length() > 0) {
+            if (!type.isArray()) {
+                throw new IllegalArgumentException("The field \"" + field.getName() + "\" of <" + recordType.getName() + "> has a length but is not an array.");
+            }
+
+            coder = new HLAfixedArrayCoder<>(type, resolveCoder(annotation.coder(), type.getComponentType()), annotation.length());
+        } else {
+            coder = resolveCoder(annotation.coder(), type);
+        }
+
+        PrimitiveAccessor primitiveAccessor = FieldAccessor.forPrimitive(getter, setter, coder);
+        return (primitiveAccessor != null) ? new PrimitiveSlot(primitiveAccessor, coder) : new ObjectSlot(FieldAccessor.of(getter, setter), coder);
+    }
+
+    static BufferCoder<?> resolveCoder(Class<? extends Coder<?>> coderClass, Class<?> type) {
+        if (coderClass == RecordField.Nested.class) {
+            if (!type.isAnnotationPresent(FixedRecord.class)) {
+                throw new IllegalArgumentException("A coder must be specified for record fields of type <" + type.getName() + ">.");
+            }
+
+            return new HLAfixedRecordCoder<>(type);
+        }
+
+        Coder<?> coder;
+        try {
+            coder = coderClass.getDeclaredConstructor().newInstance();
+        } catch (InstantiationException | IllegalAccessException | InvocationTargetException | NoSuchMethodException e) {
+            throw new IllegalArgumentException(e);
+        }
+
+        if (!(coder instanceof BufferCoder)) {
+            throw new IllegalArgumentException("The coder <" + coderClass.getName() + "> cannot be used in composite data types because it does not implement BufferCoder.");
+        }
+
+        return (BufferCoder<?>) coder;
+    }
+
+    /**
+     * One field of the record: where it sits, how large it is, and how to move its value in and out of a buffer.
+     */
+    private abstract static class RecordSlot {
+        final int octetBoundary;
+        final int fixedLength;
+
+        RecordSlot(BufferCoder<?> coder) {
+            this.octetBoundary = coder.getOctetBoundary();
+            this.fixedLength = coder.getFixedEncodedLength();
+        }
+
+        int getEncodedLength(Object record) {
+            return fixedLength;
+        }
+
+        abstract void encode(Object record, ByteBuffer buffer, int offset);
+
+        abstract void decode(Object record, ByteBuffer buffer, int offset) throws DecoderException;
+    }
+
+    private static final class ObjectSlot extends RecordSlot {
+        private final FieldAccessor accessor;
+        private final BufferCoder<Object> coder;
+
+        @SuppressWarnings("unchecked")
+        private ObjectSlot(FieldAccessor accessor, BufferCoder<?> coder) {
+            super(coder);
+            this.accessor = accessor;
+            this.coder = (BufferCoder<Object>) coder;
+        }
+
+        @Override
+        int getEncodedLength(Object record) {
+            return (fixedLength >= 0) ? fixedLength : coder.getEncodedLength(accessor.get(record));
+        }
+
+        @Override
+        void encode(Object record, ByteBuffer buffer, int offset) {
+            coder.encode(accessor.get(record), buffer, offset);
+        }
+
+        @Override
+        void decode(Object record, ByteBuffer buffer, int offset) throws DecoderException {
+            Object current = accessor.get(record);
+            Object decoded = coder.decode(buffer, offset, current);
+
+            if (decoded != current) {
+                accessor.set(record, decoded);
+            }
+        }
+    }
+
+    private static final class PrimitiveSlot extends RecordSlot {
+        private final PrimitiveAccessor accessor;
+        private final BufferCoder<?> coder;
+
+        private PrimitiveSlot(PrimitiveAccessor accessor, BufferCoder<?> coder) {
+            super(coder);
+            this.accessor = accessor;
+            this.coder = coder;
+        }
+
+        @Override
+        void encode(Object record, ByteBuffer buffer, int offset) {
+            accessor.encode(record, coder, buffer, offset);
+        }
+
+        @Override
+        void decode(Object record, ByteBuffer buffer, int offset) throws DecoderException {
+            accessor.decode(record, coder, buffer, offset);
+        }
+    }
+}
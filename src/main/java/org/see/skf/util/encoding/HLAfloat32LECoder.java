@@ -27,37 +27,31 @@
 package org.see.skf.util.encoding;
 
 import hla.rti1516_2025.encoding.DecoderException;
-import hla.rti1516_2025.encoding.EncoderFactory;
-import hla.rti1516_2025.encoding.HLAfloat32LE;
-import org.see.skf.core.Coder;
-import org.see.skf.core.HLAUtilityFactory;
+import org.see.skf.core.FloatCoder;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 
 /**
  * Coder for the HLAfloat32LE data type.
  * @since 1.5
  */
-public class HLAfloat32LECoder implements Coder<Float> {
-    private final HLAfloat32LE coder;
-
-    public HLAfloat32LECoder() {
-        EncoderFactory encoderFactory = HLAUtilityFactory.INSTANCE.getEncoderFactory();
-        coder = encoderFactory.createHLAfloat32LE();
-    }
+public class HLAfloat32LECoder implements FloatCoder {
+    private static final int ENCODED_LENGTH = 4;
 
     @Override
-    public Float decode(byte[] buffer) throws DecoderException {
-        coder.decode(buffer);
-        return coder.getValue();
+    public int getEncodedLength() {
+        return ENCODED_LENGTH;
     }
 
     @Override
-    public byte[] encode(Float element) {
-        coder.setValue(element);
-        return coder.toByteArray();
+    public void encode(float value, ByteBuffer buffer, int offset) {
+        PrimitiveBuffers.putInt(buffer, offset, Float.floatToRawIntBits(value), ByteOrder.LITTLE_ENDIAN);
     }
 
     @Override
-    public Class<Float> getAllowedType() {
-        return Float.class;
+    public float decodeFloat(ByteBuffer buffer, int offset) throws DecoderException {
+        PrimitiveBuffers.checkRemaining(buffer, offset, ENCODED_LENGTH);
+        return Float.intBitsToFloat(PrimitiveBuffers.getInt(buffer, offset, ByteOrder.LITTLE_ENDIAN));
     }
 }
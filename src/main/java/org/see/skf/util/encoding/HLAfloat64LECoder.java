@@ -27,37 +27,31 @@
 package org.see.skf.util.encoding;
 
 import hla.rti1516_2025.encoding.DecoderException;
-import hla.rti1516_2025.encoding.EncoderFactory;
-import hla.rti1516_2025.encoding.HLAfloat64LE;
-import org.see.skf.core.Coder;
-import org.see.skf.core.HLAUtilityFactory;
+import org.see.skf.core.DoubleCoder;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 
 /**
  * Coder for the HLAfloat64LE data type.
  * @since 1.5
  */
-public class HLAfloat64LECoder implements Coder<Double> {
-    private final HLAfloat64LE coder;
-
-    public HLAfloat64LECoder() {
-        EncoderFactory encoderFactory = HLAUtilityFactory.INSTANCE.getEncoderFactory();
-        this.coder = encoderFactory.createHLAfloat64LE();
-    }
+public class HLAfloat64LECoder implements DoubleCoder {
+    private static final int ENCODED_LENGTH = 8;
 
     @Override
-    public Double decode(byte[] buffer) throws DecoderException {
-        coder.decode(buffer);
-        return coder.getValue();
+    public int getEncodedLength() {
+        return ENCODED_LENGTH;
     }
 
     @Override
-    public byte[] encode(Double element) {
-        coder.setValue(element);
-        return coder.toByteArray();
+    public void encode(double value, ByteBuffer buffer, int offset) {
+        PrimitiveBuffers.putLong(buffer, offset, Double.doubleToRawLongBits(value), ByteOrder.LITTLE_ENDIAN);
     }
 
     @Override
-    public Class<Double> getAllowedType() {
-        return Double.class;
+    public double decodeDouble(ByteBuffer buffer, int offset) throws DecoderException {
+        PrimitiveBuffers.checkRemaining(buffer, offset, ENCODED_LENGTH);
+        return Double.longBitsToDouble(PrimitiveBuffers.getLong(buffer, offset, ByteOrder.LITTLE_ENDIAN));
     }
 }
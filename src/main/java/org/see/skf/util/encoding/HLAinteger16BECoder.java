@@ -27,37 +27,31 @@
 package org.see.skf.util.encoding;
 
 import hla.rti1516_2025.encoding.DecoderException;
-import hla.rti1516_2025.encoding.EncoderFactory;
-import hla.rti1516_2025.encoding.HLAinteger16BE;
-import org.see.skf.core.Coder;
-import org.see.skf.core.HLAUtilityFactory;
+import org.see.skf.core.ShortCoder;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 
 /**
- * Coder for the HLAfloat16BE data type.
+ * Coder for the HLAinteger16BE data type.
  * @since 1.5
  */
-public class HLAinteger16BECoder implements Coder<Short> {
-    private final HLAinteger16BE coder;
-
-    public HLAinteger16BECoder() {
-        EncoderFactory encoderFactory = HLAUtilityFactory.INSTANCE.getEncoderFactory();
-        coder = encoderFactory.createHLAinteger16BE();
-    }
+public class HLAinteger16BECoder implements ShortCoder {
+    private static final int ENCODED_LENGTH = 2;
 
     @Override
-    public Short decode(byte[] buffer) throws DecoderException {
-        coder.decode(buffer);
-        return coder.getValue();
+    public int getEncodedLength() {
+        return ENCODED_LENGTH;
     }
 
     @Override
-    public byte[] encode(Short element) {
-        coder.setValue(element);
-        return coder.toByteArray();
+    public void encode(short value, ByteBuffer buffer, int offset) {
+        PrimitiveBuffers.putShort(buffer, offset, value, ByteOrder.BIG_ENDIAN);
     }
 
     @Override
-    public Class<Short> getAllowedType() {
-        return Short.class;
+    public short decodeShort(ByteBuffer buffer, int offset) throws DecoderException {
+        PrimitiveBuffers.checkRemaining(buffer, offset, ENCODED_LENGTH);
+        return PrimitiveBuffers.getShort(buffer, offset, ByteOrder.BIG_ENDIAN);
     }
 }
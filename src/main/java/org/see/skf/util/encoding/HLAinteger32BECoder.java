@@ -27,37 +27,31 @@
 package org.see.skf.util.encoding;
 
 import hla.rti1516_2025.encoding.DecoderException;
-import hla.rti1516_2025.encoding.EncoderFactory;
-import hla.rti1516_2025.encoding.HLAinteger32BE;
-import org.see.skf.core.Coder;
-import org.see.skf.core.HLAUtilityFactory;
+import org.see.skf.core.IntCoder;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 
 /**
  * Coder for the HLAinteger32BE data type.
  * @since 1.5
  */
-public class HLAinteger32BECoder implements Coder<Integer> {
-    private final HLAinteger32BE coder;
-
-    public HLAinteger32BECoder() {
-        EncoderFactory encoderFactory = HLAUtilityFactory.INSTANCE.getEncoderFactory();
-        coder = encoderFactory.createHLAinteger32BE();
-    }
+public class HLAinteger32BECoder implements IntCoder {
+    private static final int ENCODED_LENGTH = 4;
 
     @Override
-    public Integer decode(byte[] buffer) throws DecoderException {
-        coder.decode(buffer);
-        return coder.getValue();
+    public int getEncodedLength() {
+        return ENCODED_LENGTH;
     }
 
     @Override
-    public byte[] encode(Integer element) {
-        coder.setValue(element);
-        return coder.toByteArray();
+    public void encode(int value, ByteBuffer buffer, int offset) {
+        PrimitiveBuffers.putInt(buffer, offset, value, ByteOrder.BIG_ENDIAN);
     }
 
     @Override
-    public Class<Integer> getAllowedType() {
-        return Integer.class;
+    public int decodeInt(ByteBuffer buffer, int offset) throws DecoderException {
+        PrimitiveBuffers.checkRemaining(buffer, offset, ENCODED_LENGTH);
+        return PrimitiveBuffers.getInt(buffer, offset, ByteOrder.BIG_ENDIAN);
     }
 }
@@ -27,37 +27,31 @@
 package org.see.skf.util.encoding;
 
 import hla.rti1516_2025.encoding.DecoderException;
-import hla.rti1516_2025.encoding.EncoderFactory;
-import hla.rti1516_2025.encoding.HLAinteger64BE;
-import org.see.skf.core.Coder;
-import org.see.skf.core.HLAUtilityFactory;
+import org.see.skf.core.LongCoder;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 
 /**
  * Coder for the HLAinteger64BE data type.
  * @since 1.5
  */
-public class HLAinteger64BECoder implements Coder<Long> {
-    private final HLAinteger64BE coder;
-
-    public HLAinteger64BECoder() {
-        EncoderFactory encoderFactory = HLAUtilityFactory.INSTANCE.getEncoderFactory();
-        this.coder = encoderFactory.createHLAinteger64BE();
-    }
+public class HLAinteger64BECoder implements LongCoder {
+    private static final int ENCODED_LENGTH = 8;
 
     @Override
-    public Long decode(byte[] buffer) throws DecoderException {
-        coder.decode(buffer);
-        return coder.getValue();
+    public int getEncodedLength() {
+        return ENCODED_LENGTH;
     }
 
     @Override
-    public byte[] encode(Long element) {
-        coder.setValue(element);
-        return coder.toByteArray();
+    public void encode(long value, ByteBuffer buffer, int offset) {
+        PrimitiveBuffers.putLong(buffer, offset, value, ByteOrder.BIG_ENDIAN);
     }
 
     @Override
-    public Class<Long> getAllowedType() {
-        return Long.class;
+    public long decodeLong(ByteBuffer buffer, int offset) throws DecoderException {
+        PrimitiveBuffers.checkRemaining(buffer, offset, ENCODED_LENGTH);
+        return PrimitiveBuffers.getLong(buffer, offset, ByteOrder.BIG_ENDIAN);
     }
 }
@@ -0,0 +1,57 @@
+/*****************************************************************
+ SEE HLA Starter Kit Framework -  A Java library that supports
+ the development of HLA Federates in the Simulation Exploration
+ Experience (SEE) program.
+
+ Copyright (c) 2014, 2026 SMASH Lab - University of Calabria
+ (Italy), Hridyanshu Aatreya - Modelling & Simulation Group (MSG)
+ at Brunel University of London. All rights reserved.
+
+ GNU Lesser General Public License (GNU LGPL).
+
+ This library is free software; you can redistribute it and/or
+ modify it under the terms of the GNU Lesser General Public
+ License as published by the Free Software Foundation; either
+ version 3.0 of the License, or (at your option) any later version.
+
+ This library is distributed in the hope that it will be useful,
+ but WITHOUT ANY WARRANTY; without even the implied warranty of
+ MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ Lesser General Public License for more details.
+
+ You should have received a copy of the GNU Lesser General Public
+ License along with this library.
+ If not, see http://http://www.gnu.org/licenses/
+ *****************************************************************/
+
+package org.see.skf.util.encoding;
+
+import hla.rti1516_2025.encoding.DecoderException;
+import org.see.skf.core.LongCoder;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Coder for the HLAinteger64LE data type.
+ * @since 2.0
+ */
+public class HLAinteger64LECoder implements LongCoder {
+    private static final int ENCODED_LENGTH = 8;
+
+    @Override
+    public int getEncodedLength() {
+        return ENCODED_LENGTH;
+    }
+
+    @Override
+    public void encode(long value, ByteBuffer buffer, int offset) {
+        PrimitiveBuffers.putLong(buffer, offset, value, ByteOrder.LITTLE_ENDIAN);
+    }
+
+    @Override
+    public long decodeLong(ByteBuffer buffer, int offset) throws DecoderException {
+        PrimitiveBuffers.checkRemaining(buffer, offset, ENCODED_LENGTH);
+        return PrimitiveBuffers.getLong(buffer, offset, ByteOrder.LITTLE_ENDIAN);
+    }
+}
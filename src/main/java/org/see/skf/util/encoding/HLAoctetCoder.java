@@ -0,0 +1,69 @@
+/*****************************************************************
+ SEE HLA Starter Kit Framework -  A Java library that supports
+ the development of HLA Federates in the Simulation Exploration
+ Experience (SEE) program.
+
+ Copyright (c) 2014, 2026 SMASH Lab - University of Calabria
+ (Italy), Hridyanshu Aatreya - Modelling & Simulation Group (MSG)
+ at Brunel University of London. All rights reserved.
+
+ GNU Lesser General Public License (GNU LGPL).
+
+ This library is free software; you can redistribute it and/or
+ modify it under the terms of the GNU Lesser General Public
+ License as published by the Free Software Foundation; either
+ version 3.0 of the License, or (at your option) any later version.
+
+ This library is distributed in the hope that it will be useful,
+ but WITHOUT ANY WARRANTY; without even the implied warranty of
+ MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ Lesser General Public License for more details.
+
+ You should have received a copy of the GNU Lesser General Public
+ License along with this library.
+ If not, see http://http://www.gnu.org/licenses/
+ *****************************************************************/
+
+package org.see.skf.util.encoding;
+
+import hla.rti1516_2025.encoding.DecoderException;
+import org.see.skf.core.BufferCoder;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Coder for the HLAoctet data type.
+ * @since 2.0
+ */
+public class HLAoctetCoder implements BufferCoder<Byte> {
+    @Override
+    public int getOctetBoundary() {
+        return 1;
+    }
+
+    @Override
+    public int getEncodedLength(Byte element) {
+        return 1;
+    }
+
+    @Override
+    public int getFixedEncodedLength() {
+        return 1;
+    }
+
+    @Override
+    public void encode(Byte element, ByteBuffer buffer, int offset) {
+        buffer.put(offset, element);
+    }
+
+    @Override
+    public Byte decode(ByteBuffer buffer, int offset) throws DecoderException {
+        PrimitiveBuffers.checkRemaining(buffer, offset, 1);
+        return buffer.get(offset);
+    }
+
+    @Override
+    public Class<Byte> getAllowedType() {
+        return Byte.class;
+    }
+}
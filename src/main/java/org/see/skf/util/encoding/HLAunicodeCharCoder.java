@@ -27,37 +27,31 @@
 package org.see.skf.util.encoding;
 
 import hla.rti1516_2025.encoding.DecoderException;
-import hla.rti1516_2025.encoding.EncoderFactory;
-import hla.rti1516_2025.encoding.HLAunicodeChar;
-import org.see.skf.core.Coder;
-import org.see.skf.core.HLAUtilityFactory;
+import org.see.skf.core.ShortCoder;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 
 /**
- * Coder for the HLAunicodeChar data type.
+ * Coder for the HLAunicodeChar data type, a UTF-16 code unit represented as an HLAoctetPairBE.
  * @since 1.5
  */
-public class HLAunicodeCharCoder implements Coder<Short> {
-    private final HLAunicodeChar coder;
-
-    public HLAunicodeCharCoder() {
-        EncoderFactory encoderFactory = HLAUtilityFactory.INSTANCE.getEncoderFactory();
-        coder = encoderFactory.createHLAunicodeChar();
-    }
+public class HLAunicodeCharCoder implements ShortCoder {
+    private static final int ENCODED_LENGTH = 2;
 
     @Override
-    public Short decode(byte[] buffer) throws DecoderException {
-        coder.decode(buffer);
-        return coder.getValue();
+    public int getEncodedLength() {
+        return ENCODED_LENGTH;
     }
 
     @Override
-    public byte[] encode(Short element) {
-        coder.setValue(element);
-        return coder.toByteArray();
+    public void encode(short value, ByteBuffer buffer, int offset) {
+        PrimitiveBuffers.putShort(buffer, offset, value, ByteOrder.BIG_ENDIAN);
     }
 
     @Override
-    public Class<Short> getAllowedType() {
-        return Short.class;
+    public short decodeShort(ByteBuffer buffer, int offset) throws DecoderException {
+        PrimitiveBuffers.checkRemaining(buffer, offset, ENCODED_LENGTH);
+        return PrimitiveBuffers.getShort(buffer, offset, ByteOrder.BIG_ENDIAN);
     }
 }
@@ -27,33 +27,59 @@
 package org.see.skf.util.encoding;
 
 import hla.rti1516_2025.encoding.DecoderException;
-import hla.rti1516_2025.encoding.EncoderFactory;
-import hla.rti1516_2025.encoding.HLAunicodeString;
-import org.see.skf.core.Coder;
-import org.see.skf.core.HLAUtilityFactory;
+import org.see.skf.core.BufferCoder;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 
 /**
- * Coder for the HLAunicodeString data type.
+ * Coder for the HLAunicodeString data type, a variable array of HLAunicodeChar: an
+ * HLAinteger32BE element count followed by one big-endian UTF-16 code unit per character.
  * @since 1.5
  */
-public class HLAunicodeStringCoder implements Coder<String> {
-    private final HLAunicodeString coder;
+public class HLAunicodeStringCoder implements BufferCoder<String> {
+    private static final int COUNT_LENGTH = 4;
+    private static final int ELEMENT_LENGTH = 2;
 
-    public HLAunicodeStringCoder(){
-        EncoderFactory encoderFactory = HLAUtilityFactory.INSTANCE.getEncoderFactory();
-        this.coder = encoderFactory.createHLAunicodeString();
+    @Override
+    public int getOctetBoundary() {
+        return COUNT_LENGTH;
     }
 
     @Override
-    public String decode(byte[] buffer) throws DecoderException {
-        coder.decode(buffer);
-        return coder.getValue();
+    public int getEncodedLength(String element) {
+        return COUNT_LENGTH + element.length() * ELEMENT_LENGTH;
     }
 
     @Override
-    public byte[] encode(String element) {
-        coder.setValue(element);
-        return coder.toByteArray();
+    public void encode(String element, ByteBuffer buffer, int offset) {
+        int length = element.length();
+        PrimitiveBuffers.putInt(buffer, offset, length, ByteOrder.BIG_ENDIAN);
+
+        int index = offset + COUNT_LENGTH;
+        for (int i = 0; i < length; i++) {
+            PrimitiveBuffers.putShort(buffer, index, (short) element.charAt(i), ByteOrder.BIG_ENDIAN);
+            index += ELEMENT_LENGTH;
+        }
+    }
+
+    @Override
+    public String decode(ByteBuffer buffer, int offset) throws DecoderException {
+        PrimitiveBuffers.checkRemaining(buffer, offset, COUNT_LENGTH);
+        int length = PrimitiveBuffers.getInt(buffer, offset, ByteOrder.BIG_ENDIAN);
+
+        if (length < 0 || (buffer.limit() - offset - COUNT_LENGTH) / ELEMENT_LENGTH < length) {
+            throw new DecoderException("Invalid element count " + length + " for a string of HLAunicodeChar elements.");
+        }
+
+        char[] characters = new char[length];
+        int index = offset + COUNT_LENGTH;
+        for (int i = 0; i < length; i++) {
+            characters[i] = (char) PrimitiveBuffers.getShort(buffer, index, ByteOrder.BIG_ENDIAN);
+            index += ELEMENT_LENGTH;
+        }
+
+        return new String(characters);
     }
 
     @Override
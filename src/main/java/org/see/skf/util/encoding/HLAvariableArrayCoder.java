@@ -0,0 +1,124 @@
+/*****************************************************************
+ SEE HLA Starter Kit Framework -  A Java library that supports
+ the development of HLA Federates in the Simulation Exploration
+ Experience (SEE) program.
+
+ Copyright (c) 2014, 2026 SMASH Lab - University of Calabria
+ (Italy), Hridyanshu Aatreya - Modelling & Simulation Group (MSG)
+ at Brunel University of London. All rights reserved.
+
+ GNU Lesser General Public License (GNU LGPL).
+
+ This library is free software; you can redistribute it and/or
+ modify it under the terms of the GNU Lesser General Public
+ License as published by the Free Software Foundation; either
+ version 3.0 of the License, or (at your option) any later version.
+
+ This library is distributed in the hope that it will be useful,
+ but WITHOUT ANY WARRANTY; without even the implied warranty of
+ MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ Lesser General Public License for more details.
+
+ You should have received a copy of the GNU Lesser General Public
+ License along with this library.
+ If not, see http://http://www.gnu.org/licenses/
+ *****************************************************************/
+
+package org.see.skf.util.encoding;
+
+import hla.rti1516_2025.encoding.DecoderException;
+import org.see.skf.core.BufferCoder;
+
+import java.lang.reflect.Array;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Coder for HLAvariableArray data types represented by Java arrays: an HLAinteger32BE element count followed by the
+ * elements, each padded to the octet boundary of the element type. Arrays of double, float, long, int and short are
+ * encoded without boxing when the element coder implements the matching primitive coder interface.
+ * <p>
+ * When an array is passed for reuse and its length matches the decoded count, it is filled in place, and arrays of
+ * objects have their elements decoded into the instances they already hold. Use {@link HLAvariableListCoder} for
+ * element counts that change from one update to the next.
+ * <p>
+ * Subclass this coder with a no-argument constructor to use it in an {@code @Attribute} or {@code @Parameter}
+ * annotation.
+ *
+ * @param <A> The Java array type, e.g. double[].
+ * @since 2.0
+ */
+public class HLAvariableArrayCoder<A> implements BufferCoder<A> {
+    static final int COUNT_LENGTH = 4;
+
+    private final Class<A> arrayType;
+    private final HLAfixedArrayCoder.ElementCodec codec;
+    private final int elementsOffset;
+    private final int minimumElementLength;
+
+    public HLAvariableArrayCoder(Class<A> arrayType, BufferCoder<?> elementCoder) {
+        if (!arrayType.isArray()) {
+            throw new IllegalArgumentException("<" + arrayType.getName() + "> is not an array type.");
+        }
+
+        this.arrayType = arrayType;
+        this.codec = HLAfixedArrayCoder.ElementCodec.of(arrayType.getComponentType(), elementCoder);
+        this.elementsOffset = PrimitiveBuffers.align(COUNT_LENGTH, codec.getOctetBoundary());
+        this.minimumElementLength = Math.max(1, codec.getFixedEncodedLength(1));
+    }
+
+    @Override
+    public int getOctetBoundary() {
+        return Math.max(COUNT_LENGTH, codec.getOctetBoundary());
+    }
+
+    @Override
+    public int getEncodedLength(A element) {
+        int count = Array.getLength(element);
+        return (count == 0) ? COUNT_LENGTH : elementsOffset + codec.getEncodedLength(element, count);
+    }
+
+    @Override
+    public void encode(A element, ByteBuffer buffer, int offset) {
+        int count = Array.getLength(element);
+        PrimitiveBuffers.putInt(buffer, offset, count, ByteOrder.BIG_ENDIAN);
+        codec.encode(element, count, buffer, offset + elementsOffset);
+    }
+
+    @Override
+    public A decode(ByteBuffer buffer, int offset) throws DecoderException {
+        return decode(buffer, offset, null);
+    }
+
+    @Override
+    public A decode(ByteBuffer buffer, int offset, A reuse) throws DecoderException {
+        int count = decodeCount(buffer, offset, elementsOffset, minimumElementLength);
+        Object target = (reuse != null && Array.getLength(reuse) == count) ? reuse : Array.newInstance(arrayType.getComponentType(), count);
+
+        if (count > 0) {
+            codec.decode(target, count, buffer, offset + elementsOffset);
+        }
+
+        return arrayType.cast(target);
+    }
+
+    @Override
+    public Class<A> getAllowedType() {
+        return arrayType;
+    }
+
+    /**
+     * Reads the element count of a variable array and checks that the remaining bytes could possibly hold that many
+     * elements, so that a corrupt count cannot trigger a huge allocation.
+     */
+    static int decodeCount(ByteBuffer buffer, int offset, int elementsOffset, int minimumElementLength) throws DecoderException {
+        PrimitiveBuffers.checkRemaining(buffer, offset, COUNT_LENGTH);
+        int count = PrimitiveBuffers.getInt(buffer, offset, ByteOrder.BIG_ENDIAN);
+
+        if (count < 0 || (count > 0 && (long) count * minimumElementLength > buffer.limit() - (long) offset - elementsOffset)) {
+            throw new DecoderException("Invalid element count " + count + " for an HLAvariableArray at offset " + offset + ".");
+        }
+
+        return count;
+    }
+}
@@ -0,0 +1,147 @@
+/*****************************************************************
+ SEE HLA Starter Kit Framework -  A Java library that supports
+ the development of HLA Federates in the Simulation Exploration
+ Experience (SEE) program.
+
+ Copyright (c) 2014, 2026 SMASH Lab - University of Calabria
+ (Italy), Hridyanshu Aatreya - Modelling & Simulation Group (MSG)
+ at Brunel University of London. All rights reserved.
+
+ GNU Lesser General Public License (GNU LGPL).
+
+ This library is free software; you can redistribute it and/or
+ modify it under the terms of the GNU Lesser General Public
+ License as published by the Free Software Foundation; either
+ version 3.0 of the License, or (at your option) any later version.
+
+ This library is distributed in the hope that it will be useful,
+ but WITHOUT ANY WARRANTY; without even the implied warranty of
+ MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ Lesser General Public License for more details.
+
+ You should have received a copy of the GNU Lesser General Public
+ License along with this library.
+ If not, see http://http://www.gnu.org/licenses/
+ *****************************************************************/
+
+package org.see.skf.util.encoding;
+
+import hla.rti1516_2025.encoding.DecoderException;
+import org.see.skf.core.BufferCoder;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Coder for HLAvariableArray data types represented by lists, with the same encoding as {@link HLAvariableArrayCoder}.
+ * <p>
+ * Decoding into an {@link ArrayList} passed for reuse overwrites it in place: elements already present are decoded
+ * into (for element coders that support reuse, such as {@link HLAfixedRecordCoder}), missing ones are appended and
+ * surplus ones are removed. Other lists are not reused. A federate that keeps its lists between reflections therefore allocates nothing for arrays of records once
+ * the list has grown to its working size. Elements of primitive types are boxed; prefer HLAvariableArrayCoder for those.
+ * <p>
+ * Subclass this coder with a no-argument constructor to use it in an {@code @Attribute} or {@code @Parameter}
+ * annotation.
+ *
+ * @param <T> The element type.
+ * @since 2.0
+ */
+public class HLAvariableListCoder<T> implements BufferCoder<List<T>> {
+    private final BufferCoder<T> elementCoder;
+    private final int elementBoundary;
+    private final int elementLength;
+    private final int elementsOffset;
+
+    public HLAvariableListCoder(BufferCoder<T> elementCoder) {
+        this.elementCoder = elementCoder;
+        this.elementBoundary = elementCoder.getOctetBoundary();
+        this.elementLength = elementCoder.getFixedEncodedLength();
+        this.elementsOffset = PrimitiveBuffers.align(HLAvariableArrayCoder.COUNT_LENGTH, elementBoundary);
+    }
+
+    @Override
+    public int getOctetBoundary() {
+        return Math.max(HLAvariableArrayCoder.COUNT_LENGTH, elementBoundary);
+    }
+
+    @Override
+    public int getEncodedLength(List<T> element) {
+        int count = element.size();
+
+        if (count == 0) {
+            return HLAvariableArrayCoder.COUNT_LENGTH;
+        }
+
+        if (elementLength >= 0) {
+            return elementsOffset + PrimitiveBuffers.align(elementLength, elementBoundary) * (count - 1) + elementLength;
+        }
+
+        int position = elementsOffset;
+        for (int i = 0; i < count; i++) {
+            position = PrimitiveBuffers.align(position, elementBoundary) + elementCoder.getEncodedLength(element.get(i));
+        }
+
+        return position;
+    }
+
+    @Override
+    public void encode(List<T> element, ByteBuffer buffer, int offset) {
+        int count = element.size();
+        PrimitiveBuffers.putInt(buffer, offset, count, ByteOrder.BIG_ENDIAN);
+
+        int position = elementsOffset;
+        for (int i = 0; i < count; i++) {
+            T value = element.get(i);
+            position = PrimitiveBuffers.align(position, elementBoundary);
+            elementCoder.encode(value, buffer, offset + position);
+            position += (elementLength >= 0) ? elementLength : elementCoder.getEncodedLength(value);
+        }
+    }
+
+    @Override
+    public List<T> decode(ByteBuffer buffer, int offset) throws DecoderException {
+        return decode(buffer, offset, null);
+    }
+
+    @Override
+    public List<T> decode(ByteBuffer buffer, int offset, List<T> reuse) throws DecoderException {
+        int count = HLAvariableArrayCoder.decodeCount(buffer, offset, elementsOffset, Math.max(1, elementLength));
+        // Only lists of the kind this coder returns are reused, as a property may start out with an immutable one.
+        List<T> target = (reuse instanceof ArrayList) ? reuse : new ArrayList<>(count);
+        int existing = target.size();
+
+        int position = elementsOffset;
+        for (int i = 0; i < count; i++) {
+            position = PrimitiveBuffers.align(position, elementBoundary);
+
+            if (i < existing) {
+                T current = target.get(i);
+                T value = elementCoder.decode(buffer, offset + position, current);
+
+                if (value != current) {
+                    target.set(i, value);
+                }
+
+                position += (elementLength >= 0) ? elementLength : elementCoder.getEncodedLength(value);
+            } else {
+                T value = elementCoder.decode(buffer, offset + position, null);
+                target.add(value);
+                position += (elementLength >= 0) ? elementLength : elementCoder.getEncodedLength(value);
+            }
+        }
+
+        if (existing > count) {
+            target.subList(count, existing).clear();
+        }
+
+        return target;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Class<List<T>> getAllowedType() {
+        return (Class<List<T>>) (Class<?>) List.class;
+    }
+}
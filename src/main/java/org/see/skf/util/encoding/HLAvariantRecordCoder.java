@@ -0,0 +1,163 @@
+/*****************************************************************
+ SEE HLA Starter Kit Framework -  A Java library that supports
+ the development of HLA Federates in the Simulation Exploration
+ Experience (SEE) program.
+
+ Copyright (c) 2014, 2026 SMASH Lab - University of Calabria
+ (Italy), Hridyanshu Aatreya - Modelling & Simulation Group (MSG)
+ at Brunel University of London. All rights reserved.
+
+ GNU Lesser General Public License (GNU LGPL).
+
+ This library is free software; you can redistribute it and/or
+ modify it under the terms of the GNU Lesser General Public
+ License as published by the Free Software Foundation; either
+ version 3.0 of the License, or (at your option) any later version.
+
+ This library is distributed in the hope that it will be useful,
+ but WITHOUT ANY WARRANTY; without even the implied warranty of
+ MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ Lesser General Public License for more details.
+
+ You should have received a copy of the GNU Lesser General Public
+ License along with this library.
+ If not, see http://http://www.gnu.org/licenses/
+ *****************************************************************/
+
+package org.see.skf.util.encoding;
+
+import hla.rti1516_2025.encoding.DecoderException;
+import org.see.skf.core.BufferCoder;
+
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Coder for HLAvariantRecord data types, represented by {@link VariantRecord}. The discriminant is encoded first and is
+ * followed, at the octet boundary of its type, by the alternative that the discriminant selects. Discriminant values
+ * without an alternative, and without a default alternative standing in for HLAother, encode the discriminant alone.
+ * <p>
+ * Alternatives are registered when the coder is constructed, typically in the no-argument constructor of a subclass
+ * used in an {@code @Attribute} or {@code @Parameter} annotation, and must not change afterwards. When a record is
+ * passed for reuse and its discriminant is unchanged, the alternative is decoded into the value it already holds.
+ *
+ * @param <D> The discriminant type, usually an enum.
+ * @since 2.0
+ */
+public class HLAvariantRecordCoder<D> implements BufferCoder<VariantRecord<D>> {
+    private final BufferCoder<D> discriminantCoder;
+    private final Map<D, BufferCoder<Object>> alternatives;
+    private BufferCoder<Object> defaultAlternative;
+    private int octetBoundary;
+
+    public HLAvariantRecordCoder(BufferCoder<D> discriminantCoder) {
+        this.discriminantCoder = discriminantCoder;
+        this.alternatives = new HashMap<>();
+        this.octetBoundary = discriminantCoder.getOctetBoundary();
+    }
+
+    /**
+     * Registers the alternative selected by a discriminant value.
+     * @param discriminant The discriminant value.
+     * @param coder Coder for the alternative.
+     * @return This coder.
+     */
+    @SuppressWarnings("unchecked")
+    public HLAvariantRecordCoder<D> addAlternative(D discriminant, BufferCoder<?> coder) {
+        alternatives.put(Objects.requireNonNull(discriminant), (BufferCoder<Object>) coder);
+        octetBoundary = Math.max(octetBoundary, coder.getOctetBoundary());
+        return this;
+    }
+
+    /**
+     * Registers the alternative used for discriminant values that have none of their own, i.e. HLAother.
+     * @param coder Coder for the alternative.
+     * @return This coder.
+     */
+    @SuppressWarnings("unchecked")
+    public HLAvariantRecordCoder<D> setDefaultAlternative(BufferCoder<?> coder) {
+        defaultAlternative = (BufferCoder<Object>) coder;
+        octetBoundary = Math.max(octetBoundary, coder.getOctetBoundary());
+        return this;
+    }
+
+    @Override
+    public int getOctetBoundary() {
+        return octetBoundary;
+    }
+
+    @Override
+    public int getEncodedLength(VariantRecord<D> element) {
+        D discriminant = element.getDiscriminant();
+        int discriminantLength = discriminantCoder.getEncodedLength(discriminant);
+        BufferCoder<Object> alternative = alternativeFor(discriminant);
+
+        if (alternative == null) {
+            return discriminantLength;
+        }
+
+        return PrimitiveBuffers.align(discriminantLength, alternative.getOctetBoundary()) + alternative.getEncodedLength(requireValue(element));
+    }
+
+    @Override
+    public void encode(VariantRecord<D> element, ByteBuffer buffer, int offset) {
+        D discriminant = element.getDiscriminant();
+        discriminantCoder.encode(discriminant, buffer, offset);
+        BufferCoder<Object> alternative = alternativeFor(discriminant);
+
+        if (alternative != null) {
+            int position = PrimitiveBuffers.align(discriminantCoder.getEncodedLength(discriminant), alternative.getOctetBoundary());
+            alternative.encode(requireValue(element), buffer, offset + position);
+        }
+    }
+
+    @Override
+    public VariantRecord<D> decode(ByteBuffer buffer, int offset) throws DecoderException {
+        return decode(buffer, offset, null);
+    }
+
+    @Override
+    public VariantRecord<D> decode(ByteBuffer buffer, int offset, VariantRecord<D> reuse) throws DecoderException {
+        D discriminant = discriminantCoder.decode(buffer, offset);
+
+        if (discriminant == null) {
+            throw new DecoderException("Unknown discriminant value for an HLAvariantRecord at offset " + offset + ".");
+        }
+
+        VariantRecord<D> target = (reuse != null) ? reuse : new VariantRecord<>();
+        BufferCoder<Object> alternative = alternativeFor(discriminant);
+
+        if (alternative == null) {
+            target.set(discriminant, null);
+        } else {
+            Object current = discriminant.equals(target.getDiscriminant()) ? target.getValue() : null;
+            int position = PrimitiveBuffers.align(discriminantCoder.getEncodedLength(discriminant), alternative.getOctetBoundary());
+            target.set(discriminant, alternative.decode(buffer, offset + position, current));
+        }
+
+        return target;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Class<VariantRecord<D>> getAllowedType() {
+        return (Class<VariantRecord<D>>) (Class<?>) VariantRecord.class;
+    }
+
+    private BufferCoder<Object> alternativeFor(D discriminant) {
+        BufferCoder<Object> alternative = alternatives.get(discriminant);
+        return (alternative != null) ? alternative : defaultAlternative;
+    }
+
+    private static Object requireValue(VariantRecord<?> element) {
+        Object value = element.getValue();
+
+        if (value == null) {
+            throw new IllegalArgumentException("The discriminant " + element.getDiscriminant() + " selects an alternative, but the variant record holds no value.");
+        }
+
+        return value;
+    }
+}
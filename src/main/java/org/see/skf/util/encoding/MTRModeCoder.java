@@ -27,34 +27,43 @@
 package org.see.skf.util.encoding;
 
 import hla.rti1516_2025.encoding.DecoderException;
-import hla.rti1516_2025.encoding.EncoderFactory;
-import hla.rti1516_2025.encoding.HLAinteger16LE;
-import org.see.skf.core.Coder;
-import org.see.skf.core.HLAUtilityFactory;
+import org.see.skf.core.BufferCoder;
 import org.see.skf.util.models.ModeTransitionRequest;
 
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
 /**
- * Coder for the SpaceFOM MTRMode enum data type.
+ * Coder for the SpaceFOM MTRMode enum data type, represented as an HLAinteger16LE.
  * @since 1.5
  */
-public class MTRModeCoder implements Coder<ModeTransitionRequest.MTRMode> {
-    private final HLAinteger16LE coder;
+public class MTRModeCoder implements BufferCoder<ModeTransitionRequest.MTRMode> {
+    private static final int ENCODED_LENGTH = 2;
+
+    @Override
+    public int getOctetBoundary() {
+        return ENCODED_LENGTH;
+    }
 
-    public MTRModeCoder() {
-        EncoderFactory encoderFactory = HLAUtilityFactory.INSTANCE.getEncoderFactory();
-        coder = encoderFactory.createHLAinteger16LE();
+    @Override
+    public int getEncodedLength(ModeTransitionRequest.MTRMode element) {
+        return ENCODED_LENGTH;
+    }
+
+    @Override
+    public int getFixedEncodedLength() {
+        return ENCODED_LENGTH;
     }
 
     @Override
-    public ModeTransitionRequest.MTRMode decode(byte[] buffer) throws DecoderException {
-        coder.decode(buffer);
-        return ModeTransitionRequest.MTRMode.query(coder.getValue());
+    public void encode(ModeTransitionRequest.MTRMode element, ByteBuffer buffer, int offset) {
+        PrimitiveBuffers.putShort(buffer, offset, element.getValue(), ByteOrder.LITTLE_ENDIAN);
     }
 
     @Override
-    public byte[] encode(ModeTransitionRequest.MTRMode element) {
-        coder.setValue(element.getValue());
-        return coder.toByteArray();
+    public ModeTransitionRequest.MTRMode decode(ByteBuffer buffer, int offset) throws DecoderException {
+        PrimitiveBuffers.checkRemaining(buffer, offset, ENCODED_LENGTH);
+        return ModeTransitionRequest.MTRMode.query(PrimitiveBuffers.getShort(buffer, offset, ByteOrder.LITTLE_ENDIAN));
     }
 
     @Override
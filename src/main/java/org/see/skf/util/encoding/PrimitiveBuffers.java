@@ -0,0 +1,82 @@
+/*****************************************************************
+ SEE HLA Starter Kit Framework -  A Java library that supports
+ the development of HLA Federates in the Simulation Exploration
+ Experience (SEE) program.
+
+ Copyright (c) 2014, 2026 SMASH Lab - University of Calabria
+ (Italy), Hridyanshu Aatreya - Modelling & Simulation Group (MSG)
+ at Brunel University of London. All rights reserved.
+
+ GNU Lesser General Public License (GNU LGPL).
+
+ This library is free software; you can redistribute it and/or
+ modify it under the terms of the GNU Lesser General Public
+ License as published by the Free Software Foundation; either
+ version 3.0 of the License, or (at your option) any later version.
+
+ This library is distributed in the hope that it will be useful,
+ but WITHOUT ANY WARRANTY; without even the implied warranty of
+ MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ Lesser General Public License for more details.
+
+ You should have received a copy of the GNU Lesser General Public
+ License along with this library.
+ If not, see http://http://www.gnu.org/licenses/
+ *****************************************************************/
+
+package org.see.skf.util.encoding;
+
+import hla.rti1516_2025.encoding.DecoderException;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Absolute reads and writes of fixed-size values in a given byte order, independent of the byte order the buffer itself
+ * happens to be configured with, and the alignment of composite data types. Shared by the coders of this package.
+ */
+final class PrimitiveBuffers {
+    private PrimitiveBuffers() {}
+
+    static void checkRemaining(ByteBuffer buffer, int offset, int length) throws DecoderException {
+        if (offset < 0 || buffer.limit() - offset < length) {
+            throw new DecoderException("Insufficient bytes to decode a value of " + length + " bytes at offset " + offset + " (limit " + buffer.limit() + ").");
+        }
+    }
+
+    /**
+     * Rounds an offset up to the next multiple of an octet boundary, which is how the HLA encoding rules place the
+     * elements of composite data types.
+     */
+    static int align(int offset, int octetBoundary) {
+        int remainder = offset % octetBoundary;
+        return (remainder == 0) ? offset : offset + octetBoundary - remainder;
+    }
+
+    static long getLong(ByteBuffer buffer, int offset, ByteOrder order) {
+        long value = buffer.getLong(offset);
+        return (buffer.order() == order) ? value : Long.reverseBytes(value);
+    }
+
+    static void putLong(ByteBuffer buffer, int offset, long value, ByteOrder order) {
+        buffer.putLong(offset, (buffer.order() == order) ? value : Long.reverseBytes(value));
+    }
+
+    static int getInt(ByteBuffer buffer, int offset, ByteOrder order) {
+        int value = buffer.getInt(offset);
+        return (buffer.order() == order) ? value : Integer.reverseBytes(value);
+    }
+
+    static void putInt(ByteBuffer buffer, int offset, int value, ByteOrder order) {
+        buffer.putInt(offset, (buffer.order() == order) ? value : Integer.reverseBytes(value));
+    }
+
+    static short getShort(ByteBuffer buffer, int offset, ByteOrder order) {
+        short value = buffer.getShort(offset);
+        return (buffer.order() == order) ? value : Short.reverseBytes(value);
+    }
+
+    static void putShort(ByteBuffer buffer, int offset, short value, ByteOrder order) {
+        buffer.putShort(offset, (buffer.order() == order) ? value : Short.reverseBytes(value));
+    }
+}
@@ -0,0 +1,73 @@
+/*****************************************************************
+ SEE HLA Starter Kit Framework -  A Java library that supports
+ the development of HLA Federates in the Simulation Exploration
+ Experience (SEE) program.
+
+ Copyright (c) 2014, 2026 SMASH Lab - University of Calabria
+ (Italy), Hridyanshu Aatreya - Modelling & Simulation Group (MSG)
+ at Brunel University of London. All rights reserved.
+
+ GNU Lesser General Public License (GNU LGPL).
+
+ This library is free software; you can redistribute it and/or
+ modify it under the terms of the GNU Lesser General Public
+ License as published by the Free Software Foundation; either
+ version 3.0 of the License, or (at your option) any later version.
+
+ This library is distributed in the hope that it will be useful,
+ but WITHOUT ANY WARRANTY; without even the implied warranty of
+ MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ Lesser General Public License for more details.
+
+ You should have received a copy of the GNU Lesser General Public
+ License along with this library.
+ If not, see http://http://www.gnu.org/licenses/
+ *****************************************************************/
+
+package org.see.skf.util.encoding;
+
+import hla.rti1516_2025.encoding.DataElement;
+import hla.rti1516_2025.encoding.DecoderException;
+import hla.rti1516_2025.encoding.EncoderFactory;
+import org.see.skf.core.Coder;
+
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Coder backed by a DataElement of the RTI's EncoderFactory. Like the DataElement it wraps, an instance must not be used
+ * by several threads at once.
+ *
+ * @param <T> The type that will be encoded and decoded by this coder.
+ * @param <E> The DataElement type.
+ */
+final class RtiCoder<T, E extends DataElement> implements Coder<T> {
+    private final Class<T> allowedType;
+    private final E element;
+    private final Function<E, T> getter;
+    private final BiConsumer<E, T> setter;
+
+    RtiCoder(EncoderFactory encoderFactory, Class<T> allowedType, Function<EncoderFactory, E> factory, Function<E, T> getter, BiConsumer<E, T> setter) {
+        this.allowedType = allowedType;
+        this.element = factory.apply(encoderFactory);
+        this.getter = getter;
+        this.setter = setter;
+    }
+
+    @Override
+    public T decode(byte[] buffer) throws DecoderException {
+        element.decode(buffer);
+        return getter.apply(element);
+    }
+
+    @Override
+    public byte[] encode(T value) {
+        setter.accept(element, value);
+        return element.toByteArray();
+    }
+
+    @Override
+    public Class<T> getAllowedType() {
+        return allowedType;
+    }
+}
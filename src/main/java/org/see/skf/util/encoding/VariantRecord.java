@@ -0,0 +1,75 @@
+/*****************************************************************
+ SEE HLA Starter Kit Framework -  A Java library that supports
+ the development of HLA Federates in the Simulation Exploration
+ Experience (SEE) program.
+
+ Copyright (c) 2014, 2026 SMASH Lab - University of Calabria
+ (Italy), Hridyanshu Aatreya - Modelling & Simulation Group (MSG)
+ at Brunel University of London. All rights reserved.
+
+ GNU Lesser General Public License (GNU LGPL).
+
+ This library is free software; you can redistribute it and/or
+ modify it under the terms of the GNU Lesser General Public
+ License as published by the Free Software Foundation; either
+ version 3.0 of the License, or (at your option) any later version.
+
+ This library is distributed in the hope that it will be useful,
+ but WITHOUT ANY WARRANTY; without even the implied warranty of
+ MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ Lesser General Public License for more details.
+
+ You should have received a copy of the GNU Lesser General Public
+ License along with this library.
+ If not, see http://http://www.gnu.org/licenses/
+ *****************************************************************/
+
+package org.see.skf.util.encoding;
+
+/**
+ * Value of an HLAvariantRecord data type: a discriminant and the alternative it selects, which is null for
+ * discriminant values without an alternative. Instances are mutable so that they can be decoded into repeatedly.
+ *
+ * @param <D> The discriminant type, usually an enum.
+ * @see HLAvariantRecordCoder
+ * @since 2.0
+ */
+public class VariantRecord<D> {
+    private D discriminant;
+    private Object value;
+
+    public VariantRecord() {}
+
+    public VariantRecord(D discriminant, Object value) {
+        this.discriminant = discriminant;
+        this.value = value;
+    }
+
+    public D getDiscriminant() {
+        return discriminant;
+    }
+
+    public Object getValue() {
+        return value;
+    }
+
+    /**
+     * Returns the alternative cast to the expected type.
+     * @param type The class of the alternative selected by the current discriminant.
+     * @param <V> The alternative type.
+     * @return The alternative, or null if the discriminant selects none.
+     */
+    public <V> V getValue(Class<V> type) {
+        return type.cast(value);
+    }
+
+    public void set(D discriminant, Object value) {
+        this.discriminant = discriminant;
+        this.value = value;
+    }
+
+    @Override
+    public String toString() {
+        return "VariantRecord[" + discriminant + " -> " + value + "]";
+    }
+}
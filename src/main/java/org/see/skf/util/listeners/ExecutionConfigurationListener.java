@@ -31,26 +31,41 @@ import org.see.skf.core.SEEAbstractFederate;
 import org.see.skf.util.models.ExecutionConfiguration;
 
 import java.beans.PropertyChangeListener;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Listener for the remote ExCO object instance. It attaches a property listener to watch for changes in execution mode.
+ * Its discovery future completes with the ExCO once the instance has been discovered and initialized.
  * @since 2.0
  */
 public class ExecutionConfigurationListener implements RemoteObjectInstanceListener {
     private final SEEAbstractFederate federate;
     private final AtomicBoolean discoveryWaitFlag;
+    private final CompletableFuture<ExecutionConfiguration> discovery;
+
+    public ExecutionConfigurationListener(SEEAbstractFederate federate) {
+        this(federate, new AtomicBoolean(false));
+    }
 
     public ExecutionConfigurationListener(SEEAbstractFederate federate, AtomicBoolean discoveryWaitFlag) {
         this.federate = federate;
         this.discoveryWaitFlag = discoveryWaitFlag;
+        this.discovery = new CompletableFuture<>();
+    }
+
+    /**
+     * @return A future completed with the ExCO object instance once it has been discovered.
+     */
+    public CompletableFuture<ExecutionConfiguration> getDiscovery() {
+        return discovery.copy();
     }
 
     @Override
     public void instanceAdded(String name, Object objectInstanceElement) {
         ExecutionConfiguration exCO = (ExecutionConfiguration) federate.queryRemoteObjectInstance("ExCO");
 
-        if (name.equals("ExCO") && exCO != null) {
+        if (name.equals("ExCO") && exCO != null && !discovery.isDone()) {
             // This property listener will watch for execution mode changes and instruct the federate accordingly.
             PropertyChangeListener executionModeChangeListener = evt -> {
                 if (evt.getSource().equals(exCO)) {
@@ -69,6 +84,7 @@ public class ExecutionConfigurationListener implements RemoteObjectInstanceListe
 
             exCO.addPropertyListener(executionModeChangeListener);
             discoveryWaitFlag.set(true);
+            discovery.complete(exCO);
         }
     }
 
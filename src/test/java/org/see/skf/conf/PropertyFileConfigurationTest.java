@@ -1,6 +1,9 @@
 package org.see.skf.conf;
 
+import hla.rti1516_2025.CallbackModel;
 import org.junit.jupiter.api.Test;
+import org.see.skf.runtime.dispatch.BackPressure;
+import org.see.skf.runtime.dispatch.DispatchMode;
 
 import java.io.File;
 
@@ -22,6 +25,10 @@ class PropertyFileConfigurationTest {
         assertTrue(conf1.timeRegulating());
         assertTrue(conf1.timeConstrained());
         assertEquals(0, conf1.additionalFomModules().length);
+        assertEquals(DispatchMode.EXECUTOR, conf1.listenerDispatchMode());
+        assertEquals(BackPressure.BLOCK, conf1.listenerBackPressure());
+        assertEquals(0, conf1.callbackDecodeWorkers());
+        assertEquals(CallbackModel.HLA_IMMEDIATE, conf1.callbackModel());
     }
 
     @Test
@@ -37,5 +44,14 @@ class PropertyFileConfigurationTest {
         assertTrue(conf2.timeConstrained());
 
         assertEquals(5, conf2.additionalFomModules().length);
+        assertEquals(DispatchMode.ORDERED, conf2.listenerDispatchMode());
+        assertEquals(256, conf2.listenerQueueCapacity());
+        assertEquals(BackPressure.DROP, conf2.listenerBackPressure());
+        assertEquals(2, conf2.callbackDecodeWorkers());
+        assertEquals(512, conf2.callbackRingCapacity());
+        assertEquals(BackPressure.BLOCK, conf2.callbackBackPressure());
+        assertEquals(CallbackModel.HLA_EVOKED, conf2.callbackModel());
+        assertEquals(5, conf2.callbackEvokeBudgetMillis());
+        assertEquals(30000, conf2.excoDiscoveryTimeoutMillis());
     }
 }
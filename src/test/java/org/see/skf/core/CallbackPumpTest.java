@@ -0,0 +1,103 @@
+package org.see.skf.core;
+
+import hla.rti1516_2025.AttributeHandleValueMap;
+import hla.rti1516_2025.CallbackModel;
+import hla.rti1516_2025.FederateAmbassador;
+import hla.rti1516_2025.FederateHandle;
+import hla.rti1516_2025.NullFederateAmbassador;
+import hla.rti1516_2025.ObjectInstanceHandle;
+import hla.rti1516_2025.RTIambassador;
+import hla.rti1516_2025.RegionHandleSet;
+import hla.rti1516_2025.TransportationTypeHandle;
+import hla.rti1516_2025.exceptions.FederateInternalError;
+import hla.rti1516_2025.time.LogicalTime;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CallbackPumpTest {
+    @Test
+    void testImmediatePumpCannotPumpFrames() {
+        CallbackPump pump = CallbackPump.immediate();
+
+        assertFalse(pump.isEvoked());
+        assertThrows(IllegalStateException.class, () -> pump.pumpFrame(() -> true));
+    }
+
+    @Test
+    void testFrameIsDeliveredOnPumpingThread() {
+        StandInRti rti = new StandInRti();
+        RecordingAmbassador federateAmbassador = new RecordingAmbassador();
+        CallbackPump pump = new CallbackPump(rti.proxy(), CallbackModel.HLA_EVOKED, 5L, () -> federateAmbassador.reflectingThreads.size());
+        rti.connected = federateAmbassador;
+
+        for (int frame = 1; frame <= 3; frame++) {
+            for (int i = 0; i < frame; i++) {
+                rti.pending.add(a -> a.reflectAttributeValues(null, null, null, null, null, null));
+            }
+            rti.pending.add(a -> a.timeAdvanceGrant(null));
+
+            federateAmbassador.granted = false;
+            CallbackPump.FrameStats stats = pump.pumpFrame(() -> federateAmbassador.granted);
+
+            assertEquals(frame, stats.getFrame());
+            assertEquals(frame, stats.getCallbacks());
+            assertTrue(stats.getEvocations() >= 1);
+            assertTrue(stats.getEvokeNanos() > 0L);
+        }
+
+        assertEquals(6, federateAmbassador.reflectingThreads.size());
+        federateAmbassador.reflectingThreads.forEach(thread -> assertSame(Thread.currentThread(), thread));
+        assertEquals(6L, pump.getCallbackCount());
+        assertEquals(3L, pump.getFrameCount());
+        assertEquals(2.0, pump.getMeanFrameCallbacks(), 1e-9);
+        assertEquals(3L, pump.getLastFrameStats().getFrame());
+    }
+
+    private interface Callback {
+        void deliver(FederateAmbassador federateAmbassador) throws FederateInternalError;
+    }
+
+    // Delivers one pending callback per evocation, as an RTI might when callbacks trickle in.
+    private static final class StandInRti {
+        private final Deque<Callback> pending = new ArrayDeque<>();
+        private FederateAmbassador connected;
+
+        private RTIambassador proxy() {
+            return (RTIambassador) Proxy.newProxyInstance(RTIambassador.class.getClassLoader(), new Class<?>[] {RTIambassador.class}, (proxy, method, args) -> {
+                switch (method.getName()) {
+                    case "evokeCallback":
+                    case "evokeMultipleCallbacks":
+                        Callback callback = pending.poll();
+                        if (callback != null) {
+                            callback.deliver(connected);
+                        }
+                        return !pending.isEmpty();
+                    default:
+                        throw new UnsupportedOperationException(method.getName());
+                }
+            });
+        }
+    }
+
+    private static final class RecordingAmbassador extends NullFederateAmbassador {
+        private final List<Thread> reflectingThreads = new ArrayList<>();
+        private boolean granted;
+
+        @Override
+        public void reflectAttributeValues(ObjectInstanceHandle objectInstance, AttributeHandleValueMap attributeValues, byte[] userSuppliedTag, TransportationTypeHandle transportationType, FederateHandle producingFederate, RegionHandleSet optionalSentRegions) {
+            reflectingThreads.add(Thread.currentThread());
+        }
+
+        @Override
+        public void timeAdvanceGrant(LogicalTime<?, ?> theTime) {
+            granted = true;
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package org.see.skf.core;
+
+import hla.rti1516_2025.AttributeHandle;
+import hla.rti1516_2025.AttributeHandleValueMap;
+import hla.rti1516_2025.RTIambassador;
+import hla.rti1516_2025.RtiConfiguration;
+import hla.rti1516_2025.exceptions.RTIinternalError;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.see.skf.annotations.Attribute;
+import org.see.skf.annotations.ObjectClass;
+import org.see.skf.conf.FederateConfiguration;
+import org.see.skf.exceptions.UpdateException;
+import org.see.skf.loopback.LoopbackRti;
+import org.see.skf.runtime.ScopeLevel;
+import org.see.skf.util.encoding.HLAinteger64BECoder;
+import org.see.skf.util.encoding.HLAunicodeStringCoder;
+
+import java.io.File;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EntityUpdateTest {
+    private static final String FEDERATION = "SEE 2026";
+
+    private final List<Set<AttributeHandle>> sentUpdates = new ArrayList<>();
+    private boolean failUpdates;
+    private volatile Thread registeringThread;
+
+    private LoopbackRti rti;
+    private RTIambassador rtiAmbassador;
+    private TestFederate federate;
+
+    @BeforeEach
+    void joinFederation() throws Exception {
+        rti = new LoopbackRti();
+        rti.createFederationExecution(FEDERATION, getClass().getClassLoader().getResource("foms/SISO_SpaceFOM_management.xml"));
+        rtiAmbassador = rti.createRtiAmbassador();
+
+        FederateConfiguration config = FederateConfiguration.Factory.create(new File("src/test/resources/test.conf"));
+        federate = new TestFederate(new SEEFederateAmbassador(), config, new FederateContext(failingUpdates(rtiAmbassador), null));
+        federate.connectToRTI(RtiConfiguration.createConfiguration());
+        federate.joinFederationExecution();
+    }
+
+    @AfterEach
+    void resignFederation() throws Exception {
+        federate.resignFederationExecution();
+        assertTrue(rti.destroyFederationExecution(FEDERATION));
+    }
+
+    @Test
+    void testFailedSendKeepsDirtyAttributes() throws Exception {
+        federate.publishObjectClass(TrackedConfiguration.class);
+        TrackedConfiguration configuration = new TrackedConfiguration();
+        assertNotNull(federate.registerObjectInstance(configuration));
+        assertEquals(1, sentUpdates.size());
+
+        configuration.setLeastCommonTimeStep(1000000L);
+        failUpdates = true;
+        assertThrows(UpdateException.class, () -> federate.updateObjectInstance(configuration));
+        assertTrue(configuration.isDirty("least_common_time_step"));
+        assertFalse(configuration.isDirty("root_frame_name"));
+
+        failUpdates = false;
+        federate.updateObjectInstance(configuration);
+        assertEquals(Set.of(attributeHandle("least_common_time_step")), sentUpdates.get(sentUpdates.size() - 1));
+    }
+
+    @Test
+    void testFailedSendKeepsDeltaSnapshot() throws Exception {
+        federate.publishObjectClass(DeltaConfiguration.class);
+        DeltaConfiguration configuration = new DeltaConfiguration();
+        assertNotNull(federate.registerObjectInstance(configuration));
+        assertEquals(1, sentUpdates.size());
+
+        configuration.setLeastCommonTimeStep(1000000L);
+        failUpdates = true;
+        assertThrows(UpdateException.class, () -> federate.updateObjectInstance(configuration));
+
+        failUpdates = false;
+        federate.updateObjectInstance(configuration);
+        assertEquals(Set.of(attributeHandle("least_common_time_step")), sentUpdates.get(sentUpdates.size() - 1));
+
+        federate.updateObjectInstance(configuration);
+        assertEquals(2, sentUpdates.size());
+    }
+
+    @Test
+    void testAsyncRegistrationLeavesCallbackThread() throws Exception {
+        federate.publishObjectClass(TrackedConfiguration.class);
+        String name = federate.registerObjectInstanceAsync(new TrackedConfiguration(), "AsyncConfiguration").get(1, TimeUnit.SECONDS);
+
+        assertEquals("AsyncConfiguration", name);
+        assertNotSame(Thread.currentThread(), registeringThread);
+        assertTrue(registeringThread.getName().startsWith("skf-federate-"));
+    }
+
+    private AttributeHandle attributeHandle(String name) throws Exception {
+        return rtiAmbassador.getAttributeHandle(rtiAmbassador.getObjectClassHandle("ExecutionConfiguration"), name);
+    }
+
+    // Records the attributes of every update the RTI accepts, and rejects updates while failUpdates is set. Also records
+    // the thread registering object instances.
+    private RTIambassador failingUpdates(RTIambassador delegate) {
+        return (RTIambassador) Proxy.newProxyInstance(RTIambassador.class.getClassLoader(), new Class<?>[] {RTIambassador.class}, (proxy, method, args) -> {
+            if (method.getName().equals("registerObjectInstance")) {
+                registeringThread = Thread.currentThread();
+            }
+
+            if (method.getName().equals("updateAttributeValues")) {
+                if (failUpdates) {
+                    throw new RTIinternalError("Update rejected by the test.");
+                }
+
+                sentUpdates.add(new HashSet<>(((AttributeHandleValueMap) args[1]).keySet()));
+            }
+
+            try {
+                return method.invoke(delegate, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        });
+    }
+
+    @ObjectClass(name = "HLAobjectRoot.ExecutionConfiguration")
+    public static class TrackedConfiguration extends DirtyTracking {
+        @Attribute(name = "root_frame_name", coder = HLAunicodeStringCoder.class, scope = ScopeLevel.PUBLISH)
+        private String rootFrameName = "RootFrame";
+
+        @Attribute(name = "least_common_time_step", coder = HLAinteger64BECoder.class, scope = ScopeLevel.PUBLISH)
+        private long leastCommonTimeStep;
+
+        public String getRootFrameName() {
+            return rootFrameName;
+        }
+
+        public void setRootFrameName(String rootFrameName) {
+            this.rootFrameName = rootFrameName;
+            markDirty("root_frame_name");
+        }
+
+        public long getLeastCommonTimeStep() {
+            return leastCommonTimeStep;
+        }
+
+        public void setLeastCommonTimeStep(long leastCommonTimeStep) {
+            this.leastCommonTimeStep = leastCommonTimeStep;
+            markDirty("least_common_time_step");
+        }
+    }
+
+    @ObjectClass(name = "HLAobjectRoot.ExecutionConfiguration", deltaUpdates = true)
+    public static class DeltaConfiguration {
+        @Attribute(name = "root_frame_name", coder = HLAunicodeStringCoder.class, scope = ScopeLevel.PUBLISH)
+        private String rootFrameName = "RootFrame";
+
+        @Attribute(name = "least_common_time_step", coder = HLAinteger64BECoder.class, scope = ScopeLevel.PUBLISH)
+        private long leastCommonTimeStep;
+
+        public String getRootFrameName() {
+            return rootFrameName;
+        }
+
+        public void setRootFrameName(String rootFrameName) {
+            this.rootFrameName = rootFrameName;
+        }
+
+        public long getLeastCommonTimeStep() {
+            return leastCommonTimeStep;
+        }
+
+        public void setLeastCommonTimeStep(long leastCommonTimeStep) {
+            this.leastCommonTimeStep = leastCommonTimeStep;
+        }
+    }
+
+    private static final class TestFederate extends SEEAbstractFederate {
+        private TestFederate(SEEFederateAmbassador federateAmbassador, FederateConfiguration config, FederateContext context) {
+            super(federateAmbassador, config, context);
+        }
+
+        @Override
+        public void configureAndStart() {
+            // Driven by the test instead.
+        }
+
+        @Override
+        public void update() {
+            // Driven by the test instead.
+        }
+    }
+}
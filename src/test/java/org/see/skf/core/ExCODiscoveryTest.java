@@ -0,0 +1,147 @@
+package org.see.skf.core;
+
+import hla.rti1516_2025.RtiConfiguration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.see.skf.annotations.Attribute;
+import org.see.skf.annotations.ObjectClass;
+import org.see.skf.conf.FederateConfiguration;
+import org.see.skf.exceptions.DeadlineReachedException;
+import org.see.skf.loopback.LoopbackRti;
+import org.see.skf.runtime.ScopeLevel;
+import org.see.skf.util.encoding.HLAinteger64BECoder;
+import org.see.skf.util.encoding.HLAunicodeStringCoder;
+import org.see.skf.util.listeners.ExecutionConfigurationListener;
+import org.see.skf.util.models.ExecutionConfiguration;
+
+import java.io.File;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExCODiscoveryTest {
+    private static final String FEDERATION = "SEE 2026";
+
+    private LoopbackRti rti;
+
+    @BeforeEach
+    void createFederation() throws Exception {
+        rti = new LoopbackRti();
+        rti.createFederationExecution(FEDERATION, getClass().getClassLoader().getResource("foms/SISO_SpaceFOM_management.xml"));
+    }
+
+    @AfterEach
+    void destroyFederation() throws Exception {
+        assertTrue(rti.destroyFederationExecution(FEDERATION));
+    }
+
+    @Test
+    void testDiscoveryCompletesFuture() throws Exception {
+        FederateConfiguration config = FederateConfiguration.Factory.create(new File("src/test/resources/test.conf"));
+        TestFederate master = join(new TestFederate(new SEEFederateAmbassador(), config, new FederateContext(rti.createRtiAmbassador(), null)));
+        TestFederate joiner = join(new TestFederate(new SEEFederateAmbassador(), config, new FederateContext(rti.createRtiAmbassador(), null)));
+
+        try {
+            ExecutionConfigurationListener excoListener = new ExecutionConfigurationListener(joiner);
+            joiner.addRemoteObjectInstanceListener(excoListener);
+            joiner.subscribeObjectClass(ExecutionConfiguration.class);
+            assertFalse(excoListener.getDiscovery().isDone());
+
+            master.publishObjectClass(MasterConfiguration.class);
+            assertEquals("ExCO", master.registerObjectInstance(new MasterConfiguration(), "ExCO"));
+
+            ExecutionConfiguration exCO = excoListener.getDiscovery().get(1, TimeUnit.SECONDS);
+            assertSame(joiner.queryRemoteObjectInstance("ExCO"), exCO);
+            assertEquals("RootFrame", exCO.getRootFrameName());
+            assertEquals(1000000L, exCO.getLeastCommonTimeStep());
+        } finally {
+            joiner.resignFederationExecution();
+            master.resignFederationExecution();
+        }
+    }
+
+    @Test
+    void testDiscoveryTimeoutRaisesDeadlineReached() throws Exception {
+        FederateConfiguration config = FederateConfiguration.Factory.create(new File("src/test/resources/test3.conf"));
+        LateJoiner joiner = new LateJoiner(new SEEFederateAmbassador(), config, new FederateContext(rti.createRtiAmbassador(), null));
+
+        try {
+            DeadlineReachedException e = assertThrows(DeadlineReachedException.class, joiner::configureAndStart);
+            assertTrue(e.getMessage().contains("100 ms"));
+            assertFalse(joiner.declared);
+        } finally {
+            joiner.resignFederationExecution();
+        }
+    }
+
+    private static TestFederate join(TestFederate federate) throws Exception {
+        federate.connectToRTI(RtiConfiguration.createConfiguration());
+        federate.joinFederationExecution();
+        return federate;
+    }
+
+    @ObjectClass(name = "HLAobjectRoot.ExecutionConfiguration")
+    public static class MasterConfiguration {
+        @Attribute(name = "root_frame_name", coder = HLAunicodeStringCoder.class, scope = ScopeLevel.PUBLISH)
+        private String rootFrameName = "RootFrame";
+
+        @Attribute(name = "least_common_time_step", coder = HLAinteger64BECoder.class, scope = ScopeLevel.PUBLISH)
+        private long leastCommonTimeStep = 1000000L;
+
+        public String getRootFrameName() {
+            return rootFrameName;
+        }
+
+        public void setRootFrameName(String rootFrameName) {
+            this.rootFrameName = rootFrameName;
+        }
+
+        public long getLeastCommonTimeStep() {
+            return leastCommonTimeStep;
+        }
+
+        public void setLeastCommonTimeStep(long leastCommonTimeStep) {
+            this.leastCommonTimeStep = leastCommonTimeStep;
+        }
+    }
+
+    private static final class TestFederate extends SEEAbstractFederate {
+        private TestFederate(SEEFederateAmbassador federateAmbassador, FederateConfiguration config, FederateContext context) {
+            super(federateAmbassador, config, context);
+        }
+
+        @Override
+        public void configureAndStart() {
+            // Driven by the test instead.
+        }
+
+        @Override
+        public void update() {
+            // Driven by the test instead.
+        }
+    }
+
+    private static final class LateJoiner extends SEELateJoinerFederate {
+        private boolean declared;
+
+        private LateJoiner(SEEFederateAmbassador federateAmbassador, FederateConfiguration config, FederateContext context) {
+            super(federateAmbassador, config, context);
+        }
+
+        @Override
+        public void declareClasses() {
+            declared = true;
+        }
+
+        @Override
+        public void declareObjectInstances() {
+            declared = true;
+        }
+
+        @Override
+        public void update() {
+            // Never reached: no ExCO is registered.
+        }
+    }
+}
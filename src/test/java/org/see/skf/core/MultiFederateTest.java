@@ -0,0 +1,113 @@
+package org.see.skf.core;
+
+import hla.rti1516_2025.InteractionClassHandle;
+import hla.rti1516_2025.ParameterHandle;
+import hla.rti1516_2025.ParameterHandleValueMap;
+import hla.rti1516_2025.ParameterHandleValueMapFactory;
+import hla.rti1516_2025.RTIambassador;
+import org.junit.jupiter.api.Test;
+import org.see.skf.conf.FederateConfiguration;
+import org.see.skf.loopback.LoopbackValues;
+import org.see.skf.util.models.ModeTransitionRequest;
+
+import java.io.File;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MultiFederateTest {
+    private static final int FEDERATE_COUNT = 3;
+
+    private final FederateConfiguration config = FederateConfiguration.Factory.create(new File("src/test/resources/test.conf"));
+    private final List<SEEFederateAmbassador> members = new ArrayList<>();
+    private final Map<String, Integer> achievements = new HashMap<>();
+
+    @Test
+    void testFederatesShareJvm() throws Exception {
+        List<TestFederate> federates = new ArrayList<>();
+        List<List<String>> calls = new ArrayList<>();
+
+        for (int i = 0; i < FEDERATE_COUNT; i++) {
+            SEEFederateAmbassador federateAmbassador = new SEEFederateAmbassador();
+            List<String> federateCalls = new ArrayList<>();
+            members.add(federateAmbassador);
+            calls.add(federateCalls);
+            federates.add(new TestFederate(federateAmbassador, config, new FederateContext(rti(federateAmbassador, federateCalls), null)));
+        }
+
+        assertTrue(federates.get(0).registerSyncPoint("private_point").get(1, TimeUnit.SECONDS));
+        for (TestFederate federate : federates) {
+            assertTrue(federate.awaitSyncPointAnnouncement("private_point", 1000L));
+            federate.achieveSyncPoint("private_point", true);
+        }
+
+        for (TestFederate federate : federates) {
+            assertTrue(federate.awaitFederationSynchronization("private_point", 1000L));
+            federate.publishInteractionClass(ModeTransitionRequest.class);
+            assertTrue(federate.sendInteraction(new ModeTransitionRequest()));
+        }
+
+        assertTrue(federates.get(0).getSyncPointState("private_point").isRegistered());
+        assertFalse(federates.get(1).getSyncPointState("private_point").isRegistrationReported());
+        assertNotSame(federates.get(0).getContext().getCoders(), federates.get(1).getContext().getCoders());
+
+        for (List<String> federateCalls : calls) {
+            assertEquals(1, federateCalls.stream().filter("sendInteraction"::equals).count());
+        }
+    }
+
+    // Each federate talks to an RTI ambassador of its own, all of them joined to the same stand-in federation.
+    private RTIambassador rti(SEEFederateAmbassador federateAmbassador, List<String> calls) {
+        return (RTIambassador) Proxy.newProxyInstance(RTIambassador.class.getClassLoader(), new Class<?>[] {RTIambassador.class}, (proxy, method, args) -> {
+            calls.add(method.getName());
+
+            switch (method.getName()) {
+                case "registerFederationSynchronizationPoint":
+                    federateAmbassador.synchronizationPointRegistrationSucceeded((String) args[0]);
+                    for (SEEFederateAmbassador member : members) {
+                        member.announceSynchronizationPoint((String) args[0], (byte[]) args[1]);
+                    }
+                    return null;
+                case "synchronizationPointAchieved":
+                    if (achievements.merge((String) args[0], 1, Integer::sum) == members.size()) {
+                        for (SEEFederateAmbassador member : members) {
+                            member.federationSynchronized((String) args[0], null);
+                        }
+                    }
+                    return null;
+                case "getInteractionClassHandle":
+                    return LoopbackValues.handle(InteractionClassHandle.class, args[0].hashCode());
+                case "getParameterHandle":
+                    return LoopbackValues.handle(ParameterHandle.class, args[1].hashCode());
+                case "getParameterHandleValueMapFactory":
+                    return (ParameterHandleValueMapFactory) capacity -> LoopbackValues.map(ParameterHandleValueMap.class, capacity);
+                case "publishInteractionClass":
+                case "sendInteraction":
+                    return null;
+                default:
+                    throw new UnsupportedOperationException(method.getName());
+            }
+        });
+    }
+
+    private static final class TestFederate extends SEEAbstractFederate {
+        private TestFederate(SEEFederateAmbassador federateAmbassador, FederateConfiguration config, FederateContext context) {
+            super(federateAmbassador, config, context);
+        }
+
+        @Override
+        public void configureAndStart() {
+            // Driven by the test instead.
+        }
+
+        @Override
+        public void update() {
+            // Driven by the test instead.
+        }
+    }
+}
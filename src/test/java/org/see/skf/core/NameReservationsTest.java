@@ -0,0 +1,59 @@
+package org.see.skf.core;
+
+import hla.rti1516_2025.RTIambassador;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NameReservationsTest {
+    private final List<Object> requests = new ArrayList<>();
+    private final RTIambassador rtiAmbassador = (RTIambassador) Proxy.newProxyInstance(RTIambassador.class.getClassLoader(), new Class<?>[] {RTIambassador.class}, (proxy, method, args) -> {
+        switch (method.getName()) {
+            case "reserveObjectInstanceName":
+            case "reserveMultipleObjectInstanceNames":
+                requests.add(args[0]);
+                return null;
+            default:
+                throw new UnsupportedOperationException(method.getName());
+        }
+    });
+
+    @Test
+    void testReservationCompletesOnCallback() throws Exception {
+        NameReservations reservations = new NameReservations();
+        CompletableFuture<Boolean> reservation = reservations.reserve(rtiAmbassador, "Lander");
+
+        assertSame(reservation, reservations.reserve(rtiAmbassador, "Lander"));
+        assertEquals(1, requests.size());
+        assertEquals(SKFederateAmbassador.NameReservationStatus.PENDING, reservations.getStatus("Lander"));
+
+        assertTrue(reservations.complete("Lander", true));
+        assertFalse(reservations.complete("Rover", true));
+        assertTrue(reservation.join());
+        assertEquals(SKFederateAmbassador.NameReservationStatus.SUCCEEDED, reservations.getStatus("Lander"));
+    }
+
+    @Test
+    void testBatchIsSingleRequest() throws Exception {
+        NameReservations reservations = new NameReservations();
+        CompletableFuture<Boolean> single = reservations.reserve(rtiAmbassador, "Rover-0");
+        CompletableFuture<Boolean> batch = reservations.reserveAll(rtiAmbassador, List.of("Rover-0", "Rover-1", "Rover-2"));
+
+        assertEquals(2, requests.size());
+        assertEquals(Set.of("Rover-1", "Rover-2"), requests.get(1));
+
+        reservations.complete("Rover-1", true);
+        reservations.complete("Rover-2", true);
+        assertFalse(batch.isDone());
+
+        reservations.complete("Rover-0", false);
+        assertFalse(single.join());
+        assertFalse(batch.join());
+    }
+}
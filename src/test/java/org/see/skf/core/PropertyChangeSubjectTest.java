@@ -0,0 +1,29 @@
+package org.see.skf.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.beans.PropertyChangeListener;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PropertyChangeSubjectTest {
+    @Test
+    void testListenersAreTrackedAcrossAddAndRemove() {
+        PropertyChangeSubject subject = new PropertyChangeSubject() {};
+        PropertyChangeListener first = event -> {};
+        PropertyChangeListener second = event -> {};
+        assertFalse(subject.hasPropertyListeners("name"));
+
+        subject.addPropertyListener(first);
+        subject.addPropertyListener(second);
+        assertTrue(subject.hasPropertyListeners("name"));
+
+        subject.removePropertyListener(first);
+        assertTrue(subject.hasPropertyListeners("name"));
+        subject.removePropertyListener(first);
+        assertTrue(subject.hasPropertyListeners("name"));
+
+        subject.removePropertyListener(second);
+        assertFalse(subject.hasPropertyListeners("name"));
+    }
+}
@@ -0,0 +1,83 @@
+package org.see.skf.core;
+
+import hla.rti1516_2025.SynchronizationPointFailureReason;
+import hla.rti1516_2025.time.HLAinteger64Time;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SEEFederateAmbassadorTest {
+    private static final long LONG_WAIT_NANOS = TimeUnit.SECONDS.toNanos(30L);
+
+    @Test
+    void testGrantWakesWaiter() {
+        SEEFederateAmbassador federateAmbassador = new SEEFederateAmbassador();
+        HLAinteger64Time time = time();
+        federateAmbassador.getSimulationTime().setFederationLogicalTime(time);
+
+        for (int frame = 0; frame < 1000; frame++) {
+            federateAmbassador.setAdvancing(true);
+            CompletableFuture.runAsync(() -> federateAmbassador.timeAdvanceGrant(time));
+
+            long start = System.nanoTime();
+            while (!federateAmbassador.awaitTimeAdvanceGrant(LONG_WAIT_NANOS)) {
+                assertTrue(System.nanoTime() - start < LONG_WAIT_NANOS);
+            }
+
+            assertFalse(federateAmbassador.isAdvancing());
+        }
+    }
+
+    @Test
+    void testWaitEndsWithoutGrant() {
+        SEEFederateAmbassador federateAmbassador = new SEEFederateAmbassador();
+        federateAmbassador.setAdvancing(true);
+
+        assertFalse(federateAmbassador.awaitTimeAdvanceGrant(TimeUnit.MILLISECONDS.toNanos(5L)));
+
+        CompletableFuture<Boolean> wait = CompletableFuture.supplyAsync(() -> federateAmbassador.awaitTimeAdvanceGrant(LONG_WAIT_NANOS));
+        while (!wait.isDone()) {
+            federateAmbassador.wakeTimeAdvanceWaiter();
+            Thread.yield();
+        }
+
+        assertFalse(wait.join());
+        assertTrue(federateAmbassador.isAdvancing());
+    }
+
+    @Test
+    void testSyncPointStateIsPerFederate() throws Exception {
+        SEEFederateAmbassador first = new SEEFederateAmbassador();
+        SEEFederateAmbassador second = new SEEFederateAmbassador();
+        first.setContext(new FederateContext(null, null));
+        second.setContext(new FederateContext(null, null));
+        CompletableFuture<byte[]> announcement = first.getSyncPoints().get("custom_point").announcement();
+
+        first.announceSynchronizationPoint("custom_point", new byte[] {1});
+        first.synchronizationPointRegistrationFailed("custom_point", SynchronizationPointFailureReason.SYNCHRONIZATION_POINT_LABEL_NOT_UNIQUE);
+
+        assertArrayEquals(new byte[] {1}, announcement.get(30L, TimeUnit.SECONDS));
+        assertFalse(first.getSyncPoints().get("custom_point").registration().join());
+        assertEquals(SynchronizationPointFailureReason.SYNCHRONIZATION_POINT_LABEL_NOT_UNIQUE, first.getSyncPoints().get("custom_point").getFailureReason());
+        assertFalse(second.getSyncPoints().get("custom_point").isAnnounced());
+
+        first.federationSynchronized("custom_point", null);
+        assertTrue(first.getSyncPoints().get("custom_point").isFederationSynchronized());
+        assertFalse(first.getSyncPoints().reset("custom_point").isAnnounced());
+    }
+
+    private static HLAinteger64Time time() {
+        return (HLAinteger64Time) Proxy.newProxyInstance(HLAinteger64Time.class.getClassLoader(), new Class<?>[] {HLAinteger64Time.class}, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "compareTo": return 0;
+                case "hashCode": return 0;
+                case "equals": return proxy == args[0];
+                default: throw new UnsupportedOperationException(method.getName());
+            }
+        });
+    }
+}
@@ -0,0 +1,23 @@
+package org.see.skf.core;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StartupTimingsTest {
+    @Test
+    void testPhasesAreTimedBackToBack() throws InterruptedException {
+        StartupTimings timings = new StartupTimings();
+        timings.start();
+
+        Thread.sleep(2L);
+        long connect = timings.completed(StartupTimings.Phase.CONNECT);
+        long join = timings.completed(StartupTimings.Phase.JOIN);
+
+        assertTrue(connect >= 2_000_000L);
+        assertEquals(connect, timings.getPhaseNanos(StartupTimings.Phase.CONNECT));
+        assertEquals(connect + join, timings.getTotalNanos());
+        assertEquals(-1L, timings.getPhaseNanos(StartupTimings.Phase.DISCOVER));
+        assertTrue(timings.toString().contains("connect="));
+    }
+}
@@ -0,0 +1,205 @@
+package org.see.skf.loopback;
+
+import hla.rti1516_2025.AttributeHandle;
+import hla.rti1516_2025.AttributeHandleSet;
+import hla.rti1516_2025.AttributeHandleValueMap;
+import hla.rti1516_2025.CallbackModel;
+import hla.rti1516_2025.FederateHandle;
+import hla.rti1516_2025.NullFederateAmbassador;
+import hla.rti1516_2025.ObjectClassHandle;
+import hla.rti1516_2025.ObjectInstanceHandle;
+import hla.rti1516_2025.RTIambassador;
+import hla.rti1516_2025.RegionHandleSet;
+import hla.rti1516_2025.ResignAction;
+import hla.rti1516_2025.RtiConfiguration;
+import hla.rti1516_2025.TransportationTypeHandle;
+import hla.rti1516_2025.time.HLAinteger64Time;
+import hla.rti1516_2025.time.HLAinteger64TimeFactory;
+import hla.rti1516_2025.time.LogicalTime;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.see.skf.conf.FederateConfiguration;
+import org.see.skf.core.FederateContext;
+import org.see.skf.core.SEEAbstractFederate;
+import org.see.skf.core.SEEFederateAmbassador;
+import org.see.skf.util.models.ModeTransitionRequest;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LoopbackRtiTest {
+    private static final String FEDERATION = "SEE 2026";
+
+    private final FederateConfiguration config = FederateConfiguration.Factory.create(new File("src/test/resources/test.conf"));
+    private LoopbackRti rti;
+
+    @BeforeEach
+    void createFederation() throws Exception {
+        rti = new LoopbackRti();
+        rti.createFederationExecution(FEDERATION, getClass().getClassLoader().getResource("foms/SISO_SpaceFOM_management.xml"));
+    }
+
+    @Test
+    void testFederatesSynchronizeAndInteract() throws Exception {
+        List<TestFederate> federates = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            TestFederate federate = new TestFederate(new SEEFederateAmbassador(), config, new FederateContext(rti.createRtiAmbassador(), null));
+            federate.connectToRTI(RtiConfiguration.createConfiguration());
+            federate.joinFederationExecution();
+            federates.add(federate);
+        }
+
+        assertTrue(federates.get(0).registerSyncPoint("loopback").get(1, TimeUnit.SECONDS));
+        for (TestFederate federate : federates) {
+            assertTrue(federate.awaitSyncPointAnnouncement("loopback", 1000L));
+            federate.achieveSyncPoint("loopback", true);
+        }
+
+        for (TestFederate federate : federates) {
+            assertTrue(federate.awaitFederationSynchronization("loopback", 1000L));
+        }
+
+        CompletableFuture<Object> received = new CompletableFuture<>();
+        federates.get(1).subscribeInteractionClass(ModeTransitionRequest.class);
+        federates.get(1).addInteractionListener(received::complete);
+        federates.get(0).publishInteractionClass(ModeTransitionRequest.class);
+
+        ModeTransitionRequest request = new ModeTransitionRequest();
+        request.setExecutionMode(ModeTransitionRequest.MTRMode.MTR_GOTO_FREEZE);
+        assertTrue(federates.get(0).sendInteraction(request));
+
+        Object interaction = received.get(1, TimeUnit.SECONDS);
+        assertEquals(ModeTransitionRequest.MTRMode.MTR_GOTO_FREEZE, ((ModeTransitionRequest) interaction).getExecutionMode());
+
+        for (TestFederate federate : federates) {
+            federate.resignFederationExecution();
+        }
+        assertTrue(rti.destroyFederationExecution(FEDERATION));
+    }
+
+    @Test
+    void testReflectionsCarrySubscribedAttributesOnly() throws Exception {
+        Recorder publisher = new Recorder();
+        Recorder subscriber = new Recorder();
+        RTIambassador publishing = join(publisher, "Publisher");
+        RTIambassador subscribing = join(subscriber, "Subscriber");
+
+        ObjectClassHandle exco = publishing.getObjectClassHandle("ExecutionConfiguration");
+        AttributeHandle rootFrame = publishing.getAttributeHandle(exco, "root_frame_name");
+        AttributeHandle timeStep = publishing.getAttributeHandle(exco, "least_common_time_step");
+
+        AttributeHandleSet published = publishing.getAttributeHandleSetFactory().create();
+        published.add(rootFrame);
+        published.add(timeStep);
+        publishing.publishObjectClassAttributes(exco, published);
+
+        AttributeHandleSet subscribed = subscribing.getAttributeHandleSetFactory().create();
+        subscribed.add(subscribing.getAttributeHandle(subscribing.getObjectClassHandle("HLAobjectRoot.ExecutionConfiguration"), "least_common_time_step"));
+        subscribing.subscribeObjectClassAttributes(exco, subscribed);
+
+        publishing.reserveObjectInstanceName("ExCO");
+        evoke(publishing);
+        assertEquals(List.of("reserved ExCO"), publisher.events);
+
+        ObjectInstanceHandle instance = publishing.registerObjectInstance(exco, "ExCO");
+        AttributeHandleValueMap values = publishing.getAttributeHandleValueMapFactory().create(2);
+        values.put(rootFrame, new byte[] {1});
+        values.put(timeStep, new byte[] {2});
+        publishing.updateAttributeValues(instance, values, null);
+
+        evoke(subscribing);
+        assertEquals(List.of("discovered ExCO", "reflected 1"), subscriber.events);
+        assertArrayEquals(new byte[] {2}, subscriber.reflected.get(timeStep));
+        assertEquals("ExCO", subscribing.getObjectInstanceName(instance));
+    }
+
+    @Test
+    void testTimeAdvanceAwaitsGalt() throws Exception {
+        Recorder first = new Recorder();
+        Recorder second = new Recorder();
+        RTIambassador firstAmbassador = join(first, "First");
+        RTIambassador secondAmbassador = join(second, "Second");
+        HLAinteger64TimeFactory timeFactory = (HLAinteger64TimeFactory) firstAmbassador.getTimeFactory();
+
+        for (RTIambassador rtiAmbassador : List.of(firstAmbassador, secondAmbassador)) {
+            rtiAmbassador.enableTimeRegulation(timeFactory.makeInterval(10));
+            rtiAmbassador.enableTimeConstrained();
+        }
+
+        firstAmbassador.timeAdvanceRequest(timeFactory.makeTime(10));
+        evoke(firstAmbassador);
+        assertFalse(first.events.contains("granted 10"));
+        assertEquals(10L, ((HLAinteger64Time) firstAmbassador.queryGALT().time).getValue());
+
+        secondAmbassador.timeAdvanceRequest(timeFactory.makeTime(10));
+        evoke(firstAmbassador);
+        evoke(secondAmbassador);
+        assertTrue(first.events.contains("granted 10"));
+        assertTrue(second.events.contains("granted 10"));
+        assertEquals(20L, ((HLAinteger64Time) firstAmbassador.queryGALT().time).getValue());
+
+        secondAmbassador.resignFederationExecution(ResignAction.NO_ACTION);
+        assertFalse(firstAmbassador.queryGALT().timeIsValid);
+    }
+
+    private RTIambassador join(Recorder recorder, String federateName) throws Exception {
+        RTIambassador rtiAmbassador = rti.createRtiAmbassador();
+        rtiAmbassador.connect(recorder, CallbackModel.HLA_EVOKED, RtiConfiguration.createConfiguration());
+        rtiAmbassador.joinFederationExecution(federateName, "Test", FEDERATION);
+        return rtiAmbassador;
+    }
+
+    private static void evoke(RTIambassador rtiAmbassador) throws Exception {
+        while (rtiAmbassador.evokeMultipleCallbacks(0.0, 1.0)) {
+            // Keep delivering until the queue is empty.
+        }
+    }
+
+    private static final class Recorder extends NullFederateAmbassador {
+        private final List<String> events = new ArrayList<>();
+        private Map<AttributeHandle, byte[]> reflected;
+
+        @Override
+        public void objectInstanceNameReservationSucceeded(String objectName) {
+            events.add("reserved " + objectName);
+        }
+
+        @Override
+        public void discoverObjectInstance(ObjectInstanceHandle objectInstance, ObjectClassHandle objectClass, String objectInstanceName, FederateHandle producingFederate) {
+            events.add("discovered " + objectInstanceName);
+        }
+
+        @Override
+        public void reflectAttributeValues(ObjectInstanceHandle objectInstance, AttributeHandleValueMap attributeValues, byte[] userSuppliedTag, TransportationTypeHandle transportationType, FederateHandle producingFederate, RegionHandleSet optionalSentRegions) {
+            events.add("reflected " + attributeValues.size());
+            reflected = attributeValues;
+        }
+
+        @Override
+        public void timeAdvanceGrant(LogicalTime<?, ?> theTime) {
+            events.add("granted " + ((HLAinteger64Time) theTime).getValue());
+        }
+    }
+
+    private static final class TestFederate extends SEEAbstractFederate {
+        private TestFederate(SEEFederateAmbassador federateAmbassador, FederateConfiguration config, FederateContext context) {
+            super(federateAmbassador, config, context);
+        }
+
+        @Override
+        public void configureAndStart() {
+            // Driven by the test instead.
+        }
+
+        @Override
+        public void update() {
+            // Driven by the test instead.
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package org.see.skf.metrics;
+
+import hla.rti1516_2025.CallbackModel;
+import hla.rti1516_2025.InteractionClassHandle;
+import hla.rti1516_2025.NullFederateAmbassador;
+import hla.rti1516_2025.ObjectClassHandle;
+import hla.rti1516_2025.ObjectInstanceHandle;
+import hla.rti1516_2025.RTIambassador;
+import hla.rti1516_2025.RtiConfiguration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.see.skf.conf.FederateConfiguration;
+import org.see.skf.core.FederateContext;
+import org.see.skf.core.SEEAbstractFederate;
+import org.see.skf.core.SEEFederateAmbassador;
+import org.see.skf.core.SKFederateAmbassador;
+import org.see.skf.loopback.LoopbackRti;
+import org.see.skf.util.models.ModeTransitionRequest;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FederateMetricsTest {
+    private static final String FEDERATION = "SEE 2026";
+
+    private LoopbackRti rti;
+
+    @BeforeEach
+    void createFederation() throws Exception {
+        rti = new LoopbackRti();
+        rti.createFederationExecution(FEDERATION, getClass().getClassLoader().getResource("foms/SISO_SpaceFOM_management.xml"));
+    }
+
+    @Test
+    void testReceivedInteractionsAreCounted() throws Exception {
+        FederateConfiguration config = FederateConfiguration.Factory.create(new File("src/test/resources/test.conf"));
+        List<TestFederate> federates = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            TestFederate federate = new TestFederate(new SEEFederateAmbassador(), config, new FederateContext(rti.createRtiAmbassador(), null));
+            federate.connectToRTI(RtiConfiguration.createConfiguration());
+            federate.joinFederationExecution();
+            federates.add(federate);
+        }
+
+        CompletableFuture<Object> received = new CompletableFuture<>();
+        federates.get(1).subscribeInteractionClass(ModeTransitionRequest.class);
+        federates.get(1).addInteractionListener(received::complete);
+        federates.get(0).publishInteractionClass(ModeTransitionRequest.class);
+        assertTrue(federates.get(0).sendInteraction(new ModeTransitionRequest()));
+        received.get(1, TimeUnit.SECONDS);
+
+        FederateMetrics sender = federates.get(0).getFederateAmbassador().getMetrics();
+        FederateMetrics receiver = federates.get(1).getFederateAmbassador().getMetrics();
+        assertEquals(1L, sender.getInteractionsSent().getCount());
+        assertEquals(1L, receiver.getInteractionsReceived().getCount());
+        assertTrue(receiver.getBytesDecoded().getCount() > 0L);
+        assertEquals(1L, receiver.getInteractionDecodeLatency().snapshot().getCount());
+        assertEquals(1L, federates.get(1).getContext().getMetrics().snapshot().getCounters().get(FederateMetrics.INTERACTIONS_RECEIVED));
+
+        for (TestFederate federate : federates) {
+            federate.resignFederationExecution();
+        }
+    }
+
+    @Test
+    void testDetachedAmbassadorIgnoresUnknownInteractions() throws Exception {
+        RTIambassador rtiAmbassador = rti.createRtiAmbassador();
+        rtiAmbassador.connect(new NullFederateAmbassador(), CallbackModel.HLA_EVOKED, RtiConfiguration.createConfiguration());
+        rtiAmbassador.joinFederationExecution("Sender", "Test", FEDERATION);
+        InteractionClassHandle classHandle = rtiAmbassador.getInteractionClassHandle("ModeTransitionRequest");
+
+        SKFederateAmbassador federateAmbassador = new SKFederateAmbassador();
+        federateAmbassador.receiveInteraction(classHandle, rtiAmbassador.getParameterHandleValueMapFactory().create(0), null, null, null, null);
+
+        assertEquals(0L, federateAmbassador.getMetrics().getInteractionsReceived().getCount());
+        assertEquals(0L, federateAmbassador.getMetrics().getBytesDecoded().getCount());
+    }
+
+    @Test
+    void testDetachedAmbassadorIgnoresUnknownInstances() throws Exception {
+        RTIambassador rtiAmbassador = rti.createRtiAmbassador();
+        rtiAmbassador.connect(new NullFederateAmbassador(), CallbackModel.HLA_EVOKED, RtiConfiguration.createConfiguration());
+        rtiAmbassador.joinFederationExecution("Registrar", "Test", FEDERATION);
+        ObjectClassHandle exco = rtiAmbassador.getObjectClassHandle("ExecutionConfiguration");
+        rtiAmbassador.publishObjectClassAttributes(exco, rtiAmbassador.getAttributeHandleSetFactory().create());
+        ObjectInstanceHandle instance = rtiAmbassador.registerObjectInstance(exco);
+
+        SKFederateAmbassador federateAmbassador = new SKFederateAmbassador();
+        federateAmbassador.discoverObjectInstance(instance, exco, "ExCO", null);
+        federateAmbassador.removeObjectInstance(instance, null, null);
+
+        assertEquals(0L, federateAmbassador.getMetrics().getDiscoveries().getCount());
+        assertEquals(0L, federateAmbassador.getMetrics().getRemovals().getCount());
+        assertEquals(0L, federateAmbassador.getMetrics().getCallbacksReceived());
+    }
+
+    private static final class TestFederate extends SEEAbstractFederate {
+        private TestFederate(SEEFederateAmbassador federateAmbassador, FederateConfiguration config, FederateContext context) {
+            super(federateAmbassador, config, context);
+        }
+
+        @Override
+        public void configureAndStart() {
+            // Driven by the test instead.
+        }
+
+        @Override
+        public void update() {
+            // Driven by the test instead.
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package org.see.skf.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MetricsRegistryTest {
+    @Test
+    void testBucketsCoverEveryValueWithinTheirPrecision() {
+        long[] values = {0L, 1L, 63L, 127L, 128L, 129L, 1000L, 123456789L, Long.MAX_VALUE / 3, Long.MAX_VALUE};
+
+        for (long value : values) {
+            int index = Histogram.indexOf(value);
+            long highest = Histogram.highestValueAt(index);
+
+            assertTrue(index >= 0 && index < Histogram.BUCKET_COUNT, "Index out of range for " + value);
+            assertTrue(highest >= value, "Bucket of " + value + " ends below it");
+            assertTrue(highest - value <= value / 64, "Bucket of " + value + " is too wide");
+        }
+    }
+
+    @Test
+    void testPercentilesOfAHistogram() {
+        Histogram histogram = new MetricsRegistry().histogram("latency");
+        List<Long> values = new ArrayList<>();
+
+        for (int i = 0; i < 10000; i++) {
+            long value = ThreadLocalRandom.current().nextLong(1L, 10_000_000L);
+            histogram.record(value);
+            values.add(value);
+        }
+
+        values.sort(null);
+        HistogramSnapshot snapshot = histogram.snapshot();
+
+        assertEquals(10000L, snapshot.getCount());
+        assertEquals(values.get(0), snapshot.getMin());
+        assertEquals(values.get(values.size() - 1), snapshot.getMax());
+
+        for (double percentile : new double[] {50.0, 90.0, 99.0, 99.9}) {
+            long exact = values.get((int) Math.ceil(percentile / 100.0 * values.size()) - 1);
+            long reported = snapshot.getValueAtPercentile(percentile);
+
+            assertTrue(reported >= exact && reported - exact <= exact / 64, "p" + percentile + " was " + reported + " instead of " + exact);
+        }
+    }
+
+    @Test
+    void testSnapshotHoldsEveryKindOfMetric() {
+        MetricsRegistry registry = new MetricsRegistry();
+        registry.counter("updates").add(3L);
+        registry.counter("updates").increment();
+        registry.gauge("entities", () -> 7L);
+        registry.histogram("frame").record(250L);
+
+        List<MetricsSnapshot> reported = new ArrayList<>();
+        registry.report(reported::add);
+
+        MetricsSnapshot snapshot = reported.get(0);
+        assertEquals(4L, snapshot.getCounters().get("updates"));
+        assertEquals(7L, snapshot.getGauges().get("entities"));
+        assertEquals(1L, snapshot.getHistograms().get("frame").getCount());
+        assertEquals(0L, new MetricsRegistry().histogram("empty").snapshot().getValueAtPercentile(99.0));
+    }
+
+    @Test
+    void testNamesAreUniqueAcrossKinds() {
+        MetricsRegistry registry = new MetricsRegistry();
+        registry.counter("reflections");
+
+        assertThrows(IllegalArgumentException.class, () -> registry.histogram("reflections"));
+        assertThrows(IllegalArgumentException.class, () -> registry.gauge("reflections", () -> 0L));
+    }
+}
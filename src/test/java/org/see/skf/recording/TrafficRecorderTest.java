@@ -0,0 +1,232 @@
+package org.see.skf.recording;
+
+import hla.rti1516_2025.AttributeHandle;
+import hla.rti1516_2025.AttributeHandleValueMap;
+import hla.rti1516_2025.CallbackModel;
+import hla.rti1516_2025.NullFederateAmbassador;
+import hla.rti1516_2025.ObjectClassHandle;
+import hla.rti1516_2025.ObjectInstanceHandle;
+import hla.rti1516_2025.RTIambassador;
+import hla.rti1516_2025.RtiConfiguration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.see.skf.conf.FederateConfiguration;
+import org.see.skf.core.FederateContext;
+import org.see.skf.core.SEEAbstractFederate;
+import org.see.skf.core.SEEFederateAmbassador;
+import org.see.skf.loopback.LoopbackRti;
+import org.see.skf.util.models.ModeTransitionRequest;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TrafficRecorderTest {
+    private static final String FEDERATION = "SEE 2026";
+
+    @TempDir
+    Path directory;
+
+    private LoopbackRti rti;
+    private RTIambassador rtiAmbassador;
+    private ObjectClassHandle exco;
+    private AttributeHandle rootFrame;
+    private AttributeHandle timeStep;
+
+    @BeforeEach
+    void joinFederation() throws Exception {
+        rti = new LoopbackRti();
+        rti.createFederationExecution(FEDERATION, getClass().getClassLoader().getResource("foms/SISO_SpaceFOM_management.xml"));
+        rtiAmbassador = rti.createRtiAmbassador();
+        rtiAmbassador.connect(new NullFederateAmbassador(), CallbackModel.HLA_EVOKED, RtiConfiguration.createConfiguration());
+        rtiAmbassador.joinFederationExecution("Recorder", "Test", FEDERATION);
+
+        exco = rtiAmbassador.getObjectClassHandle("ExecutionConfiguration");
+        rootFrame = rtiAmbassador.getAttributeHandle(exco, "root_frame_name");
+        timeStep = rtiAmbassador.getAttributeHandle(exco, "least_common_time_step");
+    }
+
+    @Test
+    void testRecordsAreReadBackInOrder() throws Exception {
+        ObjectInstanceHandle instance = registerExco();
+        AttributeHandleValueMap values = rtiAmbassador.getAttributeHandleValueMapFactory().create(2);
+        values.put(rootFrame, new byte[] {1, 2, 3});
+        values.put(timeStep, new byte[] {4});
+
+        try (TrafficRecorder recorder = TrafficRecorder.open(directory, 4096)) {
+            recorder.defineObjectClass(exco, "ExecutionConfiguration", excoAttributes());
+            recorder.recordDiscovery(instance, exco, "ExCO", TrafficRecorder.NO_TIME);
+            recorder.recordAttributeValues(RecordType.REFLECTION, instance, values, 1000L);
+            recorder.recordRemoval(instance, 2000L);
+
+            assertEquals(2L, recorder.getValueCount());
+        }
+
+        List<TrafficRecord> records = readAll();
+        assertEquals(4, records.size());
+
+        TrafficRecord definition = records.get(0);
+        assertEquals(RecordType.OBJECT_CLASS_DEFINITION, definition.getType());
+        assertEquals("ExecutionConfiguration", definition.getName());
+        assertEquals(2, definition.getMemberCount());
+        assertEquals("root_frame_name", definition.getMemberName(0));
+
+        TrafficRecord discovery = records.get(1);
+        assertEquals(RecordType.DISCOVERY, discovery.getType());
+        assertEquals("ExCO", discovery.getName());
+        assertFalse(discovery.hasLogicalTime());
+        assertArrayEquals(definition.getHandle(), discovery.getClassHandle());
+
+        TrafficRecord reflection = records.get(2);
+        assertEquals(RecordType.REFLECTION, reflection.getType());
+        assertEquals(1000L, reflection.getLogicalTime());
+        assertArrayEquals(discovery.getHandle(), reflection.getHandle());
+        assertEquals(2, reflection.getMemberCount());
+        assertArrayEquals(new byte[] {1, 2, 3}, valueOf(reflection, definition.getMemberHandle(0)));
+        assertArrayEquals(new byte[] {4}, valueOf(reflection, definition.getMemberHandle(1)));
+
+        assertEquals(RecordType.REMOVAL, records.get(3).getType());
+        assertTrue(records.get(3).getWallTimeMicros() >= reflection.getWallTimeMicros());
+    }
+
+    @Test
+    void testSegmentsRollOverAndRepeatDefinitions() throws Exception {
+        ObjectInstanceHandle instance = registerExco();
+        AttributeHandleValueMap values = rtiAmbassador.getAttributeHandleValueMapFactory().create(2);
+        values.put(rootFrame, new byte[100]);
+        values.put(timeStep, new byte[8]);
+
+        int segmentCount;
+        try (TrafficRecorder recorder = TrafficRecorder.open(directory, 4096)) {
+            recorder.defineObjectClass(exco, "ExecutionConfiguration", excoAttributes());
+            for (int i = 0; i < 500; i++) {
+                recorder.recordAttributeValues(RecordType.UPDATE, instance, values, i);
+            }
+
+            segmentCount = recorder.getSegmentCount();
+        }
+
+        // A second recording in the same directory continues after the existing segments.
+        try (TrafficRecorder recorder = TrafficRecorder.open(directory, 4096)) {
+            recorder.recordAttributeValues(RecordType.UPDATE, instance, values, 500L);
+        }
+
+        assertTrue(segmentCount > 1);
+        try (Stream<Path> files = Files.list(directory)) {
+            assertEquals(segmentCount + 1, files.count());
+        }
+
+        List<TrafficRecord> records = readAll();
+        long definitions = records.stream().filter(r -> r.getType() == RecordType.OBJECT_CLASS_DEFINITION).count();
+        List<TrafficRecord> updates = new ArrayList<>();
+        for (TrafficRecord record : records) {
+            if (record.getType() == RecordType.UPDATE) {
+                updates.add(record);
+            }
+        }
+
+        assertEquals(segmentCount, definitions);
+        assertEquals(501, updates.size());
+        for (int i = 0; i < updates.size(); i++) {
+            assertEquals(i, updates.get(i).getLogicalTime());
+        }
+    }
+
+    @Test
+    void testFederateAmbassadorRecordsInteractions() throws Exception {
+        FederateConfiguration config = FederateConfiguration.Factory.create(new File("src/test/resources/test.conf"));
+        List<TestFederate> federates = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            TestFederate federate = new TestFederate(new SEEFederateAmbassador(), config, new FederateContext(rti.createRtiAmbassador(), null));
+            federate.connectToRTI(RtiConfiguration.createConfiguration());
+            federate.joinFederationExecution();
+            federates.add(federate);
+        }
+
+        TrafficRecorder recorder = TrafficRecorder.open(directory, 4096);
+        SEEFederateAmbassador receiver = federates.get(1).getFederateAmbassador();
+        federates.get(1).subscribeInteractionClass(ModeTransitionRequest.class);
+        receiver.setRecorder(recorder);
+
+        CompletableFuture<Object> received = new CompletableFuture<>();
+        federates.get(1).addInteractionListener(received::complete);
+        federates.get(0).publishInteractionClass(ModeTransitionRequest.class);
+        assertTrue(federates.get(0).sendInteraction(new ModeTransitionRequest()));
+        received.get(1, TimeUnit.SECONDS);
+
+        for (TestFederate federate : federates) {
+            federate.resignFederationExecution();
+        }
+        recorder.close();
+
+        List<TrafficRecord> records = readAll();
+        assertEquals(2, records.size());
+        assertEquals(RecordType.INTERACTION_CLASS_DEFINITION, records.get(0).getType());
+        assertEquals("HLAinteractionRoot.ModeTransitionRequest", records.get(0).getName());
+        assertEquals(RecordType.RECEIVED_INTERACTION, records.get(1).getType());
+        assertArrayEquals(records.get(0).getHandle(), records.get(1).getHandle());
+        assertEquals(1, records.get(1).getMemberCount());
+    }
+
+    private ObjectInstanceHandle registerExco() throws Exception {
+        rtiAmbassador.publishObjectClassAttributes(exco, rtiAmbassador.getAttributeHandleSetFactory().create());
+        return rtiAmbassador.registerObjectInstance(exco);
+    }
+
+    private Map<String, AttributeHandle> excoAttributes() {
+        Map<String, AttributeHandle> attributes = new LinkedHashMap<>();
+        attributes.put("root_frame_name", rootFrame);
+        attributes.put("least_common_time_step", timeStep);
+        return attributes;
+    }
+
+    private static byte[] valueOf(TrafficRecord record, byte[] memberHandle) {
+        for (int i = 0; i < record.getMemberCount(); i++) {
+            if (Arrays.equals(memberHandle, record.getMemberHandle(i))) {
+                return record.getValue(i);
+            }
+        }
+
+        return null;
+    }
+
+    private List<TrafficRecord> readAll() throws Exception {
+        TrafficReader reader = TrafficReader.open(directory);
+        List<TrafficRecord> records = new ArrayList<>();
+
+        TrafficRecord record = new TrafficRecord();
+        while (reader.next(record)) {
+            records.add(record);
+            record = new TrafficRecord();
+        }
+
+        return records;
+    }
+
+    private static final class TestFederate extends SEEAbstractFederate {
+        private TestFederate(SEEFederateAmbassador federateAmbassador, FederateConfiguration config, FederateContext context) {
+            super(federateAmbassador, config, context);
+        }
+
+        @Override
+        public void configureAndStart() {
+            // Driven by the test instead.
+        }
+
+        @Override
+        public void update() {
+            // Driven by the test instead.
+        }
+    }
+}
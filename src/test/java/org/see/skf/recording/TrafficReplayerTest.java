@@ -0,0 +1,186 @@
+package org.see.skf.recording;
+
+import hla.rti1516_2025.AttributeHandle;
+import hla.rti1516_2025.AttributeHandleValueMap;
+import hla.rti1516_2025.CallbackModel;
+import hla.rti1516_2025.InteractionClassHandle;
+import hla.rti1516_2025.NullFederateAmbassador;
+import hla.rti1516_2025.ObjectClassHandle;
+import hla.rti1516_2025.ObjectInstanceHandle;
+import hla.rti1516_2025.ParameterHandle;
+import hla.rti1516_2025.ParameterHandleValueMap;
+import hla.rti1516_2025.RTIambassador;
+import hla.rti1516_2025.RtiConfiguration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.see.skf.conf.FederateConfiguration;
+import org.see.skf.core.FederateContext;
+import org.see.skf.core.RemoteObjectInstanceListener;
+import org.see.skf.core.SEEAbstractFederate;
+import org.see.skf.core.SEEFederateAmbassador;
+import org.see.skf.loopback.LoopbackRti;
+import org.see.skf.runtime.FieldBinding;
+import org.see.skf.runtime.interactions.InteractionClassModelParser;
+import org.see.skf.runtime.objects.ObjectClassModelParser;
+import org.see.skf.util.models.ExecutionConfiguration;
+import org.see.skf.util.models.ModeTransitionRequest;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TrafficReplayerTest {
+    private static final String FEDERATION = "SEE 2026";
+    private static final String[] EXCO_ATTRIBUTES = {"root_frame_name", "least_common_time_step"};
+
+    @TempDir
+    Path directory;
+
+    private LoopbackRti rti;
+    private TestFederate federate;
+
+    @BeforeEach
+    void joinReplayFederation() throws Exception {
+        rti = new LoopbackRti();
+        rti.createFederationExecution(FEDERATION, getClass().getClassLoader().getResource("foms/SISO_SpaceFOM_management.xml"));
+
+        FederateConfiguration config = FederateConfiguration.Factory.create(new File("src/test/resources/test.conf"));
+        federate = new TestFederate(new SEEFederateAmbassador(), config, new FederateContext(TrafficReplayer.offline(rti.createRtiAmbassador()), null));
+        federate.connectToRTI(RtiConfiguration.createConfiguration());
+        federate.joinFederationExecution();
+        federate.subscribeObjectClass(ExecutionConfiguration.class);
+        federate.subscribeInteractionClass(ModeTransitionRequest.class);
+    }
+
+    @AfterEach
+    void resignReplayFederation() throws Exception {
+        federate.resignFederationExecution();
+        assertTrue(rti.destroyFederationExecution(FEDERATION));
+    }
+
+    @Test
+    void testReplayDeliversRecordedCallbacks() throws Exception {
+        recordRun(1000L, 2000L);
+
+        CompletableFuture<Object> added = new CompletableFuture<>();
+        CompletableFuture<String> removed = new CompletableFuture<>();
+        CompletableFuture<Object> received = new CompletableFuture<>();
+        federate.addRemoteObjectInstanceListener(new RemoteObjectInstanceListener() {
+            @Override
+            public void instanceAdded(String name, Object objectInstanceElement) {
+                added.complete(objectInstanceElement);
+            }
+
+            @Override
+            public void instanceRemoved(String name) {
+                removed.complete(name);
+            }
+        });
+        federate.addInteractionListener(received::complete);
+
+        TrafficReplayer replayer = new TrafficReplayer(federate.getFederateAmbassador(), ReplayPacing.AS_FAST_AS_POSSIBLE);
+        assertEquals(5L, replayer.replay(directory));
+        assertEquals(0L, replayer.getSkippedCount());
+
+        ExecutionConfiguration exco = (ExecutionConfiguration) added.get(1, TimeUnit.SECONDS);
+        assertEquals("MoonCentricFixed", exco.getRootFrameName());
+        assertEquals(2_000_000L, exco.getLeastCommonTimeStep());
+
+        ModeTransitionRequest request = (ModeTransitionRequest) received.get(1, TimeUnit.SECONDS);
+        assertEquals(ModeTransitionRequest.MTRMode.MTR_GOTO_FREEZE, request.getExecutionMode());
+        assertEquals("ExCO", removed.get(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void testReplayFollowsLogicalTime() throws Exception {
+        recordRun(0L, 1_000_000L);
+
+        // One second of logical time replayed ten times faster than recorded.
+        TrafficReplayer replayer = new TrafficReplayer(federate.getFederateAmbassador(), ReplayPacing.LOGICAL_TIME, 10_000_000L);
+        long startNanos = System.nanoTime();
+        replayer.replay(directory);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+
+        assertTrue(elapsedMillis >= 90L, "Replay took " + elapsedMillis + " ms.");
+    }
+
+    // Records the traffic a subscriber of the ExCO and mode transition requests would have seen in another federation.
+    private void recordRun(long firstTime, long lastTime) throws Exception {
+        LoopbackRti recordedRti = new LoopbackRti();
+        recordedRti.createFederationExecution(FEDERATION, getClass().getClassLoader().getResource("foms/SISO_SpaceFOM_management.xml"));
+        RTIambassador rtiAmbassador = recordedRti.createRtiAmbassador();
+        rtiAmbassador.connect(new NullFederateAmbassador(), CallbackModel.HLA_EVOKED, RtiConfiguration.createConfiguration());
+        rtiAmbassador.joinFederationExecution("Recorded", "Test", FEDERATION);
+
+        ObjectClassHandle excoClass = rtiAmbassador.getObjectClassHandle("HLAobjectRoot.ExecutionConfiguration");
+        Map<String, AttributeHandle> attributeHandles = new HashMap<>();
+        for (String attribute : EXCO_ATTRIBUTES) {
+            attributeHandles.put(attribute, rtiAmbassador.getAttributeHandle(excoClass, attribute));
+        }
+
+        InteractionClassHandle mtrClass = rtiAmbassador.getInteractionClassHandle("HLAinteractionRoot.ModeTransitionRequest");
+        ParameterHandle executionMode = rtiAmbassador.getParameterHandle(mtrClass, "execution_mode");
+
+        rtiAmbassador.publishObjectClassAttributes(excoClass, rtiAmbassador.getAttributeHandleSetFactory().create());
+        ObjectInstanceHandle excoInstance = rtiAmbassador.registerObjectInstance(excoClass);
+
+        ExecutionConfiguration exco = new ExecutionConfiguration();
+        exco.setRootFrameName("MoonCentricFixed");
+        exco.setLeastCommonTimeStep(1_000_000L);
+        AttributeHandleValueMap firstValues = encode(rtiAmbassador, exco, attributeHandles);
+        exco.setLeastCommonTimeStep(2_000_000L);
+        AttributeHandleValueMap lastValues = encode(rtiAmbassador, exco, attributeHandles);
+
+        ModeTransitionRequest request = new ModeTransitionRequest();
+        request.setExecutionMode(ModeTransitionRequest.MTRMode.MTR_GOTO_FREEZE);
+        ParameterHandleValueMap parameterValues = rtiAmbassador.getParameterHandleValueMapFactory().create(1);
+        parameterValues.put(executionMode, new InteractionClassModelParser(ModeTransitionRequest.class).getParameterBindings()[0].encode(request));
+
+        try (TrafficRecorder recorder = TrafficRecorder.open(directory, 4096)) {
+            recorder.defineObjectClass(excoClass, "HLAobjectRoot.ExecutionConfiguration", attributeHandles);
+            recorder.defineInteractionClass(mtrClass, "HLAinteractionRoot.ModeTransitionRequest", Map.of("execution_mode", executionMode));
+            recorder.recordDiscovery(excoInstance, excoClass, "ExCO", firstTime);
+            recorder.recordAttributeValues(RecordType.REFLECTION, excoInstance, firstValues, firstTime);
+            recorder.recordAttributeValues(RecordType.REFLECTION, excoInstance, lastValues, lastTime);
+            recorder.recordParameterValues(RecordType.RECEIVED_INTERACTION, mtrClass, parameterValues, lastTime);
+            recorder.recordRemoval(excoInstance, lastTime);
+        }
+    }
+
+    private static AttributeHandleValueMap encode(RTIambassador rtiAmbassador, ExecutionConfiguration exco, Map<String, AttributeHandle> attributeHandles) throws Exception {
+        AttributeHandleValueMap values = rtiAmbassador.getAttributeHandleValueMapFactory().create(attributeHandles.size());
+
+        for (FieldBinding binding : new ObjectClassModelParser(ExecutionConfiguration.class).getBindings()) {
+            AttributeHandle attributeHandle = attributeHandles.get(binding.getFomName());
+
+            if (attributeHandle != null) {
+                values.put(attributeHandle, binding.encode(exco));
+            }
+        }
+
+        return values;
+    }
+
+    private static final class TestFederate extends SEEAbstractFederate {
+        private TestFederate(SEEFederateAmbassador federateAmbassador, FederateConfiguration config, FederateContext context) {
+            super(federateAmbassador, config, context);
+        }
+
+        @Override
+        public void configureAndStart() {
+            // Driven by the test instead.
+        }
+
+        @Override
+        public void update() {
+            // Driven by the test instead.
+        }
+    }
+}
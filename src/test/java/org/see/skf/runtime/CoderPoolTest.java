@@ -0,0 +1,113 @@
+package org.see.skf.runtime;
+
+import org.junit.jupiter.api.Test;
+import org.see.skf.annotations.Attribute;
+import org.see.skf.annotations.ObjectClass;
+import org.see.skf.core.Coder;
+import org.see.skf.runtime.objects.ObjectClassModelParser;
+import org.see.skf.util.encoding.HLAfloat64LECoder;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CoderPoolTest {
+    private static final int THREADS = Math.max(4, Runtime.getRuntime().availableProcessors());
+    private static final int ITERATIONS = 50_000;
+
+    @Test
+    void testSharing() {
+        assertTrue(CoderCollection.pool(HLAfloat64LECoder.class).isShared());
+        assertFalse(CoderCollection.pool(ScratchBufferCoder.class).isShared());
+    }
+
+    @Test
+    void testConcurrentEncodeDecode() throws Exception {
+        ObjectClassModelParser parser = new ObjectClassModelParser(Counter.class);
+        FieldBinding binding = parser.getBinding("value");
+
+        List<Callable<Integer>> tasks = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            long base = (long) t << 32;
+
+            // Half of the threads encode while the other half decode, all through the same coder class.
+            tasks.add(() -> {
+                Counter source = new Counter();
+                Counter target = new Counter();
+                int mismatches = 0;
+
+                for (int i = 0; i < ITERATIONS; i++) {
+                    source.setValue(base + i);
+                    byte[] encoded = binding.encode(source);
+                    binding.decodeInto(target, encoded);
+
+                    if (target.getValue() != base + i) {
+                        mismatches++;
+                    }
+                }
+
+                return mismatches;
+            });
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            for (Future<Integer> result : executor.invokeAll(tasks)) {
+                assertEquals(0, result.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @ObjectClass(name = "HLAobjectRoot.Counter")
+    public static class Counter {
+        @Attribute(name = "value", coder = ScratchBufferCoder.class)
+        private Long value = 0L;
+
+        public Long getValue() {
+            return value;
+        }
+
+        public void setValue(Long value) {
+            this.value = value;
+        }
+    }
+
+    // Mimics the RTI's DataElements: the value passes through a buffer held by the instance, so two threads using the
+    // same instance would corrupt each other's results.
+    public static class ScratchBufferCoder implements Coder<Long> {
+        private final ByteBuffer scratch = ByteBuffer.allocate(Long.BYTES);
+
+        @Override
+        public Long decode(byte[] buffer) {
+            scratch.clear();
+            scratch.put(buffer);
+            Thread.yield();
+            return scratch.getLong(0);
+        }
+
+        @Override
+        public byte[] encode(Long element) {
+            scratch.putLong(0, element);
+            Thread.yield();
+            byte[] encoded = new byte[Long.BYTES];
+            scratch.rewind();
+            scratch.get(encoded);
+            return encoded;
+        }
+
+        @Override
+        public Class<Long> getAllowedType() {
+            return Long.class;
+        }
+    }
+}
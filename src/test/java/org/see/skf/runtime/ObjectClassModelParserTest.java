@@ -1,13 +1,40 @@
 package org.see.skf.runtime;
 
+import hla.rti1516_2025.AttributeHandle;
+import hla.rti1516_2025.AttributeHandleValueMap;
 import org.junit.jupiter.api.Test;
+import org.see.skf.annotations.Attribute;
+import org.see.skf.annotations.FixedRecord;
+import org.see.skf.annotations.ObjectClass;
+import org.see.skf.annotations.RecordField;
+import org.see.skf.core.DirtyTracking;
+import org.see.skf.core.PropertyChangeSubject;
+import org.see.skf.loopback.LoopbackValues;
+import org.see.skf.util.encoding.HLAfixedRecordCoder;
+import org.see.skf.util.encoding.HLAfloat32BECoder;
+import org.see.skf.util.encoding.HLAfloat64BECoder;
+import org.see.skf.util.encoding.HLAinteger16BECoder;
+import org.see.skf.util.encoding.HLAinteger32BECoder;
+import org.see.skf.util.encoding.HLAinteger64BECoder;
+import org.see.skf.util.encoding.HLAunicodeStringCoder;
+import org.see.skf.util.encoding.HLAvariableListCoder;
 import org.see.skf.util.models.ExecutionConfiguration;
 import org.see.skf.runtime.objects.ObjectClassModelParser;
 
+import java.beans.PropertyChangeEvent;
 import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class ObjectClassModelParserTest {
     final ObjectClassModelParser parser = new ObjectClassModelParser(ExecutionConfiguration.class);
@@ -50,4 +77,366 @@ class ObjectClassModelParserTest {
         assertEquals("getPhysicalInterface", parser.generateMethodName("get", "physicalInterface"));
         assertEquals("setPhysicalInterface", parser.generateMethodName("set", "physicalInterface"));
     }
+
+    @Test
+    void testDeltaEncoding() {
+        ObjectClassModelParser deltaParser = new ObjectClassModelParser(Point.class);
+        AttributeHandle[] handles = {LoopbackValues.handle(AttributeHandle.class, 1), LoopbackValues.handle(AttributeHandle.class, 2)};
+        byte[][] lastEncodedValues = new byte[2][];
+        Point point = new Point();
+
+        assertTrue(deltaParser.isDeltaUpdateEnabled());
+        assertFalse(parser.isDeltaUpdateEnabled());
+
+        AttributeHandleValueMap values = LoopbackValues.map(AttributeHandleValueMap.class, 2);
+        assertEquals(0, deltaParser.encodeChanged(point, values, handles, lastEncodedValues, false));
+        assertEquals(2, values.size());
+        deltaParser.recordSentValues(values, handles, lastEncodedValues);
+
+        point.setY(2.0);
+        values.clear();
+        assertEquals(1, deltaParser.encodeChanged(point, values, handles, lastEncodedValues, false));
+        assertEquals(1, values.size());
+        assertTrue(values.containsKey(handles[1]));
+
+        // The update was not sent, so the change is still reported.
+        values.clear();
+        assertEquals(1, deltaParser.encodeChanged(point, values, handles, lastEncodedValues, false));
+        assertTrue(values.containsKey(handles[1]));
+        deltaParser.recordSentValues(values, handles, lastEncodedValues);
+
+        values.clear();
+        assertEquals(2, deltaParser.encodeChanged(point, values, handles, lastEncodedValues, false));
+        assertTrue(values.isEmpty());
+
+        assertEquals(0, deltaParser.encodeChanged(point, values, handles, lastEncodedValues, true));
+        assertEquals(2, values.size());
+    }
+
+    @Test
+    void testDirtyEncoding() {
+        ObjectClassModelParser dirtyParser = new ObjectClassModelParser(TrackedPoint.class);
+        AttributeHandle[] handles = {LoopbackValues.handle(AttributeHandle.class, 1), LoopbackValues.handle(AttributeHandle.class, 2)};
+        TrackedPoint point = new TrackedPoint();
+
+        AttributeHandleValueMap values = LoopbackValues.map(AttributeHandleValueMap.class, 2);
+        assertEquals(0, dirtyParser.encodeDirty(point, values, handles));
+        assertEquals(2, values.size());
+        assertFalse(point.isDirty("x"));
+
+        values.clear();
+        assertEquals(2, dirtyParser.encodeDirty(point, values, handles));
+        assertTrue(values.isEmpty());
+
+        point.setY(4.0);
+        point.markDirty("label");
+        assertTrue(point.isDirty("y"));
+        assertEquals(1, dirtyParser.encodeDirty(point, values, handles));
+        assertEquals(1, values.size());
+        assertTrue(values.containsKey(handles[1]));
+        assertFalse(point.isDirty("label"));
+
+        assertThrows(IllegalArgumentException.class, () -> point.markDirty("z"));
+    }
+
+    @Test
+    void testDirtyEncodingKeepsUnencodedMarks() {
+        ObjectClassModelParser dirtyParser = new ObjectClassModelParser(NamedPoint.class);
+        AttributeHandle[] handles = {LoopbackValues.handle(AttributeHandle.class, 1), LoopbackValues.handle(AttributeHandle.class, 2)};
+        NamedPoint point = new NamedPoint();
+
+        AttributeHandleValueMap values = LoopbackValues.map(AttributeHandleValueMap.class, 2);
+        assertEquals(1, dirtyParser.encodeDirty(point, values, handles));
+        assertTrue(values.containsKey(handles[0]));
+        assertFalse(point.isDirty("x"));
+        assertTrue(point.isDirty("name"));
+
+        point.setName("Lander");
+        values.clear();
+        assertEquals(1, dirtyParser.encodeDirty(point, values, handles));
+        assertTrue(values.containsKey(handles[1]));
+        assertFalse(point.isDirty("name"));
+    }
+
+    @Test
+    void testArrayEncoding() {
+        ObjectClassModelParser namedParser = new ObjectClassModelParser(NamedPoint.class);
+        byte[][] encodedValues = new byte[2][];
+        NamedPoint point = new NamedPoint();
+        point.setX(1.5);
+
+        assertEquals(1, namedParser.encode(point, encodedValues));
+        assertArrayEquals(namedParser.getPublishableBindings()[0].encode(point), encodedValues[0]);
+        assertNull(encodedValues[1]);
+    }
+
+    @Test
+    void testPrimitiveFieldsAreBoundWithoutBoxing() throws Exception {
+        ObjectClassModelParser sampleParser = new ObjectClassModelParser(Sample.class);
+        Sample sample = new Sample();
+        sample.setD(1.5);
+        sample.setF(2.5f);
+        sample.setL(1L << 40);
+        sample.setI(-7);
+        sample.setS((short) 300);
+
+        Sample decoded = new Sample();
+        for (String name : List.of("d", "f", "l", "i", "s")) {
+            FieldBinding binding = sampleParser.getBinding(name);
+            assertTrue(binding.isPrimitive(), name);
+            binding.decodeInto(decoded, binding.encode(sample));
+        }
+
+        assertEquals(1.5, decoded.getD());
+        assertEquals(2.5f, decoded.getF());
+        assertEquals(1L << 40, decoded.getL());
+        assertEquals(-7, decoded.getI());
+        assertEquals((short) 300, decoded.getS());
+    }
+
+    @Test
+    void testDecodeReusesMutableValues() throws Exception {
+        ObjectClassModelParser trackParser = new ObjectClassModelParser(Track.class);
+        AttributeHandle handle = LoopbackValues.handle(AttributeHandle.class, 1);
+        Map<AttributeHandle, FieldBinding> bindings = Map.of(handle, trackParser.getBinding("waypoints"));
+        Track track = new Track();
+
+        AttributeHandleValueMap values = LoopbackValues.map(AttributeHandleValueMap.class, 2);
+        values.put(handle, new WaypointListCoder().encode(List.of(new Waypoint(1.0), new Waypoint(2.0))));
+        trackParser.decode(track, values, bindings);
+        List<Waypoint> waypoints = track.getWaypoints();
+        Waypoint first = waypoints.get(0);
+
+        values.put(handle, new WaypointListCoder().encode(List.of(new Waypoint(3.0), new Waypoint(4.0))));
+        trackParser.decode(track, values, bindings);
+        assertSame(waypoints, track.getWaypoints());
+        assertSame(first, track.getWaypoints().get(0));
+        assertEquals(3.0, first.getDistance());
+        assertEquals(4.0, track.getWaypoints().get(1).getDistance());
+    }
+
+    @Test
+    void testDecodeKeepsOldValueForListeners() throws Exception {
+        ObjectClassModelParser trackParser = new ObjectClassModelParser(ObservedTrack.class);
+        AttributeHandle handle = LoopbackValues.handle(AttributeHandle.class, 1);
+        Map<AttributeHandle, FieldBinding> bindings = Map.of(handle, trackParser.getBinding("waypoints"));
+        ObservedTrack track = new ObservedTrack();
+        List<PropertyChangeEvent> events = new ArrayList<>();
+        track.addPropertyListener(events::add);
+
+        AttributeHandleValueMap values = LoopbackValues.map(AttributeHandleValueMap.class, 2);
+        values.put(handle, new WaypointListCoder().encode(List.of(new Waypoint(1.0))));
+        trackParser.decode(track, values, bindings);
+        values.put(handle, new WaypointListCoder().encode(List.of(new Waypoint(2.0))));
+        trackParser.decode(track, values, bindings);
+
+        assertEquals(2, events.size());
+        List<?> oldWaypoints = (List<?>) events.get(1).getOldValue();
+        List<?> newWaypoints = (List<?>) events.get(1).getNewValue();
+        assertEquals(1.0, ((Waypoint) oldWaypoints.get(0)).getDistance());
+        assertEquals(2.0, ((Waypoint) newWaypoints.get(0)).getDistance());
+    }
+
+    @ObjectClass(name = "HLAobjectRoot.Point", deltaUpdates = true)
+    public static class Point {
+        @Attribute(name = "x", coder = HLAfloat64BECoder.class, scope = ScopeLevel.PUBLISH)
+        private double x;
+
+        @Attribute(name = "y", coder = HLAfloat64BECoder.class, scope = ScopeLevel.PUBLISH)
+        private double y;
+
+        public double getX() {
+            return x;
+        }
+
+        public void setX(double x) {
+            this.x = x;
+        }
+
+        public double getY() {
+            return y;
+        }
+
+        public void setY(double y) {
+            this.y = y;
+        }
+    }
+
+    @ObjectClass(name = "HLAobjectRoot.Sample")
+    public static class Sample {
+        @Attribute(name = "d", coder = HLAfloat64BECoder.class, scope = ScopeLevel.PUBLISH)
+        private double d;
+
+        @Attribute(name = "f", coder = HLAfloat32BECoder.class, scope = ScopeLevel.PUBLISH)
+        private float f;
+
+        @Attribute(name = "l", coder = HLAinteger64BECoder.class, scope = ScopeLevel.PUBLISH)
+        private long l;
+
+        @Attribute(name = "i", coder = HLAinteger32BECoder.class, scope = ScopeLevel.PUBLISH)
+        private int i;
+
+        @Attribute(name = "s", coder = HLAinteger16BECoder.class, scope = ScopeLevel.PUBLISH)
+        private short s;
+
+        public double getD() {
+            return d;
+        }
+
+        public void setD(double d) {
+            this.d = d;
+        }
+
+        public float getF() {
+            return f;
+        }
+
+        public void setF(float f) {
+            this.f = f;
+        }
+
+        public long getL() {
+            return l;
+        }
+
+        public void setL(long l) {
+            this.l = l;
+        }
+
+        public int getI() {
+            return i;
+        }
+
+        public void setI(int i) {
+            this.i = i;
+        }
+
+        public short getS() {
+            return s;
+        }
+
+        public void setS(short s) {
+            this.s = s;
+        }
+    }
+
+    @ObjectClass(name = "HLAobjectRoot.Track")
+    public static class Track {
+        @Attribute(name = "waypoints", coder = WaypointListCoder.class, scope = ScopeLevel.SUBSCRIBE)
+        private List<Waypoint> waypoints = List.of();
+
+        public List<Waypoint> getWaypoints() {
+            return waypoints;
+        }
+
+        public void setWaypoints(List<Waypoint> waypoints) {
+            this.waypoints = waypoints;
+        }
+    }
+
+    @ObjectClass(name = "HLAobjectRoot.Track")
+    public static class ObservedTrack extends PropertyChangeSubject {
+        @Attribute(name = "waypoints", coder = WaypointListCoder.class, scope = ScopeLevel.SUBSCRIBE)
+        private List<Waypoint> waypoints = List.of();
+
+        public List<Waypoint> getWaypoints() {
+            return waypoints;
+        }
+
+        public void setWaypoints(List<Waypoint> waypoints) {
+            this.waypoints = waypoints;
+        }
+    }
+
+    @FixedRecord(name = "Waypoint")
+    public static class Waypoint {
+        @RecordField(index = 0, coder = HLAfloat64BECoder.class)
+        private double distance;
+
+        public Waypoint() {
+        }
+
+        Waypoint(double distance) {
+            this.distance = distance;
+        }
+
+        public double getDistance() {
+            return distance;
+        }
+
+        public void setDistance(double distance) {
+            this.distance = distance;
+        }
+    }
+
+    public static class WaypointListCoder extends HLAvariableListCoder<Waypoint> {
+        public WaypointListCoder() {
+            super(new HLAfixedRecordCoder<>(Waypoint.class));
+        }
+    }
+
+    @ObjectClass(name = "HLAobjectRoot.NamedPoint")
+    public static class NamedPoint extends DirtyTracking {
+        @Attribute(name = "x", coder = HLAfloat64BECoder.class, scope = ScopeLevel.PUBLISH)
+        private double x;
+
+        @Attribute(name = "name", coder = HLAunicodeStringCoder.class, scope = ScopeLevel.PUBLISH)
+        private String name;
+
+        public double getX() {
+            return x;
+        }
+
+        public void setX(double x) {
+            this.x = x;
+            markDirty("x");
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+            markDirty("name");
+        }
+    }
+
+    @ObjectClass(name = "HLAobjectRoot.TrackedPoint")
+    public static class TrackedPoint extends DirtyTracking {
+        @Attribute(name = "x", coder = HLAfloat64BECoder.class, scope = ScopeLevel.PUBLISH)
+        private double x;
+
+        @Attribute(name = "label", coder = HLAfloat64BECoder.class, scope = ScopeLevel.SUBSCRIBE)
+        private double label;
+
+        @Attribute(name = "y", coder = HLAfloat64BECoder.class, scope = ScopeLevel.PUBLISH)
+        private double y;
+
+        public double getX() {
+            return x;
+        }
+
+        public void setX(double x) {
+            this.x = x;
+            markDirty("x");
+        }
+
+        public double getLabel() {
+            return label;
+        }
+
+        public void setLabel(double label) {
+            this.label = label;
+        }
+
+        public double getY() {
+            return y;
+        }
+
+        public void setY(double y) {
+            this.y = y;
+            markDirty("y");
+        }
+    }
 }
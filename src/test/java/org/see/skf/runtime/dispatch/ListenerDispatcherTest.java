@@ -0,0 +1,238 @@
+package org.see.skf.runtime.dispatch;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ListenerDispatcherTest {
+    @Test
+    void testOrderedDeliveryPreservesSubmissionOrder() {
+        ListenerDispatcher dispatcher = ListenerDispatchers.ordered(16, BackPressure.BLOCK);
+        List<Integer> delivered = new CopyOnWriteArrayList<>();
+
+        for (int i = 0; i < 1000; i++) {
+            int value = i;
+            dispatcher.dispatch(() -> delivered.add(value));
+        }
+
+        assertTrue(dispatcher.shutdown(5000));
+        assertEquals(1000, delivered.size());
+        for (int i = 0; i < delivered.size(); i++) {
+            assertEquals(i, delivered.get(i));
+        }
+    }
+
+    @Test
+    void testBackPressureWhenSaturated() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger delivered = new AtomicInteger();
+        Thread caller = Thread.currentThread();
+        List<Thread> deliveringThreads = new CopyOnWriteArrayList<>();
+
+        ListenerDispatcher dropping = ListenerDispatchers.bounded(1, 1, BackPressure.DROP);
+        ListenerDispatcher callerRuns = ListenerDispatchers.bounded(1, 1, BackPressure.CALLER_RUNS);
+
+        for (ListenerDispatcher dispatcher : List.of(dropping, callerRuns)) {
+            CountDownLatch started = new CountDownLatch(1);
+            dispatcher.dispatch(() -> {
+                started.countDown();
+                await(release);
+            });
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+
+            // One notification fills the queue, the next one overflows it.
+            dispatcher.dispatch(delivered::incrementAndGet);
+            dispatcher.dispatch(() -> deliveringThreads.add(Thread.currentThread()));
+        }
+
+        assertEquals(1, dropping.getDroppedCount());
+        assertEquals(0, callerRuns.getDroppedCount());
+        assertEquals(1, deliveringThreads.size());
+        assertSame(caller, deliveringThreads.get(0));
+
+        release.countDown();
+        assertTrue(dropping.shutdown(5000));
+        assertTrue(callerRuns.shutdown(5000));
+        assertEquals(2, delivered.get());
+    }
+
+    @Test
+    void testFailingListenerDoesNotStopDelivery() {
+        ListenerDispatcher dispatcher = ListenerDispatchers.ordered(16, BackPressure.BLOCK);
+        AtomicInteger delivered = new AtomicInteger();
+
+        dispatcher.dispatch(() -> {
+            throw new IllegalStateException("Listener failure");
+        });
+        dispatcher.dispatch(delivered::incrementAndGet);
+
+        assertTrue(dispatcher.shutdown(5000));
+        assertEquals(1, delivered.get());
+    }
+
+    @Test
+    void testDrainYieldsWithoutBlockingTheWorkers() throws InterruptedException {
+        ListenerDispatcher dispatcher = ListenerDispatchers.bounded(1, 1, BackPressure.BLOCK);
+        List<Integer> delivered = new CopyOnWriteArrayList<>();
+        CountDownLatch[] dispatched = new CountDownLatch[KeyedSerialDispatcher.DRAIN_BATCH];
+
+        // Every notification of the first key waits for the next one to be dispatched, so that a single drain task
+        // delivers a full batch. The other key's drain task fills the executor's queue before that batch ends.
+        for (int i = 0; i < dispatched.length; i++) {
+            int value = i;
+            dispatched[i] = new CountDownLatch(1);
+            dispatcher.dispatch("first", () -> {
+                await(dispatched[value]);
+                delivered.add(value);
+            });
+
+            if (i > 0) {
+                dispatched[i - 1].countDown();
+            }
+        }
+
+        dispatcher.dispatch("second", () -> delivered.add(-1));
+        dispatched[dispatched.length - 1].countDown();
+
+        assertTrue(dispatcher.shutdown(5000));
+        assertEquals(dispatched.length + 1, delivered.size());
+        assertEquals(0, dispatcher.getDroppedCount());
+    }
+
+    @Test
+    void testShutdownDeliversTheRestOfADrain() throws InterruptedException {
+        ListenerDispatcher dispatcher = ListenerDispatchers.bounded(1, 256, BackPressure.BLOCK);
+        AtomicInteger delivered = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        int count = 3 * KeyedSerialDispatcher.DRAIN_BATCH;
+
+        dispatcher.dispatch("key", () -> {
+            await(release);
+            delivered.incrementAndGet();
+        });
+        for (int i = 1; i < count; i++) {
+            dispatcher.dispatch("key", delivered::incrementAndGet);
+        }
+
+        Thread releasing = new Thread(() -> {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(100));
+            release.countDown();
+        });
+        releasing.start();
+
+        assertTrue(dispatcher.shutdown(5000));
+        releasing.join();
+        assertEquals(count, delivered.get());
+        assertEquals(0, dispatcher.getDroppedCount());
+    }
+
+    @Test
+    void testShutdownTimeoutCountsUndeliveredNotifications() {
+        ListenerDispatcher dispatcher = ListenerDispatchers.bounded(1, 256, BackPressure.BLOCK);
+        AtomicInteger delivered = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        int count = 3 * KeyedSerialDispatcher.DRAIN_BATCH;
+
+        dispatcher.dispatch("key", () -> {
+            await(release);
+            delivered.incrementAndGet();
+        });
+        for (int i = 1; i < count; i++) {
+            dispatcher.dispatch("key", delivered::incrementAndGet);
+        }
+
+        assertFalse(dispatcher.shutdown(50));
+        assertEquals(count - 1, dispatcher.getDroppedCount());
+
+        release.countDown();
+        assertTrue(dispatcher.shutdown(5000));
+        assertEquals(1, delivered.get());
+    }
+
+    @Test
+    void testPerInstanceOrderingUnderRandomizedSequences() {
+        for (long seed = 0; seed < 25; seed++) {
+            verifyPerInstanceOrdering(ListenerDispatchers.bounded(4, 32, BackPressure.BLOCK), seed);
+            verifyPerInstanceOrdering(ListenerDispatchers.virtualThreads(4, 32, BackPressure.BLOCK), seed);
+        }
+    }
+
+    // Replays a random interleaving of discover/reflect/remove lifecycles, with listeners taking random amounts of time,
+    // and checks that every instance sees its own events in the order they were raised.
+    private static void verifyPerInstanceOrdering(ListenerDispatcher dispatcher, long seed) {
+        Random random = new Random(seed);
+        int instanceCount = 1 + random.nextInt(16);
+        List<List<String>> expected = new ArrayList<>();
+
+        for (int instance = 0; instance < instanceCount; instance++) {
+            List<String> events = new ArrayList<>();
+            int lifecycles = 1 + random.nextInt(3);
+
+            // Instance handles may be reused by the RTI once an instance has been removed.
+            for (int lifecycle = 0; lifecycle < lifecycles; lifecycle++) {
+                events.add("added-" + lifecycle);
+                int reflections = random.nextInt(20);
+                for (int reflection = 0; reflection < reflections; reflection++) {
+                    events.add("reflected-" + lifecycle + "-" + reflection);
+                }
+                events.add("removed-" + lifecycle);
+            }
+
+            expected.add(events);
+        }
+
+        Map<Integer, List<String>> delivered = new ConcurrentHashMap<>();
+        int[] next = new int[instanceCount];
+        List<Integer> remaining = new ArrayList<>();
+        for (int instance = 0; instance < instanceCount; instance++) {
+            remaining.add(instance);
+            delivered.put(instance, Collections.synchronizedList(new ArrayList<>()));
+        }
+
+        while (!remaining.isEmpty()) {
+            int slot = random.nextInt(remaining.size());
+            int instance = remaining.get(slot);
+            String event = expected.get(instance).get(next[instance]++);
+            long delayNanos = random.nextInt(4) == 0 ? random.nextInt(50_000) : 0;
+
+            dispatcher.dispatch(instance, () -> {
+                if (delayNanos > 0) {
+                    LockSupport.parkNanos(delayNanos);
+                }
+                delivered.get(instance).add(event);
+            });
+
+            if (next[instance] == expected.get(instance).size()) {
+                remaining.remove(slot);
+            }
+        }
+
+        assertTrue(dispatcher.shutdown(10_000));
+        for (int instance = 0; instance < instanceCount; instance++) {
+            assertEquals(expected.get(instance), delivered.get(instance), "Instance " + instance + " with seed " + seed);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package org.see.skf.runtime.pipeline;
+
+import hla.rti1516_2025.AttributeHandle;
+import hla.rti1516_2025.AttributeHandleValueMap;
+import hla.rti1516_2025.ObjectInstanceHandle;
+import hla.rti1516_2025.ParameterHandle;
+import org.junit.jupiter.api.Test;
+import org.see.skf.loopback.LoopbackValues;
+import org.see.skf.runtime.dispatch.BackPressure;
+import org.see.skf.runtime.interactions.InteractionClassModel;
+import org.see.skf.runtime.objects.ObjectClassEntity;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CallbackPipelineTest {
+    @Test
+    void testCallbacksForAnInstanceAreHandledInOrder() {
+        int instanceCount = 8;
+        int reflectionsPerInstance = 500;
+        AttributeHandle attribute = LoopbackValues.handle(AttributeHandle.class, 1);
+        Map<ObjectClassEntity, List<Integer>> handled = new ConcurrentHashMap<>();
+
+        CallbackPipeline pipeline = new CallbackPipeline(new RecordingHandler(handled), 3, 16, BackPressure.BLOCK);
+        List<ObjectClassEntity> entities = new ArrayList<>();
+        for (int i = 0; i < instanceCount; i++) {
+            entities.add(new ObjectClassEntity("Instance" + i, LoopbackValues.handle(ObjectInstanceHandle.class, i), null, new Object()));
+        }
+
+        for (int sequence = 0; sequence < reflectionsPerInstance; sequence++) {
+            for (ObjectClassEntity entity : entities) {
+                assertTrue(pipeline.offerReflection(entity, valueMap(attribute, sequence)));
+            }
+        }
+
+        for (ObjectClassEntity entity : entities) {
+            assertTrue(pipeline.offerRemoval(entity));
+        }
+
+        assertTrue(pipeline.shutdown(10000L));
+
+        for (ObjectClassEntity entity : entities) {
+            List<Integer> sequences = handled.get(entity);
+            assertEquals(reflectionsPerInstance + 1, sequences.size());
+
+            for (int sequence = 0; sequence < reflectionsPerInstance; sequence++) {
+                assertEquals(sequence, sequences.get(sequence));
+            }
+
+            assertEquals(-1, sequences.get(reflectionsPerInstance));
+        }
+
+        CallbackPipelineMetrics metrics = pipeline.getMetrics();
+        long expected = (long) instanceCount * (reflectionsPerInstance + 1);
+        assertEquals(expected, metrics.getAcceptedCount());
+        assertEquals(expected, metrics.getProcessedCount());
+        assertEquals(0L, metrics.getDroppedCount());
+        assertEquals(0, metrics.getQueueDepth());
+        assertTrue(metrics.getMaxQueueDepth() <= 16);
+    }
+
+    @Test
+    void testFullRingDropsAndValuesAreCopied() throws InterruptedException {
+        AttributeHandle attribute = LoopbackValues.handle(AttributeHandle.class, 1);
+        ObjectClassEntity entity = new ObjectClassEntity("Instance", LoopbackValues.handle(ObjectInstanceHandle.class, 1), null, new Object());
+        Map<ObjectClassEntity, List<Integer>> handled = new ConcurrentHashMap<>();
+        CountDownLatch release = new CountDownLatch(1);
+
+        CallbackPipeline pipeline = new CallbackPipeline(new RecordingHandler(handled) {
+            @Override
+            public void reflectAttributeValues(ObjectClassEntity entity, AttributeHandle[] attributeHandles, byte[][] encodedValues, int count) {
+                awaitQuietly(release);
+                super.reflectAttributeValues(entity, attributeHandles, encodedValues, count);
+            }
+        }, 1, 2, BackPressure.DROP);
+
+        List<AttributeHandleValueMap> offered = new ArrayList<>();
+        for (int sequence = 0; sequence < 4; sequence++) {
+            AttributeHandleValueMap attributeValues = valueMap(attribute, sequence);
+            offered.add(attributeValues);
+            assertEquals(sequence < 2, pipeline.offerReflection(entity, attributeValues));
+        }
+
+        // The RTI may reuse its buffers once the callback returns.
+        for (AttributeHandleValueMap attributeValues : offered) {
+            ByteBuffer.wrap(attributeValues.get(attribute)).putInt(0, 42);
+        }
+
+        assertEquals(2, pipeline.getQueueDepth());
+        release.countDown();
+        assertTrue(pipeline.shutdown(10000L));
+
+        assertEquals(List.of(0, 1), handled.get(entity));
+        CallbackPipelineMetrics metrics = pipeline.getMetrics();
+        assertEquals(2L, metrics.getAcceptedCount());
+        assertEquals(2L, metrics.getDroppedCount());
+        assertEquals(2L, metrics.getProcessedCount());
+        assertTrue(metrics.getLatencyPercentileNanos(50.0) > 0L);
+        assertTrue(metrics.getLatencyPercentileNanos(100.0) <= metrics.getMaxLatencyNanos());
+        assertFalse(pipeline.offerReflection(entity, valueMap(attribute, 5)));
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static AttributeHandleValueMap valueMap(AttributeHandle attribute, int sequence) {
+        AttributeHandleValueMap attributeValues = LoopbackValues.map(AttributeHandleValueMap.class, 1);
+        attributeValues.put(attribute, ByteBuffer.allocate(Integer.BYTES).putInt(0, sequence).array());
+        return attributeValues;
+    }
+
+    private static class RecordingHandler implements CallbackHandler {
+        private final Map<ObjectClassEntity, List<Integer>> handled;
+
+        private RecordingHandler(Map<ObjectClassEntity, List<Integer>> handled) {
+            this.handled = handled;
+        }
+
+        @Override
+        public void reflectAttributeValues(ObjectClassEntity entity, AttributeHandle[] attributeHandles, byte[][] encodedValues, int count) {
+            assertEquals(1, count);
+            handled.computeIfAbsent(entity, e -> Collections.synchronizedList(new ArrayList<>())).add(ByteBuffer.wrap(encodedValues[0]).getInt());
+        }
+
+        @Override
+        public void removeObjectInstance(ObjectClassEntity entity) {
+            handled.computeIfAbsent(entity, e -> Collections.synchronizedList(new ArrayList<>())).add(-1);
+        }
+
+        @Override
+        public void receiveInteraction(InteractionClassModel model, ParameterHandle[] parameterHandles, byte[][] encodedValues, int count) {
+            fail("No interactions were offered.");
+        }
+    }
+}
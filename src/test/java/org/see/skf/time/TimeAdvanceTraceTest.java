@@ -0,0 +1,72 @@
+package org.see.skf.time;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimeAdvanceTraceTest {
+    private static final long LOOK_AHEAD = 1000L;
+
+    @Test
+    void testTraceKeepsTheLatestCycles() {
+        TimeAdvanceTrace trace = new TimeAdvanceTrace(4);
+
+        for (int i = 0; i < 10; i++) {
+            trace.record(cycle(i, 100L, 10L, TimeAdvanceTrace.NO_GALT));
+        }
+
+        List<TimeAdvanceTrace.Cycle> cycles = trace.getCycles();
+        assertEquals(10L, trace.getRecordedCount());
+        assertEquals(4, cycles.size());
+        assertEquals(6 * LOOK_AHEAD, cycles.get(0).getRequestedTime());
+        assertEquals(9 * LOOK_AHEAD, cycles.get(3).getRequestedTime());
+    }
+
+    @Test
+    void testDisabledTraceRecordsNothing() {
+        TimeAdvanceTrace trace = new TimeAdvanceTrace(0);
+        trace.record(cycle(1, 100L, 10L, TimeAdvanceTrace.NO_GALT));
+
+        assertFalse(trace.isEnabled());
+        assertTrue(trace.getCycles().isEmpty());
+        assertEquals(TimeAdvanceReport.Bottleneck.UNKNOWN, trace.report(LOOK_AHEAD).getBottleneck());
+    }
+
+    @Test
+    void testReportBlamesTheFederationWhenGrantsWaitForTheGalt() {
+        TimeAdvanceTrace trace = new TimeAdvanceTrace(16);
+        for (int i = 1; i <= 10; i++) {
+            trace.record(cycle(i, 900L, 100L, (i * LOOK_AHEAD) - (LOOK_AHEAD / 2)));
+        }
+
+        TimeAdvanceReport report = trace.report(LOOK_AHEAD);
+        assertEquals(10, report.getCycleCount());
+        assertEquals(10, report.getGaltBoundCycles());
+        assertEquals(-0.5, report.getMeanGaltHeadroom(), 1e-9);
+        assertEquals(0.9, report.getGrantWaitFraction(), 1e-9);
+        assertEquals(TimeAdvanceReport.Bottleneck.FEDERATION, report.getBottleneck());
+    }
+
+    @Test
+    void testReportBlamesUpdateWhenItDominates() {
+        TimeAdvanceTrace trace = new TimeAdvanceTrace(16);
+        for (int i = 1; i <= 10; i++) {
+            trace.record(cycle(i, 100L, 900L, (i + 1) * LOOK_AHEAD));
+        }
+
+        TimeAdvanceReport report = trace.report(LOOK_AHEAD);
+        assertEquals(0, report.getGaltBoundCycles());
+        assertEquals(900L, report.getUpdatePercentile(99.0));
+        assertEquals(TimeAdvanceReport.Bottleneck.UPDATE, report.getBottleneck());
+        assertTrue(report.toString().contains("update()"));
+    }
+
+    private static TimeAdvanceTrace.Cycle cycle(int index, long grantWaitNanos, long updateNanos, long galt) {
+        long requestNanos = index * 10_000L;
+        long grantNanos = requestNanos + grantWaitNanos;
+
+        return new TimeAdvanceTrace.Cycle(requestNanos, grantNanos, grantNanos, updateNanos, index * LOOK_AHEAD, index * LOOK_AHEAD, galt);
+    }
+}
@@ -0,0 +1,93 @@
+package org.see.skf.util.encoding;
+
+import hla.rti1516_2025.encoding.DecoderException;
+import org.junit.jupiter.api.Test;
+import org.see.skf.core.Coder;
+import org.see.skf.util.models.ExecutionConfiguration;
+import org.see.skf.util.models.ModeTransitionRequest;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Map.entry;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CoderBackendConformanceTest {
+    private static final Map<Class<? extends Coder<?>>, List<?>> SAMPLES = Map.ofEntries(
+            entry(HLAfloat32BECoder.class, List.of(0.0f, -1.5f, Float.MAX_VALUE, Float.NaN)),
+            entry(HLAfloat32LECoder.class, List.of(0.0f, -1.5f, Float.MIN_VALUE, Float.NEGATIVE_INFINITY)),
+            entry(HLAfloat64BECoder.class, List.of(0.0, -1.5, Double.MAX_VALUE, Double.NaN)),
+            entry(HLAfloat64LECoder.class, List.of(0.0, 1737.4e3, Double.MIN_VALUE, Double.POSITIVE_INFINITY)),
+            entry(HLAinteger16BECoder.class, List.of((short) 0, (short) -2, Short.MAX_VALUE)),
+            entry(HLAinteger16LECoder.class, List.of((short) 0, (short) -2, Short.MIN_VALUE)),
+            entry(HLAinteger32BECoder.class, List.of(0, -2, Integer.MAX_VALUE)),
+            entry(HLAinteger32LECoder.class, List.of(0, -2, Integer.MIN_VALUE)),
+            entry(HLAinteger64BECoder.class, List.of(0L, -2L, Long.MAX_VALUE)),
+            entry(HLAinteger64LECoder.class, List.of(0L, -2L, Long.MIN_VALUE)),
+            entry(HLAbooleanCoder.class, List.of(true, false)),
+            entry(HLAbyteCoder.class, List.of((byte) 0, (byte) -1, Byte.MAX_VALUE)),
+            entry(HLAoctetCoder.class, List.of((byte) 0, (byte) -1, Byte.MIN_VALUE)),
+            entry(HLAASCIIcharCoder.class, List.of((byte) 'A', (byte) '~')),
+            entry(HLAunicodeCharCoder.class, List.of((short) 'A', (short) '\u00e9', (short) '\u4e2d')),
+            entry(HLAASCIIstringCoder.class, List.of("", "MoonCentricFixed", "a b\tc")),
+            entry(HLAunicodeStringCoder.class, List.of("", "MoonCentricFixed", "\u00e9t\u00e9 \u4e2d\ud83d\ude80")),
+            entry(ExecutionModeCoder.class, Arrays.asList(ExecutionConfiguration.ExecutionMode.values())),
+            entry(MTRModeCoder.class, Arrays.asList(ModeTransitionRequest.MTRMode.values()))
+    );
+
+    @Test
+    void testKnownLayouts() {
+        assertArrayEquals(new byte[] {0, 0, 0, 1}, new HLAbooleanCoder().encode(true));
+        assertArrayEquals(new byte[] {0, 0, 0, 0}, new HLAbooleanCoder().encode(false));
+        assertArrayEquals(new byte[] {0, 0, 0, 2, 'h', 'i'}, new HLAASCIIstringCoder().encode("hi"));
+        assertArrayEquals(new byte[] {0, 0, 0, 2, 0, 'h', 0x4e, 0x2d}, new HLAunicodeStringCoder().encode("h\u4e2d"));
+        assertArrayEquals(new byte[] {0, 0, 0, 0}, new HLAunicodeStringCoder().encode(""));
+        assertArrayEquals(new byte[] {0x00, (byte) 0xe9}, new HLAunicodeCharCoder().encode((short) '\u00e9'));
+        assertArrayEquals(new byte[] {0, 0, 0, 0, 0, 0, 0x01, 0x02}, new HLAinteger64LECoder().encode(0x0201L << 48));
+
+        short executing = ExecutionConfiguration.ExecutionMode.values()[1].getValue();
+        assertArrayEquals(new byte[] {(byte) executing, (byte) (executing >> 8)}, new ExecutionModeCoder().encode(ExecutionConfiguration.ExecutionMode.values()[1]));
+    }
+
+    @Test
+    void testNativeRoundTrip() throws DecoderException {
+        for (var entry : SAMPLES.entrySet()) {
+            Coder<Object> coder = coder(CoderBackend.NATIVE, entry.getKey());
+
+            for (Object value : entry.getValue()) {
+                assertEquals(value, coder.decode(coder.encode(value)), entry.getKey().getSimpleName());
+            }
+        }
+    }
+
+    @Test
+    void testMalformedInput() {
+        assertThrows(DecoderException.class, () -> new HLAunicodeStringCoder().decode(new byte[] {0, 0, 0, 3, 0, 'a'}));
+        assertThrows(DecoderException.class, () -> new HLAASCIIstringCoder().decode(new byte[] {(byte) 0xff, 0, 0, 0}));
+        assertThrows(DecoderException.class, () -> new HLAbooleanCoder().decode(new byte[] {0, 0}));
+    }
+
+    @Test
+    void testConformanceWithRti() throws DecoderException {
+        for (var entry : SAMPLES.entrySet()) {
+            Coder<Object> nativeCoder = coder(CoderBackend.NATIVE, entry.getKey());
+            Coder<Object> rtiCoder = coder(CoderBackend.RTI, entry.getKey());
+
+            for (Object value : entry.getValue()) {
+                byte[] nativeEncoding = nativeCoder.encode(value);
+                String message = entry.getKey().getSimpleName() + " <" + value + ">";
+
+                assertArrayEquals(rtiCoder.encode(value), nativeEncoding, message);
+                assertEquals(value, rtiCoder.decode(nativeEncoding), message);
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Coder<Object> coder(CoderBackend backend, Class<? extends Coder<?>> coderClass) {
+        return (Coder<Object>) backend.create(coderClass);
+    }
+}
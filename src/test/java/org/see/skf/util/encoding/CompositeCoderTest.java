@@ -0,0 +1,283 @@
+package org.see.skf.util.encoding;
+
+import hla.rti1516_2025.encoding.DecoderException;
+import org.junit.jupiter.api.Test;
+import org.see.skf.annotations.FixedRecord;
+import org.see.skf.annotations.RecordField;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CompositeCoderTest {
+    @Test
+    void testFieldsArePaddedToTheirBoundaries() throws DecoderException {
+        HLAfixedRecordCoder<Sample> coder = new HLAfixedRecordCoder<>(Sample.class);
+        Sample sample = new Sample();
+        sample.setId((short) 0x0102);
+        sample.setValue(1.0);
+        sample.setFlag((byte) 7);
+        sample.setCount(0x0A0B);
+
+        byte[] expected = {
+                0x01, 0x02, 0, 0, 0, 0, 0, 0,
+                0, 0, 0, 0, 0, 0, (byte) 0xF0, 0x3F,
+                7, 0, 0, 0, 0, 0, 0x0A, 0x0B
+        };
+
+        assertEquals(8, coder.getOctetBoundary());
+        assertEquals(24, coder.getFixedEncodedLength());
+        assertArrayEquals(expected, coder.encode(sample));
+
+        Sample decoded = coder.decode(expected);
+        assertEquals((short) 0x0102, decoded.getId());
+        assertEquals(1.0, decoded.getValue());
+        assertEquals((byte) 7, decoded.getFlag());
+        assertEquals(0x0A0B, decoded.getCount());
+    }
+
+    @Test
+    void testNestedRecordsAndArrays() throws DecoderException {
+        HLAfixedRecordCoder<Body> coder = new HLAfixedRecordCoder<>(Body.class);
+        Body body = new Body();
+        body.setTag(1);
+        body.getPosition().setComponents(new double[] {1.0, 2.0, 3.0});
+
+        byte[] encoded = coder.encode(body);
+        ByteBuffer expected = ByteBuffer.allocate(32);
+        expected.putInt(0, 1);
+        expected.putDouble(8, 1.0).putDouble(16, 2.0).putDouble(24, 3.0);
+
+        assertEquals(32, coder.getFixedEncodedLength());
+        assertArrayEquals(expected.array(), encoded);
+
+        Body target = new Body();
+        Vector3 position = target.getPosition();
+        double[] components = position.getComponents();
+
+        assertSame(target, coder.decode(ByteBuffer.wrap(encoded), 0, target));
+        assertSame(position, target.getPosition());
+        assertSame(components, target.getPosition().getComponents());
+        assertArrayEquals(new double[] {1.0, 2.0, 3.0}, components);
+    }
+
+    @Test
+    void testVariableLengthFieldsShiftLaterOffsets() throws DecoderException {
+        HLAfixedRecordCoder<Label> coder = new HLAfixedRecordCoder<>(Label.class);
+        Label label = new Label();
+        label.setText("abc");
+        label.setValue(-2.5);
+
+        byte[] encoded = coder.encode(label);
+
+        assertEquals(-1, coder.getFixedEncodedLength());
+        assertEquals(24, encoded.length);
+        assertEquals(-2.5, ByteBuffer.wrap(encoded).getDouble(16));
+
+        Label decoded = coder.decode(encoded);
+        assertEquals("abc", decoded.getText());
+        assertEquals(-2.5, decoded.getValue());
+    }
+
+    @Test
+    void testFixedArrayLengthIsEnforced() {
+        HLAfixedArrayCoder<int[]> coder = new HLAfixedArrayCoder<>(int[].class, new HLAinteger32BECoder(), 2);
+
+        assertArrayEquals(new byte[] {0, 0, 0, 1, 0, 0, 0, 2}, coder.encode(new int[] {1, 2}));
+        assertThrows(IllegalArgumentException.class, () -> coder.encode(new int[] {1, 2, 3}));
+        assertThrows(DecoderException.class, () -> coder.decode(new byte[7]));
+    }
+
+    @Test
+    void testVariableArrayPadsElementsAfterTheCount() throws DecoderException {
+        HLAvariableArrayCoder<double[]> coder = new HLAvariableArrayCoder<>(double[].class, new HLAfloat64BECoder());
+        ByteBuffer expected = ByteBuffer.allocate(24);
+        expected.putInt(0, 2).putDouble(8, 1.0).putDouble(16, 2.0);
+
+        assertEquals(8, coder.getOctetBoundary());
+        assertArrayEquals(expected.array(), coder.encode(new double[] {1.0, 2.0}));
+        assertArrayEquals(new byte[] {0, 0, 0, 0}, coder.encode(new double[0]));
+
+        double[] target = new double[2];
+        assertSame(target, coder.decode(ByteBuffer.wrap(expected.array()), 0, target));
+        assertArrayEquals(new double[] {1.0, 2.0}, target);
+        assertEquals(0, coder.decode(new byte[] {0, 0, 0, 0}).length);
+    }
+
+    @Test
+    void testVariableListDecodesIntoExistingElements() throws DecoderException {
+        HLAvariableListCoder<Vector3> coder = new HLAvariableListCoder<>(new HLAfixedRecordCoder<>(Vector3.class));
+        List<Vector3> source = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Vector3 vector = new Vector3();
+            vector.setComponents(new double[] {i, i, i});
+            source.add(vector);
+        }
+
+        byte[] encoded = coder.encode(source);
+        assertEquals(8 + 3 * 24, encoded.length);
+
+        List<Vector3> target = new ArrayList<>();
+        Vector3 first = new Vector3();
+        target.add(first);
+
+        assertSame(target, coder.decode(ByteBuffer.wrap(encoded), 0, target));
+        assertEquals(3, target.size());
+        assertSame(first, target.get(0));
+        assertArrayEquals(new double[] {2, 2, 2}, target.get(2).getComponents());
+
+        coder.decode(ByteBuffer.wrap(coder.encode(source.subList(0, 1))), 0, target);
+        assertEquals(1, target.size());
+        assertSame(first, target.get(0));
+    }
+
+    @Test
+    void testVariantRecordSelectsAlternativeByDiscriminant() throws DecoderException {
+        HLAvariantRecordCoder<Integer> coder = new HLAvariantRecordCoder<>(new HLAinteger32BECoder())
+                .addAlternative(1, new HLAfloat64BECoder())
+                .addAlternative(2, new HLAunicodeStringCoder());
+
+        ByteBuffer expected = ByteBuffer.allocate(16);
+        expected.putInt(0, 1).putDouble(8, 0.5);
+
+        assertEquals(8, coder.getOctetBoundary());
+        assertArrayEquals(expected.array(), coder.encode(new VariantRecord<>(1, 0.5)));
+        assertArrayEquals(new byte[] {0, 0, 0, 2, 0, 0, 0, 1, 0, 0x41}, coder.encode(new VariantRecord<>(2, "A")));
+        assertArrayEquals(new byte[] {0, 0, 0, 9}, coder.encode(new VariantRecord<>(9, null)));
+        assertThrows(IllegalArgumentException.class, () -> coder.encode(new VariantRecord<>(1, null)));
+
+        VariantRecord<Integer> target = new VariantRecord<>();
+        coder.decode(ByteBuffer.wrap(expected.array()), 0, target);
+        assertEquals(1, target.getDiscriminant());
+        assertEquals(0.5, target.getValue(Double.class));
+
+        coder.decode(ByteBuffer.wrap(new byte[] {0, 0, 0, 9}), 0, target);
+        assertEquals(9, target.getDiscriminant());
+        assertNull(target.getValue());
+    }
+
+    @Test
+    void testCorruptCountIsRejected() {
+        HLAvariableListCoder<String> coder = new HLAvariableListCoder<>(new HLAunicodeStringCoder());
+
+        assertThrows(DecoderException.class, () -> coder.decode(new byte[] {0x7F, 0, 0, 0, 0, 0, 0, 0}));
+        assertThrows(DecoderException.class, () -> coder.decode(new byte[] {(byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF}));
+    }
+
+    @FixedRecord
+    public static class Sample {
+        @RecordField(index = 0, coder = HLAinteger16BECoder.class)
+        private short id;
+
+        @RecordField(index = 1, coder = HLAfloat64LECoder.class)
+        private double value;
+
+        @RecordField(index = 2, coder = HLAoctetCoder.class)
+        private byte flag;
+
+        @RecordField(index = 3, coder = HLAinteger32BECoder.class)
+        private int count;
+
+        public short getId() {
+            return id;
+        }
+
+        public void setId(short id) {
+            this.id = id;
+        }
+
+        public double getValue() {
+            return value;
+        }
+
+        public void setValue(double value) {
+            this.value = value;
+        }
+
+        public byte getFlag() {
+            return flag;
+        }
+
+        public void setFlag(byte flag) {
+            this.flag = flag;
+        }
+
+        public int getCount() {
+            return count;
+        }
+
+        public void setCount(int count) {
+            this.count = count;
+        }
+    }
+
+    @FixedRecord
+    public static class Vector3 {
+        @RecordField(index = 0, coder = HLAfloat64BECoder.class, length = 3)
+        private double[] components = new double[3];
+
+        public double[] getComponents() {
+            return components;
+        }
+
+        public void setComponents(double[] components) {
+            this.components = components;
+        }
+    }
+
+    @FixedRecord
+    public static class Body {
+        @RecordField(index = 1)
+        private Vector3 position = new Vector3();
+
+        @RecordField(index = 0, coder = HLAinteger32BECoder.class)
+        private int tag;
+
+        public Vector3 getPosition() {
+            return position;
+        }
+
+        public void setPosition(Vector3 position) {
+            this.position = position;
+        }
+
+        public int getTag() {
+            return tag;
+        }
+
+        public void setTag(int tag) {
+            this.tag = tag;
+        }
+    }
+
+    @FixedRecord
+    public static class Label {
+        @RecordField(index = 0, coder = HLAunicodeStringCoder.class)
+        private String text = "";
+
+        @RecordField(index = 1, coder = HLAfloat64BECoder.class)
+        private double value;
+
+        public String getText() {
+            return text;
+        }
+
+        public void setText(String text) {
+            this.text = text;
+        }
+
+        public double getValue() {
+            return value;
+        }
+
+        public void setValue(double value) {
+            this.value = value;
+        }
+    }
+}
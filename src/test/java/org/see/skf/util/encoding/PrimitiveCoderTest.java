@@ -0,0 +1,55 @@
+package org.see.skf.util.encoding;
+
+import hla.rti1516_2025.encoding.DecoderException;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PrimitiveCoderTest {
+    @Test
+    void testByteLayouts() {
+        assertArrayEquals(new byte[] {0x3F, (byte) 0xF0, 0, 0, 0, 0, 0, 0}, new HLAfloat64BECoder().encode(1.0));
+        assertArrayEquals(new byte[] {0, 0, 0, 0, 0, 0, (byte) 0xF0, 0x3F}, new HLAfloat64LECoder().encode(1.0));
+        assertArrayEquals(new byte[] {0x3F, (byte) 0x80, 0, 0}, new HLAfloat32BECoder().encode(1.0f));
+        assertArrayEquals(new byte[] {0, 0, (byte) 0x80, 0x3F}, new HLAfloat32LECoder().encode(1.0f));
+        assertArrayEquals(new byte[] {0, 0, 0, 0, 0, 0, 0x01, 0x02}, new HLAinteger64BECoder().encode(0x0102L));
+        assertArrayEquals(new byte[] {0, 0, 0x01, 0x02}, new HLAinteger32BECoder().encode(0x0102));
+        assertArrayEquals(new byte[] {0x02, 0x01, 0, 0}, new HLAinteger32LECoder().encode(0x0102));
+        assertArrayEquals(new byte[] {0x01, 0x02}, new HLAinteger16BECoder().encode((short) 0x0102));
+        assertArrayEquals(new byte[] {0x02, 0x01}, new HLAinteger16LECoder().encode((short) 0x0102));
+    }
+
+    @Test
+    void testOffsetsIgnoreBufferOrder() throws DecoderException {
+        HLAfloat64LECoder coder = new HLAfloat64LECoder();
+        ByteBuffer bigEndian = ByteBuffer.allocate(16);
+        ByteBuffer littleEndian = ByteBuffer.allocate(16).order(ByteOrder.LITTLE_ENDIAN);
+
+        coder.encode(-42.5, bigEndian, 4);
+        coder.encode(-42.5, littleEndian, 4);
+
+        assertArrayEquals(bigEndian.array(), littleEndian.array());
+        assertEquals(-42.5, coder.decodeDouble(bigEndian, 4));
+        assertEquals(-42.5, coder.decodeDouble(littleEndian, 4));
+        assertEquals(0, bigEndian.position());
+    }
+
+    @Test
+    void testRoundTrip() throws DecoderException {
+        assertEquals(Long.MIN_VALUE, new HLAinteger64BECoder().decode(new HLAinteger64BECoder().encode(Long.MIN_VALUE)));
+        assertEquals(Integer.MAX_VALUE, new HLAinteger32LECoder().decode(new HLAinteger32LECoder().encode(Integer.MAX_VALUE)));
+        assertEquals((short) -2, new HLAinteger16LECoder().decode(new HLAinteger16LECoder().encode((short) -2)));
+        assertEquals(Float.MIN_VALUE, new HLAfloat32BECoder().decode(new HLAfloat32BECoder().encode(Float.MIN_VALUE)));
+    }
+
+    @Test
+    void testInsufficientBytes() {
+        assertThrows(DecoderException.class, () -> new HLAfloat64BECoder().decode(new byte[7]));
+        assertThrows(DecoderException.class, () -> new HLAinteger16BECoder().decodeShort(ByteBuffer.allocate(4), 3));
+    }
+}